@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.example.benchmark;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+
+/**
+ * Measures the initialization cost of a generated package.
+ *
+ * <p>
+ * Every iteration loads the generated classes in a fresh class loader, so the
+ * package is initialized from scratch each time. Three phases are measured:
+ * accessing {@code eINSTANCE} of the package, creating the first
+ * {@code EObject} and resolving its {@code EClass}, and materializing the
+ * metadata of all classifiers. The package registered for the namespace URI
+ * before the benchmark is registered again afterwards.
+ * </p>
+ */
+public final class PackageInitializationBenchmark {
+
+    private final Class<?> packageClass;
+
+    private final String nsURI;
+
+    private final Class<?> factoryClass;
+
+    private final String eClassName;
+
+    private final int classifiers;
+
+    /**
+     * @param packageClass the generated package interface, e.g.
+     *                     {@code LargePackage.class}
+     * @param nsURI        the namespace URI of the package
+     * @param factoryClass the generated factory interface
+     * @param eClassName   the class the first {@code EObject} is created of
+     * @param classifiers  the number of classifiers of the package
+     */
+    public PackageInitializationBenchmark(Class<?> packageClass, String nsURI, Class<?> factoryClass,
+            String eClassName, int classifiers) {
+        this.packageClass = packageClass;
+        this.nsURI = nsURI;
+        this.factoryClass = factoryClass;
+        this.eClassName = eClassName;
+        this.classifiers = classifiers;
+    }
+
+    /**
+     * Initializes the package once in a fresh class loader.
+     *
+     * @throws IllegalStateException if the package does not have the expected
+     *                               classifiers
+     */
+    public void check() throws Exception {
+        measure(0, 1);
+    }
+
+    /**
+     * Initializes the package in fresh class loaders and prints the average
+     * time of the phases.
+     */
+    public void run(int warmupIterations, int iterations) throws Exception {
+        long[] totals = measure(warmupIterations, iterations);
+        System.out.println(packageClass.getSimpleName() + " initialization (" + generationMode() + "), avg over "
+                + iterations + " iterations: eINSTANCE " + totals[0] / iterations / 1000 + " us, first EObject "
+                + totals[1] / iterations / 1000 + " us, all classifiers " + totals[2] / iterations / 1000 + " us");
+    }
+
+    private long[] measure(int warmupIterations, int iterations) throws Exception {
+        Object registered = EPackage.Registry.INSTANCE.get(nsURI);
+        try {
+            for (int i = 0; i < warmupIterations; i++) {
+                initializeInFreshClassLoader();
+            }
+            long[] totals = new long[3];
+            for (int i = 0; i < iterations; i++) {
+                long[] nanos = initializeInFreshClassLoader();
+                for (int phase = 0; phase < totals.length; phase++) {
+                    totals[phase] += nanos[phase];
+                }
+            }
+            return totals;
+        } finally {
+            if (registered != null) {
+                EPackage.Registry.INSTANCE.put(nsURI, registered);
+            }
+        }
+    }
+
+    /**
+     * @return the cumulative nanoseconds until {@code eINSTANCE} is available,
+     *         until the first {@code EObject} is created and until all
+     *         classifiers are materialized
+     */
+    private long[] initializeInFreshClassLoader() throws Exception {
+        try (ModelClassLoader loader = new ModelClassLoader(packageClass)) {
+            Class<?> freshPackageClass = loader.loadClass(packageClass.getName());
+            Class<?> freshFactoryClass = loader.loadClass(factoryClass.getName());
+            long[] nanos = new long[3];
+            long start = System.nanoTime();
+            EPackage ePackage = (EPackage) freshPackageClass.getField("eINSTANCE").get(null);
+            nanos[0] = System.nanoTime() - start;
+            Object factory = freshFactoryClass.getField("eINSTANCE").get(null);
+            EObject eObject = (EObject) freshFactoryClass.getMethod("create" + eClassName).invoke(factory);
+            EClass eClass = eObject.eClass();
+            nanos[1] = System.nanoTime() - start;
+            int features = 0;
+            for (EClassifier eClassifier : ePackage.getEClassifiers()) {
+                if (eClassifier instanceof EClass c) {
+                    features += c.getEAllStructuralFeatures().size();
+                }
+            }
+            nanos[2] = System.nanoTime() - start;
+            if (!eClassName.equals(eClass.getName()) || ePackage.getEClassifiers().size() != classifiers
+                    || features == 0) {
+                throw new IllegalStateException("Expected " + classifiers + " classifiers with features and "
+                        + eClassName + ", got " + ePackage.getEClassifiers().size() + " classifiers with " + features
+                        + " features and " + eClass.getName());
+            }
+            EPackage.Registry.INSTANCE.remove(nsURI);
+            return nanos;
+        }
+    }
+
+    private String generationMode() throws ReflectiveOperationException {
+        Class<?> packageImpl = packageClass.getField("eINSTANCE").get(null).getClass();
+        if (hasDeclaredMethod(packageImpl, "ensureLoaded")) {
+            return "lazy";
+        }
+        return hasDeclaredMethod(packageImpl, "createPackageContents1") ? "split" : "eager";
+    }
+
+    private static boolean hasDeclaredMethod(Class<?> type, String name) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Child-first class loader for the generated model classes, delegating
+     * everything else (EMF, JDK) to the class loader of the model.
+     */
+    private static class ModelClassLoader extends URLClassLoader {
+
+        private final String modelPackage;
+
+        ModelClassLoader(Class<?> packageClass) {
+            super(new URL[] { packageClass.getProtectionDomain().getCodeSource().getLocation() },
+                    packageClass.getClassLoader());
+            this.modelPackage = packageClass.getPackageName() + ".";
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(modelPackage)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+}
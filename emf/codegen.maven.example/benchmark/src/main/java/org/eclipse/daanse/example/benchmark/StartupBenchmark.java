@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.example.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.fennec.emf.osgi.constants.EMFNamespaces;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+
+/**
+ * Measures the time from starting a model bundle until its {@link EPackage}
+ * and {@link ResourceSet} services are available.
+ *
+ * <p>
+ * The model bundle is restarted several times and the latency of both
+ * service registrations is printed. Before the restarts, the time of the first
+ * use of the {@code EPackage} service is printed: built with
+ * {@code -Demf.deferredRegistration=true}, the package is registered without
+ * being initialized and this first use pays for loading its contents instead
+ * of the bundle start.
+ * </p>
+ */
+public final class StartupBenchmark {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final BundleContext bc;
+
+    private final Bundle modelBundle;
+
+    private final String ePackageFilter;
+
+    private final String resourceSetFilter;
+
+    /**
+     * @param bc           the context of the test bundle
+     * @param packageClass the generated package interface, e.g.
+     *                     {@code LargePackage.class}
+     * @param eName        the name of the package
+     * @param nsURI        the namespace URI of the package
+     */
+    public StartupBenchmark(BundleContext bc, Class<?> packageClass, String eName, String nsURI) {
+        this.bc = bc;
+        this.modelBundle = FrameworkUtil.getBundle(packageClass);
+        if (modelBundle == null) {
+            throw new IllegalStateException(packageClass.getName() + " is not loaded from a bundle");
+        }
+        this.ePackageFilter = "(&(objectClass=" + EPackage.class.getName() + ")(" + EMFNamespaces.EMF_NAME + "="
+                + eName + "))";
+        this.resourceSetFilter = "(&(objectClass=" + ResourceSet.class.getName() + ")("
+                + EMFNamespaces.EMF_MODEL_NSURI + "=" + nsURI + "))";
+    }
+
+    /**
+     * Restarts the model bundle once.
+     *
+     * @throws IllegalStateException if the services are not available again
+     *                               within the timeout
+     */
+    public void check() throws Exception {
+        restart();
+    }
+
+    /**
+     * Restarts the model bundle and prints the average time until the services
+     * are available and the time of the first use of the {@code EPackage}.
+     */
+    public void run(int warmupIterations, int iterations) throws Exception {
+        long firstUse = firstUse();
+
+        for (int i = 0; i < warmupIterations; i++) {
+            restart();
+        }
+        long ePackageTotal = 0;
+        long resourceSetTotal = 0;
+        for (int i = 0; i < iterations; i++) {
+            long[] nanos = restart();
+            ePackageTotal += nanos[0];
+            resourceSetTotal += nanos[1];
+        }
+        System.out.println(modelBundle.getSymbolicName() + " start, avg over " + iterations + " iterations: EPackage "
+                + (ePackageTotal / iterations / 1000) + " us, ResourceSet " + (resourceSetTotal / iterations / 1000)
+                + " us; first use of the EPackage " + (firstUse / 1000) + " us");
+    }
+
+    /**
+     * Gets the EPackage service and accesses its classifiers.
+     *
+     * @return the nanoseconds until the classifiers are available
+     */
+    private long firstUse() throws InvalidSyntaxException {
+        ServiceReference<EPackage> reference = bc.getServiceReferences(EPackage.class, ePackageFilter).stream()
+                .findFirst().orElseThrow();
+        long start = System.nanoTime();
+        EPackage ePackage = bc.getService(reference);
+        try {
+            if (ePackage.getEClassifiers().isEmpty()) {
+                throw new IllegalStateException(ePackage.getNsURI() + " has no classifiers");
+            }
+            return System.nanoTime() - start;
+        } finally {
+            bc.ungetService(reference);
+        }
+    }
+
+    /**
+     * Stops and starts the model bundle.
+     *
+     * @return the nanoseconds from starting the bundle until the EPackage and
+     *         the ResourceSet service are available
+     */
+    private long[] restart() throws BundleException, InvalidSyntaxException, InterruptedException {
+        modelBundle.stop();
+        awaitUnavailable(ePackageFilter);
+        awaitUnavailable(resourceSetFilter);
+
+        CountDownLatch available = new CountDownLatch(2);
+        AtomicLong ePackageAt = new AtomicLong();
+        AtomicLong resourceSetAt = new AtomicLong();
+        ServiceListener ePackageListener = event -> recordAvailable(event, ePackageAt, available);
+        ServiceListener resourceSetListener = event -> recordAvailable(event, resourceSetAt, available);
+        bc.addServiceListener(ePackageListener, ePackageFilter);
+        bc.addServiceListener(resourceSetListener, resourceSetFilter);
+        try {
+            long start = System.nanoTime();
+            modelBundle.start();
+            if (!available.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Services of " + modelBundle.getSymbolicName()
+                        + " not available " + TIMEOUT_SECONDS + " s after the bundle start");
+            }
+            return new long[] { ePackageAt.get() - start, resourceSetAt.get() - start };
+        } finally {
+            bc.removeServiceListener(ePackageListener);
+            bc.removeServiceListener(resourceSetListener);
+        }
+    }
+
+    /**
+     * Records the first time a service matches the listener filter, either by
+     * being registered or by having its properties updated.
+     */
+    private static void recordAvailable(ServiceEvent event, AtomicLong at, CountDownLatch available) {
+        if ((event.getType() == ServiceEvent.REGISTERED || event.getType() == ServiceEvent.MODIFIED)
+                && at.compareAndSet(0, System.nanoTime())) {
+            available.countDown();
+        }
+    }
+
+    private void awaitUnavailable(String filter) throws InvalidSyntaxException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (bc.getServiceReferences((String) null, filter) != null) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(filter + " still registered " + TIMEOUT_SECONDS
+                        + " s after the bundle stop");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
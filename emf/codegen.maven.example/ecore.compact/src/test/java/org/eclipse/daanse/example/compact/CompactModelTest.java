@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.compact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.junit.jupiter.api.Test;
+
+class CompactModelTest {
+
+    @Test
+    void testPackageInitialized() {
+        assertNotNull(CompactPackage.eINSTANCE);
+        assertNotNull(CompactFactory.eINSTANCE);
+    }
+
+    @Test
+    void testSparseEntryFeatures() {
+        SparseEntry entry = CompactFactory.eINSTANCE.createSparseEntry();
+        SparseEntry child = CompactFactory.eINSTANCE.createSparseEntry();
+        assertFalse(entry.eIsSet(CompactPackage.Literals.SPARSE_ENTRY__NAME));
+
+        entry.setName("revenue");
+        entry.setUnit("EUR");
+        entry.setOwner(child);
+        entry.getTags().add("finance");
+        entry.getChildren().add(child);
+
+        assertEquals("revenue", entry.getName());
+        assertEquals("EUR", entry.getUnit());
+        assertNull(entry.getCaption());
+        assertSame(child, entry.getOwner());
+        assertEquals(List.of("finance"), entry.getTags());
+        assertSame(entry, child.eContainer());
+        assertTrue(entry.eIsSet(CompactPackage.Literals.SPARSE_ENTRY__NAME));
+
+        entry.eUnset(CompactPackage.Literals.SPARSE_ENTRY__NAME);
+        assertNull(entry.getName());
+        assertFalse(entry.eIsSet(CompactPackage.Literals.SPARSE_ENTRY__NAME));
+        assertEquals("EUR", entry.eGet(CompactPackage.Literals.SPARSE_ENTRY__UNIT));
+    }
+
+    @Test
+    void testSparseEntryNotifications() {
+        SparseEntry entry = CompactFactory.eINSTANCE.createSparseEntry();
+        List<Notification> notifications = new ArrayList<>();
+        entry.eAdapters().add(new AdapterImpl() {
+            @Override
+            public void notifyChanged(Notification notification) {
+                notifications.add(notification);
+            }
+        });
+
+        entry.setCaption("Revenue");
+        entry.setCaption("Net Revenue");
+
+        assertEquals(2, notifications.size());
+        assertEquals("Revenue", notifications.get(1).getOldValue());
+        assertEquals("Net Revenue", notifications.get(1).getNewValue());
+    }
+}
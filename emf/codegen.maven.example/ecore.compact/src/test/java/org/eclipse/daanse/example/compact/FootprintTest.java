@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.compact;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Compares the bytes per instance of the compact {@link SparseEntry} with the
+ * default layout of {@link DenseEntry}, which has the same features.
+ *
+ * <p>
+ * Instances are measured empty, with one of ten features set (the typical
+ * catalog case), and with all single-valued features set. The retained size
+ * excludes the shared feature value, so only the storage overhead of the
+ * layouts is compared.
+ * </p>
+ */
+class FootprintTest {
+
+    private static final String[] SINGLE_VALUED = { "name", "caption", "description", "formula", "format",
+            "unit" };
+
+    @Test
+    void compareFootprint() {
+        long[] sparse = footprint(CompactFactory.eINSTANCE.createSparseEntry(),
+                CompactFactory.eINSTANCE.createSparseEntry(), CompactFactory.eINSTANCE.createSparseEntry());
+        long[] dense = footprint(CompactFactory.eINSTANCE.createDenseEntry(),
+                CompactFactory.eINSTANCE.createDenseEntry(), CompactFactory.eINSTANCE.createDenseEntry());
+
+        System.out.println(ClassLayout.parseInstance(CompactFactory.eINSTANCE.createSparseEntry()).toPrintable());
+        System.out.println(ClassLayout.parseInstance(CompactFactory.eINSTANCE.createDenseEntry()).toPrintable());
+        System.out.println("bytes per instance (empty / one feature set / all single-valued set): SparseEntry "
+                + sparse[0] + " / " + sparse[1] + " / " + sparse[2] + ", DenseEntry " + dense[0] + " / " + dense[1]
+                + " / " + dense[2]);
+
+        assertTrue(sparse[0] < dense[0]);
+        assertTrue(sparse[1] < dense[1]);
+    }
+
+    /**
+     * @return the retained bytes of an empty instance, an instance with only
+     *         the name set and an instance with all single-valued attributes
+     *         set
+     */
+    private static long[] footprint(EObject empty, EObject sparse, EObject full) {
+        String value = "value";
+        set(sparse, "name", value);
+        for (String feature : SINGLE_VALUED) {
+            set(full, feature, value);
+        }
+        long valueSize = GraphLayout.parseInstance(value).totalSize();
+        return new long[] { GraphLayout.parseInstance(empty).totalSize(),
+                GraphLayout.parseInstance(sparse).totalSize() - valueSize,
+                GraphLayout.parseInstance(full).totalSize() - valueSize };
+    }
+
+    private static void set(EObject eObject, String featureName, Object value) {
+        EStructuralFeature feature = eObject.eClass().getEStructuralFeature(featureName);
+        eObject.eSet(feature, value);
+    }
+}
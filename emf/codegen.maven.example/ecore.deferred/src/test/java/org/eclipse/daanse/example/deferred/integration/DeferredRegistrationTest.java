@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.deferred.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.example.deferred.DeferredPackage;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.fennec.emf.osgi.annotation.require.RequireEMF;
+import org.eclipse.fennec.emf.osgi.constants.EMFNamespaces;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceReference;
+import org.osgi.test.common.annotation.InjectBundleContext;
+import org.osgi.test.junit5.context.BundleContextExtension;
+
+/**
+ * Checks the package service registered with {@code deferredRegistration}: the
+ * started model bundle registers the package without loading its contents, and
+ * the first {@code getService} returns the loaded package.
+ *
+ * <p>
+ * The service is looked up through the bundle context, as a service tracker
+ * would already get the service and load the package.
+ * </p>
+ */
+@ExtendWith(BundleContextExtension.class)
+@RequireEMF
+public class DeferredRegistrationTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static final String FILTER = "(" + EMFNamespaces.EMF_NAME + "=" + DeferredPackage.eNAME + ")";
+
+    @Test
+    public void getServiceLoadsPackage(@InjectBundleContext BundleContext bc) throws Exception {
+        ServiceReference<EPackage> reference = awaitReference(bc);
+        EPackage ePackage = DeferredPackage.eINSTANCE;
+        assertFalse(isMaterialized(ePackage), "package loaded by the bundle start");
+        assertEquals(DeferredPackage.eNAME, reference.getProperty(EMFNamespaces.EMF_NAME));
+        assertFalse(isMaterialized(ePackage), "package loaded by the service properties");
+
+        EPackage service = bc.getService(reference);
+        try {
+            assertSame(ePackage, service);
+            assertTrue(isMaterialized(service));
+            assertEquals(List.of("Library", "Book"),
+                    service.getEClassifiers().stream().map(EClassifier::getName).toList());
+            assertEquals(DeferredPackage.eNS_PREFIX, service.getNsPrefix());
+        } finally {
+            bc.ungetService(reference);
+        }
+    }
+
+    private static ServiceReference<EPackage> awaitReference(BundleContext bc) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (true) {
+            ServiceReference<EPackage> reference = bc.getServiceReferences(EPackage.class, FILTER).stream()
+                    .findFirst().orElse(null);
+            if (reference != null) {
+                return reference;
+            }
+            assertTrue(System.nanoTime() < deadline,
+                    "EPackage not registered " + TIMEOUT_SECONDS + " s after the bundle start");
+            Thread.sleep(1);
+        }
+    }
+
+    private static boolean isMaterialized(EPackage ePackage) throws Exception {
+        Field field = ePackage.getClass().getDeclaredField("isMaterialized");
+        field.setAccessible(true);
+        return field.getBoolean(ePackage);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.extended;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the model manifest the plugin writes into {@code model/} next to the
+ * model files.
+ */
+class ModelManifestTest {
+
+    @Test
+    void testManifestDescribesPackage() throws IOException {
+        Properties manifest = load();
+        assertEquals("1", manifest.getProperty("version"));
+        assertEquals("1", manifest.getProperty("packages"));
+        assertEquals(ExtendedPackage.eNS_URI, manifest.getProperty("package.0.nsURI"));
+        assertEquals(ExtendedPackage.eNAME, manifest.getProperty("package.0.name"));
+        assertEquals("", manifest.getProperty("package.0.parent"));
+        assertEquals("Extended", manifest.getProperty("package.0.prefix"));
+        assertEquals("model/extended.ecore", manifest.getProperty("package.0.ecore"));
+        assertEquals("model/extended.genmodel", manifest.getProperty("package.0.genmodel"));
+        assertEquals(List.of("http://daanse.eclipse.org/example/base"),
+                List.of(manifest.getProperty("package.0.references").split(" ")));
+    }
+
+    @Test
+    void testManifestHasApiFingerprint() throws IOException {
+        Properties manifest = load();
+        String packageFingerprint = manifest.getProperty("package.0.abi");
+        assertNotNull(packageFingerprint);
+        assertTrue(packageFingerprint.matches("[0-9a-f]{64}"), packageFingerprint);
+        String moduleFingerprint = manifest.getProperty("abi");
+        assertNotNull(moduleFingerprint);
+        assertTrue(moduleFingerprint.matches("[0-9a-f]{64}"), moduleFingerprint);
+    }
+
+    @Test
+    void testManifestHashesModelFiles() throws IOException, NoSuchAlgorithmException {
+        Properties manifest = load();
+        int files = Integer.parseInt(manifest.getProperty("files"));
+        assertEquals(2, files);
+        for (int i = 0; i < files; i++) {
+            String path = manifest.getProperty("file." + i + ".path");
+            try (InputStream in = getClass().getClassLoader().getResourceAsStream(path)) {
+                assertNotNull(in, path);
+                String hash = HexFormat.of()
+                        .formatHex(MessageDigest.getInstance("SHA-256").digest(in.readAllBytes()));
+                assertEquals(hash, manifest.getProperty("file." + i + ".sha256"), path);
+            }
+        }
+    }
+
+    private Properties load() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("model/model.manifest")) {
+            assertNotNull(in, "model/model.manifest on the class path");
+            Properties manifest = new Properties();
+            manifest.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return manifest;
+        }
+    }
+}
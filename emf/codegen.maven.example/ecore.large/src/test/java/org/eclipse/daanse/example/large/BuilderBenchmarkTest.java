@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.eclipse.daanse.example.large.util.LargeBuilders;
+import org.eclipse.daanse.example.large.util.LargeBuilders.CatalogBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares building a catalog of a million elements, a tenth of them
+ * featured, through the generated {@link LargeBuilders} with building it
+ * through the factory and the generated lists.
+ *
+ * <p>
+ * The module is built with {@code emf.builders}. The builder sizes the lists
+ * up front and adds the elements without the uniqueness check; the factory
+ * variant adds them one by one. For the containment list of the elements this
+ * saves the copies of the growing list, which is little next to creating the
+ * elements and setting their container, so both variants take about as long
+ * and differ mostly by garbage collection. The featured list is a plain
+ * reference list, which searches itself for every element added through the
+ * factory variant. That search grows with the square of the list size, so the
+ * factory variant only features a smaller number of elements, which the
+ * report extrapolates from.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * checks that both variants build the same catalog.
+ * </p>
+ */
+class BuilderBenchmarkTest {
+
+    private static final int ELEMENTS = 1_000_000;
+    private static final int FEATURED = ELEMENTS / 10;
+    private static final int FACTORY_FEATURED = 20_000;
+    private static final int RUNS = 5;
+
+    @Test
+    void buildersBuildTheSameCatalog() {
+        Catalog factory = buildWithFactory(1_000, 100);
+        Catalog builders = buildWithBuilders(1_000, 100);
+
+        assertEquals(1_000, builders.getElements().size());
+        assertEquals(100, builders.getFeatured().size());
+        for (int i = 0; i < 1_000; i++) {
+            Element001 expected = (Element001) factory.getElements().get(i);
+            Element001 element = (Element001) builders.getElements().get(i);
+            assertEquals(expected.getId(), element.getId());
+            assertEquals(expected.getKey(), element.getKey());
+            assertSame(builders, element.eContainer());
+        }
+        for (int i = 0; i < 100; i++) {
+            assertSame(builders.getElements().get(i), builders.getFeatured().get(i));
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkBuild() {
+        // Warm up both variants
+        for (int i = 0; i < RUNS; i++) {
+            assertEquals(ELEMENTS, buildWithFactory(ELEMENTS, 0).getElements().size());
+            assertEquals(ELEMENTS, buildWithBuilders(ELEMENTS, 0).getElements().size());
+        }
+
+        long factoryNanos = Long.MAX_VALUE;
+        long builderNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            buildWithFactory(ELEMENTS, 0);
+            factoryNanos = Math.min(factoryNanos, System.nanoTime() - start);
+            start = System.nanoTime();
+            buildWithBuilders(ELEMENTS, 0);
+            builderNanos = Math.min(builderNanos, System.nanoTime() - start);
+        }
+
+        long start = System.nanoTime();
+        assertEquals(FACTORY_FEATURED, buildWithFactory(ELEMENTS, FACTORY_FEATURED).getFeatured().size());
+        long factoryFeaturedNanos = System.nanoTime() - start - factoryNanos;
+        start = System.nanoTime();
+        assertEquals(FEATURED, buildWithBuilders(ELEMENTS, FEATURED).getFeatured().size());
+        long builderFeaturedNanos = System.nanoTime() - start - builderNanos;
+        double scale = (double) FEATURED / FACTORY_FEATURED;
+
+        System.out.println("build " + ELEMENTS + " elements: factory " + factoryNanos / 1_000_000 + " ms, builders "
+                + builderNanos / 1_000_000 + " ms; feature " + FEATURED + " of them: factory ~"
+                + (long) (factoryFeaturedNanos * scale * scale / 1_000_000) + " ms (" + factoryFeaturedNanos / 1_000_000
+                + " ms for " + FACTORY_FEATURED + "), builders " + Math.max(0, builderFeaturedNanos / 1_000_000)
+                + " ms");
+    }
+
+    private static Catalog buildWithFactory(int elements, int featured) {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        catalog.setName("catalog");
+        for (int i = 0; i < elements; i++) {
+            Element001 element = LargeFactory.eINSTANCE.createElement001();
+            element.setId("e" + i);
+            element.setKey(i);
+            catalog.getElements().add(element);
+            if (i < featured) {
+                catalog.getFeatured().add(element);
+            }
+        }
+        return catalog;
+    }
+
+    private static Catalog buildWithBuilders(int elements, int featured) {
+        CatalogBuilder catalog = LargeBuilders.catalog().name("catalog").expectElements(elements)
+                .expectFeatured(featured);
+        for (int i = 0; i < elements; i++) {
+            Element001 element = LargeBuilders.element001().id("e" + i).key(i).build();
+            catalog.addElements(element);
+            if (i < featured) {
+                catalog.addFeatured(element);
+            }
+        }
+        return catalog.build();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.daanse.example.large.util.LargeCodec;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares encoding and decoding a large catalog with the generated
+ * {@link LargeCodec} against saving and loading it with an
+ * {@link XMIResourceImpl} and a {@link BinaryResourceImpl}, and reading a
+ * single value per element through the views against decoding.
+ *
+ * <p>
+ * The module is built with {@code emf.binaryCodec}. The catalog is the one of
+ * the {@link ResourceBenchmarkTest}; the XMI resource resolves the ID
+ * references through an ID map, as large XMI models need to.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * encodes and decodes a small catalog and reads it through the views.
+ * </p>
+ */
+class CodecBenchmarkTest {
+
+    private static final int ELEMENTS = 50_000;
+    private static final int ROUNDS = 5;
+    private static final URI CATALOG_URI = URI.createURI("catalog.large");
+
+    @Test
+    void encodesAndDecodesCatalog() throws IOException {
+        Catalog catalog = createCatalog(100);
+
+        // Compares the decoded catalog with the encoded one
+        measureCodec(catalog);
+        byte[] bytes = LargeCodec.encode(catalog);
+        assertEquals(sumByDecoding(bytes), sumByView(bytes));
+        assertEquals(31L * 99 * 100 / 2, sumByView(bytes));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkEncodeAndDecode() throws IOException {
+        Catalog catalog = createCatalog(ELEMENTS);
+        Supplier<Resource> binary = () -> new BinaryResourceImpl(CATALOG_URI);
+        Supplier<Resource> xmi = () -> {
+            XMIResourceImpl resource = new XMIResourceImpl(CATALOG_URI);
+            resource.setIntrinsicIDToEObjectMap(new HashMap<>());
+            resource.getDefaultLoadOptions().put(XMLResource.OPTION_DEFER_IDREF_RESOLUTION, Boolean.TRUE);
+            return resource;
+        };
+
+        // Warm up all formats
+        measure(catalog, xmi);
+        measure(catalog, binary);
+        measureCodec(catalog);
+
+        Result xmiResult = measure(catalog, xmi);
+        Result binaryResult = measure(catalog, binary);
+        Result codecResult = measureCodec(catalog);
+        System.out.println("catalog of " + ELEMENTS + " elements: XMI " + xmiResult + ", BinaryResourceImpl "
+                + binaryResult + ", LargeCodec " + codecResult);
+
+        byte[] bytes = LargeCodec.encode(catalog);
+        long sum = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            sum = sumByDecoding(bytes);
+        }
+        long decodeMillis = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+        long viewSum = 0;
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            viewSum = sumByView(bytes);
+        }
+        long viewMillis = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+        assertEquals(sum, viewSum);
+        System.out.println("sum of the keys of " + ELEMENTS + " elements: " + decodeMillis + " ms decoded, "
+                + viewMillis + " ms read through the views");
+    }
+
+    private record Result(long bytes, long saveMillis, long loadMillis) {
+
+        @Override
+        public String toString() {
+            return bytes / 1024 + " KiB, save " + saveMillis + " ms, load " + loadMillis + " ms";
+        }
+    }
+
+    private static Result measure(Catalog catalog, Supplier<Resource> resources) throws IOException {
+        Resource source = resources.get();
+        Catalog copy = EcoreUtil.copy(catalog);
+        source.getContents().add(copy);
+        byte[] bytes = null;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            source.save(out, null);
+            bytes = out.toByteArray();
+        }
+        long saveMillis = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+
+        Resource loaded = null;
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            loaded = resources.get();
+            loaded.load(new ByteArrayInputStream(bytes), null);
+        }
+        long loadMillis = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+
+        assertTrue(EcoreUtil.equals(copy, loaded.getContents().get(0)));
+        return new Result(bytes.length, saveMillis, loadMillis);
+    }
+
+    private static Result measureCodec(Catalog catalog) throws IOException {
+        byte[] bytes = null;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            bytes = LargeCodec.encode(catalog);
+        }
+        long encodeMillis = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+
+        List<EObject> decoded = null;
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            decoded = LargeCodec.decode(bytes);
+        }
+        long decodeMillis = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+
+        assertTrue(EcoreUtil.equals(catalog, decoded.get(0)));
+        return new Result(bytes.length, encodeMillis, decodeMillis);
+    }
+
+    private static long sumByDecoding(byte[] bytes) throws IOException {
+        long sum = 0;
+        for (NamedElement element : ((Catalog) LargeCodec.decode(bytes).get(0)).getElements()) {
+            sum += ((Element001) element).getKey();
+        }
+        return sum;
+    }
+
+    private static long sumByView(byte[] bytes) throws IOException {
+        LargeCodec.CatalogView catalog = (LargeCodec.CatalogView) LargeCodec.read(bytes).getRoot(0);
+        long sum = 0;
+        for (int i = 0; i < catalog.getElementsCount(); i++) {
+            sum += ((LargeCodec.Element001View) catalog.getElements(i)).getKey();
+        }
+        return sum;
+    }
+
+    private static Catalog createCatalog(int elements) {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        catalog.setName("catalog");
+        Element002 previous = null;
+        for (int i = 0; i < elements; i++) {
+            Element001 element = LargeFactory.eINSTANCE.createElement001();
+            element.setId("e" + i);
+            element.setName("element" + i);
+            element.setCaption("Element number " + i);
+            element.setKind(Kind.get(i % Kind.VALUES.size()));
+            element.setOrdinal(i);
+            element.setWeight(i * 0.25);
+            element.setKey(i * 31L);
+            element.getOrdinals().add(i);
+            element.getOrdinals().add(-i);
+            Element002 child = LargeFactory.eINSTANCE.createElement002();
+            child.setId("c" + i);
+            child.setName("child" + i);
+            element.getChildren().add(child);
+            element.setNext(previous);
+            previous = child;
+            catalog.getElements().add(element);
+            if (i % 10 == 0) {
+                catalog.getFeatured().add(element);
+            }
+        }
+        return catalog;
+    }
+}
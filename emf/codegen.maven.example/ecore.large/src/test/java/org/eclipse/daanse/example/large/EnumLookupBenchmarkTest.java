@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the literal lookup of the 300 literals of {@link Kind} through the
+ * generated hash tables with the linear search EMF generates.
+ *
+ * <p>
+ * The module is built with {@code emf.enumLookupThreshold}. The baseline is
+ * the loop of the generated {@code get(String)} without the tables, run over
+ * the same {@link Kind#VALUES}. The literals are copied, as a parser hands them
+ * over, so neither variant benefits from identical strings.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * checks the lookup of every literal.
+ * </p>
+ */
+class EnumLookupBenchmarkTest {
+
+    private static final int LOOKUPS = 2_000_000;
+
+    @Test
+    void findsEveryLiteral() {
+        assertEquals(300, Kind.VALUES.size());
+        for (Kind kind : Kind.VALUES) {
+            assertSame(kind, Kind.get(new String(kind.getLiteral())));
+            assertSame(kind, Kind.getByName(new String(kind.getName())));
+            assertSame(kind, Kind.get(kind.getValue()));
+        }
+        assertNull(Kind.get("unknown"));
+        assertNull(Kind.getByName("unknown"));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkLookups() {
+        Random random = new Random(42);
+        String[] literals = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            literals[i] = new String(Kind.VALUES.get(random.nextInt(Kind.VALUES.size())).getLiteral());
+        }
+
+        // Warm up both variants
+        long expected = lookup(literals);
+        assertEquals(expected, scan(literals));
+        long start = System.nanoTime();
+        long checksum = scan(literals);
+        long scanNanos = (System.nanoTime() - start) / LOOKUPS;
+        start = System.nanoTime();
+        checksum += lookup(literals);
+        long lookupNanos = (System.nanoTime() - start) / LOOKUPS;
+
+        assertEquals(2 * expected, checksum);
+        System.out.println("lookups of " + Kind.VALUES.size() + " enum literals: linear search " + scanNanos
+                + " ns/lookup, generated table " + lookupNanos + " ns/lookup");
+    }
+
+    private static long lookup(String[] literals) {
+        long checksum = 0;
+        for (String literal : literals) {
+            checksum += Kind.get(literal).getValue();
+        }
+        return checksum;
+    }
+
+    private static long scan(String[] literals) {
+        long checksum = 0;
+        for (String literal : literals) {
+            for (Kind kind : Kind.VALUES) {
+                if (kind.toString().equals(literal)) {
+                    checksum += kind.getValue();
+                    break;
+                }
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.daanse.example.large.util.LargeIdIndex;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares lookups by ID in a catalog of a million elements through the
+ * generated {@link LargeIdIndex} with the lookups EMF offers without it.
+ *
+ * <p>
+ * The module is built with {@code emf.idIndexes}. The baselines are a scan of
+ * the contents, as {@link ResourceImpl#getEObject(String)} does without an ID
+ * map, and the intrinsic ID map of {@link ResourceImpl}, which is filled during
+ * such scans and is not updated when IDs change.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * checks the index on a small catalog.
+ * </p>
+ */
+class IdIndexBenchmarkTest {
+
+    private static final int ELEMENTS = 1_000_000;
+    private static final int LOOKUPS = 1_000_000;
+    private static final int SCANS = 20;
+
+    @Test
+    void indexFollowsTheContents() {
+        ResourceImpl resource = new ResourceImpl();
+        Catalog catalog = createCatalog(resource, 1_000);
+        LargeIdIndex index = LargeIdIndex.attach(resource);
+
+        for (int i = 0; i < 1_000; i += 97) {
+            assertSame(catalog.getElements().get(i), index.getNamedElementById("e" + i));
+            assertSame(catalog.getElements().get(i), index.getElement001ByKey(i));
+        }
+
+        Element001 element = (Element001) catalog.getElements().get(5);
+        element.setId("renamed");
+        element.setKey(5_000);
+        assertSame(element, index.getNamedElementById("renamed"));
+        assertSame(element, index.getElement001ByKey(5_000));
+        assertNull(index.getNamedElementById("e5"));
+        assertNull(index.getElement001ByKey(5));
+
+        catalog.getElements().remove(element);
+        assertNull(index.getNamedElementById("renamed"));
+
+        Element001 added = LargeFactory.eINSTANCE.createElement001();
+        added.setId("added");
+        catalog.getElements().add(added);
+        assertSame(added, index.getNamedElementById("added"));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkLookups() {
+        ResourceImpl resource = new ResourceImpl();
+        Catalog catalog = createCatalog(resource, ELEMENTS);
+        Random random = new Random(42);
+        String[] ids = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            ids[i] = "e" + random.nextInt(ELEMENTS);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SCANS; i++) {
+            // The last elements, so that each lookup scans the whole catalog
+            assertSame(catalog.getElements().get(ELEMENTS - 1 - i), resource.getEObject("e" + (ELEMENTS - 1 - i)));
+        }
+        long scanNanos = (System.nanoTime() - start) / SCANS;
+
+        start = System.nanoTime();
+        LargeIdIndex index = LargeIdIndex.attach(resource);
+        long attachMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Map<String, EObject> intrinsicIds = new HashMap<>();
+        resource.setIntrinsicIDToEObjectMap(intrinsicIds);
+        start = System.nanoTime();
+        for (EObject element : catalog.getElements()) {
+            intrinsicIds.put(EcoreUtil.getID(element), element);
+        }
+        long intrinsicMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Warm up both variants
+        long checksum = lookup(index, ids) + lookup(resource, ids);
+        start = System.nanoTime();
+        checksum += lookup(index, ids);
+        long indexNanos = (System.nanoTime() - start) / LOOKUPS;
+        start = System.nanoTime();
+        checksum += lookup(resource, ids);
+        long resourceNanos = (System.nanoTime() - start) / LOOKUPS;
+
+        System.out.println("lookups by id in " + ELEMENTS + " elements: scan " + scanNanos / 1_000 + " us/lookup, "
+                + "resource ID map " + resourceNanos + " ns/lookup (filled in " + intrinsicMillis + " ms), "
+                + "generated index " + indexNanos + " ns/lookup (attached in " + attachMillis + " ms) [" + checksum
+                + "]");
+    }
+
+    private static Catalog createCatalog(ResourceImpl resource, int elements) {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        for (int i = 0; i < elements; i++) {
+            Element001 element = LargeFactory.eINSTANCE.createElement001();
+            element.setId("e" + i);
+            element.setKey(i);
+            catalog.getElements().add(element);
+        }
+        resource.getContents().add(catalog);
+        return catalog;
+    }
+
+    private static long lookup(LargeIdIndex index, String[] ids) {
+        long checksum = 0;
+        for (String id : ids) {
+            checksum += index.getNamedElementById(id).hashCode();
+        }
+        return checksum;
+    }
+
+    private static long lookup(ResourceImpl resource, String[] ids) {
+        long checksum = 0;
+        for (String id : ids) {
+            checksum += resource.getEObject(id).hashCode();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.daanse.example.large.util.LargeInverseIndex;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the generated {@link LargeInverseIndex} with an
+ * {@link ECrossReferenceAdapter} for finding the referrers of the elements of a
+ * catalog.
+ *
+ * <p>
+ * The module is built with {@code emf.inverseReferences}, so the index is
+ * maintained by the generated setters whether or not an adapter is attached.
+ * Half of the elements refer to a random element of the other half through
+ * {@code next}. The heap taken by the index is measured as the growth when the
+ * references are set, the heap taken by the adapter as the growth when it is
+ * attached. Both are then maintained while all references are retargeted and
+ * used to find the referrers of every target.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * checks that the index follows changes of the references.
+ * </p>
+ */
+class InverseReferenceBenchmarkTest {
+
+    private static final int TARGETS = 200_000;
+
+    @Test
+    void indexFollowsTheReferences() {
+        Element001 first = LargeFactory.eINSTANCE.createElement001();
+        Element001 second = LargeFactory.eINSTANCE.createElement001();
+        Element150 referrer = LargeFactory.eINSTANCE.createElement150();
+        Element150 other = LargeFactory.eINSTANCE.createElement150();
+
+        referrer.setNext(first);
+        other.setNext(first);
+        assertEquals(2, LargeInverseIndex.getElement150NextReferrers(first).size());
+        assertTrue(LargeInverseIndex.getElement150NextReferrers(first).contains(referrer));
+
+        referrer.setNext(second);
+        assertEquals(1, LargeInverseIndex.getElement150NextReferrers(first).size());
+        assertTrue(LargeInverseIndex.getElement150NextReferrers(second).contains(referrer));
+
+        referrer.setNext(null);
+        other.setNext(null);
+        assertTrue(LargeInverseIndex.getElement150NextReferrers(first).isEmpty());
+        assertTrue(LargeInverseIndex.getElement150NextReferrers(second).isEmpty());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkReferrers() {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        List<Element001> targets = new ArrayList<>(TARGETS);
+        List<Element150> referrers = new ArrayList<>(TARGETS);
+        for (int i = 0; i < TARGETS; i++) {
+            targets.add(LargeFactory.eINSTANCE.createElement001());
+            referrers.add(LargeFactory.eINSTANCE.createElement150());
+        }
+        catalog.getElements().addAll(targets);
+        catalog.getElements().addAll(referrers);
+        Random random = new Random(42);
+
+        long heap = usedHeap();
+        long start = System.nanoTime();
+        retarget(referrers, targets, random);
+        long indexSetMillis = (System.nanoTime() - start) / 1_000_000;
+        long indexBytes = usedHeap() - heap;
+
+        heap = usedHeap();
+        start = System.nanoTime();
+        ECrossReferenceAdapter adapter = new ECrossReferenceAdapter();
+        catalog.eAdapters().add(adapter);
+        // The adapter indexes lazily on the first lookup
+        adapter.getNonNavigableInverseReferences(targets.get(0));
+        long adapterAttachMillis = (System.nanoTime() - start) / 1_000_000;
+        long adapterBytes = usedHeap() - heap;
+
+        start = System.nanoTime();
+        retarget(referrers, targets, random);
+        long bothSetMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Warm up both lookups
+        long indexCount = countWithIndex(targets);
+        long adapterCount = countWithAdapter(adapter, targets);
+        start = System.nanoTime();
+        indexCount = countWithIndex(targets);
+        long indexLookupNanos = (System.nanoTime() - start) / TARGETS;
+        start = System.nanoTime();
+        adapterCount = countWithAdapter(adapter, targets);
+        long adapterLookupNanos = (System.nanoTime() - start) / TARGETS;
+        assertEquals(TARGETS, indexCount);
+        assertEquals(indexCount, adapterCount);
+
+        System.out.println("referrers of " + TARGETS + " targets: generated index " + indexBytes / TARGETS
+                + " bytes/target, references set in " + indexSetMillis + " ms, " + indexLookupNanos
+                + " ns/lookup; ECrossReferenceAdapter " + adapterBytes / TARGETS + " bytes/target, attached in "
+                + adapterAttachMillis + " ms, references set in " + bothSetMillis + " ms with both, "
+                + adapterLookupNanos + " ns/lookup");
+    }
+
+    private static void retarget(List<Element150> referrers, List<Element001> targets, Random random) {
+        for (Element150 referrer : referrers) {
+            referrer.setNext(targets.get(random.nextInt(TARGETS)));
+        }
+    }
+
+    private static long countWithIndex(List<Element001> targets) {
+        long count = 0;
+        for (Element001 target : targets) {
+            count += LargeInverseIndex.getElement150NextReferrers(target).size();
+        }
+        return count;
+    }
+
+    private static long countWithAdapter(ECrossReferenceAdapter adapter, List<Element001> targets) {
+        long count = 0;
+        for (Element001 target : targets) {
+            count += adapter.getNonNavigableInverseReferences(target).size();
+        }
+        return count;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
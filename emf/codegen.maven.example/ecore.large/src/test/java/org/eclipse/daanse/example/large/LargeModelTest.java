@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.daanse.example.large.util.LargeBuilders;
+import org.eclipse.daanse.example.large.util.LargeCodec;
+import org.eclipse.daanse.example.large.util.LargeIdIndex;
+import org.eclipse.daanse.example.large.util.LargeInverseIndex;
+import org.eclipse.daanse.example.large.util.LargeSnapshots;
+import org.eclipse.daanse.example.large.util.LargeXmiReader;
+import org.eclipse.daanse.example.large.util.LargeXmiWriter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+
+class LargeModelTest {
+
+    @Test
+    void testPackageInitialized() {
+        assertNotNull(LargePackage.eINSTANCE);
+        assertNotNull(LargeFactory.eINSTANCE);
+        // Catalog, NamedElement, 150 elements and the Kind enum
+        assertEquals(153, LargePackage.eINSTANCE.getEClassifiers().size());
+        assertEquals(300, LargePackage.eINSTANCE.getKind().getELiterals().size());
+    }
+
+    @Test
+    void testSupertypesInitialized() {
+        assertSame(LargePackage.Literals.NAMED_ELEMENT, LargePackage.Literals.ELEMENT150.getESuperTypes().get(0));
+        assertSame(LargePackage.Literals.ELEMENT001, LargePackage.Literals.ELEMENT150__NEXT.getEType());
+    }
+
+    @Test
+    void testEnumLookup() {
+        for (Kind kind : Kind.VALUES) {
+            assertSame(kind, Kind.get(kind.getLiteral()));
+            assertSame(kind, Kind.getByName(kind.getName()));
+            assertSame(kind, Kind.get(kind.getValue()));
+        }
+        assertSame(Kind.KIND299, LargeFactory.eINSTANCE.createFromString(LargePackage.Literals.KIND, "KIND299"));
+        assertNull(Kind.get("KIND300"));
+        assertNull(Kind.getByName(null));
+    }
+
+    @Test
+    void testCreateElements() {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        Element001 first = LargeFactory.eINSTANCE.createElement001();
+        first.setId("e1");
+        first.setKind(Kind.KIND042);
+        first.getOrdinals().add(7);
+        Element150 last = LargeFactory.eINSTANCE.createElement150();
+        last.setNext(first);
+        catalog.getElements().add(first);
+        catalog.getElements().add(last);
+        assertEquals(2, catalog.getElements().size());
+        assertSame(first, last.getNext());
+        assertEquals(Kind.KIND042, first.getKind());
+        assertEquals(7, first.getOrdinals().get(0));
+    }
+
+    @Test
+    void testOrdinalsReflectionAndNotifications() {
+        Element001 element = LargeFactory.eINSTANCE.createElement001();
+        List<Notification> notifications = new ArrayList<>();
+        element.eAdapters().add(new EContentAdapter() {
+            @Override
+            public void notifyChanged(Notification notification) {
+                notifications.add(notification);
+            }
+        });
+
+        element.getOrdinals().add(1_000);
+        element.getOrdinals().add(1_000);
+        element.eSet(LargePackage.Literals.ELEMENT001__ORDINALS, List.of(3_000, 2_000));
+        element.getOrdinals().move(0, 1);
+
+        assertEquals(List.of(2_000, 3_000), element.eGet(LargePackage.Literals.ELEMENT001__ORDINALS));
+        assertEquals(true, element.eIsSet(LargePackage.Literals.ELEMENT001__ORDINALS));
+        // add, rejected duplicate, clear, addMany, move
+        assertEquals(4, notifications.size());
+        assertEquals(Notification.MOVE, notifications.get(3).getEventType());
+        assertSame(LargePackage.Literals.ELEMENT001__ORDINALS, notifications.get(0).getFeature());
+    }
+
+    @Test
+    void testSnapshot() {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        catalog.setName("catalog");
+        Element001 first = LargeFactory.eINSTANCE.createElement001();
+        first.setId("e1");
+        first.setKind(Kind.KIND042);
+        first.getOrdinals().add(7);
+        Element150 last = LargeFactory.eINSTANCE.createElement150();
+        last.setNext(first);
+        Element001 child = LargeFactory.eINSTANCE.createElement001();
+        first.getChildren().add(child);
+        catalog.getElements().add(first);
+        catalog.getElements().add(last);
+
+        LargeSnapshots.CatalogRecord snapshot = (LargeSnapshots.CatalogRecord) LargeSnapshots.snapshot(catalog);
+        first.setId("changed");
+        first.getOrdinals().add(8);
+
+        assertEquals("catalog", snapshot.name());
+        assertSame(LargePackage.Literals.CATALOG, snapshot.eClass());
+        LargeSnapshots.Element001Record firstSnapshot = (LargeSnapshots.Element001Record) snapshot.elements().get(0);
+        assertEquals("e1", firstSnapshot.id());
+        assertEquals(Kind.KIND042, firstSnapshot.kind());
+        assertEquals(List.of(7), firstSnapshot.ordinals());
+        assertEquals(1, firstSnapshot.children().size());
+        // Non-containment references resolve to the snapshot of the target
+        LargeSnapshots.Element150Record lastSnapshot = (LargeSnapshots.Element150Record) snapshot.elements().get(1);
+        assertSame(firstSnapshot, lastSnapshot.next().get());
+        assertThrows(UnsupportedOperationException.class, () -> firstSnapshot.ordinals().add(9));
+    }
+
+    @Test
+    void testIdIndex() {
+        Resource resource = new ResourceImpl();
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        Element001 first = LargeFactory.eINSTANCE.createElement001();
+        first.setId("e1");
+        first.setKey(10L);
+        catalog.getElements().add(first);
+        resource.getContents().add(catalog);
+
+        LargeIdIndex index = LargeIdIndex.attach(resource);
+        assertSame(first, index.getNamedElementById("e1"));
+        assertSame(first, index.getElement001ByKey(10L));
+
+        // Objects are indexed when they are added, including their contents
+        Element150 last = LargeFactory.eINSTANCE.createElement150();
+        last.setId("e150");
+        Element001 child = LargeFactory.eINSTANCE.createElement001();
+        child.setId("child");
+        first.getChildren().add(child);
+        catalog.getElements().add(last);
+        assertSame(last, index.getNamedElementById("e150"));
+        assertSame(child, index.getNamedElementById("child"));
+
+        // Changed keys are reindexed
+        first.setId("renamed");
+        first.setKey(11L);
+        assertNull(index.getNamedElementById("e1"));
+        assertSame(first, index.getNamedElementById("renamed"));
+        assertNull(index.getElement001ByKey(10L));
+        assertSame(first, index.getElement001ByKey(11L));
+
+        // Removed objects and their contents are no longer found
+        catalog.getElements().remove(first);
+        assertNull(index.getNamedElementById("renamed"));
+        assertNull(index.getNamedElementById("child"));
+        assertNull(index.getElement001ByKey(11L));
+
+        index.detach(resource);
+        assertNull(index.getNamedElementById("e150"));
+    }
+
+    @Test
+    void testInverseReferences() {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        Element001 first = LargeFactory.eINSTANCE.createElement001();
+        Element001 second = LargeFactory.eINSTANCE.createElement001();
+        Element150 last = LargeFactory.eINSTANCE.createElement150();
+        catalog.getElements().addAll(List.of(first, second, last));
+
+        // Single-valued references
+        last.setNext(first);
+        assertEquals(List.of(last), LargeInverseIndex.getElement150NextReferrers(first));
+        last.setNext(second);
+        assertTrue(LargeInverseIndex.getReferrers(first).isEmpty());
+        assertEquals(List.of(last), LargeInverseIndex.getElement150NextReferrers(second));
+        last.eUnset(LargePackage.Literals.ELEMENT150__NEXT);
+        assertTrue(LargeInverseIndex.getReferrers(second).isEmpty());
+
+        // Multi-valued references
+        catalog.getFeatured().addAll(List.of(first, last));
+        assertEquals(List.of(catalog), LargeInverseIndex.getCatalogFeaturedReferrers(first));
+        catalog.getFeatured().set(0, second);
+        assertTrue(LargeInverseIndex.getReferrers(first).isEmpty());
+        assertEquals(List.of(catalog), LargeInverseIndex.getCatalogFeaturedReferrers(second));
+        last.setNext(second);
+        assertEquals(List.of(catalog, last), LargeInverseIndex.getReferrers(second));
+        assertSame(catalog, LargeInverseIndex.getInverseReferences(second).get(0).getEObject());
+        assertSame(LargePackage.Literals.CATALOG__FEATURED,
+                LargeInverseIndex.getInverseReferences(second).get(0).getEStructuralFeature());
+        catalog.getFeatured().clear();
+        assertEquals(List.of(last), LargeInverseIndex.getReferrers(second));
+        assertTrue(LargeInverseIndex.getReferrers(last).isEmpty());
+
+        // Copies refer to the copied targets
+        Catalog copy = EcoreUtil.copy(catalog);
+        Element150 lastCopy = (Element150) copy.getElements().get(2);
+        assertEquals(List.of(lastCopy), LargeInverseIndex.getReferrers(copy.getElements().get(1)));
+        assertEquals(List.of(last), LargeInverseIndex.getReferrers(second));
+    }
+
+    @Test
+    void testInverseReferencesOfResolvedProxies() {
+        ResourceSetImpl resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl(URI.createURI("test.large"));
+        resourceSet.getResources().add(resource);
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        Element001 target = LargeFactory.eINSTANCE.createElement001();
+        Element150 referrer = LargeFactory.eINSTANCE.createElement150();
+        catalog.getElements().addAll(List.of(target, referrer));
+        resource.getContents().add(catalog);
+
+        Element001 proxy = LargeFactory.eINSTANCE.createElement001();
+        ((InternalEObject) proxy).eSetProxyURI(EcoreUtil.getURI(target));
+        referrer.setNext(proxy);
+        catalog.getFeatured().add(proxy);
+        assertEquals(List.of(referrer, catalog), LargeInverseIndex.getReferrers(proxy));
+
+        assertSame(target, referrer.getNext());
+        assertSame(target, catalog.getFeatured().get(0));
+        assertTrue(LargeInverseIndex.getReferrers(proxy).isEmpty());
+        assertEquals(List.of(referrer, catalog), LargeInverseIndex.getReferrers(target));
+    }
+
+    @Test
+    void testStreamingXmi() throws IOException {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        catalog.setName("<catalog & \"quotes\">");
+        Element001 element = LargeFactory.eINSTANCE.createElement001();
+        element.setId("e0");
+        element.setKind(Kind.KIND003);
+        element.setWeight(0.5);
+        element.setVisible(false);
+        element.getOrdinals().addAll(List.of(1, 2, 2));
+        Element002 child = LargeFactory.eINSTANCE.createElement002();
+        Element002 identified = LargeFactory.eINSTANCE.createElement002();
+        identified.setId("c1");
+        element.getChildren().addAll(List.of(child, identified));
+        element.setNext(child);
+        Element002 external = LargeFactory.eINSTANCE.createElement002();
+        ((InternalEObject) external).eSetProxyURI(URI.createURI("file:/tmp/other.large#ext"));
+        Element001 linked = LargeFactory.eINSTANCE.createElement001();
+        linked.setNext(external);
+        catalog.getElements().addAll(List.of(element, linked));
+        catalog.getFeatured().addAll(List.of(element, identified));
+        Catalog second = LargeFactory.eINSTANCE.createCatalog();
+        second.getFeatured().add(child);
+        XMIResourceImpl resource = new XMIResourceImpl(URI.createURI("file:/tmp/catalog.large"));
+        resource.getContents().addAll(List.of(catalog, second));
+        resource.setID(second, "second");
+
+        // EMF's XMI read by the generated reader
+        ByteArrayOutputStream xmi = new ByteArrayOutputStream();
+        resource.save(xmi, null);
+        XMIResourceImpl read = new XMIResourceImpl(resource.getURI());
+        new LargeXmiReader(read).read(new ByteArrayInputStream(xmi.toByteArray()));
+        assertTrue(EcoreUtil.equals(resource.getContents(), read.getContents()));
+        assertEquals("second", read.getID(read.getContents().get(1)));
+        Element001 readLinked = (Element001) ((Catalog) read.getContents().get(0)).getElements().get(1);
+        assertTrue(((InternalEObject) readLinked.eGet(LargePackage.Literals.ELEMENT001__NEXT, false)).eIsProxy());
+
+        // The generated writer read by EMF
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        new LargeXmiWriter(resource).write(streamed);
+        XMIResourceImpl loaded = new XMIResourceImpl(resource.getURI());
+        loaded.load(new ByteArrayInputStream(streamed.toByteArray()), null);
+        assertTrue(EcoreUtil.equals(resource.getContents(), loaded.getContents()));
+        assertEquals("second", loaded.getID(loaded.getContents().get(1)));
+
+        XMIResourceImpl unknown = new XMIResourceImpl(resource.getURI());
+        String foreign = "<?xml version=\"1.0\"?><x:Catalog xmlns:x=\"urn:other\"/>";
+        assertThrows(IOException.class, () -> new LargeXmiReader(unknown)
+                .read(new ByteArrayInputStream(foreign.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void testBuilders() {
+        Element002 child = LargeBuilders.element002().id("c0").build();
+        Element001 element = LargeBuilders.element001()
+                .id("e0")
+                .kind(Kind.KIND002)
+                .visible(false)
+                .expectOrdinals(3)
+                .addAllOrdinals(List.of(1, 2, 2))
+                .expectChildren(2)
+                .addChildren(child)
+                .addChildren(LargeBuilders.element003().build())
+                .next(child)
+                .build();
+        Catalog previous = LargeFactory.eINSTANCE.createCatalog();
+        Element001 moved = LargeFactory.eINSTANCE.createElement001();
+        previous.getElements().add(moved);
+        Catalog catalog = LargeBuilders.catalog()
+                .name("catalog")
+                .expectElements(2)
+                .addAllElements(List.of(element, moved))
+                .addFeatured(child)
+                .build();
+
+        assertEquals("e0", element.getId());
+        assertEquals(Kind.KIND002, element.getKind());
+        assertEquals(List.of(1, 2, 2), element.getOrdinals());
+        assertSame(child, element.getNext());
+        assertSame(element, child.eContainer());
+        assertEquals(2, element.getChildren().size());
+        assertEquals("catalog", catalog.getName());
+        assertEquals(List.of(element, moved), catalog.getElements());
+        assertSame(catalog, moved.eContainer());
+        assertTrue(previous.getElements().isEmpty());
+        assertEquals(List.of(child), catalog.getFeatured());
+    }
+
+    @Test
+    void testBinaryCodec() throws IOException {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        catalog.setName("catalog \u00e4");
+        Element001 element = LargeFactory.eINSTANCE.createElement001();
+        element.setId("e0");
+        element.setKind(Kind.KIND003);
+        element.setWeight(0.5);
+        element.setKey(-7L);
+        element.setVisible(false);
+        element.getOrdinals().addAll(List.of(1, 2, 2));
+        Element002 child = LargeFactory.eINSTANCE.createElement002();
+        element.getChildren().add(child);
+        element.setNext(child);
+        Element002 external = LargeFactory.eINSTANCE.createElement002();
+        ((InternalEObject) external).eSetProxyURI(URI.createURI("file:/tmp/other.large#ext"));
+        Element001 linked = LargeFactory.eINSTANCE.createElement001();
+        linked.setNext(external);
+        catalog.getElements().addAll(List.of(element, linked));
+        catalog.getFeatured().addAll(List.of(linked, child));
+
+        byte[] bytes = LargeCodec.encode(catalog);
+        List<EObject> decoded = LargeCodec.decode(bytes);
+        assertEquals(1, decoded.size());
+        assertTrue(EcoreUtil.equals(catalog, decoded.get(0)));
+        Element001 decodedLinked = (Element001) ((Catalog) decoded.get(0)).getElements().get(1);
+        InternalEObject proxy = (InternalEObject) decodedLinked.eGet(LargePackage.Literals.ELEMENT001__NEXT, false);
+        assertTrue(proxy.eIsProxy());
+        assertEquals("file:/tmp/other.large#ext", proxy.eProxyURI().toString());
+
+        // Single values read at their offsets
+        LargeCodec.Message message = LargeCodec.read(bytes);
+        LargeCodec.CatalogView root = (LargeCodec.CatalogView) message.getRoot(0);
+        assertEquals("catalog \u00e4", root.getName());
+        assertEquals(2, root.getElementsCount());
+        LargeCodec.Element001View view = (LargeCodec.Element001View) root.getElements(0);
+        assertEquals("e0", view.getId());
+        assertEquals(Kind.KIND003, view.getKind());
+        assertEquals(0.5, view.getWeight());
+        assertEquals(-7L, view.getKey());
+        assertEquals(0, view.getOrdinal());
+        assertNull(view.getCaption());
+        assertFalse(view.isVisible());
+        assertEquals(3, view.getOrdinalsCount());
+        assertEquals(2, view.getOrdinals(2));
+        assertEquals(view.getChildren(0).index(), view.getNext().index());
+        LargeCodec.Element001View linkedView = (LargeCodec.Element001View) root.getElements(1);
+        assertTrue(linkedView.isVisible());
+        assertTrue(linkedView.getNext().isProxy());
+        assertEquals("file:/tmp/other.large#ext", linkedView.getNext().proxyURI());
+        assertEquals(Kind.VALUES.get(0), linkedView.getKind());
+
+        assertThrows(IOException.class, () -> LargeCodec.read(new byte[] { 1, 2, 3 }));
+        assertThrows(IOException.class, () -> LargeCodec.decode(Arrays.copyOf(bytes, bytes.length - 8)));
+    }
+}
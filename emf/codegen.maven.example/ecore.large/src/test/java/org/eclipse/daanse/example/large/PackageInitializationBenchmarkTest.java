@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import org.eclipse.daanse.example.benchmark.PackageInitializationBenchmark;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Measures the initialization cost of the generated {@link LargePackage} with
+ * the {@link PackageInitializationBenchmark}. Build the module with
+ * {@code -Demf.splitPackageInitialization=false} or
+ * {@code -Demf.lazyPackageInitialization=true} to compare the generation
+ * modes.
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build
+ * initializes the package once.
+ * </p>
+ */
+class PackageInitializationBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 20;
+
+    private final PackageInitializationBenchmark benchmark = new PackageInitializationBenchmark(
+            LargePackage.class, LargePackage.eNS_URI, LargeFactory.class, "Catalog", 153);
+
+    @Test
+    void initializesPackageInFreshClassLoader() throws Exception {
+        benchmark.check();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkPackageInitialization() throws Exception {
+        benchmark.run(WARMUP_ITERATIONS, ITERATIONS);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.util.EDataTypeUniqueEList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the heap footprint and throughput of the generated
+ * {@code ordinals} list with a boxed {@link EDataTypeUniqueEList}.
+ *
+ * <p>
+ * The module is built with {@code emf.primitiveLists}, so the generated list
+ * stores its values in an {@code int[]}. Build with
+ * {@code -Demf.primitiveLists=false} to benchmark the boxed generated list.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * checks that the generated list behaves like the boxed one.
+ * </p>
+ */
+class PrimitiveListBenchmarkTest {
+
+    private static final int ELEMENTS = 200;
+    private static final int VALUES = 1_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void ordinalsBehaveLikeBoxedList() {
+        EList<Integer> generated = LargeFactory.eINSTANCE.createElement001().getOrdinals();
+        EList<Integer> boxed = boxedList(LargeFactory.eINSTANCE.createElement001());
+        for (EList<Integer> list : List.of(generated, boxed)) {
+            for (int i = 0; i < 100; i++) {
+                list.add(1_000 + i);
+            }
+            assertFalse(list.add(1_000));
+            list.remove(Integer.valueOf(1_050));
+            list.remove(0);
+            list.set(0, 7);
+            list.move(0, 98);
+            list.add(3, 5);
+        }
+
+        assertEquals(new ArrayList<>(boxed), new ArrayList<>(generated));
+        assertEquals(boxed.indexOf(1_099), generated.indexOf(1_099));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkOrdinals() {
+        // Warm up both variants
+        measure(Element001::getOrdinals);
+        measure(PrimitiveListBenchmarkTest::boxedList);
+
+        Result generated = measure(Element001::getOrdinals);
+        Result boxed = measure(PrimitiveListBenchmarkTest::boxedList);
+        assertEquals(boxed.checksum(), generated.checksum());
+        System.out.println("ordinals (" + ELEMENTS + " x " + VALUES + " values): generated "
+                + generated.listType() + " " + generated.bytesPerValue() + " bytes/value, " + generated.millis()
+                + " ms; boxed " + boxed.bytesPerValue() + " bytes/value, " + boxed.millis() + " ms");
+    }
+
+    private static EList<Integer> boxedList(Element001 element) {
+        return new EDataTypeUniqueEList<>(Integer.class, (InternalEObject) element,
+                LargePackage.ELEMENT001__ORDINALS);
+    }
+
+    private record Result(String listType, long bytesPerValue, long millis, long checksum) {
+    }
+
+    private static Result measure(Function<Element001, EList<Integer>> listFactory) {
+        List<EList<Integer>> lists = new ArrayList<>(ELEMENTS);
+        long before = usedHeap();
+        long start = System.nanoTime();
+        for (int i = 0; i < ELEMENTS; i++) {
+            EList<Integer> list = listFactory.apply(LargeFactory.eINSTANCE.createElement001());
+            // Values outside the Integer cache, as for keys and ordinals of real catalogs
+            for (int j = 0; j < VALUES; j++) {
+                list.add(1_000 + i * VALUES + j);
+            }
+            lists.add(list);
+        }
+        long checksum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (EList<Integer> list : lists) {
+                for (int value : list) {
+                    checksum += value;
+                }
+            }
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long bytes = usedHeap() - before;
+        String listType = lists.get(0).getClass().getSimpleName();
+        lists.clear();
+        return new Result(listType, bytes / ((long) ELEMENTS * VALUES), millis, checksum);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.daanse.example.large.util.LargeResourceFactoryImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares load and save throughput and file size of the generated binary
+ * resource with those of an {@link XMIResourceImpl} for a scaled-up catalog.
+ *
+ * <p>
+ * The module is built with {@code emf.resource=BINARY}, so the generated
+ * {@code LargeResourceFactoryImpl} creates resources in the binary format. The
+ * catalog holds elements with string, numeric, enum and multi-valued
+ * attributes, cross references and a nested child each. The XMI resource
+ * resolves the ID references through an ID map, as large XMI models need to.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * saves and loads a small catalog in both formats.
+ * </p>
+ */
+class ResourceBenchmarkTest {
+
+    private static final int ELEMENTS = 50_000;
+    private static final int ROUNDS = 5;
+    private static final URI CATALOG_URI = URI.createURI("catalog.large");
+
+    @Test
+    void savesAndLoadsCatalog() throws IOException {
+        Catalog catalog = createCatalog(100);
+        assertTrue(binaryResource() instanceof BinaryResourceImpl);
+
+        // Both compare the loaded catalog with the saved one
+        measure(catalog, ResourceBenchmarkTest::binaryResource);
+        measure(catalog, ResourceBenchmarkTest::xmiResource);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkLoadAndSave() throws IOException {
+        LargePackage.eINSTANCE.getEClassifiers();
+        Catalog catalog = createCatalog(ELEMENTS);
+        Supplier<Resource> binary = ResourceBenchmarkTest::binaryResource;
+        Supplier<Resource> xmi = ResourceBenchmarkTest::xmiResource;
+
+        // Warm up both formats
+        measure(catalog, binary);
+        measure(catalog, xmi);
+
+        Result binaryResult = measure(catalog, binary);
+        Result xmiResult = measure(catalog, xmi);
+        System.out.println("catalog of " + ELEMENTS + " elements: binary " + binaryResult + ", XMI " + xmiResult
+                + ", binary size " + (binaryResult.bytes() * 100 / xmiResult.bytes()) + "% of XMI");
+    }
+
+    private record Result(long bytes, long saveMillis, long loadMillis) {
+
+        @Override
+        public String toString() {
+            return bytes / 1024 + " KiB, save " + saveMillis + " ms (" + throughput(saveMillis) + " MiB/s), load "
+                    + loadMillis + " ms (" + throughput(loadMillis) + " MiB/s)";
+        }
+
+        private long throughput(long millis) {
+            return bytes * 1000 / (1024 * 1024 * Math.max(1, millis));
+        }
+    }
+
+    private static Resource binaryResource() {
+        return new LargeResourceFactoryImpl().createResource(CATALOG_URI);
+    }
+
+    private static Resource xmiResource() {
+        XMIResourceImpl resource = new XMIResourceImpl(CATALOG_URI);
+        // Resolve the ID references through a map, otherwise each one scans the resource
+        resource.setIntrinsicIDToEObjectMap(new HashMap<>());
+        resource.getDefaultLoadOptions().put(XMLResource.OPTION_DEFER_IDREF_RESOLUTION, Boolean.TRUE);
+        return resource;
+    }
+
+    private static Result measure(Catalog catalog, Supplier<Resource> resources) throws IOException {
+        Resource source = resources.get();
+        Catalog copy = EcoreUtil.copy(catalog);
+        source.getContents().add(copy);
+        byte[] bytes = null;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            source.save(out, null);
+            bytes = out.toByteArray();
+        }
+        long saveMillis = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+
+        Resource loaded = null;
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            loaded = resources.get();
+            loaded.load(new ByteArrayInputStream(bytes), null);
+        }
+        long loadMillis = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+
+        assertEquals(1, loaded.getContents().size());
+        assertTrue(EcoreUtil.equals(copy, loaded.getContents().get(0)));
+        return new Result(bytes.length, saveMillis, loadMillis);
+    }
+
+    private static Catalog createCatalog(int elements) {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        catalog.setName("catalog");
+        Element002 previous = null;
+        for (int i = 0; i < elements; i++) {
+            Element001 element = LargeFactory.eINSTANCE.createElement001();
+            element.setId("e" + i);
+            element.setName("element" + i);
+            element.setCaption("Element number " + i);
+            element.setKind(Kind.get(i % Kind.VALUES.size()));
+            element.setOrdinal(i);
+            element.setWeight(i * 0.25);
+            element.setKey(i * 31L);
+            element.getOrdinals().add(i);
+            element.getOrdinals().add(-i);
+            Element002 child = LargeFactory.eINSTANCE.createElement002();
+            child.setId("c" + i);
+            child.setName("child" + i);
+            element.getChildren().add(child);
+            element.setNext(previous);
+            previous = child;
+            catalog.getElements().add(element);
+            if (i % 10 == 0) {
+                catalog.getFeatured().add(element);
+            }
+        }
+        return catalog;
+    }
+}
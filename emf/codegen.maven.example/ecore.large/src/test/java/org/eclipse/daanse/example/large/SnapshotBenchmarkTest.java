@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.eclipse.daanse.example.large.util.LargeSnapshots;
+import org.eclipse.daanse.example.large.util.LargeSnapshots.Element001Snapshot;
+import org.eclipse.daanse.example.large.util.LargeSnapshots.NamedElementSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the multi-threaded read throughput of a catalog whose EObjects are
+ * guarded by a lock with that of its immutable snapshot, which is read without
+ * locking.
+ *
+ * <p>
+ * The module is built with {@code emf.snapshots}. Each reader sums the
+ * attributes of all elements of the catalog several times; the lock is taken
+ * per element, as a server guarding a shared model would.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * checks the snapshot of a small catalog.
+ * </p>
+ */
+class SnapshotBenchmarkTest {
+
+    private static final int ELEMENTS = 20_000;
+    private static final int ROUNDS = 20;
+    private static final int THREADS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    @Test
+    void snapshotCopiesTheCatalog() {
+        Catalog catalog = createCatalog(100);
+        LargeSnapshots.CatalogRecord snapshot = (LargeSnapshots.CatalogRecord) LargeSnapshots.snapshot(catalog);
+        Element001 element = (Element001) catalog.getElements().get(7);
+        element.setName("changed");
+        element.getOrdinals().add(1_000);
+
+        assertEquals(100, snapshot.elements().size());
+        Element001Snapshot copy = (Element001Snapshot) snapshot.elements().get(7);
+        assertEquals("e7", copy.id());
+        assertEquals("element7", copy.name());
+        assertEquals(7, copy.ordinal());
+        assertEquals(3.5, copy.weight());
+        assertEquals(List.of(7), copy.ordinals());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.elements().clear());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkConcurrentReads() throws Exception {
+        Catalog catalog = createCatalog(ELEMENTS);
+        long start = System.nanoTime();
+        LargeSnapshots.CatalogRecord snapshot = (LargeSnapshots.CatalogRecord) LargeSnapshots.snapshot(catalog);
+        long snapshotMillis = (System.nanoTime() - start) / 1_000_000;
+
+        ReentrantLock lock = new ReentrantLock();
+        LongSupplier lockedRead = () -> {
+            long sum = 0;
+            for (NamedElement element : catalog.getElements()) {
+                lock.lock();
+                try {
+                    Element001 e = (Element001) element;
+                    sum += e.getOrdinal() + (long) e.getWeight() + e.getName().length() + e.getOrdinals().size();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return sum;
+        };
+        LongSupplier snapshotRead = () -> {
+            long sum = 0;
+            for (NamedElementSnapshot element : snapshot.elements()) {
+                Element001Snapshot e = (Element001Snapshot) element;
+                sum += e.ordinal() + (long) e.weight() + e.name().length() + e.ordinals().size();
+            }
+            return sum;
+        };
+
+        // Warm up both variants
+        run(lockedRead);
+        run(snapshotRead);
+
+        Result locked = run(lockedRead);
+        Result lockFree = run(snapshotRead);
+        assertEquals(locked.checksum(), lockFree.checksum());
+        System.out.println("reads of " + ELEMENTS + " elements with " + THREADS + " threads: locked EObjects "
+                + locked.readsPerSecond() + " reads/s, snapshot " + lockFree.readsPerSecond()
+                + " reads/s; snapshot created in " + snapshotMillis + " ms");
+    }
+
+    private record Result(long readsPerSecond, long checksum) {
+    }
+
+    private static Result run(LongSupplier read) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    long checksum = 0;
+                    for (int round = 0; round < ROUNDS; round++) {
+                        checksum += read.getAsLong();
+                    }
+                    return checksum;
+                }));
+            }
+            long checksum = 0;
+            for (Future<Long> future : futures) {
+                checksum += future.get();
+            }
+            long nanos = System.nanoTime() - start;
+            long reads = (long) THREADS * ROUNDS * ELEMENTS;
+            return new Result(reads * 1_000_000_000L / nanos, checksum);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Catalog createCatalog(int elements) {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        for (int i = 0; i < elements; i++) {
+            Element001 element = LargeFactory.eINSTANCE.createElement001();
+            element.setId("e" + i);
+            element.setName("element" + i);
+            element.setOrdinal(i);
+            element.setWeight(i * 0.5);
+            element.getOrdinals().add(i);
+            catalog.getElements().add(element);
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.large;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.eclipse.daanse.example.large.util.LargeXmiReader;
+import org.eclipse.daanse.example.large.util.LargeXmiWriter;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares loading and saving a large XMI document with the generated
+ * {@link LargeXmiReader} and {@link LargeXmiWriter} against
+ * {@link XMIResourceImpl}.
+ *
+ * <p>
+ * The module is built with {@code emf.streamingXmi}. The document is a
+ * scaled-up catalog of elements with attributes, a nested child and references
+ * by ID and by fragment path, written by {@code XMIResourceImpl}. EMF loads it
+ * with an ID map, as large XMI models need to; the generated reader resolves
+ * the IDs through its own map.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * reads and writes a small catalog with the generated reader and writer.
+ * </p>
+ */
+class XmiBenchmarkTest {
+
+    private static final int ELEMENTS = 50_000;
+    private static final int ROUNDS = 5;
+    private static final URI CATALOG_URI = URI.createURI("file:/tmp/catalog.xmi");
+
+    @Test
+    void readsAndWritesCatalog() throws IOException {
+        XMIResourceImpl source = new XMIResourceImpl(CATALOG_URI);
+        source.getContents().add(createCatalog(100));
+
+        assertTrue(EcoreUtil.equals(source.getContents(), loadStreaming(saveWithEmf(source)).getContents()));
+        assertTrue(EcoreUtil.equals(source.getContents(), loadWithEmf(saveStreaming(source)).getContents()));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkLoadAndSave() throws IOException {
+        XMIResourceImpl source = new XMIResourceImpl(CATALOG_URI);
+        source.getContents().add(createCatalog(ELEMENTS));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.save(out, null);
+        byte[] xmi = out.toByteArray();
+
+        // Warm up both implementations
+        for (int round = 0; round < ROUNDS; round++) {
+            loadWithEmf(xmi);
+            loadStreaming(xmi);
+            saveWithEmf(source);
+            saveStreaming(source);
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            loadWithEmf(xmi);
+        }
+        long emfLoad = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+        start = System.nanoTime();
+        XMIResourceImpl loaded = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            loaded = loadStreaming(xmi);
+        }
+        long streamingLoad = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+        assertTrue(EcoreUtil.equals(source.getContents(), loaded.getContents()));
+
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            saveWithEmf(source);
+        }
+        long emfSave = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+        start = System.nanoTime();
+        byte[] streamed = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            streamed = saveStreaming(source);
+        }
+        long streamingSave = (System.nanoTime() - start) / 1_000_000 / ROUNDS;
+        assertTrue(EcoreUtil.equals(source.getContents(),
+                loadWithEmf(streamed).getContents()));
+
+        System.out.println("XMI catalog of " + ELEMENTS + " elements (" + xmi.length / 1024 + " KiB): load "
+                + emfLoad + " ms with XMIResourceImpl, " + streamingLoad + " ms with LargeXmiReader; save " + emfSave
+                + " ms with XMIResourceImpl, " + streamingSave + " ms with LargeXmiWriter");
+    }
+
+    private static XMIResourceImpl loadWithEmf(byte[] xmi) throws IOException {
+        XMIResourceImpl resource = new XMIResourceImpl(CATALOG_URI);
+        resource.setIntrinsicIDToEObjectMap(new HashMap<>());
+        resource.getDefaultLoadOptions().put(XMLResource.OPTION_DEFER_IDREF_RESOLUTION, Boolean.TRUE);
+        resource.load(new ByteArrayInputStream(xmi), null);
+        return resource;
+    }
+
+    private static XMIResourceImpl loadStreaming(byte[] xmi) throws IOException {
+        XMIResourceImpl resource = new XMIResourceImpl(CATALOG_URI);
+        new LargeXmiReader(resource).read(new ByteArrayInputStream(xmi));
+        return resource;
+    }
+
+    private static byte[] saveWithEmf(XMIResourceImpl resource) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resource.save(out, null);
+        return out.toByteArray();
+    }
+
+    private static byte[] saveStreaming(XMIResourceImpl resource) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new LargeXmiWriter(resource).write(out);
+        return out.toByteArray();
+    }
+
+    private static Catalog createCatalog(int elements) {
+        Catalog catalog = LargeFactory.eINSTANCE.createCatalog();
+        catalog.setName("catalog");
+        Element002 previous = null;
+        for (int i = 0; i < elements; i++) {
+            Element001 element = LargeFactory.eINSTANCE.createElement001();
+            element.setId("e" + i);
+            element.setName("element" + i);
+            element.setCaption("Element number " + i);
+            element.setKind(Kind.get(i % Kind.VALUES.size()));
+            element.setOrdinal(i);
+            element.setWeight(i * 0.25);
+            element.setKey(i * 31L);
+            element.getOrdinals().add(i);
+            element.getOrdinals().add(-i);
+            Element002 child = LargeFactory.eINSTANCE.createElement002();
+            child.setName("child" + i);
+            element.getChildren().add(child);
+            element.setNext(previous);
+            previous = child;
+            catalog.getElements().add(element);
+            if (i % 10 == 0) {
+                catalog.getFeatured().add(element);
+            }
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.example.large.integration;
+
+import org.eclipse.daanse.example.benchmark.StartupBenchmark;
+import org.eclipse.daanse.example.large.LargePackage;
+import org.eclipse.fennec.emf.osgi.annotation.require.RequireEMF;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.osgi.framework.BundleContext;
+import org.osgi.test.common.annotation.InjectBundleContext;
+import org.osgi.test.junit5.context.BundleContextExtension;
+
+/**
+ * Measures the time from starting the model bundle until its
+ * {@code EPackage} and {@code ResourceSet} services are available with the
+ * {@link StartupBenchmark}, so changes to the generator templates can be
+ * judged by their OSGi startup impact. The cost of the package initialization
+ * itself is measured by {@code PackageInitializationBenchmarkTest}.
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}, which the
+ * {@code test.bndrun} passes on to the framework; the default build restarts
+ * the model bundle once and checks that the services come back.
+ * </p>
+ */
+@ExtendWith(BundleContextExtension.class)
+@RequireEMF
+public class StartupBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 10;
+
+    @Test
+    public void restartsModelBundle(@InjectBundleContext BundleContext bc) throws Exception {
+        benchmark(bc).check();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    public void benchmarkBundleStartToServices(@InjectBundleContext BundleContext bc) throws Exception {
+        benchmark(bc).run(WARMUP_ITERATIONS, ITERATIONS);
+    }
+
+    private static StartupBenchmark benchmark(BundleContext bc) {
+        return new StartupBenchmark(bc, LargePackage.class, LargePackage.eNAME, LargePackage.eNS_URI);
+    }
+}
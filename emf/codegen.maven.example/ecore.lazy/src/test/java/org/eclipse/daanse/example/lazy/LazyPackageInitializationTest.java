@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.lazy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the package generated with {@code lazyPackageInitialization}: the
+ * package object is created without its contents, and each accessor of a value
+ * of the serialized package loads them.
+ *
+ * <p>
+ * Every test initializes the package in a fresh class loader, so that the
+ * contents loaded by one accessor are not seen by the next.
+ * </p>
+ */
+class LazyPackageInitializationTest {
+
+    private Object registered;
+
+    private ModelClassLoader loader;
+
+    private EPackage ePackage;
+
+    @BeforeEach
+    void initializeInFreshClassLoader() throws Exception {
+        registered = EPackage.Registry.INSTANCE.get(LazyPackage.eNS_URI);
+        loader = new ModelClassLoader();
+        ePackage = (EPackage) loader.loadClass(LazyPackage.class.getName()).getField("eINSTANCE").get(null);
+    }
+
+    @AfterEach
+    void restoreRegistry() throws Exception {
+        EPackage.Registry.INSTANCE.remove(LazyPackage.eNS_URI);
+        if (registered != null) {
+            EPackage.Registry.INSTANCE.put(LazyPackage.eNS_URI, registered);
+        }
+        loader.close();
+    }
+
+    @Test
+    void createsPackageWithoutContents() throws Exception {
+        assertFalse(isMaterialized());
+        assertEquals(LazyPackage.eNS_URI, ePackage.getNsURI());
+        assertSame(ePackage, EPackage.Registry.INSTANCE.getEPackage(LazyPackage.eNS_URI));
+        assertFalse(isMaterialized());
+    }
+
+    @Test
+    void getEClassifiersLoadsContents() throws Exception {
+        assertLoadedBy(EPackage::getEClassifiers);
+        assertEquals(List.of("Library", "Book", "Genre"),
+                ePackage.getEClassifiers().stream().map(EClassifier::getName).toList());
+    }
+
+    @Test
+    void getESubpackagesLoadsContents() throws Exception {
+        assertLoadedBy(EPackage::getESubpackages);
+        assertTrue(ePackage.getESubpackages().isEmpty());
+    }
+
+    @Test
+    void getNameLoadsContents() throws Exception {
+        assertEquals("lazy", assertLoadedBy(EPackage::getName));
+    }
+
+    @Test
+    void getNsPrefixLoadsContents() throws Exception {
+        assertEquals("lazy", assertLoadedBy(EPackage::getNsPrefix));
+    }
+
+    @Test
+    void getEAnnotationsLoadsContents() throws Exception {
+        assertLoadedBy(EPackage::getEAnnotations);
+        assertEquals("true", ePackage.getEAnnotation("http://daanse.eclipse.org/example/lazy").getDetails()
+                .get("loaded"));
+    }
+
+    @Test
+    void eGetLoadsContents() throws Exception {
+        assertEquals("lazy", assertLoadedBy(p -> p.eGet(EcorePackage.Literals.ENAMED_ELEMENT__NAME)));
+    }
+
+    @Test
+    void eIsSetLoadsContents() throws Exception {
+        assertEquals(Boolean.TRUE, assertLoadedBy(p -> p.eIsSet(EcorePackage.Literals.EPACKAGE__ECLASSIFIERS)));
+    }
+
+    @Test
+    void eContentsSeesClassifiers() throws Exception {
+        assertLoadedBy(p -> p.eContents().size());
+        List<EObject> classifiers = ePackage.eContents().stream().filter(EClassifier.class::isInstance).toList();
+        assertEquals(3, classifiers.size());
+        assertSame(ePackage.getEClassifiers().get(0), classifiers.get(0));
+    }
+
+    @Test
+    void createsObjectsOfLoadedClasses() throws Exception {
+        Object factory = loader.loadClass(LazyFactory.class.getName()).getField("eINSTANCE").get(null);
+        EObject library = (EObject) factory.getClass().getMethod("createLibrary").invoke(factory);
+
+        assertTrue(isMaterialized());
+        assertSame(ePackage, library.eClass().getEPackage());
+        assertEquals("Library", library.eClass().getName());
+    }
+
+    private Object assertLoadedBy(Function<EPackage, Object> accessor) throws Exception {
+        assertFalse(isMaterialized());
+        Object value = accessor.apply(ePackage);
+        assertTrue(isMaterialized());
+        assertEquals(3, ePackage.getEClassifiers().size());
+        return value;
+    }
+
+    private boolean isMaterialized() throws Exception {
+        Field field = ePackage.getClass().getDeclaredField("isMaterialized");
+        field.setAccessible(true);
+        return field.getBoolean(ePackage);
+    }
+
+    /**
+     * Child-first class loader for the generated model classes, delegating
+     * everything else (EMF, JDK) to the test class loader.
+     */
+    private static class ModelClassLoader extends URLClassLoader {
+
+        private static final String MODEL_PACKAGE = LazyPackage.class.getPackageName() + ".";
+
+        ModelClassLoader() {
+            super(new URL[] { LazyPackage.class.getProtectionDomain().getCodeSource().getLocation() },
+                    LazyPackage.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(MODEL_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.lean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.daanse.example.lean.lean.LeanFactory;
+import org.eclipse.daanse.example.lean.notifying.NotifyingFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the bulk construction of a dataset generated without notification
+ * with the same model generated with notification.
+ *
+ * <p>
+ * Both variants build the same rows through the generated factories, setters
+ * and lists and discard them, as a batch pipeline does. No adapters are
+ * attached, so the notifying variant only pays for checking whether a
+ * notification is required, and its reference lists for checking that added
+ * objects are not already contained. The rows are built once into the
+ * containment list only and once also into the plain {@code selection} list
+ * of the dataset.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * checks that both variants build the same dataset.
+ * </p>
+ */
+class LeanBenchmarkTest {
+
+    private static final int ROWS = 50_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    void variantsBuildTheSameDataset() {
+        assertEquals(buildNotifying(100, false), buildLean(100, false));
+        assertEquals(buildNotifying(100, true), buildLean(100, true));
+        assertEquals(buildLean(100, false) + 100, buildLean(100, true));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkConstruction() {
+        // Warm up both variants
+        long expected = buildLean(ROWS, false);
+        assertEquals(expected, buildNotifying(ROWS, false));
+        assertEquals(expected + ROWS, buildLean(ROWS, true));
+        assertEquals(expected + ROWS, buildNotifying(ROWS, true));
+
+        long[] nanos = new long[4];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            buildLean(ROWS, false);
+            nanos[0] += System.nanoTime() - start;
+            start = System.nanoTime();
+            buildNotifying(ROWS, false);
+            nanos[1] += System.nanoTime() - start;
+            start = System.nanoTime();
+            buildLean(ROWS, true);
+            nanos[2] += System.nanoTime() - start;
+            start = System.nanoTime();
+            buildNotifying(ROWS, true);
+            nanos[3] += System.nanoTime() - start;
+        }
+
+        System.out.println("dataset of " + ROWS + " rows: built in " + nanos[0] / ROUNDS / 1_000_000
+                + " ms without notification, " + nanos[1] / ROUNDS / 1_000_000 + " ms with notification; "
+                + "with the selection list " + nanos[2] / ROUNDS / 1_000_000 + " ms without notification, "
+                + nanos[3] / ROUNDS / 1_000_000 + " ms with notification");
+    }
+
+    private static long buildLean(int rows, boolean select) {
+        org.eclipse.daanse.example.lean.lean.Dataset dataset = LeanFactory.eINSTANCE.createDataset();
+        dataset.setName("lean");
+        org.eclipse.daanse.example.lean.lean.Row previous = null;
+        for (int i = 0; i < rows; i++) {
+            org.eclipse.daanse.example.lean.lean.Row row = LeanFactory.eINSTANCE.createRow();
+            row.setKey("r" + i);
+            row.setValue(i * 0.5);
+            row.setCount(i);
+            row.getTags().add("t" + (i & 7));
+            if (previous != null) {
+                row.setSource(previous);
+                row.getInputs().add(previous);
+            }
+            dataset.getRows().add(row);
+            if (select) {
+                dataset.getSelection().add(row);
+            }
+            previous = row;
+        }
+        long checksum = dataset.getSelection().size();
+        for (org.eclipse.daanse.example.lean.lean.Row row : dataset.getRows()) {
+            checksum += row.getCount() + row.getInputs().size();
+        }
+        return checksum;
+    }
+
+    private static long buildNotifying(int rows, boolean select) {
+        org.eclipse.daanse.example.lean.notifying.Dataset dataset = NotifyingFactory.eINSTANCE.createDataset();
+        dataset.setName("notifying");
+        org.eclipse.daanse.example.lean.notifying.Row previous = null;
+        for (int i = 0; i < rows; i++) {
+            org.eclipse.daanse.example.lean.notifying.Row row = NotifyingFactory.eINSTANCE.createRow();
+            row.setKey("r" + i);
+            row.setValue(i * 0.5);
+            row.setCount(i);
+            row.getTags().add("t" + (i & 7));
+            if (previous != null) {
+                row.setSource(previous);
+                row.getInputs().add(previous);
+            }
+            dataset.getRows().add(row);
+            if (select) {
+                dataset.getSelection().add(row);
+            }
+            previous = row;
+        }
+        long checksum = dataset.getSelection().size();
+        for (org.eclipse.daanse.example.lean.notifying.Row row : dataset.getRows()) {
+            checksum += row.getCount() + row.getInputs().size();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.lean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.example.lean.lean.Dataset;
+import org.eclipse.daanse.example.lean.lean.LeanFactory;
+import org.eclipse.daanse.example.lean.lean.LeanPackage;
+import org.eclipse.daanse.example.lean.lean.Row;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+
+class LeanModelTest {
+
+    @Test
+    void testFeatures() {
+        Row row = LeanFactory.eINSTANCE.createRow();
+        Row source = LeanFactory.eINSTANCE.createRow();
+        row.setKey("r1");
+        row.setValue(0.5);
+        row.setCount(3);
+        row.getTags().add("a");
+        row.setSource(source);
+        row.getInputs().add(source);
+
+        assertEquals("r1", row.getKey());
+        assertEquals(0.5, row.getValue());
+        assertEquals(3, row.getCount());
+        assertEquals(List.of("a"), row.getTags());
+        assertSame(source, row.getSource());
+        assertSame(source, ((List<?>) row.eGet(LeanPackage.Literals.ROW__INPUTS)).get(0));
+        assertTrue(row.eIsSet(LeanPackage.Literals.ROW__SOURCE));
+
+        // The plain lists do not check that added objects are not contained yet
+        row.getInputs().add(source);
+        assertEquals(2, row.getInputs().size());
+    }
+
+    @Test
+    void testContainmentMaintained() {
+        Dataset first = LeanFactory.eINSTANCE.createDataset();
+        Dataset second = LeanFactory.eINSTANCE.createDataset();
+        Row row = LeanFactory.eINSTANCE.createRow();
+
+        first.getRows().add(row);
+        assertSame(first, row.eContainer());
+        assertSame(first, row.getDataset());
+
+        row.setDataset(second);
+        assertTrue(first.getRows().isEmpty());
+        assertEquals(List.of(row), second.getRows());
+
+        first.getRows().add(row);
+        assertTrue(second.getRows().isEmpty());
+        assertSame(first, row.getDataset());
+
+        EcoreUtil.remove(row);
+        assertTrue(first.getRows().isEmpty());
+        assertNull(row.eContainer());
+    }
+
+    @Test
+    void testNoNotification() {
+        Dataset dataset = LeanFactory.eINSTANCE.createDataset();
+        Row row = LeanFactory.eINSTANCE.createRow();
+        List<Notification> notifications = new ArrayList<>();
+        AdapterImpl adapter = new AdapterImpl() {
+            @Override
+            public void notifyChanged(Notification notification) {
+                notifications.add(notification);
+            }
+        };
+        dataset.eAdapters().add(adapter);
+        row.eAdapters().add(adapter);
+
+        dataset.setName("lean");
+        row.setKey("r1");
+        row.getTags().add("a");
+
+        assertTrue(notifications.isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.daanse.example.offheap.impl.OffHeapEStore;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares {@link Member}, which keeps its values in an {@link OffHeapEStore},
+ * with {@link HeapMember}, which has the same features in fields.
+ *
+ * <p>
+ * For both classes the same members are created, read reflectively with
+ * {@code eGet} and iterated with the generated getters. Besides the times, the
+ * retained heap and off-heap bytes per member are printed.
+ * </p>
+ *
+ * <p>
+ * The benchmark runs with {@code -Dbenchmarks=true}; the default build only
+ * checks that both classes read the same values for a few members.
+ * </p>
+ */
+class OffHeapBenchmarkTest {
+
+    private static final int MEMBERS = 200_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void variantsReadTheSameValues() {
+        OffHeapEStore store = new OffHeapEStore();
+        Result offHeap = measure(100, () -> (Member) store.create(OffHeapPackage.Literals.MEMBER), store,
+                m -> ((Member) m).getOrdinal() + ((Member) m).getWeight());
+        Result heap = measure(100, OffHeapFactory.eINSTANCE::createHeapMember, null,
+                m -> ((HeapMember) m).getOrdinal() + ((HeapMember) m).getWeight());
+
+        assertEquals(heap.checksum(), offHeap.checksum());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+    void benchmarkMembers() {
+        // Warm up both variants
+        OffHeapEStore warmupStore = new OffHeapEStore();
+        measure(MEMBERS, () -> (Member) warmupStore.create(OffHeapPackage.Literals.MEMBER), warmupStore,
+                m -> ((Member) m).getOrdinal() + ((Member) m).getWeight());
+        measure(MEMBERS, OffHeapFactory.eINSTANCE::createHeapMember, null,
+                m -> ((HeapMember) m).getOrdinal() + ((HeapMember) m).getWeight());
+
+        OffHeapEStore store = new OffHeapEStore();
+        Result offHeap = measure(MEMBERS, () -> (Member) store.create(OffHeapPackage.Literals.MEMBER), store,
+                m -> ((Member) m).getOrdinal() + ((Member) m).getWeight());
+        Result heap = measure(MEMBERS, OffHeapFactory.eINSTANCE::createHeapMember, null,
+                m -> ((HeapMember) m).getOrdinal() + ((HeapMember) m).getWeight());
+        assertEquals(heap.checksum(), offHeap.checksum());
+
+        System.out.println("members (" + MEMBERS + "): off-heap store " + offHeap + "; fields " + heap);
+    }
+
+    private record Result(long createMillis, long eGetMillis, long iterateMillis, long heapBytesPerMember,
+            long offHeapBytesPerMember, double checksum) {
+
+        @Override
+        public String toString() {
+            return "create " + createMillis + " ms, eGet " + eGetMillis + " ms, iterate " + iterateMillis + " ms, "
+                    + heapBytesPerMember + " heap bytes/member, " + offHeapBytesPerMember
+                    + " off-heap bytes/member";
+        }
+    }
+
+    private static Result measure(int count, Supplier<EObject> factory, OffHeapEStore store,
+            ToDoubleFunction<EObject> typedRead) {
+        List<EObject> members = new ArrayList<>(count);
+        long heapBefore = usedHeap();
+        long offHeapBefore = store == null ? 0 : store.offHeapSize();
+
+        long start = System.nanoTime();
+        EClass eClass = null;
+        for (int i = 0; i < count; i++) {
+            EObject member = factory.get();
+            eClass = member.eClass();
+            member.eSet(eClass.getEStructuralFeature("name"), "member" + i);
+            member.eSet(eClass.getEStructuralFeature("caption"), "Member " + i);
+            member.eSet(eClass.getEStructuralFeature("ordinal"), i);
+            member.eSet(eClass.getEStructuralFeature("weight"), i * 0.5);
+            member.eSet(eClass.getEStructuralFeature("memberType"), MemberType.get(i % 3));
+            members.add(member);
+        }
+        long createMillis = (System.nanoTime() - start) / 1_000_000;
+        long heapBytes = usedHeap() - heapBefore;
+        long offHeapBytes = store == null ? 0 : store.offHeapSize() - offHeapBefore;
+
+        List<EStructuralFeature> features = List.of(eClass.getEStructuralFeature("name"),
+                eClass.getEStructuralFeature("ordinal"), eClass.getEStructuralFeature("weight"),
+                eClass.getEStructuralFeature("memberType"));
+        start = System.nanoTime();
+        long hash = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (EObject member : members) {
+                for (EStructuralFeature feature : features) {
+                    hash += member.eGet(feature).hashCode();
+                }
+            }
+        }
+        long eGetMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        double checksum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (EObject member : members) {
+                checksum += typedRead.applyAsDouble(member);
+            }
+        }
+        long iterateMillis = (System.nanoTime() - start) / 1_000_000;
+
+        return new Result(createMillis, eGetMillis, iterateMillis, heapBytes / count, offHeapBytes / count,
+                checksum + hash);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
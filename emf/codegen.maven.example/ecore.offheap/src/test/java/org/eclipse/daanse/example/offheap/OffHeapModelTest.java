@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.offheap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.example.offheap.impl.OffHeapEObjectImpl;
+import org.eclipse.daanse.example.offheap.impl.OffHeapEStore;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+
+class OffHeapModelTest {
+
+    @Test
+    void testPackageInitialized() {
+        assertNotNull(OffHeapPackage.eINSTANCE);
+        assertNotNull(OffHeapFactory.eINSTANCE);
+        assertInstanceOf(OffHeapEObjectImpl.class, OffHeapFactory.eINSTANCE.createMember());
+    }
+
+    @Test
+    void testDefaults() {
+        Member member = OffHeapFactory.eINSTANCE.createMember();
+        assertNull(member.getName());
+        assertEquals(0, member.getOrdinal());
+        assertTrue(member.isVisible());
+        assertEquals(MemberType.REGULAR, member.getMemberType());
+        assertTrue(member.getChildren().isEmpty());
+        assertFalse(member.isSetKey());
+        assertFalse(member.eIsSet(OffHeapPackage.Literals.MEMBER__VISIBLE));
+    }
+
+    @Test
+    void testFeatures() {
+        Member member = OffHeapFactory.eINSTANCE.createMember();
+        Member child = OffHeapFactory.eINSTANCE.createMember();
+        member.setName("Ünïcode ✓");
+        member.setCaption("Caption");
+        member.setOrdinal(42);
+        member.setWeight(0.5);
+        member.setVisible(false);
+        member.setKey(-7L);
+        member.setMemberType(MemberType.FORMULA);
+        member.setParent(child);
+        member.getProperties().add("a");
+        member.getProperties().add(0, "b");
+        member.getChildren().add(child);
+
+        assertEquals("Ünïcode ✓", member.getName());
+        assertEquals("Caption", member.getCaption());
+        assertEquals(42, member.getOrdinal());
+        assertEquals(0.5, member.getWeight());
+        assertFalse(member.isVisible());
+        assertEquals(-7L, member.getKey());
+        assertTrue(member.isSetKey());
+        assertEquals(MemberType.FORMULA, member.getMemberType());
+        assertSame(child, member.getParent());
+        assertEquals(List.of("b", "a"), member.getProperties());
+        assertSame(member, child.eContainer());
+        assertSame(OffHeapPackage.Literals.MEMBER__CHILDREN, child.eContainingFeature());
+
+        member.setName("renamed");
+        assertEquals("renamed", member.getName());
+        member.setName(null);
+        assertNull(member.getName());
+
+        member.unsetKey();
+        assertFalse(member.isSetKey());
+        member.getChildren().remove(child);
+        assertNull(child.eContainer());
+    }
+
+    @Test
+    void testReflectionAndCopy() {
+        Member member = OffHeapFactory.eINSTANCE.createMember();
+        member.eSet(OffHeapPackage.Literals.MEMBER__NAME, "m");
+        member.eSet(OffHeapPackage.Literals.MEMBER__ORDINAL, 3);
+        member.getChildren().add(OffHeapFactory.eINSTANCE.createMember());
+        assertEquals(3, member.eGet(OffHeapPackage.Literals.MEMBER__ORDINAL));
+        assertTrue(member.eIsSet(OffHeapPackage.Literals.MEMBER__ORDINAL));
+
+        Member copy = EcoreUtil.copy(member);
+        assertTrue(EcoreUtil.equals(member, copy));
+        assertEquals(1, copy.getChildren().size());
+
+        member.eUnset(OffHeapPackage.Literals.MEMBER__ORDINAL);
+        assertFalse(member.eIsSet(OffHeapPackage.Literals.MEMBER__ORDINAL));
+        assertEquals(0, member.getOrdinal());
+    }
+
+    @Test
+    void testNotifications() {
+        Member member = OffHeapFactory.eINSTANCE.createMember();
+        List<Notification> notifications = new ArrayList<>();
+        member.eAdapters().add(new AdapterImpl() {
+            @Override
+            public void notifyChanged(Notification notification) {
+                notifications.add(notification);
+            }
+        });
+
+        member.setOrdinal(1);
+        member.setOrdinal(2);
+        member.getProperties().add("p");
+
+        assertEquals(3, notifications.size());
+        assertEquals(1, notifications.get(1).getOldValue());
+        assertEquals(2, notifications.get(1).getNewValue());
+        assertEquals(Notification.ADD, notifications.get(2).getEventType());
+    }
+
+    @Test
+    void testStorePerContainmentTree() {
+        Member root = OffHeapFactory.eINSTANCE.createMember();
+        Member child = OffHeapFactory.eINSTANCE.createMember();
+        root.getChildren().add(child);
+        child.setName("child");
+        Member other = OffHeapFactory.eINSTANCE.createMember();
+        other.setName("other");
+
+        OffHeapEStore store = (OffHeapEStore) ((OffHeapEObjectImpl) root).eStore();
+        assertSame(store, ((OffHeapEObjectImpl) child).eStore());
+        assertNotSame(store, ((OffHeapEObjectImpl) other).eStore());
+        assertEquals(2, store.table(OffHeapPackage.Literals.MEMBER).size());
+        assertEquals("child", child.getName());
+        assertEquals("other", other.getName());
+    }
+
+    @Test
+    void testSeparateStore() {
+        OffHeapEStore store = new OffHeapEStore();
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Member member = (Member) store.create(OffHeapPackage.Literals.MEMBER);
+            member.setName("member" + i);
+            member.setOrdinal(i);
+            members.add(member);
+        }
+        for (int i = 0; i < members.size(); i++) {
+            assertEquals("member" + i, members.get(i).getName());
+            assertEquals(i, members.get(i).getOrdinal());
+        }
+        assertEquals(1_000, store.table(OffHeapPackage.Literals.MEMBER).size());
+        assertTrue(store.offHeapSize() > 0);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.warehouse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.impl.DynamicEObjectImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks a model whose root package and its {@code objectmodel} and
+ * {@code resource} sub-packages were generated in separate partitions, with
+ * references between them.
+ */
+class PartitionedModelTest {
+
+    private static final String CORE = "http://daanse.eclipse.org/example/warehouse/objectmodel/core";
+
+    private static final String RELATIONAL = "http://daanse.eclipse.org/example/warehouse/resource/relational";
+
+    @Test
+    void testNestedPackagesAreGenerated() {
+        assertNotNull(WarehousePackage.eINSTANCE);
+        EPackage core = EPackage.Registry.INSTANCE.getEPackage(CORE);
+        EPackage relational = EPackage.Registry.INSTANCE.getEPackage(RELATIONAL);
+        assertNotNull(core, CORE);
+        assertNotNull(relational, RELATIONAL);
+        assertSame(WarehousePackage.eINSTANCE, relational.getESuperPackage().getESuperPackage());
+    }
+
+    @Test
+    void testReferencesBetweenPartitions() {
+        EClass table = eClass(RELATIONAL, "Table");
+        assertEquals(List.of(eClass(CORE, "ModelElement")), table.getESuperTypes());
+        assertSame(table, WarehousePackage.Literals.WAREHOUSE__TABLES.getEReferenceType());
+    }
+
+    @Test
+    void testGeneratedClassesAcrossPartitions() {
+        EClass tableClass = eClass(RELATIONAL, "Table");
+        EObject table = tableClass.getEPackage().getEFactoryInstance().create(tableClass);
+        assertFalse(table instanceof DynamicEObjectImpl, "generated class for Table");
+        EStructuralFeature name = tableClass.getEStructuralFeature("name");
+        table.eSet(name, "CUSTOMER");
+
+        Warehouse warehouse = WarehouseFactory.eINSTANCE.createWarehouse();
+        @SuppressWarnings("unchecked")
+        List<EObject> tables = (List<EObject>) warehouse.eGet(WarehousePackage.Literals.WAREHOUSE__TABLES);
+        tables.add(table);
+        assertEquals("CUSTOMER", warehouse.getTables().get(0).eGet(name));
+        assertTrue(eClass(CORE, "ModelElement").isSuperTypeOf(warehouse.getTables().get(0).eClass()));
+    }
+
+    private static EClass eClass(String nsURI, String name) {
+        EClass eClass = (EClass) EPackage.Registry.INSTANCE.getEPackage(nsURI).getEClassifier(name);
+        assertNotNull(eClass, nsURI + "#" + name);
+        return eClass;
+    }
+}
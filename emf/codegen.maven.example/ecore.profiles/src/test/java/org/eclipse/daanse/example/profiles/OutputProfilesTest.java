@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.profiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the main output and the {@code plain} profile, generated from one
+ * load of the model into different base packages and compiled together.
+ */
+class OutputProfilesTest {
+
+    private static final Path PLAIN_STATUS = Path.of(
+            "target/generated-sources/emf-plain/org/eclipse/daanse/example/plain/profiles/Status.java");
+
+    @Test
+    void testMainOutput() {
+        Product product = ProfilesFactory.eINSTANCE.createProduct();
+        product.setName("Main");
+        product.setStatus(Status.RELEASED);
+        assertEquals(Status.RELEASED, product.getStatus());
+        assertEquals("http://daanse.eclipse.org/example/profiles", ProfilesPackage.eNS_URI);
+    }
+
+    @Test
+    void testPlainOutput() {
+        org.eclipse.daanse.example.plain.profiles.Product product =
+                org.eclipse.daanse.example.plain.profiles.ProfilesFactory.eINSTANCE.createProduct();
+        product.setName("Plain");
+        product.setStatus(org.eclipse.daanse.example.plain.profiles.Status.WITHDRAWN);
+        assertEquals(org.eclipse.daanse.example.plain.profiles.Status.WITHDRAWN, product.getStatus());
+    }
+
+    @Test
+    void testEnumLookupInBothOutputs() {
+        assertSame(Status.DEPRECATED, Status.get("DEPRECATED"));
+        assertSame(Status.WITHDRAWN, Status.get(4));
+        assertSame(org.eclipse.daanse.example.plain.profiles.Status.DEPRECATED,
+                org.eclipse.daanse.example.plain.profiles.Status.get("DEPRECATED"));
+        assertSame(org.eclipse.daanse.example.plain.profiles.Status.WITHDRAWN,
+                org.eclipse.daanse.example.plain.profiles.Status.get(4));
+    }
+
+    @Test
+    void testPlainEnumHasLookupTable() throws IOException {
+        assertTrue(Files.isRegularFile(PLAIN_STATUS), PLAIN_STATUS.toString());
+        String source = Files.readString(PLAIN_STATUS);
+        assertTrue(source.contains("HashMap"), "lookup table in the Status of the plain profile");
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.daanse.example.streaming.util.StreamingResourceFactoryImpl;
+import org.eclipse.daanse.example.streaming.util.StreamingResourceImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Loads and saves through the generated {@code StreamingResourceImpl}, which
+ * uses the generated XMI reader and writer when neither options nor default
+ * options are set, and {@code XMIResourceImpl} otherwise.
+ */
+class StreamingResourceTest {
+
+    private static final String UNKNOWN_FEATURE = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <streaming:Catalog xmi:version="2.0" xmlns:xmi="http://www.omg.org/XMI" \
+            xmlns:streaming="http://daanse.eclipse.org/example/streaming" name="catalog" color="red"/>
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void resourceDelegatesToReaderAndWriter() throws Exception {
+        assertSame(StreamingResourceImpl.class,
+                StreamingResourceImpl.class.getMethod("doLoad", InputStream.class, Map.class).getDeclaringClass());
+        assertSame(StreamingResourceImpl.class,
+                StreamingResourceImpl.class.getMethod("doSave", OutputStream.class, Map.class).getDeclaringClass());
+    }
+
+    @Test
+    void savesAndLoadsThroughResourceSet() throws IOException {
+        URI uri = URI.createFileURI(tempDir.resolve("catalog.streaming").toString());
+        Resource saved = resourceSet().createResource(uri);
+        assertInstanceOf(StreamingResourceImpl.class, saved);
+        saved.getContents().add(catalog());
+        saved.save(null);
+
+        Resource loaded = resourceSet().getResource(uri, true);
+
+        assertInstanceOf(StreamingResourceImpl.class, loaded);
+        assertTrue(EcoreUtil.equals(saved.getContents(), loaded.getContents()));
+        Catalog catalog = (Catalog) loaded.getContents().get(0);
+        assertSame(catalog.getItems().get(1), catalog.getItems().get(0).getRelated().get(0));
+    }
+
+    @Test
+    void writesXmiOfXmiResourceImpl() throws IOException {
+        Resource resource = resourceSet().createResource(URI.createURI("memory:/catalog.streaming"));
+        resource.getContents().add(catalog());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resource.save(out, null);
+
+        XMIResourceImpl xmi = new XMIResourceImpl(resource.getURI());
+        xmi.load(new ByteArrayInputStream(out.toByteArray()), null);
+
+        assertTrue(EcoreUtil.equals(resource.getContents(), xmi.getContents()));
+    }
+
+    @Test
+    void loadsWithReaderWithoutOptions() {
+        Resource resource = resourceSet().createResource(URI.createURI("memory:/unknown.streaming"));
+
+        IOException e = assertThrows(IOException.class, () -> resource
+                .load(new ByteArrayInputStream(UNKNOWN_FEATURE.getBytes(StandardCharsets.UTF_8)), null));
+        assertTrue(e.getMessage().contains("Unknown feature 'color'"), e.getMessage());
+    }
+
+    @Test
+    void loadsWithXmiResourceImplWithDefaultLoadOptions() throws IOException {
+        XMLResource resource = (XMLResource) resourceSet().createResource(URI.createURI("memory:/unknown.streaming"));
+        resource.getDefaultLoadOptions().put(XMLResource.OPTION_RECORD_UNKNOWN_FEATURE, Boolean.TRUE);
+
+        resource.load(new ByteArrayInputStream(UNKNOWN_FEATURE.getBytes(StandardCharsets.UTF_8)), null);
+
+        Catalog catalog = (Catalog) resource.getContents().get(0);
+        assertEquals("catalog", catalog.getName());
+        assertFalse(resource.getEObjectToExtensionMap().isEmpty());
+    }
+
+    @Test
+    void savesWithXmiResourceImplWithDefaultSaveOptions() throws IOException {
+        Path file = tempDir.resolve("latin.streaming");
+        Resource resource = resourceSet().createResource(URI.createFileURI(file.toString()));
+        resource.getContents().add(catalog());
+        ((XMLResource) resource).getDefaultSaveOptions().put(XMLResource.OPTION_ENCODING, "ISO-8859-1");
+
+        resource.save(null);
+
+        assertTrue(Files.readString(file, StandardCharsets.ISO_8859_1).startsWith(
+                "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>"));
+    }
+
+    private static ResourceSet resourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("streaming",
+                new StreamingResourceFactoryImpl());
+        resourceSet.getPackageRegistry().put(StreamingPackage.eNS_URI, StreamingPackage.eINSTANCE);
+        return resourceSet;
+    }
+
+    private static Catalog catalog() {
+        Catalog catalog = StreamingFactory.eINSTANCE.createCatalog();
+        catalog.setName("Catalog ✓");
+        Item book = StreamingFactory.eINSTANCE.createItem();
+        book.setName("Book");
+        book.setPrice(12.5);
+        Item media = StreamingFactory.eINSTANCE.createItem();
+        media.setName("Media");
+        media.setKind(Kind.MEDIA);
+        book.getRelated().add(media);
+        catalog.getItems().add(book);
+        catalog.getItems().add(media);
+        return catalog;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.example.reactor.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.eclipse.daanse.example.reactor.base.Address;
+import org.eclipse.daanse.example.reactor.base.BaseFactory;
+import org.eclipse.daanse.example.reactor.base.BasePackage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the models generated by the generate-reactor execution of the parent,
+ * where the consumer refers to the base model by a relative path.
+ */
+class ConsumerModelTest {
+
+    @Test
+    void testReferenceResolvesToBasePackage() {
+        assertSame(BasePackage.Literals.ADDRESS, ConsumerPackage.Literals.CUSTOMER__ADDRESS.getEReferenceType());
+    }
+
+    @Test
+    void testCreateCustomerWithAddress() {
+        Address address = BaseFactory.eINSTANCE.createAddress();
+        address.setCity("Jena");
+        Customer customer = ConsumerFactory.eINSTANCE.createCustomer();
+        customer.setName("Customer");
+        customer.setAddress(address);
+        assertEquals("Jena", customer.getAddress().getCity());
+        assertSame(customer, address.eContainer());
+    }
+}
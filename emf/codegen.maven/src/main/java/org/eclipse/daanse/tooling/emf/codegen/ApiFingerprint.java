@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClassifier;
+import org.eclipse.emf.codegen.ecore.genmodel.GenDataType;
+import org.eclipse.emf.codegen.ecore.genmodel.GenEnum;
+import org.eclipse.emf.codegen.ecore.genmodel.GenEnumLiteral;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenOperation;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.codegen.ecore.genmodel.GenParameter;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EGenericType;
+import org.eclipse.emf.ecore.EOperation;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.ETypeParameter;
+
+/**
+ * Fingerprint of the public API generated for a package.
+ *
+ * <p>
+ * The fingerprint covers what code compiled against the package depends on:
+ * Java package and class names, the classifiers in their order (their IDs are
+ * constants of the package interface), supertypes, features and operations
+ * with their types and multiplicities, enum literals, data type instance
+ * classes and the GenModel settings that change the shape of the generated
+ * types. Documentation, other annotations, the copyright text and the layout
+ * of the model files are left out, so editing them does not change the
+ * fingerprint.
+ * </p>
+ */
+public final class ApiFingerprint {
+
+    private ApiFingerprint() {
+    }
+
+    /**
+     * Returns the hex-encoded SHA-256 fingerprint of the API of the package,
+     * without its sub-packages.
+     */
+    public static String of(GenPackage genPackage) {
+        StringBuilder out = new StringBuilder();
+        GenModel genModel = genPackage.getGenModel();
+        if (genModel != null) {
+            line(out, "model", genModel.isSuppressInterfaces(), genModel.isSuppressEMFTypes(),
+                    genModel.isSuppressEMFMetaData(), genModel.isPublicConstructors(),
+                    genModel.isSuppressNotification(), genModel.getRootExtendsClass(),
+                    genModel.getRootExtendsInterface(), genModel.getRootImplementsInterface());
+        }
+        line(out, "package", genPackage.getNSURI(), genPackage.getNSName(), genPackage.getPackageName(),
+                genPackage.getBasePackage(), genPackage.getPrefix(), genPackage.getInterfacePackageName(),
+                genPackage.getClassPackageName(), genPackage.getUtilitiesPackageName());
+        for (GenClassifier genClassifier : genPackage.getGenClassifiers()) {
+            if (genClassifier instanceof GenClass genClass) {
+                appendClass(out, genClass);
+            } else if (genClassifier instanceof GenEnum genEnum) {
+                line(out, "enum", genEnum.getName(), genEnum.getQualifiedName());
+                for (GenEnumLiteral literal : genEnum.getGenEnumLiterals()) {
+                    line(out, "literal", literal.getName(), literal.getValue(), literal.getLiteral());
+                }
+            } else if (genClassifier instanceof GenDataType genDataType) {
+                line(out, "datatype", genDataType.getName(), genDataType.getEcoreDataType().getInstanceTypeName(),
+                        genDataType.getEcoreDataType().isSerializable());
+            }
+        }
+        return sha256(out.toString());
+    }
+
+    /**
+     * Combines fingerprints into one, in the given order.
+     */
+    public static String combine(Iterable<String> fingerprints) {
+        StringBuilder out = new StringBuilder();
+        for (String fingerprint : fingerprints) {
+            out.append(fingerprint).append('\n');
+        }
+        return sha256(out.toString());
+    }
+
+    private static void appendClass(StringBuilder out, GenClass genClass) {
+        line(out, "class", genClass.getName(), genClass.isInterface(), genClass.isAbstract(),
+                genClass.getQualifiedInterfaceName(), genClass.getQualifiedClassName(),
+                genClass.getClassExtends());
+        for (ETypeParameter typeParameter : genClass.getEcoreClass().getETypeParameters()) {
+            appendTypeParameter(out, typeParameter);
+        }
+        for (EGenericType superType : genClass.getEcoreClass().getEGenericSuperTypes()) {
+            line(out, "super", type(superType));
+        }
+        for (GenFeature genFeature : genClass.getGenFeatures()) {
+            EStructuralFeature feature = genFeature.getEcoreFeature();
+            EReference reference = feature instanceof EReference r ? r : null;
+            line(out, "feature", feature.getName(), type(feature.getEGenericType()), feature.getLowerBound(),
+                    feature.getUpperBound(), feature.isChangeable(), feature.isUnsettable(), feature.isDerived(),
+                    feature.isTransient(), feature.isVolatile(), feature.getDefaultValueLiteral(),
+                    reference != null && reference.isContainment(),
+                    reference != null && reference.getEOpposite() != null ? reference.getEOpposite().getName() : null,
+                    genFeature.isSuppressedGetVisibility(), genFeature.isSuppressedSetVisibility());
+        }
+        for (GenOperation genOperation : genClass.getGenOperations()) {
+            EOperation operation = genOperation.getEcoreOperation();
+            line(out, "operation", operation.getName(), type(operation.getEGenericType()), operation.getLowerBound(),
+                    operation.getUpperBound());
+            for (ETypeParameter typeParameter : operation.getETypeParameters()) {
+                appendTypeParameter(out, typeParameter);
+            }
+            for (GenParameter genParameter : genOperation.getGenParameters()) {
+                line(out, "parameter", genParameter.getName(), type(genParameter.getEcoreParameter().getEGenericType()),
+                        genParameter.getEcoreParameter().getLowerBound(),
+                        genParameter.getEcoreParameter().getUpperBound());
+            }
+            for (EGenericType exception : operation.getEGenericExceptions()) {
+                line(out, "throws", type(exception));
+            }
+        }
+    }
+
+    private static void appendTypeParameter(StringBuilder out, ETypeParameter typeParameter) {
+        StringBuilder bounds = new StringBuilder();
+        for (EGenericType bound : typeParameter.getEBounds()) {
+            bounds.append(type(bound)).append('&');
+        }
+        line(out, "typeParameter", typeParameter.getName(), bounds);
+    }
+
+    /**
+     * Describes a generic type by the nsURI and name of its classifier, or the
+     * name of its type parameter, with its type arguments and wildcard bounds.
+     */
+    private static String type(EGenericType genericType) {
+        if (genericType == null) {
+            return "void";
+        }
+        StringBuilder out = new StringBuilder();
+        EClassifier classifier = genericType.getEClassifier();
+        if (classifier != null) {
+            out.append(classifier.getEPackage() != null ? classifier.getEPackage().getNsURI() : "").append('#')
+                    .append(classifier.getName());
+            if (classifier.getInstanceTypeName() != null) {
+                out.append('=').append(classifier.getInstanceTypeName());
+            }
+        } else if (genericType.getETypeParameter() != null) {
+            out.append(genericType.getETypeParameter().getName());
+        } else {
+            out.append('?');
+            if (genericType.getEUpperBound() != null) {
+                out.append(" extends ").append(type(genericType.getEUpperBound()));
+            }
+            if (genericType.getELowerBound() != null) {
+                out.append(" super ").append(type(genericType.getELowerBound()));
+            }
+        }
+        if (!genericType.getETypeArguments().isEmpty()) {
+            out.append('<');
+            for (EGenericType argument : genericType.getETypeArguments()) {
+                out.append(type(argument)).append(',');
+            }
+            out.append('>');
+        }
+        return out.toString();
+    }
+
+    private static void line(StringBuilder out, String kind, Object... values) {
+        out.append(kind);
+        for (Object value : values) {
+            out.append('\t').append(value);
+        }
+        out.append('\n');
+    }
+
+    private static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,1226 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.ecore.EReference;
+
+/**
+ * Generates a schema-driven binary codec for the classes of each generated
+ * package, for exchanging models between services without XMI.
+ *
+ * <p>
+ * For every package a {@code util/<Prefix>Codec} class is written. A message
+ * holds a header, a table per object and a table with the positions of the
+ * object tables. Each object table starts with the classifier ID and the
+ * number of slots of its class, followed by one offset per slot, {@code 0}
+ * for a feature that is not set, and the values. The slots are the
+ * persistent features of the class in the order of
+ * {@code getAllGenFeatures()}, so the schema is the model itself and no names
+ * are written. Fixed-size values are stored in place, strings and data types
+ * without a binary encoding as UTF-8 and references as the index of their
+ * target. Objects referenced but not contained in the message are written as
+ * proxies with their URI.
+ * </p>
+ *
+ * <p>
+ * {@code encode} writes the containment trees of the given roots and
+ * {@code decode} creates them through the generated factory and setters.
+ * {@code read} returns a {@code Message} whose objects are {@code <Class>View}s
+ * with a getter per feature that reads the value at its offset, so single
+ * values can be taken from a message without decoding it.
+ * </p>
+ */
+public class BinaryCodecGenerator {
+
+    /**
+     * How a value is encoded.
+     */
+    private enum Kind {
+        BOOLEAN(1, "boolean", "Boolean"), BYTE(1, "byte", "Byte"), SHORT(2, "short", "Short"),
+        CHAR(2, "char", "Character"), INT(4, "int", "Integer"), LONG(8, "long", "Long"),
+        FLOAT(4, "float", "Float"), DOUBLE(8, "double", "Double"), ENUM(4, null, null),
+        STRING(0, "String", "String"), OTHER(0, "String", null), REFERENCE(4, null, null);
+
+        /**
+         * Size in bytes, {@code 0} for values of variable size.
+         */
+        final int width;
+
+        /**
+         * Type returned by the views.
+         */
+        final String viewType;
+
+        /**
+         * Type the value of a reflective get is cast to.
+         */
+        final String boxedType;
+
+        Kind(int width, String viewType, String boxedType) {
+            this.width = width;
+            this.viewType = viewType;
+            this.boxedType = boxedType;
+        }
+    }
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public BinaryCodecGenerator(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Writes the codec of every package of the GenModel that has concrete
+     * classes.
+     */
+    public void generate(GenModel genModel, Path outputDirectory) {
+        for (GenPackage genPackage : genModel.getAllGenPackagesWithClassifiers()) {
+            List<GenClass> genClasses = concreteClasses(genPackage);
+            if (genClasses.isEmpty()) {
+                continue;
+            }
+            Path file = outputDirectory.resolve(
+                    (genPackage.getUtilitiesPackageName() + "." + className(genPackage)).replace('.', '/') + ".java");
+            try {
+                Path packageInterface = outputDirectory
+                        .resolve(genPackage.getQualifiedPackageInterfaceName().replace('.', '/') + ".java");
+                String header = "";
+                if (Files.exists(packageInterface)) {
+                    String content = Files.readString(packageInterface);
+                    header = content.substring(0, Math.max(0, content.indexOf("package ")));
+                }
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, header + source(genPackage, genClasses));
+                log.info("Generated " + className(genPackage) + " for " + genClasses.size() + " class(es)");
+            } catch (IOException e) {
+                log.warn("Could not generate binary codec in: " + file + " - " + e.getMessage());
+            }
+        }
+    }
+
+    static String className(GenPackage genPackage) {
+        return genPackage.getPrefix() + "Codec";
+    }
+
+    private static List<GenClass> concreteClasses(GenPackage genPackage) {
+        List<GenClass> genClasses = new ArrayList<>();
+        for (GenClass genClass : genPackage.getGenClasses()) {
+            if (!genClass.isAbstract() && !genClass.isInterface() && !genClass.isDynamic()) {
+                genClasses.add(genClass);
+            }
+        }
+        return genClasses;
+    }
+
+    /**
+     * Returns the slots of the class: the changeable features that are not
+     * transient, not derived, not the container reference and not a feature
+     * map.
+     */
+    private static List<GenFeature> slots(GenClass genClass) {
+        List<GenFeature> features = new ArrayList<>();
+        for (GenFeature genFeature : genClass.getAllGenFeatures()) {
+            if (!genFeature.getEcoreFeature().isTransient() && !genFeature.isDerived() && !genFeature.isContainer()
+                    && genFeature.isChangeable() && !genFeature.isFeatureMapType()) {
+                features.add(genFeature);
+            }
+        }
+        return features;
+    }
+
+    private static Kind kind(GenFeature genFeature) {
+        if (genFeature.isReferenceType()) {
+            return Kind.REFERENCE;
+        }
+        if (genFeature.isEnumType() && genFeature.getTypeGenEnum() != null) {
+            return Kind.ENUM;
+        }
+        String type = genFeature.getEcoreFeature().getEType().getInstanceTypeName();
+        if (type == null) {
+            return Kind.OTHER;
+        }
+        return switch (type) {
+        case "boolean", "java.lang.Boolean" -> Kind.BOOLEAN;
+        case "byte", "java.lang.Byte" -> Kind.BYTE;
+        case "short", "java.lang.Short" -> Kind.SHORT;
+        case "char", "java.lang.Character" -> Kind.CHAR;
+        case "int", "java.lang.Integer" -> Kind.INT;
+        case "long", "java.lang.Long" -> Kind.LONG;
+        case "float", "java.lang.Float" -> Kind.FLOAT;
+        case "double", "java.lang.Double" -> Kind.DOUBLE;
+        case "java.lang.String" -> Kind.STRING;
+        default -> Kind.OTHER;
+        };
+    }
+
+    private String source(GenPackage genPackage, List<GenClass> genClasses) {
+        String packageInterface = genPackage.getQualifiedPackageInterfaceName();
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(genPackage.getUtilitiesPackageName()).append(";\n");
+        out.append("""
+
+                import java.io.IOException;
+
+                import java.nio.ByteBuffer;
+                import java.nio.ByteOrder;
+                import java.nio.charset.StandardCharsets;
+
+                import java.util.ArrayList;
+                import java.util.Arrays;
+                import java.util.Collection;
+                import java.util.Collections;
+                import java.util.IdentityHashMap;
+                import java.util.List;
+                import java.util.Map;
+                import java.util.Objects;
+
+                import org.eclipse.emf.common.util.BasicEList;
+                import org.eclipse.emf.common.util.Enumerator;
+                import org.eclipse.emf.common.util.URI;
+
+                import org.eclipse.emf.ecore.EDataType;
+                import org.eclipse.emf.ecore.EObject;
+                import org.eclipse.emf.ecore.InternalEObject;
+
+                import org.eclipse.emf.ecore.util.EcoreUtil;
+                import org.eclipse.emf.ecore.util.InternalEList;
+
+                /**
+                 * <!-- begin-user-doc -->
+                 * Binary codec of the <b>$PackageName$</b> package, laid out by the schema of the package.
+                 * A message has a header, a table per object and the positions of the object tables. An object table holds
+                 * the classifier ID and slot count of its class, an offset per slot, <code>0</code> if the feature is not set,
+                 * and the values; fixed-size values are stored in place, strings as UTF-8 and references as the index of
+                 * their target. {@link #read(ByteBuffer)} gives access to single values at their offsets without decoding the
+                 * message; messages with fewer slots than a class are read with the default values for the missing ones.
+                 * References to objects outside the message are written as proxies.
+                 * <!-- end-user-doc -->
+                 * @generated
+                 */
+                public final class $ClassName$ {
+                	/**
+                	 * The first four bytes of a message, <code>EMFC</code>.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static final int MAGIC = 0x43464D45;
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static final int VERSION = 1;
+
+                	/**
+                	 * Magic, version, root count, object count and position of the object positions, followed by the root indexes.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static final int HEADER_SIZE = 20;
+
+                	/**
+                	 * Slot count of a proxy, which is followed by its URI.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static final short PROXY = -1;
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final Map<EObject, Integer> indexes = new IdentityHashMap<>();
+
+                	/**
+                	 * The contained objects followed by the proxies.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final List<EObject> objects = new ArrayList<>();
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private ByteBuffer buffer;
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private $ClassName$() {
+                	}
+
+                	/**
+                	 * Encodes the object and its contents.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static byte[] encode(EObject root) throws IOException {
+                		return encode(Collections.singletonList(root));
+                	}
+
+                	/**
+                	 * Encodes the roots and their contents.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static byte[] encode(Collection<? extends EObject> roots) throws IOException {
+                		$ClassName$ codec = new $ClassName$();
+                		for (EObject root : roots) {
+                			codec.collect(root);
+                		}
+                		return codec.write(roots);
+                	}
+
+                	/**
+                	 * Decodes the roots of the message together with their contents.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static List<EObject> decode(byte[] bytes) throws IOException {
+                		return decode(ByteBuffer.wrap(bytes));
+                	}
+
+                	/**
+                	 * Decodes the roots of the message, from the position of the buffer, together with their contents.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static List<EObject> decode(ByteBuffer buffer) throws IOException {
+                		Message message = read(buffer);
+                		try {
+                			EObject[] objects = new EObject[message.objectCount];
+                			for (int i = 0; i < objects.length; i++) {
+                				int position = message.position(i);
+                				objects[i] = create(message.buffer.getShort(position));
+                				if (message.buffer.getShort(position + 2) == PROXY) {
+                					((InternalEObject)objects[i]).eSetProxyURI(URI.createURI(message.string(position + 4)));
+                				}
+                			}
+                			for (int i = 0; i < objects.length; i++) {
+                				int position = message.position(i);
+                				if (message.buffer.getShort(position + 2) != PROXY) {
+                					readObject(message, position, objects[i], objects);
+                				}
+                			}
+                			List<EObject> roots = new ArrayList<>(message.rootCount);
+                			for (int i = 0; i < message.rootCount; i++) {
+                				roots.add(object(objects, message.buffer.getInt(HEADER_SIZE + 4 * i)));
+                			}
+                			return roots;
+                		}
+                		catch (IndexOutOfBoundsException exception) {
+                			throw new IOException("Corrupt message", exception);
+                		}
+                	}
+
+                	/**
+                	 * Returns a view of the message, from the position of the buffer, that reads the values at their offsets.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static Message read(ByteBuffer buffer) throws IOException {
+                		ByteBuffer data = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+                		if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC) {
+                			throw new IOException("Not a $PackageName$ message");
+                		}
+                		if (data.getInt(4) != VERSION) {
+                			throw new IOException("Unsupported version " + data.getInt(4));
+                		}
+                		int rootCount = data.getInt(8);
+                		int objectCount = data.getInt(12);
+                		int positions = data.getInt(16);
+                		if (rootCount < 0 || objectCount < 0 || positions < HEADER_SIZE
+                			|| HEADER_SIZE + 4L * rootCount > data.limit() || positions + 4L * objectCount > data.limit()) {
+                			throw new IOException("Corrupt message");
+                		}
+                		return new Message(data, rootCount, objectCount, positions);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static Message read(byte[] bytes) throws IOException {
+                		return read(ByteBuffer.wrap(bytes));
+                	}
+
+                	/**
+                	 * A message read from a buffer.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static final class Message {
+                		private final ByteBuffer buffer;
+
+                		private final int rootCount;
+
+                		private final int objectCount;
+
+                		private final int positions;
+
+                		private Message(ByteBuffer buffer, int rootCount, int objectCount, int positions) {
+                			this.buffer = buffer;
+                			this.rootCount = rootCount;
+                			this.objectCount = objectCount;
+                			this.positions = positions;
+                		}
+
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public int getRootCount() {
+                			return rootCount;
+                		}
+
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public ObjectView getRoot(int index) {
+                			Objects.checkIndex(index, rootCount);
+                			return getObject(buffer.getInt(HEADER_SIZE + 4 * index));
+                		}
+
+                		/**
+                		 * Returns the number of objects, the contents of the roots and the proxies.
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public int getObjectCount() {
+                			return objectCount;
+                		}
+
+                		/**
+                		 * Returns the view of the object, typed by its class unless it is a proxy.
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public ObjectView getObject(int index) {
+                			Objects.checkIndex(index, objectCount);
+                			int position = position(index);
+                			if (buffer.getShort(position + 2) == PROXY) {
+                				return new ObjectView(this, index, position);
+                			}
+                			switch (buffer.getShort(position)) {
+                """.replace("$ClassName$", className(genPackage)).replace("$PackageName$", genPackage.getPackageName()));
+        for (GenClass genClass : genClasses) {
+            out.append("\t\t\t\tcase ").append(packageInterface).append('.').append(genClass.getClassifierID())
+                    .append(":\n\t\t\t\t\treturn new ").append(viewName(genClass)).append("(this, index, position);\n");
+        }
+        out.append("""
+                				default:
+                					return new ObjectView(this, index, position);
+                			}
+                		}
+
+                		private int position(int index) {
+                			return buffer.getInt(positions + 4 * index);
+                		}
+
+                		/**
+                		 * Returns the position of the value of the slot of the object table, or <code>0</code> if it is not set.
+                		 */
+                		private int slot(int start, int slot) {
+                			if (slot >= buffer.getShort(start + 2)) {
+                				return 0;
+                			}
+                			int offset = buffer.getInt(start + 4 + 4 * slot);
+                			return offset == 0 ? 0 : start + offset;
+                		}
+
+                		private String string(int position) {
+                			int length = buffer.getInt(position);
+                			if (length < 0) {
+                				return null;
+                			}
+                			byte[] bytes = new byte[length];
+                			buffer.get(position + 4, bytes);
+                			return new String(bytes, StandardCharsets.UTF_8);
+                		}
+                	}
+
+                	/**
+                	 * An object of a message. Proxies and objects of unknown classes are read as this class, the objects of
+                	 * the classes of the package as their generated subclass.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static class ObjectView {
+                		protected final Message message;
+
+                		private final int index;
+
+                		private final int position;
+
+                		ObjectView(Message message, int index, int position) {
+                			this.message = message;
+                			this.index = index;
+                			this.position = position;
+                		}
+
+                		/**
+                		 * Returns the index of the object in the message.
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public int index() {
+                			return index;
+                		}
+
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public int classifierID() {
+                			return message.buffer.getShort(position);
+                		}
+
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public boolean isProxy() {
+                			return message.buffer.getShort(position + 2) == PROXY;
+                		}
+
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public String proxyURI() {
+                			return isProxy() ? message.string(position + 4) : null;
+                		}
+
+                		/**
+                		 * Returns the position of the value of the slot, or <code>0</code> if it is not set.
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		protected final int slot(int slot) {
+                			return message.slot(position, slot);
+                		}
+
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		protected final int count(int slot) {
+                			return slot == 0 ? 0 : message.buffer.getInt(slot);
+                		}
+
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		protected final String string(int position) {
+                			return message.string(position);
+                		}
+
+                		/**
+                		 * Returns the value of a multi-valued slot of strings at the index.
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		protected final String string(int slot, int index) {
+                			Objects.checkIndex(index, count(slot));
+                			return message.string(slot + message.buffer.getInt(slot + 4 + 4 * index));
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void collect(EObject eObject) throws IOException {
+                		checkPackage(eObject);
+                		if (indexes.putIfAbsent(eObject, objects.size()) == null) {
+                			objects.add(eObject);
+                			collectContents(eObject);
+                		}
+                	}
+
+                	/**
+                	 * Returns the index of the target, which becomes a proxy if it is not contained in the message.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private int reference(EObject target) throws IOException {
+                		Integer index = indexes.get(target);
+                		if (index == null) {
+                			checkPackage(target);
+                			index = objects.size();
+                			indexes.put(target, index);
+                			objects.add(target);
+                		}
+                		return index;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private byte[] write(Collection<? extends EObject> roots) throws IOException {
+                		buffer = ByteBuffer.allocate(HEADER_SIZE + 4 * roots.size() + 64 * objects.size()).order(ByteOrder.LITTLE_ENDIAN);
+                		buffer.putInt(MAGIC).putInt(VERSION).putInt(roots.size()).putInt(0).putInt(0);
+                		for (EObject root : roots) {
+                			buffer.putInt(indexes.get(root));
+                		}
+                		int contained = objects.size();
+                		int[] positions = new int[Math.max(16, contained)];
+                		for (int i = 0; i < objects.size(); i++) {
+                			if (i == positions.length) {
+                				positions = Arrays.copyOf(positions, 2 * positions.length);
+                			}
+                			positions[i] = buffer.position();
+                			if (i < contained) {
+                				writeObject(objects.get(i));
+                			}
+                			else {
+                				writeProxy(objects.get(i));
+                			}
+                		}
+                		int position = buffer.position();
+                		ensure(4 * objects.size());
+                		for (int i = 0; i < objects.size(); i++) {
+                			buffer.putInt(positions[i]);
+                		}
+                		buffer.putInt(12, objects.size()).putInt(16, position);
+                		return Arrays.copyOf(buffer.array(), buffer.position());
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeProxy(EObject eObject) {
+                		URI uri = ((InternalEObject)eObject).eProxyURI();
+                		ensure(4);
+                		buffer.putShort((short)eObject.eClass().getClassifierID()).putShort(PROXY);
+                		writeString((uri != null ? uri : EcoreUtil.getURI(eObject)).toString());
+                	}
+
+                	/**
+                	 * Writes the start of an object table with its slot offsets unset and returns its position.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private int begin(int classifierID, int slots) {
+                		ensure(4 + 4 * slots);
+                		int start = buffer.position();
+                		buffer.putShort((short)classifierID).putShort((short)slots);
+                		for (int i = 0; i < slots; i++) {
+                			buffer.putInt(0);
+                		}
+                		return start;
+                	}
+
+                	/**
+                	 * Sets the offset of the slot to the current position.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void slot(int start, int slot) {
+                		buffer.putInt(start + 4 + 4 * slot, buffer.position() - start);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void ensure(int size) {
+                		if (buffer.remaining() < size) {
+                			ByteBuffer grown = ByteBuffer.allocate(Math.max(2 * buffer.capacity(), buffer.position() + size))
+                				.order(ByteOrder.LITTLE_ENDIAN);
+                			buffer.flip();
+                			grown.put(buffer);
+                			buffer = grown;
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeString(String value) {
+                		if (value == null) {
+                			ensure(4);
+                			buffer.putInt(-1);
+                			return;
+                		}
+                		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                		ensure(4 + bytes.length);
+                		buffer.putInt(bytes.length).put(bytes);
+                	}
+
+                	/**
+                	 * Writes the number of values, their offsets from the start of the list and the values as strings,
+                	 * converted by the data type unless it is <code>null</code>.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeStrings(List<?> values, EDataType dataType) {
+                		int count = values.size();
+                		ensure(4 + 4 * count);
+                		int list = buffer.position();
+                		buffer.putInt(count);
+                		buffer.position(list + 4 + 4 * count);
+                		for (int i = 0; i < count; i++) {
+                			buffer.putInt(list + 4 + 4 * i, buffer.position() - list);
+                			Object value = values.get(i);
+                			writeString(dataType == null ? (String)value : EcoreUtil.convertToString(dataType, value));
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static List<?> basicList(List<?> list) {
+                		return list instanceof InternalEList ? ((InternalEList<?>)list).basicList() : list;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static void grow(List<?> list, int count) {
+                		if (list instanceof BasicEList) {
+                			((BasicEList<?>)list).grow(list.size() + count);
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@SuppressWarnings("unchecked")
+                	private static void addUnique(List<?> list, Object value) {
+                		if (list instanceof InternalEList) {
+                			((InternalEList<Object>)list).addUnique(value);
+                		}
+                		else {
+                			((List<Object>)list).add(value);
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@SuppressWarnings("unchecked")
+                	private static void add(List<?> list, Object value) {
+                		((List<Object>)list).add(value);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static EObject object(EObject[] objects, int index) throws IOException {
+                		if (index < 0 || index >= objects.length) {
+                			throw new IOException("Corrupt message, no object " + index);
+                		}
+                		return objects[index];
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static void checkPackage(EObject eObject) throws IOException {
+                		if (eObject.eClass().getEPackage() != $PackageInterface$.eINSTANCE) {
+                			throw new IOException("Unsupported class '" + eObject.eClass().getName() + "'");
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static EObject create(int classifierID) throws IOException {
+                		switch (classifierID) {
+                """.replace("$PackageInterface$", packageInterface));
+        for (GenClass genClass : genClasses) {
+            out.append("\t\t\tcase ").append(packageInterface).append('.').append(genClass.getClassifierID())
+                    .append(":\n\t\t\t\treturn (EObject)").append(genPackage.getQualifiedFactoryInterfaceName())
+                    .append(".eINSTANCE.create").append(genClass.getName()).append("();\n");
+        }
+        out.append("\t\t\tdefault:\n\t\t\t\tthrow new IOException(\"Unknown class \" + classifierID);\n\t\t}\n\t}\n");
+
+        List<GenClass> containers = new ArrayList<>();
+        for (GenClass genClass : genClasses) {
+            if (slots(genClass).stream().anyMatch(GenFeature::isContains)) {
+                containers.add(genClass);
+            }
+        }
+        out.append(dispatch("void collectContents(EObject eObject)", "collect%s", "eObject", packageInterface,
+                containers, false));
+        out.append(dispatch("void writeObject(EObject eObject)", "write%s", "eObject", packageInterface, genClasses,
+                true));
+        out.append(dispatch("static void readObject(Message message, int start, EObject eObject, EObject[] objects)",
+                "read%s", "message, start, eObject, objects", packageInterface, genClasses, true));
+        for (GenClass genClass : containers) {
+            out.append(collectMethod(genClass));
+        }
+        for (GenClass genClass : genClasses) {
+            out.append(writeMethod(genClass, packageInterface));
+            out.append(readMethod(genClass));
+        }
+        for (GenClass genClass : genClasses) {
+            out.append(viewClass(genClass));
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static String dispatch(String signature, String methodPattern, String arguments,
+            String packageInterface, List<GenClass> genClasses, boolean strict) {
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tprivate ").append(signature).append(" throws IOException {\n");
+        out.append("\t\tswitch (eObject.eClass().getClassifierID()) {\n");
+        for (GenClass genClass : genClasses) {
+            out.append("\t\t\tcase ").append(packageInterface).append('.').append(genClass.getClassifierID())
+                    .append(":\n\t\t\t\t").append(String.format(methodPattern, genClass.getName())).append('(')
+                    .append(arguments.replace("eObject", "(" + objectType(genClass) + ")eObject")).append(");\n")
+                    .append("\t\t\t\tbreak;\n");
+        }
+        out.append("\t\t\tdefault:\n");
+        out.append(strict ? "\t\t\t\tthrow new IOException(\"Unsupported class '\" + eObject.eClass().getName() + \"'\");\n"
+                : "\t\t\t\tbreak;\n");
+        out.append("\t\t}\n\t}\n");
+        return out.toString().replace("(EObject)eObject", "eObject");
+    }
+
+    // ==================== Encoding ====================
+
+    private static String collectMethod(GenClass genClass) {
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tprivate void collect").append(genClass.getName()).append('(').append(objectType(genClass))
+                .append(" eObject) throws IOException {\n");
+        for (GenFeature genFeature : slots(genClass)) {
+            if (!genFeature.isContains()) {
+                continue;
+            }
+            if (genFeature.isListType()) {
+                out.append("\t\tfor (Object child : basicList(").append(list(genClass, genFeature))
+                        .append(")) {\n\t\t\tcollect((EObject)child);\n\t\t}\n");
+            } else {
+                out.append("\t\tif (eObject.eIsSet(").append(featureAccessor(genFeature)).append(")) {\n")
+                        .append("\t\t\tcollect((EObject)eObject.eGet(").append(featureAccessor(genFeature))
+                        .append(", false));\n\t\t}\n");
+            }
+        }
+        out.append("\t}\n");
+        return out.toString();
+    }
+
+    private static String writeMethod(GenClass genClass, String packageInterface) {
+        List<GenFeature> slots = slots(genClass);
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tprivate void write").append(genClass.getName()).append('(').append(objectType(genClass))
+                .append(" eObject) throws IOException {\n");
+        out.append("\t\tint start = begin(").append(packageInterface).append('.').append(genClass.getClassifierID())
+                .append(", ").append(slots.size()).append(");\n");
+        for (int slot = 0; slot < slots.size(); slot++) {
+            GenFeature genFeature = slots.get(slot);
+            Kind kind = kind(genFeature);
+            String feature = featureAccessor(genFeature);
+            if (genFeature.isListType()) {
+                out.append("\t\tList<?> ").append(values(slot)).append(" = basicList(")
+                        .append(list(genClass, genFeature)).append(");\n");
+                out.append("\t\tif (!").append(values(slot)).append(".isEmpty()) {\n");
+                out.append("\t\t\tslot(start, ").append(slot).append(");\n");
+                if (kind.width == 0) {
+                    out.append("\t\t\twriteStrings(").append(values(slot)).append(", ")
+                            .append(kind == Kind.OTHER ? feature + ".getEAttributeType()" : "null").append(");\n");
+                } else {
+                    out.append("\t\t\tensure(4 + ").append(kind.width).append(" * ").append(values(slot))
+                            .append(".size());\n");
+                    out.append("\t\t\tbuffer.putInt(").append(values(slot)).append(".size());\n");
+                    out.append("\t\t\tfor (Object value : ").append(values(slot)).append(") {\n\t\t\t\t")
+                            .append(put(kind, "value", false)).append(";\n\t\t\t}\n");
+                }
+                out.append("\t\t}\n");
+            } else if (genFeature.isPrimitiveType() && genFeature.isGet() && !isMapEntry(genClass)) {
+                out.append("\t\tif (eObject.eIsSet(").append(feature).append(")) {\n");
+                out.append("\t\t\tslot(start, ").append(slot).append(");\n");
+                out.append("\t\t\tensure(").append(kind.width).append(");\n\t\t\t")
+                        .append(put(kind, "eObject." + genFeature.getGetAccessor() + "()", true)).append(";\n");
+                out.append("\t\t}\n");
+            } else {
+                out.append("\t\tif (eObject.eIsSet(").append(feature).append(")) {\n");
+                out.append("\t\t\tObject value = eObject.eGet(").append(feature).append(", false);\n");
+                out.append("\t\t\tif (value != null) {\n");
+                out.append("\t\t\t\tslot(start, ").append(slot).append(");\n");
+                if (kind == Kind.STRING) {
+                    out.append("\t\t\t\twriteString((String)value);\n");
+                } else if (kind == Kind.OTHER) {
+                    out.append("\t\t\t\twriteString(EcoreUtil.convertToString(").append(feature)
+                            .append(".getEAttributeType(), value));\n");
+                } else {
+                    out.append("\t\t\t\tensure(").append(kind.width).append(");\n\t\t\t\t")
+                            .append(put(kind, "value", false)).append(";\n");
+                }
+                out.append("\t\t\t}\n\t\t}\n");
+            }
+        }
+        out.append("\t}\n");
+        return out.toString();
+    }
+
+    private static String values(int slot) {
+        return "values" + slot;
+    }
+
+    /**
+     * Returns the statement writing a fixed-size value.
+     *
+     * @param typed whether the value has its Java type, otherwise it is an
+     *              {@code Object}
+     */
+    private static String put(Kind kind, String value, boolean typed) {
+        String cast = typed || kind.boxedType == null ? value : "(" + kind.boxedType + ")" + value;
+        return switch (kind) {
+        case BOOLEAN -> "buffer.put(" + cast + " ? (byte)1 : (byte)0)";
+        case BYTE -> "buffer.put(" + cast + ")";
+        case SHORT -> "buffer.putShort(" + cast + ")";
+        case CHAR -> "buffer.putChar(" + cast + ")";
+        case INT -> "buffer.putInt(" + cast + ")";
+        case LONG -> "buffer.putLong(" + cast + ")";
+        case FLOAT -> "buffer.putFloat(" + cast + ")";
+        case DOUBLE -> "buffer.putDouble(" + cast + ")";
+        case ENUM -> "buffer.putInt(((Enumerator)" + value + ").getValue())";
+        case REFERENCE -> "buffer.putInt(reference((EObject)" + value + "))";
+        default -> throw new IllegalArgumentException(kind.name());
+        };
+    }
+
+    // ==================== Decoding ====================
+
+    /**
+     * Returns the expression reading a value of the kind at the position from
+     * {@code buffer}; strings are read through {@code string}.
+     */
+    private static String get(GenFeature genFeature, Kind kind, String position) {
+        return switch (kind) {
+        case BOOLEAN -> "buffer.get(" + position + ") != 0";
+        case BYTE -> "buffer.get(" + position + ")";
+        case SHORT -> "buffer.getShort(" + position + ")";
+        case CHAR -> "buffer.getChar(" + position + ")";
+        case INT, REFERENCE -> "buffer.getInt(" + position + ")";
+        case LONG -> "buffer.getLong(" + position + ")";
+        case FLOAT -> "buffer.getFloat(" + position + ")";
+        case DOUBLE -> "buffer.getDouble(" + position + ")";
+        case ENUM -> genFeature.getTypeGenEnum().getQualifiedName() + ".get(buffer.getInt(" + position + "))";
+        case STRING, OTHER -> "string(" + position + ")";
+        };
+    }
+
+    private static String readMethod(GenClass genClass) {
+        List<GenFeature> slots = slots(genClass);
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tprivate static void read").append(genClass.getName()).append("(Message message, int start, ")
+                .append(objectType(genClass)).append(" eObject, EObject[] objects) throws IOException {\n");
+        if (!slots.isEmpty()) {
+            out.append("\t\tByteBuffer buffer = message.buffer;\n");
+            out.append("\t\tint slot;\n");
+        }
+        for (int slot = 0; slot < slots.size(); slot++) {
+            GenFeature genFeature = slots.get(slot);
+            Kind kind = kind(genFeature);
+            String feature = featureAccessor(genFeature);
+            out.append("\t\tslot = message.slot(start, ").append(slot).append(");\n");
+            out.append("\t\tif (slot != 0) {\n");
+            if (genFeature.isListType()) {
+                out.append("\t\t\tList<?> values = ").append(list(genClass, genFeature)).append(";\n");
+                out.append("\t\t\tint count = buffer.getInt(slot);\n");
+                out.append("\t\t\tgrow(values, count);\n");
+                out.append("\t\t\tfor (int i = 0; i < count; i++) {\n");
+                String value;
+                if (kind == Kind.REFERENCE) {
+                    value = "object(objects, buffer.getInt(slot + 4 + 4 * i))";
+                } else if (kind.width == 0) {
+                    value = "message.string(slot + buffer.getInt(slot + 4 + 4 * i))";
+                    if (kind == Kind.OTHER) {
+                        value = "EcoreUtil.createFromString(" + feature + ".getEAttributeType(), " + value + ")";
+                    }
+                } else {
+                    value = get(genFeature, kind, "slot + 4 + " + kind.width + " * i");
+                }
+                // Both ends of a bidirectional reference are written, the second add must be ignored
+                boolean opposite = genFeature.getEcoreFeature() instanceof EReference reference
+                        && reference.getEOpposite() != null;
+                out.append("\t\t\t\t").append(opposite ? "add" : "addUnique").append("(values, ").append(value)
+                        .append(");\n");
+                out.append("\t\t\t}\n");
+            } else {
+                String value = switch (kind) {
+                case REFERENCE -> "(" + genFeature.getTypeGenClass().getQualifiedInterfaceName()
+                        + ")object(objects, buffer.getInt(slot))";
+                case OTHER -> "EcoreUtil.createFromString(" + feature + ".getEAttributeType(), message.string(slot))";
+                case STRING -> "message.string(slot)";
+                default -> get(genFeature, kind, "slot");
+                };
+                if (genFeature.isSet() && !isMapEntry(genClass) && kind != Kind.OTHER) {
+                    out.append("\t\t\teObject.set").append(genFeature.getAccessorName()).append('(').append(value)
+                            .append(");\n");
+                } else {
+                    out.append("\t\t\teObject.eSet(").append(feature).append(", ").append(value).append(");\n");
+                }
+            }
+            out.append("\t\t}\n");
+        }
+        out.append("\t}\n");
+        return out.toString();
+    }
+
+    // ==================== Views ====================
+
+    static String viewName(GenClass genClass) {
+        return genClass.getName() + "View";
+    }
+
+    private static String viewClass(GenClass genClass) {
+        List<GenFeature> slots = slots(genClass);
+        String name = viewName(genClass);
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * A view of a <em>").append(genClass.getFormattedName())
+                .append("</em> in a message, reading each value at its offset.")
+                .append("\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tpublic static final class ").append(name).append(" extends ObjectView {\n");
+        out.append("\t\t").append(name).append("(Message message, int index, int position) {\n")
+                .append("\t\t\tsuper(message, index, position);\n\t\t}\n");
+        for (int slot = 0; slot < slots.size(); slot++) {
+            GenFeature genFeature = slots.get(slot);
+            Kind kind = kind(genFeature);
+            String type = kind == Kind.REFERENCE ? "ObjectView"
+                    : kind == Kind.ENUM ? genFeature.getTypeGenEnum().getQualifiedName()
+                            : genFeature.isPrimitiveType() || kind.width == 0 ? kind.viewType : kind.boxedType;
+            String getter = genFeature.getGetAccessor();
+            String doc = "\n\t\t/**\n\t\t * <!-- begin-user-doc -->\n\t\t * %s '<em><b>"
+                    + genFeature.getFormattedName() + "</b></em>' " + genFeature.getFeatureKind()
+                    + ".\n\t\t * <!-- end-user-doc -->\n\t\t * @generated\n\t\t */\n";
+            if (genFeature.isListType()) {
+                out.append(String.format(doc, "Returns the number of values of the"));
+                out.append("\t\tpublic int ").append(getter).append("Count() {\n\t\t\treturn count(slot(")
+                        .append(slot).append("));\n\t\t}\n");
+                out.append(String.format(doc, "Returns the value at the index of the"));
+                out.append("\t\tpublic ").append(type).append(' ').append(getter).append("(int index) {\n");
+                out.append("\t\t\tint slot = slot(").append(slot).append(");\n");
+                if (kind.width == 0) {
+                    out.append("\t\t\treturn string(slot, index);\n");
+                } else {
+                    out.append("\t\t\tObjects.checkIndex(index, count(slot));\n");
+                    out.append("\t\t\tByteBuffer buffer = message.buffer;\n");
+                    String value = get(genFeature, kind, "slot + 4 + " + kind.width + " * index");
+                    out.append("\t\t\treturn ")
+                            .append(kind == Kind.REFERENCE ? "message.getObject(" + value + ")" : value)
+                            .append(";\n");
+                }
+                out.append("\t\t}\n");
+            } else {
+                out.append(String.format(doc, "Returns the value of the"));
+                out.append("\t\tpublic ").append(type).append(' ').append(getter).append("() {\n");
+                out.append("\t\t\tint slot = slot(").append(slot).append(");\n");
+                String value = kind == Kind.REFERENCE ? "message.getObject(message.buffer.getInt(slot))"
+                        : kind.width == 0 ? "string(slot)"
+                                : get(genFeature, kind, "slot").replace("buffer.", "message.buffer.");
+                out.append("\t\t\treturn slot == 0 ? ").append(defaultValue(genFeature, kind)).append(" : ")
+                        .append(value).append(";\n");
+                out.append("\t\t}\n");
+            }
+        }
+        out.append("\t}\n");
+        return out.toString();
+    }
+
+    /**
+     * Returns the Java literal of the default value of the feature as read by
+     * a view, where data types without a binary encoding are strings.
+     */
+    private static String defaultValue(GenFeature genFeature, Kind kind) {
+        String literal = genFeature.isReferenceType() ? null : genFeature.getEcoreFeature().getDefaultValueLiteral();
+        boolean primitive = genFeature.isPrimitiveType();
+        try {
+            switch (kind) {
+            case BOOLEAN:
+                return literal != null ? String.valueOf(Boolean.parseBoolean(literal)) : primitive ? "false" : "null";
+            case BYTE:
+                return literal != null ? "(byte)" + Byte.parseByte(literal) : primitive ? "(byte)0" : "null";
+            case SHORT:
+                return literal != null ? "(short)" + Short.parseShort(literal) : primitive ? "(short)0" : "null";
+            case CHAR:
+                return literal != null && !literal.isEmpty() ? "(char)" + (int) literal.charAt(0)
+                        : primitive ? "(char)0" : "null";
+            case INT:
+                return literal != null ? String.valueOf(Integer.parseInt(literal)) : primitive ? "0" : "null";
+            case LONG:
+                return literal != null ? Long.parseLong(literal) + "L" : primitive ? "0L" : "null";
+            case FLOAT:
+                return literal != null ? floatLiteral(Float.parseFloat(literal)) : primitive ? "0.0F" : "null";
+            case DOUBLE:
+                return literal != null ? doubleLiteral(Double.parseDouble(literal)) : primitive ? "0.0" : "null";
+            case ENUM:
+                String enumName = genFeature.getTypeGenEnum().getQualifiedName();
+                return literal != null ? enumName + ".get(\"" + escape(literal) + "\")" : enumName + ".VALUES.get(0)";
+            case STRING:
+            case OTHER:
+                return literal != null ? "\"" + escape(literal) + "\"" : "null";
+            default:
+                return "null";
+            }
+        } catch (NumberFormatException e) {
+            return primitive ? primitiveDefault(kind) : "null";
+        }
+    }
+
+    private static String primitiveDefault(Kind kind) {
+        return switch (kind) {
+        case BOOLEAN -> "false";
+        case BYTE -> "(byte)0";
+        case SHORT -> "(short)0";
+        case CHAR -> "(char)0";
+        case LONG -> "0L";
+        case FLOAT -> "0.0F";
+        case DOUBLE -> "0.0";
+        default -> "0";
+        };
+    }
+
+    private static String floatLiteral(float value) {
+        if (Float.isNaN(value)) {
+            return "Float.NaN";
+        }
+        if (Float.isInfinite(value)) {
+            return value > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+        }
+        return value + "F";
+    }
+
+    private static String doubleLiteral(double value) {
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        }
+        return String.valueOf(value);
+    }
+
+    private static String escape(String literal) {
+        StringBuilder out = new StringBuilder();
+        for (char c : literal.toCharArray()) {
+            switch (c) {
+            case '\\' -> out.append("\\\\");
+            case '"' -> out.append("\\\"");
+            case '\n' -> out.append("\\n");
+            case '\r' -> out.append("\\r");
+            case '\t' -> out.append("\\t");
+            default -> {
+                if (c < 0x20 || c > 0x7e) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+            }
+            }
+        }
+        return out.toString();
+    }
+
+    // ==================== Helpers ====================
+
+    private static boolean isMapEntry(GenClass genClass) {
+        return genClass.isMapEntry();
+    }
+
+    private static String objectType(GenClass genClass) {
+        return isMapEntry(genClass) ? "EObject" : genClass.getQualifiedInterfaceName();
+    }
+
+    private static String list(GenClass genClass, GenFeature genFeature) {
+        return genFeature.isGet() && !isMapEntry(genClass) ? "eObject." + genFeature.getGetAccessor() + "()"
+                : "(List<?>)eObject.eGet(" + featureAccessor(genFeature) + ")";
+    }
+
+    private static String featureAccessor(GenFeature genFeature) {
+        return genFeature.getGenClass().getGenPackage().getQualifiedPackageInterfaceName() + ".eINSTANCE.get"
+                + genFeature.getFeatureAccessorName() + "()";
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Turns the generated {@code XxxResourceImpl} of the basic resource kind into a
+ * binary resource.
+ *
+ * <p>
+ * The GenModel has no binary resource kind, so the package is generated with
+ * the basic kind and its resource class is rewritten to extend EMF's
+ * {@code BinaryResourceImpl}. The binary format writes each class, feature,
+ * string and URI once and refers to it by index afterwards, and reads and
+ * writes through its own buffers instead of an XML parser. The generated
+ * constructor sets default load and save options for the most compact
+ * encoding: format version 1.1 with floating point numbers, dates and
+ * enumerators written in binary and a larger stream buffer. Options passed to
+ * {@code load} or {@code save} still take precedence.
+ * </p>
+ */
+public class BinaryResourceRewriter {
+
+    /**
+     * Buffer capacity set as default for loading and saving; EMF uses 1 KiB.
+     */
+    static final int BUFFER_CAPACITY = 64 * 1024;
+
+    private static final Pattern CONSTRUCTOR_PATTERN = Pattern
+            .compile("(public (\\w+)ResourceImpl\\(URI uri\\) \\{\\s*super\\(uri\\);\\n)");
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public BinaryResourceRewriter(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Rewrites the given resource class in place; files that are not a
+     * resource class of the basic kind are left unchanged.
+     */
+    public void rewrite(Path file) {
+        try {
+            String content = Files.readString(file);
+            if (!content.contains(" extends ResourceImpl {")) {
+                return;
+            }
+            Matcher constructor = CONSTRUCTOR_PATTERN.matcher(content);
+            if (!constructor.find()) {
+                log.warn("Not generating a binary resource from " + file + ", the URI constructor was not found");
+                return;
+            }
+            String rewritten = content.substring(0, constructor.end())
+                    + "\t\tdefaultLoadOptions = createDefaultOptions();\n"
+                    + "\t\tdefaultSaveOptions = createDefaultOptions();\n"
+                    + content.substring(constructor.end());
+            int classEnd = rewritten.lastIndexOf('}');
+            rewritten = rewritten.substring(0, classEnd) + OPTIONS_TEMPLATE.replace("$Capacity$",
+                    Integer.toString(BUFFER_CAPACITY)) + rewritten.substring(classEnd);
+            rewritten = rewritten.replace(" extends ResourceImpl {", " extends BinaryResourceImpl {")
+                    .replace("import org.eclipse.emf.ecore.resource.impl.ResourceImpl;",
+                            "import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;")
+                    .replace("import org.eclipse.emf.common.util.URI;",
+                            "import java.util.HashMap;\nimport java.util.Map;\n\nimport org.eclipse.emf.common.util.URI;");
+            Files.writeString(file, rewritten);
+            log.info("Generated binary resource " + constructor.group(2) + "ResourceImpl");
+        } catch (IOException e) {
+            log.warn("Could not generate binary resource in: " + file + " - " + e.getMessage());
+        }
+    }
+
+    private static final String OPTIONS_TEMPLATE = """
+            	/**
+            	 * Creates the default load and save options of the binary format.
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	protected Map<Object, Object> createDefaultOptions() {
+            		Map<Object, Object> options = new HashMap<Object, Object>();
+            		options.put(OPTION_VERSION, BinaryIO.Version.VERSION_1_1);
+            		options.put(OPTION_STYLE_BINARY_FLOATING_POINT, Boolean.TRUE);
+            		options.put(OPTION_STYLE_BINARY_DATE, Boolean.TRUE);
+            		options.put(OPTION_STYLE_BINARY_ENUMERATOR, Boolean.TRUE);
+            		options.put(OPTION_BUFFER_CAPACITY, $Capacity$);
+            		return options;
+            	}
+
+            """;
+}
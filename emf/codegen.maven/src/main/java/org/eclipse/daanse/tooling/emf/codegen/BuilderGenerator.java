@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.codegen.util.ImportManager;
+
+/**
+ * Generates builders for the classes of each generated package, for building
+ * large models in bulk.
+ *
+ * <p>
+ * For every package a {@code util/<Prefix>Builders} class is written with a
+ * static method per concrete EClass that creates the object through the
+ * factory and returns a {@code <Class>Builder} for it. The builder has a
+ * setter per changeable single-valued feature and, per changeable
+ * multi-valued feature, {@code expect<Feature>(int)} to size the list for the
+ * given number of additional values, {@code add<Feature>} and
+ * {@code addAll<Feature>}. Values are added without the uniqueness check, so
+ * a reference list does not search itself for every value it receives, and a
+ * collection is added to the list in one step; containment and opposites are
+ * still maintained by the list. Lists that are not a {@code BasicEList}, such
+ * as the primitive lists, are filled without being sized.
+ * </p>
+ */
+public class BuilderGenerator {
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public BuilderGenerator(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Writes the builder class of every package of the GenModel that has
+     * classes.
+     */
+    public void generate(GenModel genModel, Path outputDirectory) {
+        for (GenPackage genPackage : genModel.getAllGenPackagesWithClassifiers()) {
+            if (genPackage.getGenClasses().isEmpty()) {
+                continue;
+            }
+            Path file = outputDirectory.resolve(
+                    (genPackage.getUtilitiesPackageName() + "." + className(genPackage)).replace('.', '/') + ".java");
+            try {
+                Path packageInterface = outputDirectory
+                        .resolve(genPackage.getQualifiedPackageInterfaceName().replace('.', '/') + ".java");
+                String header = "";
+                if (Files.exists(packageInterface)) {
+                    String content = Files.readString(packageInterface);
+                    header = content.substring(0, Math.max(0, content.indexOf("package ")));
+                }
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, header + source(genModel, genPackage));
+                log.info("Generated " + className(genPackage) + " for package " + genPackage.getPackageName());
+            } catch (IOException e) {
+                log.warn("Could not generate builders in: " + file + " - " + e.getMessage());
+            }
+        }
+    }
+
+    static String className(GenPackage genPackage) {
+        return genPackage.getPrefix() + "Builders";
+    }
+
+    private String source(GenModel genModel, GenPackage genPackage) {
+        String className = className(genPackage);
+        ImportManager importManager = new ImportManager(genPackage.getUtilitiesPackageName());
+        StringBuilder body = new StringBuilder();
+        genModel.setImportManager(importManager);
+        try {
+            for (String qualifiedName : new String[] { "java.util.Collection", "org.eclipse.emf.common.util.BasicEList",
+                    "org.eclipse.emf.common.util.EList", "org.eclipse.emf.ecore.util.InternalEList" }) {
+                importManager.addImport(qualifiedName);
+            }
+            String factory = importManager.getImportedName(genPackage.getQualifiedFactoryInterfaceName(), true);
+            for (GenClass genClass : genPackage.getGenClasses()) {
+                if (isBuilt(genClass)) {
+                    appendFactoryMethod(body, importManager, factory, genClass);
+                }
+            }
+            for (GenClass genClass : genPackage.getGenClasses()) {
+                if (isBuilt(genClass)) {
+                    appendBuilder(body, importManager, genClass);
+                }
+            }
+        } finally {
+            genModel.setImportManager(null);
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(genPackage.getUtilitiesPackageName()).append(";\n\n");
+        String lastRoot = null;
+        for (String qualifiedName : importManager.getImports()) {
+            String root = qualifiedName.substring(0, qualifiedName.indexOf('.'));
+            if (lastRoot != null && !root.equals(lastRoot)) {
+                out.append('\n');
+            }
+            lastRoot = root;
+            out.append("import ").append(qualifiedName).append(";\n");
+        }
+        out.append("""
+
+                /**
+                 * <!-- begin-user-doc -->
+                 * Builders for the instances of the <b>$PackageName$</b> package.
+                 * Each builder sets the features of a new object; lists can be sized up front with the
+                 * <code>expect</code> methods and receive their values without the uniqueness check, so
+                 * large models are built without repeatedly growing and searching their lists. A value
+                 * must therefore not be added twice to a list that is unique. Containment and opposite
+                 * references are maintained as with the generated setters and lists.
+                 * <!-- end-user-doc -->
+                 * @generated
+                 */
+                public final class $ClassName$ {
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private $ClassName$() {
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * Sizes the list for the given number of values in addition to the ones it holds.
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static void grow(EList<?> list, int count) {
+                		if (list instanceof BasicEList<?> basicList) {
+                			basicList.grow(list.size() + count);
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static <E> void addUnique(EList<E> list, E value) {
+                		if (list instanceof InternalEList<E> internalList) {
+                			internalList.addUnique(value);
+                		} else {
+                			list.add(value);
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static <E> void addAllUnique(EList<E> list, Collection<? extends E> values) {
+                		grow(list, values.size());
+                		if (list instanceof InternalEList<E> internalList) {
+                			internalList.addAllUnique(values);
+                		} else {
+                			list.addAll(values);
+                		}
+                	}
+                """.replace("$ClassName$", className).replace("$PackageName$", genPackage.getPackageName()));
+        out.append(body);
+        out.append("}\n");
+        return out.toString();
+    }
+
+    /**
+     * Whether a builder is generated for the class: it must be created by the
+     * factory and have no type parameters.
+     */
+    private static boolean isBuilt(GenClass genClass) {
+        return !genClass.isAbstract() && !genClass.isInterface() && !genClass.isMapEntry()
+                && !genClass.isExternalInterface() && genClass.getEcoreClass().getETypeParameters().isEmpty();
+    }
+
+    private static boolean isSingleBuilt(GenFeature genFeature) {
+        return genFeature.isSet() && !genFeature.isSuppressedSetVisibility() && !genFeature.isDerived();
+    }
+
+    private static boolean isListBuilt(GenFeature genFeature) {
+        return genFeature.isListType() && genFeature.isChangeable() && genFeature.isGet()
+                && !genFeature.isSuppressedGetVisibility() && !genFeature.isDerived() && !genFeature.isMapType()
+                && !genFeature.isFeatureMapType();
+    }
+
+    private void appendFactoryMethod(StringBuilder out, ImportManager importManager, String factory,
+            GenClass genClass) {
+        String builder = genClass.getName() + "Builder";
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * Returns a builder of a new {@link ")
+                .append(importManager.getImportedName(genClass.getQualifiedInterfaceName(), true)).append(" <em>")
+                .append(genClass.getFormattedName()).append("</em>}.\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tpublic static ").append(builder).append(' ').append(genClass.getSafeUncapName())
+                .append("() {\n\t\treturn new ").append(builder).append('(').append(factory)
+                .append(".eINSTANCE.create").append(genClass.getName()).append("());\n\t}\n");
+    }
+
+    private void appendBuilder(StringBuilder out, ImportManager importManager, GenClass genClass) {
+        String builder = genClass.getName() + "Builder";
+        String type = importManager.getImportedName(genClass.getQualifiedInterfaceName(), true);
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * Builder of a {@link ").append(type).append(" <em>")
+                .append(genClass.getFormattedName()).append("</em>}.\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tpublic static final class ").append(builder).append(" {\n");
+        out.append("\t\tprivate final ").append(type).append(" object;\n\n");
+        out.append("\t\tprivate ").append(builder).append('(').append(type)
+                .append(" object) {\n\t\t\tthis.object = object;\n\t\t}\n");
+        for (GenFeature genFeature : genClass.getAllGenFeatures()) {
+            if (isSingleBuilt(genFeature)) {
+                appendMethod(out, "Sets the", genFeature, builder + " " + genFeature.getSafeName() + "("
+                        + genFeature.getImportedType(genClass) + " value)",
+                        "object.set" + genFeature.getAccessorName() + "(value);");
+            } else if (isListBuilt(genFeature)) {
+                String getter = "object." + genFeature.getGetAccessor() + "()";
+                String itemType = genFeature.getListItemType(genClass);
+                appendMethod(out, "Sizes the list of the", genFeature,
+                        builder + " expect" + genFeature.getCapName() + "(int count)",
+                        "grow(" + getter + ", count);");
+                appendMethod(out, "Adds a value, without the uniqueness check, to the", genFeature,
+                        builder + " add" + genFeature.getCapName() + "(" + itemType + " value)",
+                        "addUnique(" + getter + ", value);");
+                appendMethod(out, "Adds the values at once, without the uniqueness check, to the", genFeature,
+                        builder + " addAll" + genFeature.getCapName() + "(Collection<? extends " + itemType
+                                + "> values)",
+                        "addAllUnique(" + getter + ", values);");
+            }
+        }
+        out.append("\n\t\t/**\n\t\t * <!-- begin-user-doc -->\n\t\t * Returns the built object.\n")
+                .append("\t\t * <!-- end-user-doc -->\n\t\t * @generated\n\t\t */\n");
+        out.append("\t\tpublic ").append(type).append(" build() {\n\t\t\treturn object;\n\t\t}\n\t}\n");
+    }
+
+    private static void appendMethod(StringBuilder out, String description, GenFeature genFeature,
+            String signature, String statement) {
+        out.append("\n\t\t/**\n\t\t * <!-- begin-user-doc -->\n\t\t * ").append(description).append(" '<em><b>")
+                .append(genFeature.getFormattedName()).append("</b></em>' ").append(genFeature.getFeatureKind())
+                .append(".\n\t\t * <!-- end-user-doc -->\n\t\t * @generated\n\t\t */\n");
+        out.append("\t\tpublic ").append(signature).append(" {\n\t\t\t").append(statement)
+                .append("\n\t\t\treturn this;\n\t\t}\n");
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Registers the {@code EPackage} service of generated OSGi configuration
+ * components through a service factory, so the package contents are only
+ * loaded when the service is first used.
+ *
+ * <p>
+ * The {@code XxxConfigurationComponent} registers the package instance when the
+ * bundle activates. Together with the lazy package initialization, which makes
+ * {@code XxxPackage.eINSTANCE} an empty package object until its classifiers are
+ * accessed, this rewriter replaces the registered instance with a generated
+ * {@code XxxEPackageServiceFactory}. The framework calls the factory on the
+ * first {@code getService}, which materializes the contents before handing out
+ * the package. Bundle activation then no longer pays for the package
+ * initialization, while consumers of the service still get a loaded package.
+ * </p>
+ *
+ * <p>
+ * Every accessor of a serialized package value, such as {@code getName()} or
+ * {@code getNsPrefix()}, loads the lazy package. Calls of these two in the
+ * component and in the {@code XxxEPackageConfigurator} that build the service
+ * properties are therefore replaced by the {@code eNAME} and
+ * {@code eNS_PREFIX} constants of the package interface.
+ * </p>
+ *
+ * <p>
+ * Only {@code registerService} calls whose service argument is a variable of the
+ * package type are rewritten; components in another shape are left unchanged
+ * with a warning.
+ * </p>
+ */
+public class DeferredRegistrationRewriter {
+
+    /**
+     * Suffix of the generated OSGi configuration components.
+     */
+    static final String COMPONENT_SUFFIX = "ConfigurationComponent";
+
+    /**
+     * Suffix of the generated package configurators.
+     */
+    static final String CONFIGURATOR_SUFFIX = "EPackageConfigurator";
+
+    private static final Pattern REGISTER_PATTERN = Pattern
+            .compile("(registerService\\(\\s*[^;]+?,\\s*)(\\w+)(\\s*,\\s*[^;]+?\\);)");
+
+    private static final Pattern ACCESSOR_PATTERN = Pattern
+            .compile("(?:this\\.)?\\b(\\w+)\\.(getName|getNsPrefix)\\(\\)");
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public DeferredRegistrationRewriter(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Rewrites the given configuration component in place and writes the
+     * service factory next to it.
+     */
+    public void rewrite(Path file) {
+        String fileName = file.getFileName().toString();
+        String prefix = fileName.substring(0, fileName.length() - (COMPONENT_SUFFIX + ".java").length());
+        try {
+            String content = Files.readString(file);
+            String factoryClass = prefix + "EPackageServiceFactory";
+            if (content.contains("new " + factoryClass + "<>()")) {
+                return;
+            }
+            Matcher packageImport = Pattern.compile("import ([\\w.]+\\." + prefix + "Package);").matcher(content);
+            if (!packageImport.find()) {
+                log.warn("Not deferring the package registration in " + file + ", " + prefix
+                        + "Package is not imported");
+                return;
+            }
+            Pattern packageVariable = packageVariable(prefix);
+            Matcher register = REGISTER_PATTERN.matcher(content);
+            StringBuilder out = new StringBuilder();
+            boolean found = false;
+            while (register.find()) {
+                String variable = register.group(2);
+                boolean isPackage = packageVariable.matcher(content).results()
+                        .anyMatch(r -> r.group(1).equals(variable));
+                String replacement = isPackage
+                        ? register.group(1) + "new " + factoryClass + "<>()" + register.group(3)
+                        : register.group();
+                found |= isPackage;
+                register.appendReplacement(out, Matcher.quoteReplacement(replacement));
+            }
+            register.appendTail(out);
+            if (!found) {
+                log.warn("Not deferring the package registration in " + file
+                        + ", no registerService call for the package found");
+                return;
+            }
+            Files.writeString(file, replaceAccessors(out.toString(), prefix, packageImport.group(1)));
+
+            Path configurator = file.resolveSibling(prefix + CONFIGURATOR_SUFFIX + ".java");
+            if (Files.exists(configurator)) {
+                String configuratorContent = Files.readString(configurator);
+                String replaced = replaceAccessors(configuratorContent, prefix, packageImport.group(1));
+                if (!replaced.equals(configuratorContent)) {
+                    Files.writeString(configurator, replaced);
+                }
+            }
+
+            int packageStart = content.indexOf("package ");
+            String header = content.substring(0, packageStart);
+            String packageName = content.substring(packageStart + 8, content.indexOf(';', packageStart)).trim();
+            Files.writeString(file.resolveSibling(factoryClass + ".java"),
+                    header + "package " + packageName + ";\n" + FACTORY_TEMPLATE.replace("$Factory$", factoryClass)
+                            .replace("$Prefix$", prefix).replace("$PackageInterface$", packageImport.group(1)));
+            log.info("Deferred the package registration of " + fileName);
+        } catch (IOException e) {
+            log.warn("Could not defer the package registration in: " + file + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces {@code getName()} and {@code getNsPrefix()} calls on variables of
+     * the package type by the constants of the package interface, so they do not
+     * load the lazy package.
+     *
+     * @param content          the source of a generated configuration class
+     * @param prefix           the prefix of the package
+     * @param packageInterface the qualified name of the package interface
+     * @return the source with the calls replaced, or {@code content} if there
+     *         are none
+     */
+    static String replaceAccessors(String content, String prefix, String packageInterface) {
+        String constantOwner = content.contains("import " + packageInterface + ";") ? prefix + "Package"
+                : packageInterface;
+        Set<String> variables = packageVariable(prefix).matcher(content).results().map(r -> r.group(1))
+                .collect(Collectors.toSet());
+        Matcher accessor = ACCESSOR_PATTERN.matcher(content);
+        StringBuilder out = new StringBuilder();
+        boolean found = false;
+        while (accessor.find()) {
+            String replacement = accessor.group();
+            if (variables.contains(accessor.group(1))) {
+                replacement = constantOwner + "." + ("getName".equals(accessor.group(2)) ? "eNAME" : "eNS_PREFIX");
+                found = true;
+            }
+            accessor.appendReplacement(out, Matcher.quoteReplacement(replacement));
+        }
+        if (!found) {
+            return content;
+        }
+        accessor.appendTail(out);
+        return out.toString();
+    }
+
+    /**
+     * Matches declarations of variables, fields and parameters of the package
+     * type.
+     */
+    private static Pattern packageVariable(String prefix) {
+        return Pattern.compile("\\b(?:" + prefix + "Package|EPackage)\\s+(\\w+)\\s*[=,);]");
+    }
+
+    private static final String FACTORY_TEMPLATE = """
+
+            import org.eclipse.emf.ecore.EPackage;
+
+            import org.osgi.framework.Bundle;
+            import org.osgi.framework.ServiceFactory;
+            import org.osgi.framework.ServiceRegistration;
+
+            import $PackageInterface$;
+
+            /**
+             * <!-- begin-user-doc -->
+             * Provides the <b>$Prefix$</b> package service. The package contents are loaded
+             * when the service is first requested instead of when the bundle activates.
+             * <!-- end-user-doc -->
+             * @generated
+             */
+            public class $Factory$<S extends EPackage> implements ServiceFactory<S> {
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	@SuppressWarnings("unchecked")
+            	public S getService(Bundle bundle, ServiceRegistration<S> registration) {
+            		$Prefix$Package ePackage = $Prefix$Package.eINSTANCE;
+            		// Materialize the contents deferred by the lazy package initialization
+            		ePackage.getEClassifiers();
+            		return (S)ePackage;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public void ungetService(Bundle bundle, ServiceRegistration<S> registration, S service) {
+            		// The package instance is shared and stays loaded
+            	}
+            }
+            """;
+}
@@ -16,12 +16,14 @@ package org.eclipse.daanse.tooling.emf.codegen;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,16 +33,22 @@ import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.build.BuildContext;
 import org.eclipse.emf.codegen.ecore.generator.Generator;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenEnum;
 import org.eclipse.emf.codegen.ecore.genmodel.GenClassifier;
+import org.eclipse.emf.codegen.ecore.genmodel.GenDelegationKind;
 import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
 import org.eclipse.emf.codegen.ecore.genmodel.GenModelFactory;
 import org.eclipse.emf.codegen.ecore.genmodel.GenModelPackage;
@@ -49,11 +57,13 @@ import org.eclipse.emf.codegen.ecore.genmodel.generator.GenBaseGeneratorAdapter;
 import org.eclipse.emf.codegen.ecore.genmodel.impl.GenModelFactoryImpl;
 import org.eclipse.emf.codegen.ecore.genmodel.impl.GenModelPackageImpl;
 import org.eclipse.emf.codegen.util.CodeGenUtil;
+import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EAnnotation;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EModelElement;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -129,6 +139,12 @@ public class EmfGenerateMojo extends AbstractMojo {
      */
     private static final String MODEL_FOLDER = "model";
 
+    /**
+     * Value of the {@code resource} parameter or annotation selecting the binary
+     * resource, which GenModel does not know as a resource kind.
+     */
+    private static final String BINARY_RESOURCE = "BINARY";
+
     /**
      * Tracks every nsURI this plugin has put into {@link EPackage.Registry#INSTANCE}
      * across mojo invocations in the same JVM. At the start of each invocation we
@@ -141,11 +157,51 @@ public class EmfGenerateMojo extends AbstractMojo {
     private static final java.util.Set<String> pluginRegisteredNsURIs =
             java.util.Collections.synchronizedSet(new java.util.HashSet<>());
 
+    /**
+     * Prefix of the project context key marking an output directory as
+     * generated by {@link EmfGenerateReactorMojo} in the current session.
+     */
+    private static final String GENERATED_CONTEXT_KEY = "emf.codegen.generated:";
+
+    /**
+     * Whether this execution leaves the JVM-global EPackage registry and URI map
+     * alone, so that it can run concurrently with other executions. Set by
+     * {@link EmfGenerateReactorMojo}.
+     */
+    private boolean isolated;
+
+    /**
+     * Reactor modules generated before this execution in the same pass, by
+     * groupId:artifactId. Their models are read from their output directory
+     * whether or not they are among the resolved dependencies. Set by
+     * {@link EmfGenerateReactorMojo}.
+     */
+    private final Map<String, MavenProject> upstreamProjects = new LinkedHashMap<>();
+
     /**
      * Registry mapping EPackage nsURI to GenPackage for dependency resolution.
      */
     private final Map<String, GenPackage> genPackageRegistry = new HashMap<>();
 
+    /**
+     * Packages of dependencies with a model manifest, registered by nsURI and
+     * loaded on first use.
+     */
+    private final Map<String, EPackage.Descriptor> manifestPackages = new HashMap<>();
+
+    /**
+     * Manifest of the packages generated in the current execution, written
+     * into {@code target/classes/model} once the model files are copied.
+     */
+    private ModelManifest modelManifest;
+
+    /**
+     * Resource holding the external GenModel (referenced packages) created in
+     * Ecore mode. Kept in memory during generation and persisted next to the main
+     * genmodel in {@link #saveGenModelToResources}.
+     */
+    private Resource externalGenModelResource;
+
     /**
      * Effective ecore path for @EPackage annotation (computed in runGenerator).
      */
@@ -159,6 +215,9 @@ public class EmfGenerateMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
     private MavenProject project;
 
+    @Parameter(defaultValue = "${session}", readonly = true, required = true)
+    private MavenSession session;
+
     /**
      * All projects in the reactor (for resolving reactor dependencies before they
      * are packaged).
@@ -166,6 +225,13 @@ public class EmfGenerateMojo extends AbstractMojo {
     @Parameter(defaultValue = "${reactorProjects}", readonly = true)
     private List<MavenProject> reactorProjects;
 
+    /**
+     * Build context of the IDE in m2e incremental builds, writing plain files
+     * on the command line.
+     */
+    @Component
+    private BuildContext buildContext;
+
     // ========== Input File Parameters ==========
 
     /**
@@ -190,6 +256,17 @@ public class EmfGenerateMojo extends AbstractMojo {
     @Parameter(property = "emf.outputDirectory", defaultValue = "target/generated-sources/emf")
     private String outputDirectory;
 
+    /**
+     * Additional outputs generated in the same execution from the model loaded
+     * for the main output, e.g. a variant without OSGi support for plain Java
+     * consumers. Each profile has its own output directory and may change the
+     * base package, osgiCompatible and suppressInterfaces. The generator passes
+     * of the profiles run concurrently with the main one, each on its own copy
+     * of the loaded models.
+     */
+    @Parameter
+    private List<OutputProfile> outputProfiles;
+
     // ========== GenModel Configuration (for Ecore mode) ==========
 
     /**
@@ -213,8 +290,10 @@ public class EmfGenerateMojo extends AbstractMojo {
     private String fileExtension;
 
     /**
-     * Resource type for model resources (XMI, XML, BASIC, NONE). Determines whether
-     * a ResourceFactory is generated.
+     * Resource type for model resources (XMI, XML, BASIC, BINARY, NONE), case
+     * insensitive. Determines whether a ResourceFactory is generated. BINARY
+     * generates a resource extending EMF's {@code BinaryResourceImpl} with
+     * default options for the compact binary format.
      */
     @Parameter(property = "emf.resource")
     private String resource;
@@ -273,14 +352,309 @@ public class EmfGenerateMojo extends AbstractMojo {
     @Parameter(property = "emf.copyrightText")
     private String copyrightText;
 
+    /**
+     * Whether to split the package initialization methods of generated
+     * {@code XxxPackageImpl} classes into bounded-size chunks, so that they stay
+     * below the JIT huge method limit. Can also be enabled with the
+     * {@code splitPackageInitialization} GenModel annotation.
+     */
+    @Parameter(property = "emf.splitPackageInitialization", defaultValue = "false")
+    private boolean splitPackageInitialization;
+
+    /**
+     * Upper bound for the estimated bytecode size (in bytes) of each chunk when
+     * splitting package initialization methods. Must stay below HotSpot's
+     * 8000 byte huge method limit.
+     */
+    @Parameter(property = "emf.maxInitializationMethodSize", defaultValue = "6000")
+    private int maxInitializationMethodSize;
+
+    /**
+     * Whether generated packages defer loading their contents until the
+     * classifiers are first accessed, instead of initializing the whole package
+     * when {@code XxxPackage.eINSTANCE} is accessed. Implies
+     * {@code loadInitialization}. Can also be enabled with the
+     * {@code lazyPackageInitialization} GenModel annotation.
+     */
+    @Parameter(property = "emf.lazyPackageInitialization", defaultValue = "false")
+    private boolean lazyPackageInitialization;
+
+    /**
+     * Whether the OSGi configuration components register the {@code EPackage}
+     * service through a generated service factory, so bundle activation does
+     * not initialize the package and its contents are loaded on the first use
+     * of the service. Implies {@code lazyPackageInitialization}; has no effect
+     * without {@code osgiCompatible}. Can also be enabled with the
+     * {@code deferredRegistration} GenModel annotation.
+     */
+    @Parameter(property = "emf.deferredRegistration", defaultValue = "false")
+    private boolean deferredRegistration;
+
+    /**
+     * Whether multi-valued {@code EInt}, {@code ELong}, {@code EFloat} and
+     * {@code EDouble} attributes of generated classes store their values in
+     * primitive arrays instead of boxed {@code EDataTypeEList}s. Can also be
+     * enabled with the {@code primitiveLists} GenModel annotation.
+     */
+    @Parameter(property = "emf.primitiveLists", defaultValue = "false")
+    private boolean primitiveLists;
+
+    /**
+     * Whether generated classes use the compact storage layout: instead of one
+     * field per structural feature, the values of the features that are set are
+     * kept in a single array (EMF virtual feature delegation). Intended for
+     * sparse classes whose instances leave most features at their defaults.
+     * Can be selected per package or per EClass with the {@code compactLayout}
+     * GenModel annotation; an EClass annotation overrides the package setting.
+     */
+    @Parameter(property = "emf.compactLayout", defaultValue = "false")
+    private boolean compactLayout;
+
+    /**
+     * Whether generated classes keep their feature values in an off-heap
+     * columnar {@code EStore} instead of fields. The selected classes are
+     * generated with reflective feature delegation on top of a generated
+     * {@code OffHeapEObjectImpl}, and the store ({@code OffHeapEStore}) is
+     * generated next to it. Can be selected per package or per EClass with the
+     * {@code offHeapStore} GenModel annotation; an EClass annotation overrides
+     * the package setting. Takes precedence over {@code compactLayout}.
+     */
+    @Parameter(property = "emf.offHeapStore", defaultValue = "false")
+    private boolean offHeapStore;
+
+    /**
+     * Whether immutable snapshot records are generated for the classes of each
+     * package, together with a {@code snapshot(EObject)} converter in
+     * {@code util/<Prefix>Snapshots}. Can also be enabled with the
+     * {@code snapshots} GenModel annotation.
+     */
+    @Parameter(property = "emf.snapshots", defaultValue = "false")
+    private boolean snapshots;
+
+    /**
+     * Whether hash indexes are generated for looking up objects by the
+     * {@code eIDAttribute} of their class and by attributes with the
+     * {@code indexed} GenModel annotation. The index of each package is an
+     * adapter in {@code util/<Prefix>IdIndex} that is kept up to date as the
+     * model changes. Can also be enabled with the {@code idIndexes} GenModel
+     * annotation.
+     */
+    @Parameter(property = "emf.idIndexes", defaultValue = "false")
+    private boolean idIndexes;
+
+    /**
+     * Whether an inverse-reference index is generated for the non-containment
+     * references without an opposite. Referenced objects keep their referrers,
+     * updated by the generated setters and reference lists, and
+     * {@code util/<Prefix>InverseIndex} provides the lookups. Can also be
+     * enabled with the {@code inverseReferences} GenModel annotation.
+     */
+    @Parameter(property = "emf.inverseReferences", defaultValue = "false")
+    private boolean inverseReferences;
+
+    /**
+     * Whether a StAX based XMI reader and writer specialized for each package
+     * are generated in {@code util/<Prefix>XmiReader} and
+     * {@code util/<Prefix>XmiWriter}. They map element and attribute names by
+     * generated switches and set values through the generated setters; an XMI
+     * resource of the package uses them when loaded or saved without options.
+     * Can also be enabled with the {@code streamingXmi} GenModel annotation.
+     */
+    @Parameter(property = "emf.streamingXmi", defaultValue = "false")
+    private boolean streamingXmi;
+
+    /**
+     * Number of literals above which generated enums look up their literals by
+     * name and by literal in hash tables instead of searching them linearly.
+     * {@code 0} keeps the linear search for all enums. Can also be set with the
+     * {@code enumLookupThreshold} GenModel annotation on an EPackage or an
+     * EEnum, the EEnum annotation taking precedence.
+     */
+    @Parameter(property = "emf.enumLookupThreshold", defaultValue = "0")
+    private int enumLookupThreshold;
+
+    /**
+     * Whether generated classes are built without change notification, for
+     * models that are built and read without adapters. Setters then assign
+     * the field without checking {@code eNotificationRequired()} or creating
+     * notifications, and attributes and plain references use lists that
+     * neither notify nor check uniqueness; containment, opposite and proxy
+     * resolution are still maintained by the EMF lists. Sets
+     * {@code suppressNotification} of the GenModel, so in GenModel mode it
+     * applies to all its packages. Can also be enabled with the
+     * {@code suppressNotification} GenModel annotation; in GenModel mode the
+     * annotation is only applied if all packages of the GenModel have it.
+     */
+    @Parameter(property = "emf.suppressNotification", defaultValue = "false")
+    private boolean suppressNotification;
+
+    /**
+     * Whether builders for building large models in bulk are generated in
+     * {@code util/<Prefix>Builders}, one per concrete EClass. They size lists
+     * for an expected number of values and add values without the uniqueness
+     * check, a collection at once. Can also be enabled with the
+     * {@code builders} GenModel annotation.
+     */
+    @Parameter(property = "emf.builders", defaultValue = "false")
+    private boolean builders;
+
+    /**
+     * Whether a binary codec laid out by the schema of the package is
+     * generated in {@code util/<Prefix>Codec}. Its messages store the
+     * features of an object at offsets, so single values can be read through
+     * the generated views without decoding the message. Can also be enabled
+     * with the {@code binaryCodec} GenModel annotation.
+     */
+    @Parameter(property = "emf.binaryCodec", defaultValue = "false")
+    private boolean binaryCodec;
+
+    /**
+     * Whether generated files left unchanged since the last generation are
+     * written without JMerge. An index in {@code target/emf-codegen}, written
+     * by every generation, records the hash of every generated file and which
+     * files contain {@code @generated NOT} members; files that still match
+     * their hash and have no such member are replaced instead of merged, all
+     * others are merged as usual. The replaced files are moved aside during
+     * the generation and moved back if it fails.
+     */
+    @Parameter(property = "emf.skipUnmodifiedMerge", defaultValue = "false")
+    private boolean skipUnmodifiedMerge;
+
+    /**
+     * Whether generation is skipped when its inputs did not change since the
+     * last generation: the model files, the configuration and, of the
+     * dependencies, only the API fingerprints published in their model
+     * manifests. A documentation change in a dependency then does not
+     * regenerate this module.
+     */
+    @Parameter(property = "emf.upToDateCheck", defaultValue = "true")
+    private boolean upToDateCheck;
+
+    /**
+     * Whether the generator run is split into partitions generated
+     * concurrently: each top-level package with its own classifiers, and each
+     * of its direct sub-packages with all packages nested below. Each partition
+     * runs on its own copy of the models, so that references between the
+     * partitions resolve as in a single run; N partitions hold N copies of the
+     * model and the dependencies it uses. Worthwhile for large models with
+     * several sub-packages.
+     */
+    @Parameter(property = "emf.partitionedGeneration", defaultValue = "false")
+    private boolean partitionedGeneration;
+
+    /**
+     * Maximum number of partitions generated at the same time, {@code 0} for
+     * one per processor.
+     */
+    @Parameter(property = "emf.partitionThreads", defaultValue = "0")
+    private int partitionThreads;
+
+    // ========== Performance Budgets ==========
+
+    /**
+     * Time budgets in milliseconds per generation phase: {@code load} (reading
+     * and resolving the models), {@code generate} (the generator run),
+     * {@code postProcess} and {@code resources} (model files and manifest),
+     * e.g. {@code <generate>30000</generate>}.
+     */
+    @Parameter
+    private Map<String, String> timeBudgets;
+
+    /**
+     * Peak heap budgets in megabytes per generation phase, with the phases of
+     * {@link #timeBudgets}. The heap is shared by the whole JVM, so heap
+     * budgets and the heap of the baseline are not checked for modules that
+     * {@code generate-reactor} generates in parallel.
+     */
+    @Parameter
+    private Map<String, String> heapBudgets;
+
+    /**
+     * Phase report of an earlier generation to compare with, in the format of
+     * the report written to {@code target/emf-codegen/*.performance} by every
+     * generation. A phase taking more time or heap than the baseline plus
+     * {@link #baselineTolerance} exceeds its budget.
+     */
+    @Parameter(property = "emf.performanceBaseline")
+    private File performanceBaseline;
+
+    /**
+     * Percentage by which a phase may exceed the baseline.
+     */
+    @Parameter(property = "emf.baselineTolerance", defaultValue = "25")
+    private int baselineTolerance;
+
+    /**
+     * What to do when a budget is exceeded: {@code warn} or {@code fail}.
+     */
+    @Parameter(property = "emf.budgetAction", defaultValue = "warn")
+    private String budgetAction;
+
+    /**
+     * The generators and rewriters enabled for the current generation (from the
+     * Maven parameters or the GenModel annotations).
+     */
+    private GenerationOptions generationOptions = GenerationOptions.NONE;
+
+    /**
+     * Packages whose generated resource uses the binary format in the current
+     * generation (from the Maven parameter or the GenModel annotation).
+     */
+    private final List<GenPackage> binaryGenPackages = new ArrayList<>();
+
+    /**
+     * Index of the files generated by the last run, loaded in
+     * {@link #runGenerator} and updated once the sources are post-processed.
+     */
+    private GeneratedFileIndex generatedFileIndex;
+
+    /**
+     * Time JMerge spent parsing in the current generator run, and the number of
+     * files it merged.
+     */
+    private long mergeParseNanos;
+    private long mergedFiles;
+
+    /**
+     * Classes generated with the compact storage layout in the current
+     * generation.
+     */
+    private final List<GenClass> compactGenClasses = new ArrayList<>();
+
+    /**
+     * Classes generated with the off-heap store in the current generation.
+     */
+    private final List<GenClass> offHeapGenClasses = new ArrayList<>();
+
+    /**
+     * Enums generated with hash lookup tables in the current generation.
+     */
+    private final List<GenEnum> lookupGenEnums = new ArrayList<>();
+
+    /**
+     * Output directories of the profiles generated in the current generation,
+     * post-processed after the main output.
+     */
+    private final List<ProfileOutput> profileOutputs = new ArrayList<>();
+
     /**
      * Tracks whether loadInitialization is enabled for the current generation.
      * When true, the generated *.ecore files need to be on the classpath at runtime.
      */
     private boolean loadInitializationEnabled = false;
 
+    /**
+     * Time and heap of the phases of the current generation.
+     */
+    private GenerationMetrics metrics = new GenerationMetrics();
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
+        if (project.getContextValue(generatedContextKey(getOutputDirectory())) != null) {
+            getLog().info("Sources in " + getOutputDirectory() + " already generated by the reactor plan");
+            return;
+        }
+
         // Determine which mode to use
         boolean useGenmodel = genmodelFile != null && genmodelFile.exists();
         boolean useEcore = ecoreFile != null && ecoreFile.exists();
@@ -297,34 +671,110 @@ public class EmfGenerateMojo extends AbstractMojo {
                     + "Use <genmodelFile> for existing GenModel files or <ecoreFile> for Ecore files.");
         }
 
+        validateOutputProfiles();
+
         File baseDir = project.getBasedir();
         File outputDir = new File(baseDir, outputDirectory);
         outputDir.mkdirs();
 
-        Optional<String> error;
-        if (useGenmodel) {
-            getLog().info("EMF Code Generator - Using GenModel mode");
-            getLog().info("  GenModel: " + genmodelFile);
-            error = generateFromGenmodel(baseDir);
-        } else {
-            getLog().info("EMF Code Generator - Using Ecore mode");
-            getLog().info("  Ecore: " + ecoreFile);
-            error = generateFromEcore(baseDir);
+        File modelFile = useGenmodel ? genmodelFile : ecoreFile;
+        String dependencyFingerprint = dependencyFingerprint();
+        java.util.Properties inputState = buildContext.isIncremental() ? readInputState() : null;
+        if (inputState != null && dependencyFingerprint != null
+                && dependencyFingerprint.equals(inputState.getProperty("dependencies"))
+                && !buildContext.hasDelta(modelFile.getParentFile()) && hasRecordedOutput()) {
+            getLog().info("No model file and no model of a dependency changed, keeping the generated sources in "
+                    + outputDir);
+            loadInitializationEnabled = Boolean.parseBoolean(inputState.getProperty("loadInitialization"));
+            addGeneratedSources(outputDir);
+            return;
+        }
+
+        String inputFingerprint = upToDateCheck && dependencyFingerprint != null
+                ? inputFingerprint(dependencyFingerprint)
+                : null;
+        if (inputFingerprint != null && isUpToDate(inputFingerprint)) {
+            getLog().info("Generated sources in " + outputDir + " are up to date, the models and the API of"
+                    + " their dependencies did not change");
+            addGeneratedSources(outputDir);
+            return;
+        }
+
+        buildContext.removeMessages(modelFile);
+        Map<String, OutputFile> previousOutput = buildContext.isIncremental() ? snapshotOutput(outputDir) : null;
+
+        metrics = new GenerationMetrics();
+        metrics.start("load");
+        generatedFileIndex = null;
+        profileOutputs.clear();
+        Optional<String> error = Optional.empty();
+        boolean generated = false;
+        try {
+            if (useGenmodel) {
+                getLog().info("EMF Code Generator - Using GenModel mode");
+                getLog().info("  GenModel: " + genmodelFile);
+                error = generateFromGenmodel(baseDir);
+            } else {
+                getLog().info("EMF Code Generator - Using Ecore mode");
+                getLog().info("  Ecore: " + ecoreFile);
+                error = generateFromEcore(baseDir);
+            }
+            generated = error.isEmpty();
+        } finally {
+            finishUnmodifiedFiles(outputDir, generated);
         }
 
         if (error.isPresent()) {
+            buildContext.addMessage(modelFile, 0, 0, error.get(), BuildContext.SEVERITY_ERROR, null);
             throw new MojoFailureException(error.get());
         }
 
         // Post-process generated sources (fix annotations and paths)
-        postProcessGeneratedSources(outputDir);
+        metrics.start("postProcess");
+        postProcessGeneratedSources(outputDir, lookupGenEnums.stream().map(GenEnum::getQualifiedName).toList());
+        updateGeneratedFileIndex(generatedFileIndex, outputDir, mergeParseNanos, mergedFiles);
+        generatedFileIndex = null;
+        if (previousOutput != null) {
+            publishChangedFiles(outputDir, previousOutput);
+        }
+        for (ProfileOutput profileOutput : profileOutputs) {
+            postProcessGeneratedSources(profileOutput.directory, profileOutput.lookupEnums);
+            updateGeneratedFileIndex(profileOutput.index, profileOutput.directory, profileOutput.parseNanos,
+                    profileOutput.mergedFiles);
+            if (profileOutput.previousOutput != null) {
+                publishChangedFiles(profileOutput.directory, profileOutput.previousOutput);
+            }
+        }
+        profileOutputs.clear();
+
+        addGeneratedSources(outputDir);
+
+        // Copy model files (ecore, genmodel) to target/classes for JAR inclusion
+        metrics.start("resources");
+        copyModelFilesToTarget();
+        writeModelManifest();
+        writeInputState(inputFingerprint, dependencyFingerprint);
+        metrics.finish();
+        checkPerformanceBudgets();
+    }
 
+    /**
+     * Adds the output directory to the compile source roots, and as resource
+     * directory for the generated *.ecore files when loadInitialization is
+     * enabled, since they need to be on the classpath at runtime.
+     */
+    private void addGeneratedSources(File outputDir) {
         project.addCompileSourceRoot(outputDir.getAbsolutePath());
         getLog().info("Added " + outputDir.getAbsolutePath() + " to compile source roots");
+        for (OutputProfile profile : getOutputProfiles()) {
+            if (profile.isAddCompileSourceRoot()) {
+                File profileDir = new File(project.getBasedir(), profile.getOutputDirectory());
+                project.addCompileSourceRoot(profileDir.getAbsolutePath());
+                getLog().info("Added " + profileDir.getAbsolutePath() + " to compile source roots (profile "
+                        + profile.getId() + ")");
+            }
+        }
 
-        // When loadInitialization is enabled, the generated *.ecore files in the impl
-        // directory need to be on the classpath at runtime. Add the output directory
-        // as a resource directory with includes for *.ecore files.
         if (loadInitializationEnabled) {
             org.apache.maven.model.Resource resource = new org.apache.maven.model.Resource();
             resource.setDirectory(outputDir.getAbsolutePath());
@@ -332,9 +782,99 @@ public class EmfGenerateMojo extends AbstractMojo {
             project.addResource(resource);
             getLog().info("Added " + outputDir.getAbsolutePath() + " as resource directory for *.ecore files (loadInitialization=true)");
         }
+    }
 
-        // Copy model files (ecore, genmodel) to target/classes for JAR inclusion
-        copyModelFilesToTarget();
+    // ==================== Reactor Plan ====================
+
+    /**
+     * Returns the project context key marking the output directory as
+     * generated.
+     */
+    static String generatedContextKey(File outputDir) {
+        return GENERATED_CONTEXT_KEY + outputDir.getAbsolutePath();
+    }
+
+    /**
+     * Makes this execution keep all registrations in its own ResourceSet.
+     */
+    void setIsolated(boolean isolated) {
+        this.isolated = isolated;
+    }
+
+    /**
+     * Sets the reactor modules generated before this execution, whose models
+     * are read from their output directory.
+     */
+    void setUpstreamProjects(Collection<MavenProject> projects) {
+        upstreamProjects.clear();
+        for (MavenProject upstream : projects) {
+            upstreamProjects.put(upstream.getGroupId() + ":" + upstream.getArtifactId(), upstream);
+        }
+    }
+
+    /**
+     * Returns the reactor modules among the dependencies by
+     * groupId:artifactId: the upstream modules of the reactor plan, then the
+     * resolved dependencies that are part of the reactor. Their models are read
+     * from their output directory, never from an artifact in the local
+     * repository that may be older.
+     */
+    private Map<String, MavenProject> reactorDependencies() {
+        Map<String, MavenProject> reactorProjectMap = new HashMap<>();
+        if (reactorProjects != null) {
+            for (MavenProject reactorProject : reactorProjects) {
+                reactorProjectMap.put(reactorProject.getGroupId() + ":" + reactorProject.getArtifactId(),
+                        reactorProject);
+            }
+        }
+        Map<String, MavenProject> result = new LinkedHashMap<>(upstreamProjects);
+        for (Artifact artifact : project.getArtifacts()) {
+            String key = artifact.getGroupId() + ":" + artifact.getArtifactId();
+            MavenProject reactorProject = reactorProjectMap.get(key);
+            if (reactorProject != null) {
+                result.putIfAbsent(key, reactorProject);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the resolved dependencies that are not reactor modules.
+     */
+    private List<Artifact> externalDependencies(Map<String, MavenProject> reactorDependencies) {
+        Set<String> reactorKeys = new HashSet<>(reactorDependencies.keySet());
+        if (reactorProjects != null) {
+            for (MavenProject reactorProject : reactorProjects) {
+                reactorKeys.add(reactorProject.getGroupId() + ":" + reactorProject.getArtifactId());
+            }
+        }
+        List<Artifact> result = new ArrayList<>();
+        for (Artifact artifact : project.getArtifacts()) {
+            if (!reactorKeys.contains(artifact.getGroupId() + ":" + artifact.getArtifactId())) {
+                result.add(artifact);
+            }
+        }
+        return result;
+    }
+
+    MavenProject getProject() {
+        return project;
+    }
+
+    File getOutputDirectory() {
+        return new File(project.getBasedir(), outputDirectory);
+    }
+
+    /**
+     * Returns the Ecore files of the model, the configured one in Ecore mode or
+     * those next to the GenModel in GenModel mode.
+     */
+    List<File> getEcoreFiles() {
+        if (genmodelFile != null && genmodelFile.exists()) {
+            File[] files = genmodelFile.getParentFile().listFiles((dir, name) -> name.endsWith(".ecore"));
+            return files != null ? List.of(files) : List.of();
+        }
+        return ecoreFile != null && ecoreFile.exists() ? List.of(ecoreFile) : List.of();
     }
 
     // ==================== GenModel Mode ====================
@@ -361,6 +901,52 @@ public class EmfGenerateMojo extends AbstractMojo {
             getLog().info("Resolving all models");
             EcoreUtil.resolveAll(genModel);
 
+            List<String> suppressingPackages = new ArrayList<>();
+            List<String> notifyingPackages = new ArrayList<>();
+            for (GenPackage genPackage : genModel.getGenPackages()) {
+                EPackage ePackage = genPackage.getEcorePackage();
+                if (ePackage != null && getGenModelAnnotationBoolean(ePackage, "suppressNotification", false)) {
+                    suppressingPackages.add(ePackage.getName());
+                } else if (ePackage != null) {
+                    notifyingPackages.add(ePackage.getName());
+                }
+            }
+            // Notification is suppressed for the whole GenModel, so the annotation only applies if all packages agree
+            if (suppressNotification || (!suppressingPackages.isEmpty() && notifyingPackages.isEmpty())) {
+                genModel.setSuppressNotification(true);
+            } else if (!suppressingPackages.isEmpty()) {
+                getLog().warn("Ignoring the suppressNotification annotation of " + suppressingPackages
+                        + ": it applies to the whole GenModel, but " + notifyingPackages + " do not have it");
+            }
+            generationOptions = resolveGenerationOptions(genModel.getGenPackages().stream()
+                    .map(GenPackage::getEcorePackage).filter(ePackage -> ePackage != null).toList(),
+                    genModel.isOSGiCompatible());
+            binaryGenPackages.clear();
+            for (GenPackage genPackage : genModel.getGenPackages()) {
+                EPackage ePackage = genPackage.getEcorePackage();
+                if (BINARY_RESOURCE.equalsIgnoreCase(this.resource) || (ePackage != null
+                        && BINARY_RESOURCE.equalsIgnoreCase(getGenModelAnnotation(ePackage, "resource")))) {
+                    genPackage.setResource(org.eclipse.emf.codegen.ecore.genmodel.GenResourceKind.BASIC_LITERAL);
+                    binaryGenPackages.add(genPackage);
+                }
+            }
+            compactGenClasses.clear();
+            offHeapGenClasses.clear();
+            for (GenPackage genPackage : genModel.getGenPackages()) {
+                collectGenClasses(genPackage, "compactLayout", compactLayout, compactGenClasses);
+                collectGenClasses(genPackage, "offHeapStore", offHeapStore, offHeapGenClasses);
+            }
+            lookupGenEnums.clear();
+            for (GenPackage genPackage : genModel.getGenPackages()) {
+                collectLookupGenEnums(genPackage, enumLookupThreshold);
+            }
+            if (generationOptions.lazyPackageInitialization()) {
+                // Lazy initialization materializes the contents from the serialized package
+                genModel.getGenPackages().forEach(genPackage -> genPackage.setLoadInitialization(true));
+                loadInitializationEnabled = true;
+                getLog().info("Setting loadInitialization: true (lazyPackageInitialization)");
+            }
+
             // Add usedGenPackages from dependencies based on referenced external packages
             addUsedGenPackagesFromDependencies(genModel);
 
@@ -376,10 +962,12 @@ public class EmfGenerateMojo extends AbstractMojo {
             getLog().info("Setting modelDirectory: " + modelDirectory);
             genModel.setModelDirectory(modelDirectory);
 
+            modelManifest = ModelManifest.of(genModel.getGenPackages(), MODEL_FOLDER);
             return runGenerator(genModel);
         } finally {
             resourceSet.getResources().forEach(Resource::unload);
             resourceSet.getResources().clear();
+            externalGenModelResource = null;
         }
     }
 
@@ -393,6 +981,7 @@ public class EmfGenerateMojo extends AbstractMojo {
         try {
             configureEMF(resourceSet);
             setupURIMapping(resourceSet, baseDir, projectName);
+            setupDependencyURIMappings(resourceSet);
 
             URI ecoreUri = URI.createFileURI(ecoreFile.getAbsolutePath());
             getLog().info("Loading Ecore from: " + ecoreUri);
@@ -412,7 +1001,9 @@ public class EmfGenerateMojo extends AbstractMojo {
             EPackage ePackage = (EPackage) ecoreResource.getContents().get(0);
             getLog().info("Loaded EPackage: " + ePackage.getName() + " (" + ePackage.getNsURI() + ")");
 
+            binaryGenPackages.clear();
             GenModel genModel = createGenModel(ePackage, projectName, resourceSet);
+            generationOptions = resolveGenerationOptions(List.of(ePackage), genModel.isOSGiCompatible());
 
             getLog().info("Resolving all models");
             EcoreUtil.resolveAll(genModel);
@@ -433,8 +1024,11 @@ public class EmfGenerateMojo extends AbstractMojo {
             if (!genModel.getGenPackages().isEmpty()) {
                 GenPackage mainGenPackage = genModel.getGenPackages().get(0);
                 boolean loadInit = getGenModelAnnotationBoolean(ePackage, "loadInitialization", false);
-                mainGenPackage.setLoadInitialization(loadInit);
-                if (loadInit) {
+                mainGenPackage.setLoadInitialization(loadInit || generationOptions.lazyPackageInitialization());
+                if (generationOptions.lazyPackageInitialization()) {
+                    loadInitializationEnabled = true;
+                    getLog().info("Setting loadInitialization: true (lazyPackageInitialization)");
+                } else if (loadInit) {
                     loadInitializationEnabled = true;
                     getLog().info("Setting loadInitialization: true (from annotation)");
                 } else {
@@ -447,6 +1041,8 @@ public class EmfGenerateMojo extends AbstractMojo {
 
             // Save the GenModel to resources for inclusion in JAR
             saveGenModelToResources(genModel, ePackage);
+            modelManifest = ModelManifest.of(Collections.singletonList(genModel.getGenPackages().get(0)),
+                    MODEL_FOLDER);
 
             getLog().info("After saveGenModelToResources: getGenPackages=" + genModel.getGenPackages().size()
                     + " usedGenPackages=" + genModel.getUsedGenPackages().size());
@@ -490,6 +1086,7 @@ public class EmfGenerateMojo extends AbstractMojo {
         } finally {
             resourceSet.getResources().forEach(Resource::unload);
             resourceSet.getResources().clear();
+            externalGenModelResource = null;
         }
     }
 
@@ -499,21 +1096,42 @@ public class EmfGenerateMojo extends AbstractMojo {
         URI platformResourceURI = URI.createURI("platform:/resource/" + projectName + "/");
         URI fileURI = URI.createFileURI(baseDir.getAbsolutePath() + "/");
         resourceSet.getURIConverter().getURIMap().put(platformResourceURI, fileURI);
-        org.eclipse.emf.ecore.resource.URIConverter.URI_MAP.put(platformResourceURI, fileURI);
+        if (!isolated) {
+            org.eclipse.emf.ecore.resource.URIConverter.URI_MAP.put(platformResourceURI, fileURI);
+        }
         getLog().info("URI mapping: " + platformResourceURI + " -> " + fileURI);
     }
 
     private void setupDependencyURIMappings(ResourceSet resourceSet) {
+        // Reactor modules map to their output directory if they have written
+        // their models there, otherwise to their sources
+        Map<String, MavenProject> reactorDependencies = reactorDependencies();
+        for (MavenProject reactorProject : reactorDependencies.values()) {
+            File classesDir = new File(reactorProject.getBuild().getOutputDirectory());
+            File manifestFile = new File(classesDir, MODEL_FOLDER + "/" + ModelManifest.FILE_NAME);
+            setupURIMapping(resourceSet, manifestFile.isFile() ? classesDir : reactorProject.getBasedir(),
+                    reactorProject.getArtifactId());
+            File sourceModelDir = new File(reactorProject.getBasedir(), MODEL_FOLDER);
+            if (manifestFile.isFile() && sourceModelDir.isDirectory()) {
+                // Relative paths into the module's model directory resolve to
+                // the same resources as the manifest
+                URI sourceURI = URI.createFileURI(sourceModelDir.getAbsolutePath() + "/");
+                URI targetURI = URI.createFileURI(manifestFile.getParentFile().getAbsolutePath() + "/");
+                resourceSet.getURIConverter().getURIMap().put(sourceURI, targetURI);
+                getLog().info("URI mapping: " + sourceURI + " -> " + targetURI);
+            }
+        }
+
         // Set up URI mappings for Maven dependencies that contain model files
-        for (Artifact artifact : project.getArtifacts()) {
+        for (Artifact artifact : externalDependencies(reactorDependencies)) {
             File file = artifact.getFile();
             if (file != null && file.getName().endsWith(".jar")) {
                 String artifactId = artifact.getArtifactId();
                 try (JarFile jarFile = new JarFile(file)) {
-                    // Check if the JAR contains model files
+                    // Check if the JAR contains model files, a manifest saves scanning it
+                    boolean hasModels = jarFile.getJarEntry(MODEL_FOLDER + "/" + ModelManifest.FILE_NAME) != null;
                     Enumeration<JarEntry> entries = jarFile.entries();
-                    boolean hasModels = false;
-                    while (entries.hasMoreElements()) {
+                    while (!hasModels && entries.hasMoreElements()) {
                         JarEntry entry = entries.nextElement();
                         String name = entry.getName();
                         if (name.endsWith(".genmodel") || name.endsWith(".ecore")) {
@@ -529,7 +1147,9 @@ public class EmfGenerateMojo extends AbstractMojo {
                         URI platformURI = URI.createURI("platform:/resource/" + artifactId + "/");
                         URI jarURI = URI.createURI("jar:file:" + file.getAbsolutePath() + "!/");
                         resourceSet.getURIConverter().getURIMap().put(platformURI, jarURI);
-                        org.eclipse.emf.ecore.resource.URIConverter.URI_MAP.put(platformURI, jarURI);
+                        if (!isolated) {
+                            org.eclipse.emf.ecore.resource.URIConverter.URI_MAP.put(platformURI, jarURI);
+                        }
                         getLog().info("Dependency URI mapping: " + platformURI + " -> " + jarURI);
                     }
                 } catch (IOException e) {
@@ -570,10 +1190,59 @@ public class EmfGenerateMojo extends AbstractMojo {
         genModel.setCanGenerate(true);
         genModel.setUpdateClasspath(false);
 
+        if (!getOutputProfiles().isEmpty() && (!compactGenClasses.isEmpty() || !offHeapGenClasses.isEmpty())) {
+            return Optional.of("Output profiles cannot be combined with the compact layout or the off-heap store");
+        }
+
         getLog().info("Starting generator run");
+        java.util.concurrent.ExecutorService profileExecutor = null;
         try {
-            Diagnostic diagnostic = gen.generate(genModel, GenBaseGeneratorAdapter.MODEL_PROJECT_TYPE,
-                    CodeGenUtil.EclipseUtil.createMonitor(new MavenProgressMonitor(getLog()), 1));
+            metrics.start("generate");
+            profileOutputs.clear();
+            List<ProfilePass> profilePasses = new ArrayList<>();
+            for (OutputProfile profile : getOutputProfiles()) {
+                profilePasses.add(createProfilePass(genModel, profile, gen.getOptions().data));
+            }
+            int unmodifiedFiles = deleteUnmodifiedGeneratedFiles();
+            profileExecutor = profilePasses.isEmpty() ? null
+                    : java.util.concurrent.Executors.newFixedThreadPool(profilePasses.size());
+            List<java.util.concurrent.Future<Diagnostic>> profileResults = startProfilePasses(profilePasses,
+                    profileExecutor);
+            List<GenPackage> partitions = partitionedGeneration ? PartitionGenerator.partitions(genModel)
+                    : List.of();
+            Diagnostic diagnostic;
+            if (partitions.size() > 1) {
+                diagnostic = generatePartitions(genModel, partitions, gen.getOptions().data);
+            } else {
+                TimedFacadeHelper.reset();
+                diagnostic = gen.generate(genModel, GenBaseGeneratorAdapter.MODEL_PROJECT_TYPE,
+                        CodeGenUtil.EclipseUtil.createMonitor(new MavenProgressMonitor(getLog()), 1));
+                mergeParseNanos = TimedFacadeHelper.parseNanos();
+                mergedFiles = TimedFacadeHelper.parsedUnits() / 2;
+            }
+            reportMergeFastPath(generatedFileIndex, unmodifiedFiles, mergeParseNanos, mergedFiles);
+
+            if (!offHeapGenClasses.isEmpty()) {
+                addOffHeapSubclasses(genModel);
+                for (GenClass genClass : offHeapGenClasses) {
+                    if (compactGenClasses.remove(genClass)) {
+                        getLog().warn("Not using compact layout for " + genClass.getName()
+                                + ", it uses the off-heap store");
+                    }
+                }
+            }
+            if (!compactGenClasses.isEmpty()) {
+                diagnostic = regenerateClasses(gen, genModel, compactGenClasses, GenDelegationKind.VIRTUAL_LITERAL,
+                        null, "compact layout", diagnostic);
+            }
+            if (!offHeapGenClasses.isEmpty()) {
+                diagnostic = regenerateClasses(gen, genModel, offHeapGenClasses,
+                        GenDelegationKind.REFLECTIVE_LITERAL, offHeapSupportPackage() + "."
+                                + OffHeapStoreGenerator.OBJECT_CLASS, "off-heap store", diagnostic);
+            }
+
+            runAdditionalGenerators(genModel, new File(project.getBasedir(), outputDirectory).toPath());
+            diagnostic = finishProfilePasses(profileResults, diagnostic);
 
             getLog().info("Generation diagnostic severity: " + diagnostic.getSeverity());
             printDiagnostic(diagnostic, "");
@@ -585,27 +1254,476 @@ public class EmfGenerateMojo extends AbstractMojo {
             String message = "Error during code generation: " + e.getMessage();
             getLog().error(message, e);
             return Optional.of(message);
+        } finally {
+            if (profileExecutor != null) {
+                awaitProfilePasses(profileExecutor);
+            }
         }
 
         return Optional.empty();
     }
 
-    private void configureEMF(ResourceSet resourceSet) {
-        GenModelPackageImpl.init();
-        GenModelFactoryImpl.init();
+    /**
+     * Runs the generators that complement the EMF generator on the generated
+     * model, writing into the given output directory.
+     */
+    private void runAdditionalGenerators(GenModel genModel, java.nio.file.Path outputPath) {
+        if (genModel.isSuppressNotification()) {
+            if (generationOptions.idIndexes()) {
+                getLog().warn("The ID indexes are adapters, they are not updated by classes generated"
+                        + " without notification");
+            }
+            new NotificationFreeListRewriter(getLog()).rewrite(genModel, outputPath);
+        }
+        if (generationOptions.inverseReferences()) {
+            new InverseReferenceGenerator(getLog()).generate(genModel, outputPath);
+        }
+        if (generationOptions.snapshots()) {
+            new SnapshotGenerator(getLog()).generate(genModel, outputPath);
+        }
+        if (generationOptions.idIndexes()) {
+            new IdIndexGenerator(getLog()).generate(genModel, outputPath);
+        }
+        if (generationOptions.streamingXmi()) {
+            new StreamingXmiGenerator(getLog()).generate(genModel, outputPath);
+        }
+        if (generationOptions.builders()) {
+            new BuilderGenerator(getLog()).generate(genModel, outputPath);
+        }
+        if (generationOptions.binaryCodec()) {
+            new BinaryCodecGenerator(getLog()).generate(genModel, outputPath);
+        }
+    }
 
-        // Clear the genPackageRegistry for a fresh run
-        genPackageRegistry.clear();
+    // ==================== Output Profiles ====================
 
-        // Drop nsURIs this plugin previously registered into the JVM-global
-        // EPackage.Registry.INSTANCE in earlier mojo invocations within the same
-        // Maven session. Without this, ResourceSetImpl#getPackageRegistry()'s
-        // delegation would report containsKey=true for those nsURIs, the local
-        // map would never be populated, and EMF cross-ref resolution would walk
+    private List<OutputProfile> getOutputProfiles() {
+        return outputProfiles != null ? outputProfiles : List.of();
+    }
+
+    /**
+     * Checks that every profile has an output directory of its own.
+     */
+    private void validateOutputProfiles() throws MojoFailureException {
+        if (getOutputProfiles().isEmpty()) {
+            return;
+        }
+        Set<String> directories = new HashSet<>();
+        directories.add(new File(project.getBasedir(), outputDirectory).getAbsolutePath());
+        for (OutputProfile profile : getOutputProfiles()) {
+            if (profile.getOutputDirectory() == null || profile.getOutputDirectory().isBlank()) {
+                throw new MojoFailureException("Output profile " + profile.getId() + " has no outputDirectory");
+            }
+            if (!directories.add(new File(project.getBasedir(), profile.getOutputDirectory()).getAbsolutePath())) {
+                throw new MojoFailureException("Output profile " + profile.getId() + " uses the output directory "
+                        + profile.getOutputDirectory() + " of another output");
+            }
+        }
+    }
+
+    /**
+     * The generator pass of a profile, on a copy of the loaded models with the
+     * settings of the profile applied.
+     */
+    private record ProfilePass(OutputProfile profile, GenModel genModel, Generator generator, File directory) {
+    }
+
+    /**
+     * An output directory of a profile with what its post-processing needs,
+     * derived from the copy of the models it was generated from.
+     */
+    private static final class ProfileOutput {
+        private final File directory;
+        private final List<String> lookupEnums;
+        private final Map<String, OutputFile> previousOutput;
+        private GeneratedFileIndex index;
+        private long parseNanos;
+        private long mergedFiles;
+
+        ProfileOutput(File directory, List<String> lookupEnums, Map<String, OutputFile> previousOutput) {
+            this.directory = directory;
+            this.lookupEnums = lookupEnums;
+            this.previousOutput = previousOutput;
+        }
+    }
+
+    /**
+     * Prepares the generator pass of a profile: copies the loaded models,
+     * applies the settings of the profile to the copy and configures a
+     * generator for it. The copy is made right away, before the main pass
+     * changes the models.
+     */
+    private ProfilePass createProfilePass(GenModel genModel, OutputProfile profile, Object[] data) {
+        GenModel copy = PartitionGenerator.isolatedCopy(genModel);
+        String profileDirectory = profile.getOutputDirectory();
+        copy.setModelDirectory("/" + project.getArtifactId() + (profileDirectory.startsWith("/") ? "" : "/")
+                + profileDirectory);
+        if (profile.getOsgiCompatible() != null) {
+            copy.setOSGiCompatible(profile.getOsgiCompatible());
+        }
+        if (profile.getSuppressInterfaces() != null) {
+            copy.setSuppressInterfaces(profile.getSuppressInterfaces());
+        }
+        if (profile.getBasePackage() != null) {
+            for (GenPackage genPackage : copy.getGenPackages()) {
+                rebasePackage(genPackage, genPackage.getBasePackage(), profile.getBasePackage());
+            }
+        }
+        copy.setCanGenerate(true);
+        copy.setUpdateClasspath(false);
+
+        Generator gen = new Generator();
+        configureGenerator(gen);
+        gen.setInput(copy);
+        gen.getOptions().data = data;
+        File profileDir = new File(project.getBasedir(), profileDirectory);
+        profileDir.mkdirs();
+        return new ProfilePass(profile, copy, gen, profileDir);
+    }
+
+    /**
+     * Starts the generator passes of the profiles, each on its own thread with
+     * its own copy of the models and its own generator, so that they run
+     * concurrently with each other and with the main pass. The generated file
+     * index and the snapshot of each output are taken before its pass starts,
+     * so that the unmodified files can be restored if the generation fails.
+     *
+     * @return the diagnostics of the passes, see
+     *         {@link #finishProfilePasses(List, Diagnostic)}
+     */
+    private List<java.util.concurrent.Future<Diagnostic>> startProfilePasses(List<ProfilePass> profilePasses,
+            java.util.concurrent.ExecutorService executor) throws MojoExecutionException {
+        List<java.util.concurrent.Future<Diagnostic>> results = new ArrayList<>();
+        for (ProfilePass pass : profilePasses) {
+            ProfileOutput output = new ProfileOutput(pass.directory(), lookupEnumNames(pass.genModel()),
+                    buildContext.isIncremental() ? snapshotOutput(pass.directory()) : null);
+            List<String> deleted = new ArrayList<>();
+            output.index = openGeneratedFileIndex(codegenStatePath(pass.profile().getOutputDirectory(), ".index"),
+                    pass.directory(), deleted);
+            profileOutputs.add(output);
+            results.add(executor.submit(() -> {
+                getLog().info("Generating output profile " + pass.profile().getId() + " into " + pass.directory());
+                TimedFacadeHelper.reset();
+                Diagnostic diagnostic = pass.generator().generate(pass.genModel(),
+                        GenBaseGeneratorAdapter.MODEL_PROJECT_TYPE,
+                        CodeGenUtil.EclipseUtil.createMonitor(new MavenProgressMonitor(getLog()), 1));
+                output.parseNanos = TimedFacadeHelper.parseNanos();
+                output.mergedFiles = TimedFacadeHelper.parsedUnits() / 2;
+                reportMergeFastPath(output.index, deleted.size(), output.parseNanos, output.mergedFiles);
+                if (diagnostic.getSeverity() != Diagnostic.ERROR) {
+                    runAdditionalGenerators(pass.genModel(), pass.directory().toPath());
+                }
+                return diagnostic;
+            }));
+        }
+        return results;
+    }
+
+    /**
+     * Waits for the generator passes of the profiles and adds their results
+     * to the diagnostic of the main pass.
+     */
+    private Diagnostic finishProfilePasses(List<java.util.concurrent.Future<Diagnostic>> profileResults,
+            Diagnostic diagnostic) throws InterruptedException {
+        if (profileResults.isEmpty()) {
+            return diagnostic;
+        }
+        BasicDiagnostic result = new BasicDiagnostic(Diagnostic.OK, getClass().getName(), 0,
+                "Generation with output profiles", null);
+        result.add(diagnostic);
+        for (java.util.concurrent.Future<Diagnostic> profileResult : profileResults) {
+            try {
+                result.add(profileResult.get());
+            } catch (java.util.concurrent.ExecutionException e) {
+                result.add(BasicDiagnostic.toDiagnostic(e.getCause()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Shuts the executor of the profile passes down and waits for passes still
+     * running, e.g. after the main pass failed, so that no pass writes into
+     * its output directory while the unmodified files are restored.
+     */
+    private void awaitProfilePasses(java.util.concurrent.ExecutorService executor) {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, java.util.concurrent.TimeUnit.MINUTES)) {
+                getLog().info("Waiting for the output profiles to finish");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the qualified names of the enums with lookup tables as generated
+     * from the GenModel, the one of the main output or a copy with the
+     * settings of a profile.
+     */
+    private List<String> lookupEnumNames(GenModel genModel) {
+        Set<String> keys = new HashSet<>();
+        for (GenEnum genEnum : lookupGenEnums) {
+            keys.add(enumKey(genEnum));
+        }
+        List<String> names = new ArrayList<>();
+        if (!keys.isEmpty()) {
+            for (GenPackage genPackage : genModel.getGenPackages()) {
+                collectEnumNames(genPackage, keys, names);
+            }
+        }
+        return names;
+    }
+
+    private static void collectEnumNames(GenPackage genPackage, Set<String> keys, List<String> names) {
+        for (GenEnum genEnum : genPackage.getGenEnums()) {
+            if (keys.contains(enumKey(genEnum))) {
+                names.add(genEnum.getQualifiedName());
+            }
+        }
+        for (GenPackage subPackage : genPackage.getSubGenPackages()) {
+            collectEnumNames(subPackage, keys, names);
+        }
+    }
+
+    private static String enumKey(GenEnum genEnum) {
+        return genEnum.getGenPackage().getNSURI() + "#" + genEnum.getName();
+    }
+
+    /**
+     * Moves a package and its nested packages from one base package to
+     * another.
+     */
+    private static void rebasePackage(GenPackage genPackage, String oldBase, String newBase) {
+        String base = genPackage.getBasePackage();
+        if (base != null && oldBase != null && (base.equals(oldBase) || base.startsWith(oldBase + "."))) {
+            genPackage.setBasePackage(newBase + base.substring(oldBase.length()));
+        } else if (genPackage.getSuperGenPackage() == null) {
+            genPackage.setBasePackage(newBase);
+        }
+        for (GenPackage subPackage : genPackage.getSubGenPackages()) {
+            rebasePackage(subPackage, oldBase, newBase);
+        }
+    }
+
+    /**
+     * Result of the generation of one partition.
+     */
+    private record PartitionResult(Diagnostic diagnostic, long parseNanos, long parsedUnits) {
+    }
+
+    /**
+     * Generates the partitions of the GenModel concurrently, each with its own
+     * generator on its own copy of the models. The copies are made one after
+     * the other before the generators start.
+     */
+    private Diagnostic generatePartitions(GenModel genModel, List<GenPackage> partitions, Object[] data)
+            throws InterruptedException {
+        List<java.util.concurrent.Callable<PartitionResult>> tasks = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            GenModel copy = PartitionGenerator.isolatedCopy(genModel);
+            GenPackage partition = findPartition(copy, partitions.get(i));
+            PartitionGenerator gen = new PartitionGenerator(partition, i == 0);
+            configureGenerator(gen);
+            gen.setInput(copy);
+            gen.getOptions().data = data;
+            copy.setCanGenerate(true);
+            copy.setUpdateClasspath(false);
+            tasks.add(() -> {
+                getLog().info("Generating partition " + partition.getQualifiedPackageName());
+                TimedFacadeHelper.reset();
+                Diagnostic diagnostic = gen.generate(copy, GenBaseGeneratorAdapter.MODEL_PROJECT_TYPE,
+                        CodeGenUtil.EclipseUtil.createMonitor(new MavenProgressMonitor(getLog()), 1));
+                return new PartitionResult(diagnostic, TimedFacadeHelper.parseNanos(),
+                        TimedFacadeHelper.parsedUnits());
+            });
+        }
+
+        int threads = Math.min(partitionThreads > 0 ? partitionThreads : Runtime.getRuntime().availableProcessors(),
+                tasks.size());
+        getLog().info("Generating " + tasks.size() + " partitions with " + threads + " thread(s)");
+        BasicDiagnostic result = new BasicDiagnostic(Diagnostic.OK, getClass().getName(), 0,
+                "Partitioned generation", null);
+        java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newFixedThreadPool(threads);
+        try {
+            long parsedUnits = 0;
+            for (java.util.concurrent.Future<PartitionResult> future : executor.invokeAll(tasks)) {
+                try {
+                    PartitionResult partitionResult = future.get();
+                    result.add(partitionResult.diagnostic());
+                    mergeParseNanos += partitionResult.parseNanos();
+                    parsedUnits += partitionResult.parsedUnits();
+                } catch (java.util.concurrent.ExecutionException e) {
+                    result.add(BasicDiagnostic.toDiagnostic(e.getCause()));
+                }
+            }
+            mergedFiles = parsedUnits / 2;
+        } finally {
+            executor.shutdown();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the package of the copied GenModel corresponding to a partition
+     * of the original one, found by its nsURI.
+     */
+    private static GenPackage findPartition(GenModel copy, GenPackage partition) {
+        String nsURI = partition.getNSURI();
+        for (GenPackage candidate : PartitionGenerator.partitions(copy)) {
+            if (nsURI.equals(candidate.getNSURI())) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Partition " + nsURI + " not found in the copied GenModel");
+    }
+
+    /**
+     * Regenerates the selected classes with another feature delegation, for
+     * the compact layout and the off-heap store. The superclasses of those
+     * classes are regenerated as well, since the topmost class declares the
+     * storage. The delegation kind and root class of the GenModel are restored
+     * afterwards.
+     *
+     * @param rootExtendsClass the class the topmost classes extend, or
+     *                         {@code null} to keep the configured root class
+     */
+    private Diagnostic regenerateClasses(Generator gen, GenModel genModel, List<GenClass> selected,
+            GenDelegationKind delegation, String rootExtendsClass, String layoutName, Diagnostic diagnostic) {
+        Set<GenClass> classes = new LinkedHashSet<>();
+        for (GenClass genClass : selected) {
+            List<GenClass> hierarchy = new ArrayList<>();
+            for (GenClass c = genClass; c != null; c = c.getClassExtendsGenClass()) {
+                if (c.getGenModel() != genModel) {
+                    getLog().warn("Not using " + layoutName + " for " + genClass.getName() + ", its superclass "
+                            + c.getName() + " is not generated from this model");
+                    hierarchy.clear();
+                    break;
+                }
+                hierarchy.add(c);
+            }
+            classes.addAll(hierarchy);
+        }
+
+        File outputDir = new File(project.getBasedir(), outputDirectory);
+        BasicDiagnostic result = new BasicDiagnostic(diagnostic.getSource(), diagnostic.getCode(),
+                diagnostic.getMessage(), null);
+        result.add(diagnostic);
+        GenDelegationKind featureDelegation = genModel.getFeatureDelegation();
+        String rootExtends = genModel.getRootExtendsClass();
+        genModel.setFeatureDelegation(delegation);
+        if (rootExtendsClass != null) {
+            genModel.setRootExtendsClass(rootExtendsClass);
+        }
+        try {
+            for (GenClass genClass : classes) {
+                // Regenerate from scratch, merging would keep the fields of the default layout
+                File implFile = new File(outputDir, genClass.getQualifiedClassName().replace('.', '/') + ".java");
+                if (implFile.delete()) {
+                    getLog().info("Using " + layoutName + " for " + genClass.getName());
+                }
+                result.add(gen.generate(genClass, GenBaseGeneratorAdapter.MODEL_PROJECT_TYPE,
+                        CodeGenUtil.EclipseUtil.createMonitor(new MavenProgressMonitor(getLog()), 1)));
+            }
+        } finally {
+            genModel.setFeatureDelegation(featureDelegation);
+            genModel.setRootExtendsClass(rootExtends);
+        }
+        return result;
+    }
+
+    /**
+     * Collects the classes of the GenPackage and its sub-packages for which the
+     * boolean annotation is enabled on the EClass, falling back to the
+     * annotation of its package and then to the inherited default.
+     */
+    private void collectGenClasses(GenPackage genPackage, String key, boolean inherited, List<GenClass> into) {
+        EPackage ePackage = genPackage.getEcorePackage();
+        boolean packageEnabled = ePackage != null ? getGenModelAnnotationBoolean(ePackage, key, inherited)
+                : inherited;
+        for (GenClass genClass : genPackage.getGenClasses()) {
+            if (!genClass.isInterface()
+                    && getGenModelAnnotationBoolean(genClass.getEcoreClass(), key, packageEnabled)) {
+                into.add(genClass);
+            }
+        }
+        for (GenPackage subPackage : genPackage.getSubGenPackages()) {
+            collectGenClasses(subPackage, key, packageEnabled, into);
+        }
+    }
+
+    /**
+     * Collects the enums of the GenPackage and its sub-packages with more
+     * literals than the {@code enumLookupThreshold} annotation of the EEnum,
+     * falling back to the annotation of its package and then to the inherited
+     * threshold.
+     */
+    private void collectLookupGenEnums(GenPackage genPackage, int inherited) {
+        EPackage ePackage = genPackage.getEcorePackage();
+        int packageThreshold = ePackage != null
+                ? getGenModelAnnotationInt(ePackage, "enumLookupThreshold", inherited)
+                : inherited;
+        for (GenEnum genEnum : genPackage.getGenEnums()) {
+            int threshold = getGenModelAnnotationInt(genEnum.getEcoreEnum(), "enumLookupThreshold",
+                    packageThreshold);
+            if (threshold > 0 && genEnum.getGenEnumLiterals().size() > threshold) {
+                lookupGenEnums.add(genEnum);
+            }
+        }
+        for (GenPackage subPackage : genPackage.getSubGenPackages()) {
+            collectLookupGenEnums(subPackage, packageThreshold);
+        }
+    }
+
+    /**
+     * Adds the subclasses of off-heap classes, which cannot keep fields on top
+     * of a superclass that delegates all features to the store.
+     */
+    private void addOffHeapSubclasses(GenModel genModel) {
+        for (GenPackage genPackage : genModel.getAllGenPackagesWithClassifiers()) {
+            for (GenClass genClass : genPackage.getGenClasses()) {
+                if (genClass.isInterface() || offHeapGenClasses.contains(genClass)) {
+                    continue;
+                }
+                for (GenClass c = genClass.getClassExtendsGenClass(); c != null; c = c.getClassExtendsGenClass()) {
+                    if (offHeapGenClasses.contains(c)) {
+                        getLog().info("Using off-heap store for " + genClass.getName() + ", it extends "
+                                + c.getName());
+                        offHeapGenClasses.add(genClass);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The package the off-heap store classes are generated into: the
+     * {@code impl} package of the first class using it.
+     */
+    private String offHeapSupportPackage() {
+        return offHeapGenClasses.get(0).getGenPackage().getClassPackageName();
+    }
+
+    private void configureEMF(ResourceSet resourceSet) {
+        GenModelPackageImpl.init();
+        GenModelFactoryImpl.init();
+
+        // Clear the genPackageRegistry for a fresh run
+        genPackageRegistry.clear();
+        manifestPackages.clear();
+
+        // Drop nsURIs this plugin previously registered into the JVM-global
+        // EPackage.Registry.INSTANCE in earlier mojo invocations within the same
+        // Maven session. Without this, ResourceSetImpl#getPackageRegistry()'s
+        // delegation would report containsKey=true for those nsURIs, the local
+        // map would never be populated, and EMF cross-ref resolution would walk
         // stale EClassifier instances detached from this module's resourceSet —
         // surfacing as findGenClassifier() == null deep inside codegen.
         synchronized (pluginRegisteredNsURIs) {
-            if (!pluginRegisteredNsURIs.isEmpty()) {
+            if (!isolated && !pluginRegisteredNsURIs.isEmpty()) {
                 getLog().info("Removing " + pluginRegisteredNsURIs.size()
                         + " stale nsURIs from EPackage.Registry.INSTANCE (from earlier mojo invocations in this JVM)");
                 for (String nsURI : pluginRegisteredNsURIs) {
@@ -634,6 +1752,10 @@ public class EmfGenerateMojo extends AbstractMojo {
         gen.getAdapterFactoryDescriptorRegistry().addDescriptor(GenModelPackage.eNS_URI,
                 BNDGeneratorAdapterFactory.DESCRIPTOR);
         getLog().info("Configured generator with Fennec adapter factory");
+        if (skipUnmodifiedMerge) {
+            // Same AST facade as the default, measuring the parse time of merges
+            gen.getOptions().mergerFacadeHelperClass = TimedFacadeHelper.class.getName();
+        }
     }
 
     /**
@@ -664,6 +1786,11 @@ public class EmfGenerateMojo extends AbstractMojo {
         Set<GenPackage> toAttach = new LinkedHashSet<>();
         for (String nsURI : referencedNsURIs) {
             GenPackage externalGenPackage = genPackageRegistry.get(nsURI);
+            if (externalGenPackage == null && manifestPackages.containsKey(nsURI)) {
+                // Not resolved through a reference yet, load it from the dependency now
+                manifestPackages.get(nsURI).getEPackage();
+                externalGenPackage = genPackageRegistry.get(nsURI);
+            }
             if (externalGenPackage != null) {
                 toAttach.add(rootGenPackage(externalGenPackage));
             } else {
@@ -777,6 +1904,8 @@ public class EmfGenerateMojo extends AbstractMojo {
                 || getGenModelAnnotationBoolean(ePackage, "suppressGenModelAnnotations", false));
         genModel.setPublicConstructors(
                 publicConstructors || getGenModelAnnotationBoolean(ePackage, "publicConstructors", false));
+        genModel.setSuppressNotification(
+                suppressNotification || getGenModelAnnotationBoolean(ePackage, "suppressNotification", false));
 
         // String options with fallback to annotations
         applyStringOption(genModel, ePackage, "rootExtendsClass", rootExtendsClass, genModel::setRootExtendsClass);
@@ -847,9 +1976,10 @@ public class EmfGenerateMojo extends AbstractMojo {
                     + refEPackage.getNsURI() + ") basePackage=" + refGenPackage.getBasePackage());
         }
         if (!externals.isEmpty()) {
-            // Move externals into a sibling GenModel stored in target/classes/model
-            // so the main genmodel's <usedGenPackages> hrefs resolve to a real file
-            // URI during subsequent code-generation.
+            // Move externals into a sibling GenModel held in memory. The main
+            // genmodel's <usedGenPackages> point at live objects in the same
+            // resourceSet, so no disk round-trip is needed during code generation;
+            // the file is written once in saveGenModelToResources.
             GenModel externalModel = GenModelFactory.eINSTANCE.createGenModel();
             externalModel.setModelName("External");
             // Inherit the main genmodel's complianceLevel. Without this, the new
@@ -860,28 +1990,13 @@ public class EmfGenerateMojo extends AbstractMojo {
             // generated enum class only has the modern "<NAME>" constant, so
             // consumer code fails to compile with "cannot find symbol PUBLIC_LITERAL".
             externalModel.setComplianceLevel(genModel.getComplianceLevel());
-            String ecoreName = ecoreFile.getName();
-            String baseName = ecoreName.endsWith(".ecore")
-                ? ecoreName.substring(0, ecoreName.length() - 6)
-                : ecoreName;
-            File extFile = new File(project.getBasedir(), "target/classes/" + MODEL_FOLDER
-                + "/" + baseName + "-external.genmodel");
-            extFile.getParentFile().mkdirs();
-            URI externalUri = URI.createFileURI(extFile.getAbsolutePath());
-            Resource externalResource = resourceSet.createResource(externalUri);
-            if (externalResource != null) {
-                externalResource.getContents().add(externalModel);
-            }
+            URI externalUri = SyntheticURIs.createURI(externalGenModelFileName());
+            externalGenModelResource = resourceSet.createResource(externalUri);
+            externalGenModelResource.getContents().add(externalModel);
             genModel.getGenPackages().removeAll(externals);
             externalModel.getGenPackages().addAll(externals);
             genModel.getUsedGenPackages().addAll(externals);
-            // Save the external genmodel to disk so hrefs resolve during codegen.
-            try {
-                externalResource.save(java.util.Collections.emptyMap());
-                getLog().info("Saved external GenModel to target/classes: " + extFile.getAbsolutePath());
-            } catch (java.io.IOException ioe) {
-                getLog().warn("Could not save external GenModel: " + ioe.getMessage());
-            }
+            getLog().info("Created external GenModel in memory: " + externalUri);
         }
 
         // Resolve all references in the GenModel
@@ -889,7 +2004,7 @@ public class EmfGenerateMojo extends AbstractMojo {
 
         // Create resource for GenModel with a synthetic URI
         // (not a platform URI that would map to the source model folder)
-        URI genModelUri = URI.createURI("synthetic:/" + ePackage.getName() + "-main.genmodel");
+        URI genModelUri = SyntheticURIs.createURI(ePackage.getName() + "-main.genmodel");
         Resource genModelResource = resourceSet.createResource(genModelUri);
         genModelResource.getContents().add(genModel);
 
@@ -923,11 +2038,21 @@ public class EmfGenerateMojo extends AbstractMojo {
             // resource type (XMI, XML, BASIC, NONE)
             String effectiveResource = getEffectiveValue(resource, () -> getGenModelAnnotation(ePackage, "resource"));
             if (effectiveResource != null && !effectiveResource.isEmpty()) {
-                org.eclipse.emf.codegen.ecore.genmodel.GenResourceKind resourceKind = org.eclipse.emf.codegen.ecore.genmodel.GenResourceKind
-                        .get(effectiveResource);
+                // The binary resource is generated from the basic kind and rewritten afterwards
+                boolean binaryResource = BINARY_RESOURCE.equalsIgnoreCase(effectiveResource);
+                if (binaryResource) {
+                    binaryGenPackages.add(mainGenPackage);
+                }
+                org.eclipse.emf.codegen.ecore.genmodel.GenResourceKind resourceKind = binaryResource
+                        ? org.eclipse.emf.codegen.ecore.genmodel.GenResourceKind.BASIC_LITERAL
+                        : org.eclipse.emf.codegen.ecore.genmodel.GenResourceKind.VALUES.stream()
+                                .filter(kind -> kind.getName().equalsIgnoreCase(effectiveResource))
+                                .findFirst().orElse(null);
                 if (resourceKind != null) {
                     mainGenPackage.setResource(resourceKind);
                     getLog().info("Using resource: " + effectiveResource);
+                } else {
+                    getLog().warn("Unknown resource type: " + effectiveResource);
                 }
             }
 
@@ -940,6 +2065,14 @@ public class EmfGenerateMojo extends AbstractMojo {
 
             // Note: loadInitialization is set later in generateFromEcore() right before saving
             // to prevent EMF from overriding it during EcoreUtil.resolveAll() calls
+
+            // compactLayout and offHeapStore (per package, overridable per EClass)
+            compactGenClasses.clear();
+            offHeapGenClasses.clear();
+            collectGenClasses(mainGenPackage, "compactLayout", compactLayout, compactGenClasses);
+            collectGenClasses(mainGenPackage, "offHeapStore", offHeapStore, offHeapGenClasses);
+            lookupGenEnums.clear();
+            collectLookupGenEnums(mainGenPackage, enumLookupThreshold);
         }
 
         return genModel;
@@ -994,8 +2127,8 @@ public class EmfGenerateMojo extends AbstractMojo {
         }
     }
 
-    private String getGenModelAnnotation(EPackage ePackage, String key) {
-        EAnnotation annotation = ePackage.getEAnnotation(GENMODEL_ANNOTATION_SOURCE);
+    private String getGenModelAnnotation(EModelElement element, String key) {
+        EAnnotation annotation = element.getEAnnotation(GENMODEL_ANNOTATION_SOURCE);
         if (annotation != null) {
             String value = annotation.getDetails().get(key);
             if (value != null && !value.isEmpty()) {
@@ -1005,14 +2138,62 @@ public class EmfGenerateMojo extends AbstractMojo {
         return null;
     }
 
-    private boolean getGenModelAnnotationBoolean(EPackage ePackage, String key, boolean defaultValue) {
-        String value = getGenModelAnnotation(ePackage, key);
+    private boolean getGenModelAnnotationBoolean(EModelElement element, String key, boolean defaultValue) {
+        String value = getGenModelAnnotation(element, key);
         if (value != null) {
             return Boolean.parseBoolean(value);
         }
         return defaultValue;
     }
 
+    /**
+     * Resolves the generators and rewriters to run: each is enabled by its Maven
+     * parameter or by its GenModel annotation on any of the given packages.
+     */
+    private GenerationOptions resolveGenerationOptions(List<EPackage> ePackages, boolean osgiCompatible) {
+        boolean deferredRegistration = isEnabled(this.deferredRegistration, ePackages, "deferredRegistration");
+        return new GenerationOptions(
+                isEnabled(splitPackageInitialization, ePackages, "splitPackageInitialization"),
+                // The package service can only be registered before initialization with lazy contents
+                isEnabled(lazyPackageInitialization, ePackages, "lazyPackageInitialization")
+                        || deferredRegistration && osgiCompatible,
+                deferredRegistration,
+                isEnabled(primitiveLists, ePackages, "primitiveLists"),
+                isEnabled(snapshots, ePackages, "snapshots"),
+                isEnabled(idIndexes, ePackages, "idIndexes"),
+                isEnabled(inverseReferences, ePackages, "inverseReferences"),
+                isEnabled(streamingXmi, ePackages, "streamingXmi"),
+                isEnabled(builders, ePackages, "builders"),
+                isEnabled(binaryCodec, ePackages, "binaryCodec"));
+    }
+
+    private boolean isEnabled(boolean parameter, List<EPackage> ePackages, String key) {
+        return parameter || ePackages.stream().anyMatch(ePackage -> getGenModelAnnotationBoolean(ePackage, key, false));
+    }
+
+    /**
+     * The generators and rewriters enabled for a generation.
+     */
+    private record GenerationOptions(boolean splitPackageInitialization, boolean lazyPackageInitialization,
+            boolean deferredRegistration, boolean primitiveLists, boolean snapshots, boolean idIndexes,
+            boolean inverseReferences, boolean streamingXmi, boolean builders, boolean binaryCodec) {
+
+        static final GenerationOptions NONE = new GenerationOptions(false, false, false, false, false, false, false,
+                false, false, false);
+    }
+
+    private int getGenModelAnnotationInt(EModelElement element, String key, int defaultValue) {
+        String value = getGenModelAnnotation(element, key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                getLog().warn("Ignoring GenModel annotation " + key + "=" + value + ", not a number");
+            }
+        }
+        return defaultValue;
+    }
+
     private Set<EPackage> findReferencedExternalPackages(EPackage ePackage) {
         Set<String> ownNsURIs = new HashSet<>();
         collectAllNsURIs(ePackage, ownNsURIs);
@@ -1220,7 +2401,13 @@ public class EmfGenerateMojo extends AbstractMojo {
             // gets the freshly loaded ePackage on first encounter. ResourceSet
             // PackageRegistry delegates to INSTANCE for misses, so subsequent
             // sessions would otherwise short-circuit on the stale INSTANCE entry.
-            if (!EPackage.Registry.INSTANCE.containsKey(nsURI)) {
+            if (isolated) {
+                // Concurrent executions only register into their own ResourceSet
+                if (!(resourceSet.getPackageRegistry().get(nsURI) instanceof EPackage)) {
+                    resourceSet.getPackageRegistry().put(nsURI, ePackage);
+                    getLog().info("Registered EPackage" + source + ": " + ePackage.getName() + " (" + nsURI + ")");
+                }
+            } else if (!EPackage.Registry.INSTANCE.containsKey(nsURI)) {
                 EPackage.Registry.INSTANCE.put(nsURI, ePackage);
                 pluginRegisteredNsURIs.add(nsURI);
                 resourceSet.getPackageRegistry().put(nsURI, ePackage);
@@ -1249,32 +2436,25 @@ public class EmfGenerateMojo extends AbstractMojo {
     }
 
     private void loadModelsFromDependencies(ResourceSet resourceSet) {
-        // Build a map of reactor projects by groupId:artifactId for quick lookup
-        Map<String, MavenProject> reactorProjectMap = new HashMap<>();
-        if (reactorProjects != null) {
-            for (MavenProject reactorProject : reactorProjects) {
-                String key = reactorProject.getGroupId() + ":" + reactorProject.getArtifactId();
-                reactorProjectMap.put(key, reactorProject);
-            }
-        }
-
         // Collect model files from all dependencies
         List<File> ecoreFiles = new ArrayList<>();
         List<File> genmodelFiles = new ArrayList<>();
 
-        for (Artifact artifact : project.getArtifacts()) {
-            String key = artifact.getGroupId() + ":" + artifact.getArtifactId();
-            MavenProject reactorProject = reactorProjectMap.get(key);
-
-            if (reactorProject != null) {
-                // Reactor dependency: scan source directories
+        Map<String, MavenProject> reactorDependencies = reactorDependencies();
+        for (MavenProject reactorProject : reactorDependencies.values()) {
+            // Reactor dependency: read its model manifest, otherwise scan source directories
+            File classesDir = new File(reactorProject.getBuild().getOutputDirectory());
+            File manifestFile = new File(classesDir, MODEL_FOLDER + "/" + ModelManifest.FILE_NAME);
+            if (!manifestFile.isFile() || !loadModelsFromManifest(manifestFile, URI.createFileURI(
+                    classesDir.getAbsolutePath() + "/"), reactorProject.getArtifactId(), resourceSet)) {
                 collectModelFilesFromReactorProject(reactorProject, ecoreFiles, genmodelFiles);
-            } else {
-                // External JAR dependency
-                File file = artifact.getFile();
-                if (file != null && file.exists() && file.getName().endsWith(".jar")) {
-                    loadModelsFromJar(file, resourceSet);
-                }
+            }
+        }
+        for (Artifact artifact : externalDependencies(reactorDependencies)) {
+            // External JAR dependency
+            File file = artifact.getFile();
+            if (file != null && file.exists() && file.getName().endsWith(".jar")) {
+                loadModelsFromJar(file, resourceSet);
             }
         }
 
@@ -1325,6 +2505,18 @@ public class EmfGenerateMojo extends AbstractMojo {
      */
     private void loadModelsFromJar(File jarFile, ResourceSet resourceSet) {
         try (JarFile jar = new JarFile(jarFile)) {
+            JarEntry manifestEntry = jar.getJarEntry(MODEL_FOLDER + "/" + ModelManifest.FILE_NAME);
+            if (manifestEntry != null) {
+                try (java.io.InputStream in = jar.getInputStream(manifestEntry)) {
+                    if (registerManifestPackages(ModelManifest.read(in),
+                            URI.createURI("jar:file:" + jarFile.getAbsolutePath() + "!/"), jarFile.getName(),
+                            resourceSet)) {
+                        return;
+                    }
+                } catch (IOException e) {
+                    getLog().warn("Ignoring model manifest of " + jarFile.getName() + ": " + e.getMessage());
+                }
+            }
             List<String> ecoreEntries = new ArrayList<>();
             List<String> genmodelEntries = new ArrayList<>();
             Enumeration<JarEntry> entries = jar.entries();
@@ -1350,6 +2542,101 @@ public class EmfGenerateMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Registers the packages of a reactor project from its model manifest.
+     *
+     * @return whether the manifest declared any packages; if not, the model
+     *         files are collected by scanning
+     */
+    private boolean loadModelsFromManifest(File manifestFile, URI baseURI, String source,
+            ResourceSet resourceSet) {
+        try (java.io.InputStream in = java.nio.file.Files.newInputStream(manifestFile.toPath())) {
+            return registerManifestPackages(ModelManifest.read(in), baseURI, source, resourceSet);
+        } catch (IOException e) {
+            getLog().warn("Ignoring model manifest " + manifestFile + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Registers a descriptor for each package of the manifest instead of
+     * loading the model files. A package is loaded, GenModel before Ecore as in
+     * {@link #loadModelsFromJar}, when a reference to its nsURI is resolved or
+     * when it is needed as a used GenPackage; files of packages the model does
+     * not refer to are never opened.
+     *
+     * @return whether the manifest declared any packages
+     */
+    private boolean registerManifestPackages(ModelManifest manifest, URI baseURI, String source,
+            ResourceSet resourceSet) {
+        if (manifest.getPackages().isEmpty()) {
+            return false;
+        }
+        for (ModelManifest.PackageEntry entry : manifest.getPackages()) {
+            if (entry.ecorePath() == null || manifestPackages.containsKey(entry.nsURI())
+                    || resourceSet.getPackageRegistry().containsKey(entry.nsURI())) {
+                continue;
+            }
+            EPackage.Descriptor descriptor = new EPackage.Descriptor() {
+                private EPackage ePackage;
+
+                @Override
+                public EPackage getEPackage() {
+                    if (ePackage == null) {
+                        ePackage = loadManifestPackage(resourceSet, baseURI, entry, source);
+                    }
+                    return ePackage;
+                }
+
+                @Override
+                public org.eclipse.emf.ecore.EFactory getEFactory() {
+                    EPackage loaded = getEPackage();
+                    return loaded != null ? loaded.getEFactoryInstance() : null;
+                }
+            };
+            manifestPackages.put(entry.nsURI(), descriptor);
+            resourceSet.getPackageRegistry().put(entry.nsURI(), descriptor);
+        }
+        getLog().info("Registered " + manifest.getPackages().size() + " package(s) from the model manifest of "
+                + source);
+        return true;
+    }
+
+    private EPackage loadManifestPackage(ResourceSet resourceSet, URI baseURI, ModelManifest.PackageEntry entry,
+            String source) {
+        if (entry.genModelPath() != null) {
+            loadGenModel(resourceSet, URI.createURI(baseURI + entry.genModelPath()));
+        }
+        URI ecoreUri = URI.createURI(baseURI + entry.ecorePath());
+        loadEcore(resourceSet, ecoreUri, " from manifest of " + source);
+        Resource ecoreResource = resourceSet.getResource(ecoreUri, false);
+        if (ecoreResource != null) {
+            for (org.eclipse.emf.ecore.EObject obj : ecoreResource.getContents()) {
+                if (obj instanceof EPackage ePackage) {
+                    EPackage found = findPackage(ePackage, entry.nsURI());
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+        }
+        getLog().warn("Package " + entry.nsURI() + " not found in " + ecoreUri);
+        return null;
+    }
+
+    private EPackage findPackage(EPackage ePackage, String nsURI) {
+        if (nsURI.equals(ePackage.getNsURI())) {
+            return ePackage;
+        }
+        for (EPackage sub : ePackage.getESubpackages()) {
+            EPackage found = findPackage(sub, nsURI);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
     /**
      * Recursively collect model files from a directory.
      */
@@ -1432,13 +2719,21 @@ public class EmfGenerateMojo extends AbstractMojo {
                 ecoreResource.setURI(targetEcoreUri);
             }
 
+            // Move the in-memory external genmodel next to the main genmodel first,
+            // so the main genmodel's usedGenPackages hrefs are written relative to it
+            File externalGenModelFile = null;
+            if (externalGenModelResource != null) {
+                externalGenModelFile = new File(targetModelDir, externalGenModelFileName());
+                externalGenModelResource.setURI(URI.createFileURI(externalGenModelFile.getAbsolutePath()));
+            }
+
             // Create the resource and save
             URI genModelUri = URI.createFileURI(genModelFile.getAbsolutePath());
             Resource genModelResource = genModel.eResource();
 
             // If the genmodel is in a synthetic resource, we need to move it to the file
             // resource
-            if (genModelResource.getURI().toString().startsWith("synthetic:")
+            if (SyntheticURIs.isSynthetic(genModelResource.getURI())
                     || genModelResource.getURI().toString().startsWith("platform:")) {
                 ResourceSet resourceSet = genModelResource.getResourceSet();
                 Resource fileResource = resourceSet.createResource(genModelUri);
@@ -1450,11 +2745,28 @@ public class EmfGenerateMojo extends AbstractMojo {
 
             genModelResource.save(Collections.emptyMap());
             getLog().info("Saved GenModel to target/classes: " + genModelFile.getAbsolutePath());
+
+            if (externalGenModelFile != null) {
+                externalGenModelResource.save(Collections.emptyMap());
+                getLog().info("Saved external GenModel to target/classes: " + externalGenModelFile.getAbsolutePath());
+            }
         } catch (IOException e) {
             getLog().warn("Could not save GenModel to target/classes: " + e.getMessage());
         }
     }
 
+    /**
+     * File name of the external GenModel holding referenced packages, derived from
+     * the ecore file name (e.g. {@code model-external.genmodel}).
+     */
+    private String externalGenModelFileName() {
+        String ecoreName = ecoreFile.getName();
+        String baseName = ecoreName.endsWith(".ecore")
+            ? ecoreName.substring(0, ecoreName.length() - 6)
+            : ecoreName;
+        return baseName + "-external.genmodel";
+    }
+
     /**
      * Copies model files (ecore) to target/classes/model for JAR inclusion. GenModel
      * files are generated on-the-fly directly to target/classes/model.
@@ -1500,6 +2812,515 @@ public class EmfGenerateMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Writes the manifest of the generated packages into target/classes/model,
+     * with the hashes of the copied model files.
+     */
+    private void writeModelManifest() {
+        if (modelManifest == null) {
+            return;
+        }
+        File targetClassesDir = new File(project.getBasedir(), "target/classes");
+        try {
+            ModelManifest written = modelManifest.write(targetClassesDir.toPath(), MODEL_FOLDER);
+            getLog().info("Wrote " + MODEL_FOLDER + "/" + ModelManifest.FILE_NAME + " with "
+                    + written.getPackages().size() + " package(s) and " + written.getFiles().size() + " file(s)");
+        } catch (IOException e) {
+            getLog().warn("Could not write the model manifest: " + e.getMessage());
+        } finally {
+            modelManifest = null;
+        }
+    }
+
+    // ==================== Merge Fast Path ====================
+
+    /**
+     * Returns the index of the files generated into the output directory, one
+     * per output directory so that executions do not share it.
+     */
+    private java.nio.file.Path generatedFileIndexPath() {
+        return codegenStatePath(".index");
+    }
+
+    /**
+     * Returns a file in {@code target/emf-codegen} keeping state of the
+     * generation into the output directory.
+     */
+    private java.nio.file.Path codegenStatePath(String extension) {
+        return codegenStatePath(outputDirectory, extension);
+    }
+
+    private java.nio.file.Path codegenStatePath(String directory, String extension) {
+        String name = directory.replaceAll("[^A-Za-z0-9._-]+", "-");
+        return new File(project.getBuild().getDirectory(), "emf-codegen/" + name + extension).toPath();
+    }
+
+    /**
+     * Deletes the generated files nobody changed since the last generation, so
+     * the generator writes them without merging.
+     *
+     * @return the number of deleted files
+     */
+    private int deleteUnmodifiedGeneratedFiles() {
+        mergeParseNanos = 0;
+        mergedFiles = 0;
+        List<String> deleted = new ArrayList<>();
+        generatedFileIndex = openGeneratedFileIndex(generatedFileIndexPath(), getOutputDirectory(), deleted);
+        return deleted.size();
+    }
+
+    /**
+     * Loads the generated file index of an output directory and, with the
+     * merge fast path on, deletes the files nobody changed since the last
+     * generation.
+     *
+     * @param deleted receives the deleted files
+     * @return the index, or {@code null} if it could not be read
+     */
+    private GeneratedFileIndex openGeneratedFileIndex(java.nio.file.Path indexPath, File outputDir,
+            List<String> deleted) {
+        try {
+            GeneratedFileIndex index = GeneratedFileIndex.load(indexPath);
+            if (skipUnmodifiedMerge) {
+                deleted.addAll(index.deleteUnmodified(outputDir.toPath()));
+            } else {
+                index.restoreUnmodified(outputDir.toPath());
+            }
+            for (String path : deleted) {
+                getLog().debug("Unmodified since the last generation, not merging: " + path);
+            }
+            return index;
+        } catch (IOException e) {
+            getLog().warn("Could not read the generated file index, merging all files: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Discards the unmodified files moved aside for the merge fast path once
+     * the generation succeeded, or moves them back if it failed, so that the
+     * output directories stay complete.
+     */
+    private void finishUnmodifiedFiles(File outputDir, boolean generated) {
+        Map<GeneratedFileIndex, File> indexes = new LinkedHashMap<>();
+        if (generatedFileIndex != null) {
+            indexes.put(generatedFileIndex, outputDir);
+        }
+        for (ProfileOutput profileOutput : profileOutputs) {
+            if (profileOutput.index != null) {
+                indexes.put(profileOutput.index, profileOutput.directory);
+            }
+        }
+        for (Map.Entry<GeneratedFileIndex, File> entry : indexes.entrySet()) {
+            try {
+                if (generated) {
+                    entry.getKey().discardUnmodified();
+                } else {
+                    int restored = entry.getKey().restoreUnmodified(entry.getValue().toPath());
+                    if (restored > 0) {
+                        getLog().info("Generation failed, restored " + restored + " unmodified file(s) in "
+                                + entry.getValue());
+                    }
+                }
+            } catch (IOException e) {
+                getLog().warn("Could not clean up the unmodified files of " + entry.getValue() + ": "
+                        + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Logs how many files JMerge merged and the parse time saved by writing
+     * the unmodified ones directly, estimated from the parse time per merged
+     * file of this run or, if nothing was merged, of the last run that merged.
+     */
+    private void reportMergeFastPath(GeneratedFileIndex index, int unmodifiedFiles, long parseNanos,
+            long merged) {
+        if (index == null || !skipUnmodifiedMerge) {
+            return;
+        }
+        getLog().info("JMerge merged " + merged + " file(s) in " + parseNanos / 1_000_000
+                + " ms of parsing, " + unmodifiedFiles + " unmodified file(s) written without merging");
+        long nanosPerFile = merged > 0 ? parseNanos / merged : index.getParseNanosPerFile();
+        if (unmodifiedFiles > 0 && nanosPerFile > 0) {
+            getLog().info("Skipping the merge of unmodified files saved about "
+                    + unmodifiedFiles * nanosPerFile / 1_000_000 + " ms");
+        }
+    }
+
+    /**
+     * Records the post-processed sources in the generated file index.
+     */
+    private void updateGeneratedFileIndex(GeneratedFileIndex index, File outputDir, long parseNanos,
+            long merged) {
+        if (index == null) {
+            return;
+        }
+        try {
+            List<String> handEdited = index.update(outputDir.toPath(), parseNanos, merged);
+            index.save();
+            if (!handEdited.isEmpty()) {
+                getLog().info(handEdited.size() + " file(s) with @generated NOT members will be merged");
+            }
+        } catch (IOException e) {
+            getLog().warn("Could not write the generated file index: " + e.getMessage());
+        }
+    }
+
+    // ==================== Up-to-date Check ====================
+
+    /**
+     * Computes the fingerprint of the inputs of the generation: the plugin,
+     * the configuration, the files in the model directory and the models of
+     * the dependencies.
+     *
+     * @param dependencyFingerprint the fingerprint of the models of the
+     *                              dependencies
+     * @return the fingerprint, or {@code null} if the inputs could not be read
+     */
+    private String inputFingerprint(String dependencyFingerprint) {
+        List<String> inputs = new ArrayList<>();
+        try {
+            java.security.CodeSource codeSource = getClass().getProtectionDomain().getCodeSource();
+            if (codeSource != null && "file".equals(codeSource.getLocation().getProtocol())) {
+                File pluginFile = new File(codeSource.getLocation().toURI());
+                inputs.add("plugin " + pluginFile.length() + " " + pluginFile.lastModified());
+            }
+            inputs.add("configuration " + configurationFingerprint());
+
+            File modelDir = genmodelFile != null && genmodelFile.exists() ? genmodelFile.getParentFile()
+                    : ecoreFile.getParentFile();
+            java.nio.file.Path modelRoot = modelDir.toPath();
+            java.nio.file.Path buildDir = new File(project.getBuild().getDirectory()).toPath();
+            List<java.nio.file.Path> modelFiles;
+            try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.walk(modelRoot)) {
+                modelFiles = files.filter(file -> !file.startsWith(buildDir))
+                        .filter(file -> file.toString().endsWith(".ecore") || file.toString().endsWith(".genmodel"))
+                        .filter(java.nio.file.Files::isRegularFile).toList();
+            }
+            for (java.nio.file.Path modelFile : modelFiles) {
+                inputs.add("model " + modelRoot.relativize(modelFile).toString().replace('\\', '/') + " "
+                        + sha256(java.nio.file.Files.readAllBytes(modelFile)));
+            }
+
+            inputs.add("dependencies " + dependencyFingerprint);
+        } catch (IOException | java.net.URISyntaxException e) {
+            getLog().debug("Could not compute the generation inputs, generating: " + e.getMessage());
+            return null;
+        }
+        Collections.sort(inputs);
+        return sha256(String.join("\n", inputs).getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Computes the fingerprint of the models of the dependencies. Dependencies
+     * with a model manifest contribute the API fingerprint of their packages
+     * only, others the hashes or checksums of their model files.
+     *
+     * @return the fingerprint, or {@code null} if the models could not be read
+     */
+    private String dependencyFingerprint() {
+        List<String> inputs = new ArrayList<>();
+        try {
+            Map<String, MavenProject> reactorDependencies = reactorDependencies();
+            for (Map.Entry<String, MavenProject> entry : reactorDependencies.entrySet()) {
+                addReactorProjectInputs(entry.getKey(), entry.getValue(), inputs);
+            }
+            for (Artifact artifact : externalDependencies(reactorDependencies)) {
+                if (artifact.getFile() != null && artifact.getFile().getName().endsWith(".jar")
+                        && artifact.getFile().isFile()) {
+                    addJarInputs(artifact.getGroupId() + ":" + artifact.getArtifactId(), artifact.getFile(), inputs);
+                }
+            }
+        } catch (IOException e) {
+            getLog().debug("Could not compute the dependency inputs, generating: " + e.getMessage());
+            return null;
+        }
+        Collections.sort(inputs);
+        return sha256(String.join("\n", inputs).getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    private String configurationFingerprint() {
+        return java.util.Arrays.asList(genmodelFile, ecoreFile, outputDirectory, basePackage, prefix, fileExtension,
+                resource, osgiCompatible, suppressInterfaces, suppressEMFTypes, suppressEMFMetaData,
+                suppressGenModelAnnotations, publicConstructors, rootExtendsClass, rootExtendsInterface, copyrightText,
+                splitPackageInitialization, maxInitializationMethodSize, lazyPackageInitialization,
+                deferredRegistration, primitiveLists, compactLayout, offHeapStore, snapshots, idIndexes,
+                inverseReferences, streamingXmi, enumLookupThreshold, suppressNotification, builders, binaryCodec,
+                partitionedGeneration, getOutputProfiles()).toString();
+    }
+
+    private void addReactorProjectInputs(String key, MavenProject reactorProject, List<String> inputs)
+            throws IOException {
+        File manifestFile = new File(reactorProject.getBuild().getOutputDirectory(),
+                MODEL_FOLDER + "/" + ModelManifest.FILE_NAME);
+        if (manifestFile.isFile()) {
+            try (java.io.InputStream in = java.nio.file.Files.newInputStream(manifestFile.toPath())) {
+                addManifestInputs(key, ModelManifest.read(in), inputs);
+            }
+            return;
+        }
+        List<File> ecoreFiles = new ArrayList<>();
+        List<File> genmodelFiles = new ArrayList<>();
+        collectModelFilesFromReactorProject(reactorProject, ecoreFiles, genmodelFiles);
+        ecoreFiles.addAll(genmodelFiles);
+        for (File modelFile : ecoreFiles) {
+            inputs.add("dependency " + key + " " + modelFile.getName() + " "
+                    + sha256(java.nio.file.Files.readAllBytes(modelFile.toPath())));
+        }
+    }
+
+    private void addJarInputs(String key, File jarFile, List<String> inputs) throws IOException {
+        try (JarFile jar = new JarFile(jarFile)) {
+            JarEntry manifestEntry = jar.getJarEntry(MODEL_FOLDER + "/" + ModelManifest.FILE_NAME);
+            if (manifestEntry != null) {
+                try (java.io.InputStream in = jar.getInputStream(manifestEntry)) {
+                    addManifestInputs(key, ModelManifest.read(in), inputs);
+                }
+                return;
+            }
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (entry.getName().endsWith(".ecore") || entry.getName().endsWith(".genmodel")) {
+                    inputs.add("dependency " + key + " " + entry.getName() + " " + entry.getCrc());
+                }
+            }
+        }
+    }
+
+    private static void addManifestInputs(String key, ModelManifest manifest, List<String> inputs) {
+        String apiFingerprint = manifest.getApiFingerprint();
+        if (apiFingerprint != null) {
+            inputs.add("dependency " + key + " abi " + apiFingerprint);
+        } else {
+            for (ModelManifest.FileEntry file : manifest.getFiles()) {
+                inputs.add("dependency " + key + " " + file.path() + " " + file.sha256());
+            }
+        }
+    }
+
+    /**
+     * Whether the last generation had the same inputs and its output is still
+     * there. Restores the loadInitialization setting of that generation.
+     */
+    private boolean isUpToDate(String inputFingerprint) {
+        java.util.Properties state = readInputState();
+        File manifestFile = new File(project.getBasedir(), "target/classes/" + MODEL_FOLDER + "/"
+                + ModelManifest.FILE_NAME);
+        if (state == null || !inputFingerprint.equals(state.getProperty("inputs")) || !manifestFile.isFile()
+                || !hasRecordedOutput()) {
+            return false;
+        }
+        loadInitializationEnabled = Boolean.parseBoolean(state.getProperty("loadInitialization"));
+        return true;
+    }
+
+    /**
+     * Reads the inputs recorded by the last generation, or returns
+     * {@code null} if there are none.
+     */
+    private java.util.Properties readInputState() {
+        java.nio.file.Path stateFile = codegenStatePath(".inputs");
+        if (!java.nio.file.Files.isRegularFile(stateFile)) {
+            return null;
+        }
+        java.util.Properties state = new java.util.Properties();
+        try (java.io.Reader reader = java.nio.file.Files.newBufferedReader(stateFile)) {
+            state.load(reader);
+            return state;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the Java files recorded in the generated file indexes of the
+     * main output and of the output profiles are all still there with the
+     * content the last generation left, so nothing was deleted or edited
+     * since.
+     */
+    private boolean hasRecordedOutput() {
+        Map<java.nio.file.Path, File> outputs = new LinkedHashMap<>();
+        outputs.put(generatedFileIndexPath(), getOutputDirectory());
+        for (OutputProfile profile : getOutputProfiles()) {
+            outputs.put(codegenStatePath(profile.getOutputDirectory(), ".index"),
+                    new File(project.getBasedir(), profile.getOutputDirectory()));
+        }
+        try {
+            for (Map.Entry<java.nio.file.Path, File> output : outputs.entrySet()) {
+                if (!GeneratedFileIndex.load(output.getKey()).matches(output.getValue().toPath())) {
+                    getLog().debug("Generated sources in " + output.getValue() + " changed since the last generation");
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            getLog().debug("Could not verify the generated sources, generating: " + e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records the inputs of the completed generation, without fingerprint if
+     * the up-to-date check is off.
+     */
+    private void writeInputState(String inputFingerprint, String dependencyFingerprint) {
+        java.nio.file.Path stateFile = codegenStatePath(".inputs");
+        try {
+            java.nio.file.Files.createDirectories(stateFile.getParent());
+            java.nio.file.Files.writeString(stateFile, "inputs=" + (inputFingerprint != null ? inputFingerprint : "")
+                    + "\ndependencies=" + (dependencyFingerprint != null ? dependencyFingerprint : "")
+                    + "\nloadInitialization=" + loadInitializationEnabled + "\n");
+        } catch (IOException e) {
+            getLog().warn("Could not record the generation inputs: " + e.getMessage());
+        }
+    }
+
+    // ==================== Performance Budgets ====================
+
+    /**
+     * Logs and writes the phases of the generation, compares them with the
+     * baseline and checks the budgets.
+     *
+     * @throws MojoFailureException if a budget is exceeded and budgetAction is
+     *                              {@code fail}, or a budget is not a number
+     */
+    private void checkPerformanceBudgets() throws MojoFailureException {
+        StringBuilder summary = new StringBuilder("Generation phases:");
+        for (GenerationMetrics.Phase phase : metrics.getPhases()) {
+            summary.append(' ').append(phase.name()).append(' ').append(phase.millis()).append(" ms/")
+                    .append(phase.peakHeapMegabytes()).append(" MB");
+        }
+        getLog().info(summary);
+        java.nio.file.Path report = codegenStatePath(".performance");
+        try {
+            metrics.write(report);
+        } catch (IOException e) {
+            getLog().warn("Could not write the phase report: " + e.getMessage());
+        }
+
+        Map<String, GenerationMetrics.Phase> baseline = null;
+        if (performanceBaseline != null) {
+            if (performanceBaseline.isFile()) {
+                try {
+                    baseline = GenerationMetrics.read(performanceBaseline.toPath());
+                    getLog().info("Comparison with " + performanceBaseline + ":");
+                } catch (IOException e) {
+                    getLog().warn("Could not read the performance baseline: " + e.getMessage());
+                }
+            } else {
+                getLog().warn("Performance baseline " + performanceBaseline + " not found, the phases of this"
+                        + " generation are in " + report);
+            }
+        }
+
+        if (baseline != null) {
+            for (GenerationMetrics.Phase phase : metrics.getPhases()) {
+                GenerationMetrics.Phase base = baseline.get(phase.name());
+                if (base != null) {
+                    getLog().info("  " + PerformanceBudgets.compare(phase, base));
+                }
+            }
+        }
+
+        // the heap is sampled for the whole JVM, it says nothing about this
+        // module while others are generated or built next to it
+        boolean checkHeap = !isolated && (session == null || !session.isParallel());
+        if (!checkHeap && (baseline != null || heapBudgets != null && !heapBudgets.isEmpty())) {
+            getLog().info("Heap budgets not checked: modules generated or built in parallel share the heap");
+        }
+        List<String> exceeded;
+        boolean fail;
+        try {
+            exceeded = new PerformanceBudgets(timeBudgets, heapBudgets, baselineTolerance, checkHeap)
+                    .check(metrics.getPhases(), baseline);
+            fail = PerformanceBudgets.fails(budgetAction);
+        } catch (IllegalArgumentException e) {
+            throw new MojoFailureException(e.getMessage(), e);
+        }
+        if (!exceeded.isEmpty()) {
+            String message = "Generation exceeded its performance budget: " + String.join("; ", exceeded);
+            if (fail) {
+                throw new MojoFailureException(message);
+            }
+            getLog().warn(message);
+        }
+    }
+
+    // ==================== IDE Integration ====================
+
+    /**
+     * Hash and time stamp of a file in the output directory before generation.
+     */
+    private record OutputFile(String sha256, java.nio.file.attribute.FileTime lastModified) {
+    }
+
+    /**
+     * Records the files in the output directory before they are regenerated.
+     * Only needed for an incremental build of the IDE, see
+     * {@link #publishChangedFiles(File, Map)}.
+     */
+    private Map<String, OutputFile> snapshotOutput(File outputDir) throws MojoExecutionException {
+        Map<String, OutputFile> snapshot = new HashMap<>();
+        java.nio.file.Path root = outputDir.toPath();
+        try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.walk(root)) {
+            for (java.nio.file.Path file : (Iterable<java.nio.file.Path>) files
+                    .filter(java.nio.file.Files::isRegularFile)::iterator) {
+                snapshot.put(root.relativize(file).toString(), new OutputFile(
+                        sha256(java.nio.file.Files.readAllBytes(file)),
+                        java.nio.file.Files.getLastModifiedTime(file)));
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to read " + outputDir, e);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Hands the result of the generation to the build context. Files whose
+     * content did not change get their previous time stamp back, so neither
+     * the IDE nor an incremental compiler sees them as modified; changed and
+     * new files are written through the build context, which refreshes them
+     * in the workspace, and deleted files are refreshed. Only called in an
+     * incremental build.
+     */
+    private void publishChangedFiles(File outputDir, Map<String, OutputFile> previousOutput)
+            throws MojoExecutionException {
+        java.nio.file.Path root = outputDir.toPath();
+        int changed = 0;
+        try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.walk(root)) {
+            for (java.nio.file.Path file : (Iterable<java.nio.file.Path>) files
+                    .filter(java.nio.file.Files::isRegularFile)::iterator) {
+                byte[] content = java.nio.file.Files.readAllBytes(file);
+                OutputFile previous = previousOutput.remove(root.relativize(file).toString());
+                if (previous != null && previous.sha256().equals(sha256(content))) {
+                    java.nio.file.Files.setLastModifiedTime(file, previous.lastModified());
+                } else {
+                    changed++;
+                    try (java.io.OutputStream out = buildContext.newFileOutputStream(file.toFile())) {
+                        out.write(content);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to publish the generated sources in " + outputDir, e);
+        }
+        for (String deleted : previousOutput.keySet()) {
+            buildContext.refresh(new File(outputDir, deleted));
+        }
+        getLog().info(changed + " generated file(s) changed, " + previousOutput.size() + " removed");
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return java.util.HexFormat.of().formatHex(
+                    java.security.MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Copies a single file to the target location.
      */
@@ -1517,8 +3338,17 @@ public class EmfGenerateMojo extends AbstractMojo {
      * Post-processes generated source files to fix paths and annotations.
      * - Fixes @EPackage annotations (removes source locations, corrects paths)
      * - Fixes packageFilename in PackageImpl for loadInitialization mode
+     * - Splits huge package initialization methods (splitPackageInitialization)
+     * - Defers loading of package contents to first access (lazyPackageInitialization)
+     * - Registers the package service through a service factory (deferredRegistration)
+     * - Generates a binary resource (resource BINARY)
+     * - Stores primitive multi-valued attributes unboxed (primitiveLists)
+     * - Generates the store of off-heap classes (offHeapStore)
+     * - Looks up the literals of large enums in hash tables (enumLookupThreshold)
+     * - Sizes the value arrays of compact classes exactly (compactLayout)
      */
-    private void postProcessGeneratedSources(File outputDir) throws MojoExecutionException {
+    private void postProcessGeneratedSources(File outputDir, List<String> lookupEnums)
+            throws MojoExecutionException {
         getLog().info("Post-processing generated sources in: " + outputDir.getAbsolutePath());
 
         try {
@@ -1530,11 +3360,116 @@ public class EmfGenerateMojo extends AbstractMojo {
             // Note: packageFilename is NOT modified - EMF handles this correctly by:
             // 1. Generating packageFilename = "actual-name.ecore" (relative path)
             // 2. Copying the ecore file to the impl directory
+
+            // Split huge package initialization methods so they can be JIT-compiled
+            if (generationOptions.splitPackageInitialization()) {
+                getLog().info("Splitting package initialization methods (max size "
+                        + maxInitializationMethodSize + " bytes)");
+                PackageInitializationSplitter splitter = new PackageInitializationSplitter(getLog(),
+                        maxInitializationMethodSize);
+                java.nio.file.Files.walk(outputDir.toPath())
+                        .filter(p -> p.toString().endsWith("PackageImpl.java"))
+                        .forEach(splitter::split);
+            }
+
+            // Load package contents on first access instead of in init()
+            if (generationOptions.lazyPackageInitialization()) {
+                LazyPackageInitializer initializer = new LazyPackageInitializer(getLog());
+                java.nio.file.Files.walk(outputDir.toPath())
+                        .filter(p -> p.toString().endsWith("PackageImpl.java"))
+                        .forEach(initializer::rewrite);
+            }
+
+            // Register the package service through a factory that loads the contents on first use
+            if (generationOptions.deferredRegistration()) {
+                DeferredRegistrationRewriter rewriter = new DeferredRegistrationRewriter(getLog());
+                java.nio.file.Files.walk(outputDir.toPath())
+                        .filter(p -> p.toString().endsWith(DeferredRegistrationRewriter.COMPONENT_SUFFIX + ".java"))
+                        .forEach(rewriter::rewrite);
+            }
+
+            // Make the resources of the packages switched to the binary format read and write it
+            if (!binaryGenPackages.isEmpty()) {
+                BinaryResourceRewriter rewriter = new BinaryResourceRewriter(getLog());
+                for (GenPackage genPackage : binaryGenPackages) {
+                    java.nio.file.Path file = outputDir.toPath()
+                            .resolve(genPackage.getUtilitiesPackageName().replace('.', '/'))
+                            .resolve(genPackage.getResourceClassName() + ".java");
+                    if (java.nio.file.Files.exists(file)) {
+                        rewriter.rewrite(file);
+                    }
+                }
+            }
+
+            // Replace boxed lists of primitive multi-valued attributes
+            if (generationOptions.primitiveLists()) {
+                PrimitiveListRewriter rewriter = new PrimitiveListRewriter(getLog());
+                java.nio.file.Files.walk(outputDir.toPath())
+                        .filter(p -> p.toString().endsWith("Impl.java"))
+                        .map(java.nio.file.Path::getParent)
+                        .distinct()
+                        .forEach(rewriter::rewriteDirectory);
+            }
+
+            // Generate the store the off-heap classes delegate to
+            if (!offHeapGenClasses.isEmpty()) {
+                new OffHeapStoreGenerator(getLog()).generate(outputDir.toPath(), offHeapSupportPackage());
+            }
+
+            // Look up the literals of large enums in hash tables
+            if (!lookupEnums.isEmpty()) {
+                EnumLookupRewriter rewriter = new EnumLookupRewriter(getLog());
+                for (String qualifiedName : lookupEnums) {
+                    rewriter.rewrite(outputDir.toPath().resolve(qualifiedName.replace('.', '/') + ".java"));
+                }
+            }
+
+            // Size the virtual value arrays of compact classes to the features that are set
+            if (!compactGenClasses.isEmpty()) {
+                java.nio.file.Files.walk(outputDir.toPath())
+                        .filter(p -> p.toString().endsWith("Impl.java"))
+                        .forEach(this::addExactVirtualValuesCapacity);
+            }
         } catch (IOException e) {
             throw new MojoExecutionException("Failed to post-process generated sources", e);
         }
     }
 
+    /**
+     * Makes a class that declares the virtual value storage of the compact
+     * layout grow its value array by exactly the values added. EMF reserves
+     * spare slots by default, which for sparse instances costs more than the
+     * fields the layout saves.
+     */
+    private void addExactVirtualValuesCapacity(java.nio.file.Path file) {
+        try {
+            String content = java.nio.file.Files.readString(file);
+            java.util.regex.Matcher setter = java.util.regex.Pattern.compile(
+                    "\tprotected void eSetVirtualValues\\(Object\\[\\] newValues\\) \\{\\s*"
+                            + "eVirtualValues = newValues;\\s*\\}\\n")
+                    .matcher(content);
+            if (content.contains("eComputeVirtualValuesCapacity") || !setter.find()) {
+                return;
+            }
+            String override = """
+
+                    \t/**
+                    \t * <!-- begin-user-doc -->
+                    \t * <!-- end-user-doc -->
+                    \t * @generated
+                    \t */
+                    \t@Override
+                    \tprotected int eComputeVirtualValuesCapacity(int minimumCapacity) {
+                    \t\treturn minimumCapacity;
+                    \t}
+                    """;
+            java.nio.file.Files.writeString(file,
+                    content.substring(0, setter.end()) + override + content.substring(setter.end()));
+        } catch (IOException e) {
+            getLog().warn("Could not adjust virtual values capacity in: " + file + " - " + e.getMessage());
+        }
+    }
+
     /**
      * Fixes @EPackage annotations in a single file: removes source location
      * attributes and corrects genModel/ecore paths.
@@ -1588,7 +3523,7 @@ public class EmfGenerateMojo extends AbstractMojo {
             genModel.setComplianceLevel(org.eclipse.emf.codegen.ecore.genmodel.GenJDKLevel.JDK170_LITERAL);
 
             // Create a synthetic resource for the GenModel
-            URI genModelUri = URI.createURI("synthetic:/" + ePackage.getName() + ".genmodel");
+            URI genModelUri = SyntheticURIs.createURI(ePackage.getName() + ".genmodel");
             Resource genModelResource = resourceSet.createResource(genModelUri);
             genModelResource.getContents().add(genModel);
 
@@ -1643,24 +3578,30 @@ public class EmfGenerateMojo extends AbstractMojo {
     }
 
     private void loadEcoreFromJar(ResourceSet resourceSet, File jarFile, String ecorePath) {
+        loadEcore(resourceSet, URI.createURI("jar:file:" + jarFile.getAbsolutePath() + "!/" + ecorePath), " from JAR");
+    }
+
+    private void loadEcore(ResourceSet resourceSet, URI ecoreUri, String source) {
         try {
-            URI ecoreUri = URI.createURI("jar:file:" + jarFile.getAbsolutePath() + "!/" + ecorePath);
             Resource ecoreResource = resourceSet.getResource(ecoreUri, true);
             if (ecoreResource != null && !ecoreResource.getContents().isEmpty()) {
                 for (org.eclipse.emf.ecore.EObject obj : ecoreResource.getContents()) {
                     if (obj instanceof EPackage ePackage) {
-                        registerEPackage(resourceSet, ePackage, " from JAR");
+                        registerEPackage(resourceSet, ePackage, source);
                     }
                 }
             }
         } catch (Exception e) {
-            getLog().debug("Could not load Ecore from JAR: " + jarFile.getName() + "!/" + ecorePath);
+            getLog().debug("Could not load Ecore: " + ecoreUri);
         }
     }
 
     private void loadGenModelFromJar(ResourceSet resourceSet, File jarFile, String genmodelPath) {
+        loadGenModel(resourceSet, URI.createURI("jar:file:" + jarFile.getAbsolutePath() + "!/" + genmodelPath));
+    }
+
+    private void loadGenModel(ResourceSet resourceSet, URI genmodelUri) {
         try {
-            URI genmodelUri = URI.createURI("jar:file:" + jarFile.getAbsolutePath() + "!/" + genmodelPath);
             Resource genmodelResource = resourceSet.getResource(genmodelUri, true);
             if (genmodelResource != null && !genmodelResource.getContents().isEmpty()) {
                 for (org.eclipse.emf.ecore.EObject obj : genmodelResource.getContents()) {
@@ -1673,7 +3614,7 @@ public class EmfGenerateMojo extends AbstractMojo {
                 }
             }
         } catch (Exception e) {
-            getLog().debug("Could not load GenModel from JAR: " + jarFile.getName() + "!/" + genmodelPath);
+            getLog().debug("Could not load GenModel: " + genmodelUri);
         }
     }
 
@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MavenPluginManager;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.PluginConfigurationException;
+import org.apache.maven.plugin.PluginContainerException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.Parameter;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+/**
+ * Generates the models of all modules of the reactor in one pass.
+ *
+ * <p>
+ * Every module at or below the project the goal runs on, usually the
+ * aggregator root, with a {@code generate} execution of this plugin becomes a
+ * node of a plan. A module depends on the modules declaring the models its Ecore
+ * files refer to by nsURI, relative path or platform URI, found by
+ * {@link ModelScan} without loading the models, and on the modules it declares
+ * as Maven dependencies. The executions are then run in topological order in
+ * this JVM, modules whose dependencies are generated running in parallel, each
+ * with its own configuration as if run by the lifecycle.
+ * </p>
+ *
+ * <p>
+ * A module reads the models of the modules it depends on from their
+ * {@code target/classes}, through the manifest they have just written there,
+ * so only the referenced packages are loaded. The upstream modules of the plan
+ * are handed to each execution directly: the goal runs before any module is
+ * compiled, and reactor modules are never read from their artifact, which the
+ * dependency resolution of an aggregator leaves unresolved or may find as an
+ * older JAR in the local repository. Other dependencies are resolved by Maven
+ * for all modules before the goal runs.
+ * </p>
+ *
+ * <p>
+ * The generated source roots are added to the modules, and their
+ * {@code generate} executions in the same session skip generation:
+ * </p>
+ *
+ * <pre>{@code
+ * mvn org.eclipse.daanse:org.eclipse.daanse.tooling.emf.codegen.maven:generate-reactor install
+ * }</pre>
+ *
+ * <p>
+ * EMF resources belong to one ResourceSet and are changed while generating,
+ * so modules do not share loaded EMF objects. Executions running in parallel
+ * are isolated: they register packages only in their own ResourceSet and leave
+ * the JVM-global EPackage registry and URI map alone.
+ * </p>
+ */
+@Mojo(name = "generate-reactor", aggregator = true, threadSafe = true, requiresDependencyResolution = ResolutionScope.COMPILE)
+public class EmfGenerateReactorMojo extends AbstractMojo {
+
+    private static final String GENERATE_GOAL = "generate";
+
+    @org.apache.maven.plugins.annotations.Parameter(defaultValue = "${session}", readonly = true, required = true)
+    private MavenSession session;
+
+    @org.apache.maven.plugins.annotations.Parameter(defaultValue = "${plugin}", readonly = true, required = true)
+    private PluginDescriptor pluginDescriptor;
+
+    /**
+     * Maximum number of modules generated at the same time. {@code 0} uses one
+     * thread per available processor, {@code 1} generates the modules one after
+     * the other without isolating them.
+     */
+    @org.apache.maven.plugins.annotations.Parameter(property = "emf.reactor.threads", defaultValue = "0")
+    private int threads;
+
+    @Component
+    private MavenPluginManager mavenPluginManager;
+
+    /**
+     * A {@code generate} execution of a module.
+     */
+    private static final class Node {
+        private final MavenProject project;
+        private final MojoExecution execution;
+        private final EmfGenerateMojo mojo;
+        private final ModelScan scan;
+        private final Set<Node> dependencies = new LinkedHashSet<>();
+
+        Node(MavenProject project, MojoExecution execution, EmfGenerateMojo mojo, ModelScan scan) {
+            this.project = project;
+            this.execution = execution;
+            this.mojo = mojo;
+            this.scan = scan;
+        }
+
+        String name() {
+            return project.getArtifactId() + " (" + execution.getExecutionId() + ")";
+        }
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        int threadCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        List<Node> nodes = configure(threadCount > 1);
+        try {
+            if (nodes.isEmpty()) {
+                getLog().info("No module of the reactor has a " + GENERATE_GOAL + " execution");
+                return;
+            }
+            List<Node> order = plan(nodes);
+            run(order, threadCount);
+        } finally {
+            for (Node node : nodes) {
+                mavenPluginManager.releaseMojo(node.mojo, node.execution);
+            }
+        }
+    }
+
+    // ==================== Configuration ====================
+
+    /**
+     * Creates a configured {@code generate} mojo for every execution of the
+     * modules at or below the project the goal runs on. Configuration evaluates expressions against the current project
+     * of the session, so it runs sequentially before any module is generated.
+     */
+    private List<Node> configure(boolean isolated) throws MojoExecutionException {
+        List<Node> nodes = new ArrayList<>();
+        MojoDescriptor mojoDescriptor = pluginDescriptor.getMojo(GENERATE_GOAL);
+        MavenProject current = session.getCurrentProject();
+        try {
+            for (MavenProject project : session.getProjects()) {
+                Plugin plugin = project.getPlugin(pluginDescriptor.getPluginLookupKey());
+                if (plugin == null || !project.getBasedir().toPath().startsWith(current.getBasedir().toPath())) {
+                    continue;
+                }
+                for (PluginExecution pluginExecution : plugin.getExecutions()) {
+                    if (!pluginExecution.getGoals().contains(GENERATE_GOAL)) {
+                        continue;
+                    }
+                    MojoExecution execution = new MojoExecution(mojoDescriptor, pluginExecution.getId(),
+                            MojoExecution.Source.LIFECYCLE);
+                    execution.setConfiguration(finalConfiguration(mojoDescriptor,
+                            Xpp3Dom.mergeXpp3Dom(copy((Xpp3Dom) pluginExecution.getConfiguration()),
+                                    copy((Xpp3Dom) plugin.getConfiguration()))));
+                    session.setCurrentProject(project);
+                    org.apache.maven.plugin.Mojo mojo = mavenPluginManager
+                            .getConfiguredMojo(org.apache.maven.plugin.Mojo.class, session, execution);
+                    if (!(mojo instanceof EmfGenerateMojo generateMojo)) {
+                        throw new MojoExecutionException("Unexpected mojo " + mojo.getClass().getName() + " for "
+                                + project.getArtifactId());
+                    }
+                    generateMojo.setLog(getLog());
+                    generateMojo.setIsolated(isolated);
+                    nodes.add(new Node(project, execution, generateMojo, ModelScan.scan(generateMojo.getEcoreFiles())));
+                }
+            }
+        } catch (PluginConfigurationException | PluginContainerException e) {
+            throw new MojoExecutionException("Could not configure " + GENERATE_GOAL + ": " + e.getMessage(), e);
+        } finally {
+            session.setCurrentProject(current);
+        }
+        return nodes;
+    }
+
+    /**
+     * Completes the configuration with the defaults of the mojo parameters, as
+     * the lifecycle does before executing a mojo.
+     */
+    private static Xpp3Dom finalConfiguration(MojoDescriptor mojoDescriptor, Xpp3Dom configuration) {
+        Xpp3Dom defaults = toXpp3Dom(mojoDescriptor.getMojoConfiguration());
+        Xpp3Dom result = new Xpp3Dom("configuration");
+        for (Parameter parameter : mojoDescriptor.getParameters()) {
+            Xpp3Dom value = configuration != null ? configuration.getChild(parameter.getName()) : null;
+            if (value == null && configuration != null && parameter.getAlias() != null) {
+                value = configuration.getChild(parameter.getAlias());
+            }
+            Xpp3Dom merged = Xpp3Dom.mergeXpp3Dom(value != null ? new Xpp3Dom(value, parameter.getName()) : null,
+                    defaults.getChild(parameter.getName()), Boolean.TRUE);
+            if (merged != null) {
+                result.addChild(new Xpp3Dom(merged, parameter.getName()));
+            }
+        }
+        return result;
+    }
+
+    private static Xpp3Dom copy(Xpp3Dom dom) {
+        return dom != null ? new Xpp3Dom(dom) : null;
+    }
+
+    private static Xpp3Dom toXpp3Dom(PlexusConfiguration configuration) {
+        Xpp3Dom dom = new Xpp3Dom(configuration.getName());
+        dom.setValue(configuration.getValue(null));
+        for (String attribute : configuration.getAttributeNames()) {
+            dom.setAttribute(attribute, configuration.getAttribute(attribute, null));
+        }
+        for (PlexusConfiguration child : configuration.getChildren()) {
+            dom.addChild(toXpp3Dom(child));
+        }
+        return dom;
+    }
+
+    // ==================== Planning ====================
+
+    /**
+     * Links each node to the nodes declaring the models it refers to and to the
+     * nodes of the modules its module depends on, and returns the nodes in
+     * topological order, keeping the reactor order otherwise.
+     */
+    private List<Node> plan(List<Node> nodes) throws MojoFailureException {
+        Map<String, Node> owners = new LinkedHashMap<>();
+        for (Node node : nodes) {
+            for (String nsURI : node.scan.nsURIs()) {
+                Node previous = owners.putIfAbsent(nsURI, node);
+                if (previous != null && previous.project != node.project) {
+                    getLog().warn(nsURI + " is declared by " + previous.name() + " and " + node.name());
+                }
+            }
+        }
+        Map<File, Node> fileOwners = new HashMap<>();
+        for (Node node : nodes) {
+            for (File ecoreFile : node.mojo.getEcoreFiles()) {
+                fileOwners.putIfAbsent(ecoreFile.toPath().toAbsolutePath().normalize().toFile(), node);
+            }
+        }
+        for (Node node : nodes) {
+            for (String nsURI : node.scan.references()) {
+                addDependency(node, owners.get(nsURI));
+            }
+            for (File file : node.scan.files()) {
+                Node owner = fileOwners.get(file);
+                if (owner != null) {
+                    addDependency(node, owner);
+                } else {
+                    nodesOf(nodes, containingProject(nodes, file)).forEach(other -> addDependency(node, other));
+                }
+            }
+            for (String platformProject : node.scan.platformProjects()) {
+                for (Node other : nodes) {
+                    if (other.project.getArtifactId().equals(platformProject)) {
+                        addDependency(node, other);
+                    }
+                }
+            }
+            // References the scan cannot see, e.g. through a GenModel, still
+            // follow the dependencies between the modules
+            for (Dependency dependency : node.project.getDependencies()) {
+                for (Node other : nodes) {
+                    if (other.project.getGroupId().equals(dependency.getGroupId())
+                            && other.project.getArtifactId().equals(dependency.getArtifactId())) {
+                        addDependency(node, other);
+                    }
+                }
+            }
+        }
+
+        List<Node> order = new ArrayList<>();
+        Set<Node> done = new LinkedHashSet<>();
+        while (order.size() < nodes.size()) {
+            boolean progress = false;
+            for (Node node : nodes) {
+                if (!done.contains(node) && done.containsAll(node.dependencies)) {
+                    order.add(node);
+                    done.add(node);
+                    progress = true;
+                }
+            }
+            if (!progress) {
+                List<String> cycle = new ArrayList<>();
+                for (Node node : nodes) {
+                    if (!done.contains(node)) {
+                        cycle.add(node.name());
+                    }
+                }
+                throw new MojoFailureException("Cyclic model references between " + String.join(", ", cycle));
+            }
+        }
+        for (Node node : order) {
+            node.mojo.setUpstreamProjects(upstreamProjects(node));
+            List<String> dependencies = new ArrayList<>();
+            node.dependencies.forEach(dependency -> dependencies.add(dependency.name()));
+            getLog().info("Plan: " + node.name()
+                    + (dependencies.isEmpty() ? "" : " after " + String.join(", ", dependencies)));
+        }
+        return order;
+    }
+
+    private static void addDependency(Node node, Node dependency) {
+        if (dependency != null && dependency.project != node.project) {
+            node.dependencies.add(dependency);
+        }
+    }
+
+    /**
+     * Returns the project whose base directory contains the file, the
+     * innermost one for nested modules.
+     */
+    private static MavenProject containingProject(List<Node> nodes, File file) {
+        MavenProject result = null;
+        for (Node node : nodes) {
+            java.nio.file.Path basedir = node.project.getBasedir().toPath().toAbsolutePath().normalize();
+            if (file.toPath().startsWith(basedir) && (result == null
+                    || basedir.startsWith(result.getBasedir().toPath().toAbsolutePath().normalize()))) {
+                result = node.project;
+            }
+        }
+        return result;
+    }
+
+    private static List<Node> nodesOf(List<Node> nodes, MavenProject project) {
+        List<Node> result = new ArrayList<>();
+        for (Node node : nodes) {
+            if (node.project == project) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the projects of the nodes the node depends on, directly or not.
+     */
+    private static Set<MavenProject> upstreamProjects(Node node) {
+        Set<MavenProject> projects = new LinkedHashSet<>();
+        Deque<Node> pending = new ArrayDeque<>(node.dependencies);
+        while (!pending.isEmpty()) {
+            Node dependency = pending.pop();
+            if (projects.add(dependency.project)) {
+                pending.addAll(dependency.dependencies);
+            }
+        }
+        projects.remove(node.project);
+        return projects;
+    }
+
+    // ==================== Execution ====================
+
+    /**
+     * Generates each node once its dependencies are generated. A node whose
+     * dependency failed is not generated.
+     */
+    private void run(List<Node> order, int threadCount) throws MojoFailureException {
+        ClassLoader classLoader = getClass().getClassLoader();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, order.size()), runnable -> {
+            Thread thread = new Thread(runnable, "emf-generate-" + threadNumber.incrementAndGet());
+            thread.setContextClassLoader(classLoader);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        Map<Node, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        try {
+            for (Node node : order) {
+                CompletableFuture<?>[] dependencies = node.dependencies.stream().map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                futures.put(node, CompletableFuture.allOf(dependencies).thenRunAsync(() -> generate(node), executor));
+            }
+            List<String> failures = new ArrayList<>();
+            for (Map.Entry<Node, CompletableFuture<Void>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().join();
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof ModuleFailure failure && failure.node == entry.getKey()) {
+                        failures.add(entry.getKey().name() + ": " + failure.getCause().getMessage());
+                    } else {
+                        failures.add(entry.getKey().name() + ": not generated, a dependency failed");
+                    }
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new MojoFailureException("Generation failed for " + String.join("; ", failures));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        getLog().info("Generated " + order.size() + " model execution(s) in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private void generate(Node node) {
+        long start = System.nanoTime();
+        try {
+            node.mojo.execute();
+        } catch (MojoExecutionException | MojoFailureException | RuntimeException e) {
+            throw new ModuleFailure(node, e);
+        }
+        // The module's own execution in the lifecycle keeps the sources
+        node.project.setContextValue(EmfGenerateMojo.generatedContextKey(node.mojo.getOutputDirectory()),
+                Boolean.TRUE);
+        getLog().info("Generated " + node.name() + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Failure of the generation of a node.
+     */
+    private static final class ModuleFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Node node;
+
+        ModuleFailure(Node node, Throwable cause) {
+            super(cause);
+            this.node = node;
+        }
+    }
+}
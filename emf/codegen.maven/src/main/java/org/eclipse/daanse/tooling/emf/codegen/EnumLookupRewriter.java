@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Replaces the linear literal search of generated enums with hash lookups.
+ *
+ * <p>
+ * EMF generates {@code get(String)} and {@code getByName(String)} as a loop
+ * over {@code VALUES_ARRAY} comparing each literal, which is what the XML and
+ * XMI loaders and {@code createXxxFromString} call for every enum value they
+ * read. For enums with many literals the rewriter adds a {@code HashMap} per
+ * key, filled once from {@code VALUES_ARRAY}, and makes both methods a single
+ * map lookup. The first literal wins for duplicate keys, as with the loop.
+ * {@code get(int)} is left as generated, it already is a switch over the
+ * values.
+ * </p>
+ */
+public class EnumLookupRewriter {
+
+    private static final Pattern VALUES_PATTERN = Pattern
+            .compile("\tpublic static final List<(\\w+)> VALUES = [^\\n]+\\n");
+
+    private static final String LOOP = "\t\tfor (int i = 0; i < VALUES_ARRAY.length; ++i) {\n"
+            + "\t\t\t$Enum$ result = VALUES_ARRAY[i];\n"
+            + "\t\t\tif (result.$Key$.equals($Parameter$)) {\n"
+            + "\t\t\t\treturn result;\n"
+            + "\t\t\t}\n"
+            + "\t\t}\n"
+            + "\t\treturn null;\n";
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public EnumLookupRewriter(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Rewrites the given enum in place; files without the generated literal
+     * search are left unchanged.
+     */
+    public void rewrite(Path file) {
+        try {
+            String content = Files.readString(file);
+            Matcher values = VALUES_PATTERN.matcher(content);
+            if (content.contains(" LITERALS = ") || !values.find()) {
+                return;
+            }
+            String enumName = values.group(1);
+            String byLiteral = LOOP.replace("$Enum$", enumName).replace("$Key$", "toString()")
+                    .replace("$Parameter$", "literal");
+            String byName = LOOP.replace("$Enum$", enumName).replace("$Key$", "getName()")
+                    .replace("$Parameter$", "name");
+            if (!content.contains(byLiteral) || !content.contains(byName)) {
+                log.warn("Not generating the literal lookup of " + file + ", the literal search was not found");
+                return;
+            }
+            String rewritten = content.substring(0, values.end())
+                    + TABLES_TEMPLATE.replace("$Enum$", enumName)
+                    + content.substring(values.end());
+            rewritten = rewritten.replace(byLiteral, "\t\treturn LITERALS.get(literal);\n")
+                    .replace(byName, "\t\treturn NAMES.get(name);\n")
+                    .replace("import java.util.Collections;\n",
+                            "import java.util.Collections;\nimport java.util.HashMap;\n")
+                    .replace("import java.util.List;\n", "import java.util.List;\nimport java.util.Map;\n");
+            Files.writeString(file, rewritten);
+            log.info("Generated the literal lookup of " + enumName);
+        } catch (IOException e) {
+            log.warn("Could not generate the literal lookup in: " + file + " - " + e.getMessage());
+        }
+    }
+
+    private static final String TABLES_TEMPLATE = """
+
+            	/**
+            	 * The enumerators by literal, for {@link #get(java.lang.String)}.
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static final Map<String, $Enum$> LITERALS = new HashMap<String, $Enum$>(VALUES_ARRAY.length * 2);
+
+            	/**
+            	 * The enumerators by name, for {@link #getByName(java.lang.String)}.
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static final Map<String, $Enum$> NAMES = new HashMap<String, $Enum$>(VALUES_ARRAY.length * 2);
+
+            	static {
+            		for ($Enum$ value : VALUES_ARRAY) {
+            			LITERALS.putIfAbsent(value.toString(), value);
+            			NAMES.putIfAbsent(value.getName(), value);
+            		}
+            	}
+            """;
+}
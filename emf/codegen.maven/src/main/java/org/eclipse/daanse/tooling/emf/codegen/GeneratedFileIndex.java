@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Index of the Java files a generation wrote, used to skip JMerge for files
+ * nobody edited.
+ *
+ * <p>
+ * EMF merges every emitted file with the one on disk to keep hand-written
+ * code, parsing both. The index records the hash of each file as the last
+ * generation left it and whether it contains {@code @generated NOT} members.
+ * Before the next generation, files whose content still has the recorded hash
+ * and no {@code @generated NOT} member are moved aside, next to the index, so
+ * the generator writes them without merging. Files that changed since, that
+ * are not in the index or that contain {@code @generated NOT} members are
+ * merged as before, which also keeps hand-added members without
+ * {@code @generated} tag. The moved files are discarded once the generation
+ * succeeded and restored if it failed, so a failed generation leaves the
+ * output as it was.
+ * </p>
+ *
+ * <p>
+ * The up-to-date check uses the index to verify that the output of the last
+ * generation is still there as it was left, see {@link #matches(Path)}.
+ * </p>
+ */
+public class GeneratedFileIndex {
+
+    /**
+     * Marker of a member edited by hand.
+     */
+    static final String GENERATED_NOT = "@generated NOT";
+
+    private static final String PARSE_KEY = "# parse.nanos.per.file=";
+
+    private final Path indexFile;
+
+    /**
+     * Where the unmodified files are kept while they are regenerated.
+     */
+    private final Path unmodifiedDirectory;
+
+    /**
+     * Hash per file path relative to the output directory; hand-edited files
+     * are prefixed with {@code !}.
+     */
+    private final Map<String, String> hashes = new TreeMap<>();
+
+    private long parseNanosPerFile;
+
+    private GeneratedFileIndex(Path indexFile) {
+        this.indexFile = indexFile;
+        this.unmodifiedDirectory = indexFile.resolveSibling(indexFile.getFileName() + ".unmodified");
+    }
+
+    /**
+     * Loads the index, or returns an empty one if there is none.
+     */
+    public static GeneratedFileIndex load(Path indexFile) throws IOException {
+        GeneratedFileIndex index = new GeneratedFileIndex(indexFile);
+        if (Files.isRegularFile(indexFile)) {
+            for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+                if (line.startsWith(PARSE_KEY)) {
+                    try {
+                        index.parseNanosPerFile = Long.parseLong(line.substring(PARSE_KEY.length()));
+                    } catch (NumberFormatException e) {
+                        index.parseNanosPerFile = 0;
+                    }
+                } else if (!line.isEmpty() && !line.startsWith("#")) {
+                    int tab = line.indexOf('\t');
+                    if (tab > 0) {
+                        index.hashes.put(line.substring(tab + 1), line.substring(0, tab));
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the average time JMerge spent parsing a merged file, as measured
+     * by the last generation that merged files, or {@code 0} if unknown.
+     */
+    public long getParseNanosPerFile() {
+        return parseNanosPerFile;
+    }
+
+    /**
+     * Moves the files in the output directory that are unchanged since the
+     * last generation and contain no {@code @generated NOT} member aside,
+     * until {@link #discardUnmodified()} or
+     * {@link #restoreUnmodified(Path)}.
+     *
+     * @return the paths of the moved files, relative to the output directory
+     */
+    public List<String> deleteUnmodified(Path outputDirectory) throws IOException {
+        restoreUnmodified(outputDirectory);
+        List<String> deleted = new ArrayList<>();
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            if (entry.getValue().startsWith("!")) {
+                continue;
+            }
+            Path file = outputDirectory.resolve(entry.getKey());
+            if (Files.isRegularFile(file)) {
+                byte[] content = Files.readAllBytes(file);
+                if (entry.getValue().equals(sha256(content)) && !contains(content, GENERATED_NOT)) {
+                    Path target = unmodifiedDirectory.resolve(entry.getKey());
+                    Files.createDirectories(target.getParent());
+                    Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+                    deleted.add(entry.getKey());
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Moves the files moved aside by {@link #deleteUnmodified(Path)} back to
+     * the output directory, unless a file of the same name was written since,
+     * e.g. after a failed generation or one that did not finish.
+     *
+     * @return the number of restored files
+     */
+    public int restoreUnmodified(Path outputDirectory) throws IOException {
+        if (!Files.isDirectory(unmodifiedDirectory)) {
+            return 0;
+        }
+        int restored = 0;
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(unmodifiedDirectory)) {
+            files = stream.filter(Files::isRegularFile).toList();
+        }
+        for (Path file : files) {
+            Path target = outputDirectory.resolve(unmodifiedDirectory.relativize(file).toString());
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                Files.move(file, target);
+                restored++;
+            }
+        }
+        discardUnmodified();
+        return restored;
+    }
+
+    /**
+     * Deletes the files moved aside by {@link #deleteUnmodified(Path)}, once
+     * the generation wrote the output again.
+     */
+    public void discardUnmodified() throws IOException {
+        if (!Files.isDirectory(unmodifiedDirectory)) {
+            return;
+        }
+        List<Path> paths;
+        try (Stream<Path> stream = Files.walk(unmodifiedDirectory)) {
+            paths = stream.sorted(Comparator.reverseOrder()).toList();
+        }
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Whether every file recorded by the last generation is in the output
+     * directory with the recorded content. An empty index matches nothing.
+     */
+    public boolean matches(Path outputDirectory) throws IOException {
+        if (hashes.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            Path file = outputDirectory.resolve(entry.getKey());
+            String hash = entry.getValue().startsWith("!") ? entry.getValue().substring(1) : entry.getValue();
+            if (!Files.isRegularFile(file) || !hash.equals(sha256(Files.readAllBytes(file)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the Java files in the output directory as they are now and the
+     * parse time measured for the files merged by this generation.
+     *
+     * @return the paths of the files with {@code @generated NOT} members
+     */
+    public List<String> update(Path outputDirectory, long parseNanos, long mergedFiles) throws IOException {
+        hashes.clear();
+        List<String> handEdited = new ArrayList<>();
+        if (Files.isDirectory(outputDirectory)) {
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(outputDirectory)) {
+                files = stream.filter(path -> path.toString().endsWith(".java") && Files.isRegularFile(path))
+                        .toList();
+            }
+            for (Path file : files) {
+                String path = outputDirectory.relativize(file).toString().replace('\\', '/');
+                byte[] content = Files.readAllBytes(file);
+                if (contains(content, GENERATED_NOT)) {
+                    handEdited.add(path);
+                    hashes.put(path, "!" + sha256(content));
+                } else {
+                    hashes.put(path, sha256(content));
+                }
+            }
+        }
+        if (mergedFiles > 0) {
+            parseNanosPerFile = parseNanos / mergedFiles;
+        }
+        return handEdited;
+    }
+
+    /**
+     * Writes the index, hand-edited files first.
+     */
+    public void save() throws IOException {
+        StringBuilder out = new StringBuilder("# Java files of the last EMF generation, '!' marks @generated NOT\n");
+        out.append(PARSE_KEY).append(parseNanosPerFile).append('\n');
+        hashes.forEach((path, hash) -> {
+            if (hash.startsWith("!")) {
+                out.append(hash).append('\t').append(path).append('\n');
+            }
+        });
+        hashes.forEach((path, hash) -> {
+            if (!hash.startsWith("!")) {
+                out.append(hash).append('\t').append(path).append('\n');
+            }
+        });
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, out, StandardCharsets.UTF_8);
+    }
+
+    private static boolean contains(byte[] content, String marker) {
+        return new String(content, StandardCharsets.UTF_8).contains(marker);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+/**
+ * Wall time and peak heap of the phases of a generation.
+ *
+ * <p>
+ * A phase lasts from its {@link #start(String)} to the start of the next one
+ * or {@link #finish()}. The peak heap of a phase is the highest heap usage
+ * sampled while it runs: when it starts and ends, and right before each
+ * garbage collection, as reported by the notifications of the garbage
+ * collectors. Each sample is the heap in use at one point in time; nothing
+ * global such as the peak usage of the memory pools is reset, so measurements
+ * running at the same time do not disturb each other. The heap is shared with
+ * all other work in the JVM though, such as modules generated in parallel,
+ * whose allocations are included.
+ * </p>
+ */
+public final class GenerationMetrics {
+
+    /**
+     * A measured phase.
+     *
+     * @param name          name of the phase
+     * @param millis        wall time in milliseconds
+     * @param peakHeapBytes peak heap usage in bytes
+     */
+    public record Phase(String name, long millis, long peakHeapBytes) {
+
+        /**
+         * Returns the peak heap usage in megabytes.
+         */
+        public long peakHeapMegabytes() {
+            return peakHeapBytes / (1024 * 1024);
+        }
+    }
+
+    private static final String GC_NOTIFICATION = "com.sun.management.gc.notification";
+
+    private final List<Phase> phases = new ArrayList<>();
+
+    private final AtomicLong peak = new AtomicLong();
+
+    private final NotificationListener listener = this::sample;
+
+    private String current;
+
+    private long startNanos;
+
+    /**
+     * Ends the current phase, if any, and starts the given one.
+     */
+    public void start(String phase) {
+        finish();
+        current = phase;
+        peak.set(heapUsed());
+        listen();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Ends the current phase, if any.
+     */
+    public void finish() {
+        if (current == null) {
+            return;
+        }
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        unlisten();
+        phases.add(new Phase(current, millis, Math.max(peak.get(), heapUsed())));
+        current = null;
+    }
+
+    /**
+     * Returns the measured phases in the order they ran.
+     */
+    public List<Phase> getPhases() {
+        return List.copyOf(phases);
+    }
+
+    private static long heapUsed() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private void listen() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener, null, null);
+            }
+        }
+    }
+
+    private void unlisten() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (ListenerNotFoundException e) {
+                    // not registered with this collector
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the heap in use right before a garbage collection, summed over
+     * the heap pools of the notification.
+     */
+    private void sample(Notification notification, Object handback) {
+        if (!GC_NOTIFICATION.equals(notification.getType())
+                || !(notification.getUserData() instanceof CompositeData info) || !info.containsKey("gcInfo")
+                || !(info.get("gcInfo") instanceof CompositeData gcInfo)
+                || !(gcInfo.get("memoryUsageBeforeGc") instanceof TabularData usageBeforeGc)) {
+            return;
+        }
+        Set<String> heapPools = heapPoolNames();
+        long used = 0;
+        for (Object row : usageBeforeGc.values()) {
+            if (row instanceof CompositeData entry && heapPools.contains(entry.get("key"))
+                    && entry.get("value") instanceof CompositeData usage) {
+                used += MemoryUsage.from(usage).getUsed();
+            }
+        }
+        peak.accumulateAndGet(used, Math::max);
+    }
+
+    private static Set<String> heapPoolNames() {
+        Set<String> names = new HashSet<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                names.add(pool.getName());
+            }
+        }
+        return names;
+    }
+
+    // ==================== Reports ====================
+
+    /**
+     * Writes the phases as a report that can serve as baseline, with the keys
+     * {@code <phase>.millis} and {@code <phase>.heapMB}.
+     */
+    public void write(Path file) throws IOException {
+        StringBuilder out = new StringBuilder("# EMF generation phases\n");
+        for (Phase phase : phases) {
+            out.append(phase.name()).append(".millis=").append(phase.millis()).append('\n');
+            out.append(phase.name()).append(".heapMB=").append(phase.peakHeapMegabytes()).append('\n');
+        }
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a report written by {@link #write(Path)}. Phases with a missing
+     * value have {@code -1} for it.
+     *
+     * @return the phases by name
+     */
+    public static Map<String, Phase> read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, Phase> phases = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            int dot = key.lastIndexOf('.');
+            if (dot > 0) {
+                String name = key.substring(0, dot);
+                phases.computeIfAbsent(name, n -> new Phase(n, value(properties, n + ".millis"),
+                        value(properties, n + ".heapMB") < 0 ? -1
+                                : value(properties, n + ".heapMB") * 1024 * 1024));
+            }
+        }
+        return phases;
+    }
+
+    private static long value(Properties properties, String key) {
+        try {
+            return Long.parseLong(properties.getProperty(key, "-1").trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModelPackage;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Generates hash indexes for looking up model elements by key.
+ *
+ * <p>
+ * For every package with indexed attributes a {@code util/<Prefix>IdIndex}
+ * class is written. The indexed attributes are the {@code eIDAttribute}s of
+ * the classes of the package and the single-valued attributes with the
+ * {@value #INDEXED_KEY} GenModel annotation. The index is an
+ * {@code EContentAdapter} attached to a resource or root object; it indexes
+ * objects when they enter the containment tree and updates the index when an
+ * indexed attribute is set, through generated {@code instanceof} checks and
+ * getters rather than reflection. Each attribute has its own map, so lookups
+ * are a single hash lookup. Keys are expected to be unique; of two objects
+ * with the same key the one indexed last is found.
+ * </p>
+ */
+public class IdIndexGenerator {
+
+    /**
+     * GenModel annotation key marking an attribute as indexed.
+     */
+    static final String INDEXED_KEY = "indexed";
+
+    private static final Map<String, String> BOXED = Map.of("int", "Integer", "long", "Long", "short", "Short",
+            "byte", "Byte", "char", "Character", "float", "Float", "double", "Double", "boolean", "Boolean");
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public IdIndexGenerator(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Writes the index class of every package of the GenModel that has
+     * indexed attributes.
+     */
+    public void generate(GenModel genModel, Path outputDirectory) {
+        for (GenPackage genPackage : genModel.getAllGenPackagesWithClassifiers()) {
+            List<GenFeature> indexed = indexedFeatures(genPackage);
+            if (indexed.isEmpty()) {
+                continue;
+            }
+            Path file = outputDirectory.resolve(
+                    (genPackage.getUtilitiesPackageName() + "." + className(genPackage)).replace('.', '/') + ".java");
+            try {
+                Path packageInterface = outputDirectory
+                        .resolve(genPackage.getQualifiedPackageInterfaceName().replace('.', '/') + ".java");
+                String header = "";
+                if (Files.exists(packageInterface)) {
+                    String content = Files.readString(packageInterface);
+                    header = content.substring(0, Math.max(0, content.indexOf("package ")));
+                }
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, header + source(genPackage, indexed));
+                log.info("Generated " + className(genPackage) + " indexing " + indexed.size() + " attribute(s)");
+            } catch (IOException e) {
+                log.warn("Could not generate ID index in: " + file + " - " + e.getMessage());
+            }
+        }
+    }
+
+    static String className(GenPackage genPackage) {
+        return genPackage.getPrefix() + "IdIndex";
+    }
+
+    /**
+     * Returns the ID attributes of the classes of the package and the attributes
+     * annotated as indexed, declared in the package.
+     */
+    private List<GenFeature> indexedFeatures(GenPackage genPackage) {
+        Set<GenFeature> features = new LinkedHashSet<>();
+        for (GenClass genClass : genPackage.getGenClasses()) {
+            for (GenFeature genFeature : genClass.getGenFeatures()) {
+                if (!(genFeature.getEcoreFeature() instanceof EAttribute attribute)) {
+                    continue;
+                }
+                boolean annotated = Boolean.parseBoolean(
+                        EcoreUtil.getAnnotation(attribute, GenModelPackage.eNS_URI, INDEXED_KEY));
+                if (attribute.isID() || annotated) {
+                    if (attribute.isMany() || !genFeature.isGet()) {
+                        log.warn("Not indexing " + genClass.getName() + "." + attribute.getName()
+                                + ", only single-valued attributes with a getter can be indexed");
+                        continue;
+                    }
+                    features.add(genFeature);
+                }
+            }
+        }
+        return new ArrayList<>(features);
+    }
+
+    private String source(GenPackage genPackage, List<GenFeature> indexed) {
+        String className = className(genPackage);
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(genPackage.getUtilitiesPackageName()).append(";\n");
+        out.append("""
+
+                import java.util.HashMap;
+                import java.util.Map;
+
+                import org.eclipse.emf.common.notify.Notification;
+                import org.eclipse.emf.common.notify.Notifier;
+
+                import org.eclipse.emf.ecore.EObject;
+
+                import org.eclipse.emf.ecore.util.EContentAdapter;
+
+                /**
+                 * <!-- begin-user-doc -->
+                 * Hash indexes for looking up the instances of the <b>$PackageName$</b> package by key.
+                 * Attach the index to a resource set, resource or root object with {@link #attach(Notifier)};
+                 * it indexes the contents and is updated as objects are added, removed or change their keys.
+                 * Keys are expected to be unique; of two objects with the same key the one indexed last is found.
+                 * <!-- end-user-doc -->
+                 * @generated
+                 */
+                public class $ClassName$ extends EContentAdapter {
+                """.replace("$ClassName$", className).replace("$PackageName$", genPackage.getPackageName()));
+
+        for (GenFeature genFeature : indexed) {
+            out.append("\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+            out.append("\tprivate final Map<").append(keyType(genFeature)).append(", ")
+                    .append(genFeature.getGenClass().getQualifiedInterfaceName()).append("> ").append(mapName(genFeature))
+                    .append(" = new HashMap<>();\n\n");
+        }
+
+        out.append("""
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * Creates an index of the contents of the notifier and keeps it up to date.
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static $ClassName$ attach(Notifier notifier) {
+                		$ClassName$ index = new $ClassName$();
+                		notifier.eAdapters().add(index);
+                		return index;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * Removes the index from the notifier and its contents.
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public void detach(Notifier notifier) {
+                		notifier.eAdapters().remove(this);
+                	}
+                """.replace("$ClassName$", className));
+
+        for (GenFeature genFeature : indexed) {
+            GenClass genClass = genFeature.getGenClass();
+            out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * Returns the {@link ")
+                    .append(genClass.getQualifiedInterfaceName()).append(" <em>").append(genClass.getFormattedName())
+                    .append("</em>} with the given '<em>").append(genFeature.getFormattedName())
+                    .append("</em>', or <code>null</code>.\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+            out.append("\tpublic ").append(genClass.getQualifiedInterfaceName()).append(' ').append(lookupName(genFeature))
+                    .append('(').append(parameterType(genFeature)).append(" key) {\n\t\treturn ").append(mapName(genFeature))
+                    .append(".get(key);\n\t}\n");
+        }
+
+        out.append("""
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@Override
+                	protected void setTarget(EObject target) {
+                		super.setTarget(target);
+                		index(target, true);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@Override
+                	protected void unsetTarget(EObject target) {
+                		super.unsetTarget(target);
+                		index(target, false);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@Override
+                	public void notifyChanged(Notification notification) {
+                		super.notifyChanged(notification);
+                		if (notification.isTouch() || !(notification.getNotifier() instanceof EObject)) {
+                			return;
+                		}
+                		int eventType = notification.getEventType();
+                		if (eventType != Notification.SET && eventType != Notification.UNSET) {
+                			return;
+                		}
+                		Object feature = notification.getFeature();
+                		EObject eObject = (EObject)notification.getNotifier();
+                """);
+        String prefix = "\t\t";
+        for (GenFeature genFeature : indexed) {
+            out.append(prefix).append("if (feature == ").append(featureAccessor(genFeature)).append(") {\n");
+            out.append("\t\t\tupdate(").append(mapName(genFeature)).append(", notification.getOldValue(), notification.getNewValue(), (")
+                    .append(genFeature.getGenClass().getQualifiedInterfaceName()).append(")eObject);\n");
+            prefix = "\t\t}\n\t\telse ";
+        }
+        out.append("\t\t}\n\t}\n");
+
+        out.append("""
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void index(EObject eObject, boolean add) {
+                """);
+        for (GenFeature genFeature : indexed) {
+            String type = genFeature.getGenClass().getQualifiedInterfaceName();
+            out.append("\t\tif (eObject instanceof ").append(type).append(") {\n");
+            out.append("\t\t\t").append(type).append(" object = (").append(type).append(")eObject;\n");
+            out.append("\t\t\tupdate(").append(mapName(genFeature)).append(", add ? null : object.")
+                    .append(genFeature.getGetAccessor()).append("(), add ? object.").append(genFeature.getGetAccessor())
+                    .append("() : null, object);\n\t\t}\n");
+        }
+        out.append("""
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@SuppressWarnings("unchecked")
+                	private static <K, V> void update(Map<K, V> index, Object oldKey, Object newKey, V value) {
+                		if (oldKey != null) {
+                			index.remove(oldKey, value);
+                		}
+                		if (newKey != null) {
+                			index.put((K)newKey, value);
+                		}
+                	}
+                }
+                """);
+        return out.toString();
+    }
+
+    private static String keyType(GenFeature genFeature) {
+        String type = genFeature.getEcoreFeature().getEType().getInstanceTypeName();
+        if (type == null) {
+            return "Object";
+        }
+        type = BOXED.getOrDefault(type, type.replace('$', '.'));
+        return type.startsWith("java.lang.") && type.indexOf('.', 10) < 0 ? type.substring(10) : type;
+    }
+
+    private static String parameterType(GenFeature genFeature) {
+        String type = genFeature.getEcoreFeature().getEType().getInstanceTypeName();
+        return BOXED.containsKey(type) ? type : keyType(genFeature);
+    }
+
+    private static String mapName(GenFeature genFeature) {
+        return genFeature.getGenClass().getUncapName() + "By" + genFeature.getCapName();
+    }
+
+    private static String lookupName(GenFeature genFeature) {
+        return "get" + genFeature.getGenClass().getName() + "By" + genFeature.getCapName();
+    }
+
+    private static String featureAccessor(GenFeature genFeature) {
+        return genFeature.getGenClass().getGenPackage().getQualifiedPackageInterfaceName() + ".eINSTANCE.get"
+                + genFeature.getFeatureAccessorName() + "()";
+    }
+}
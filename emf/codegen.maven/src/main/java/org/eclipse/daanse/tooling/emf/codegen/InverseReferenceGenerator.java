@@ -0,0 +1,741 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.ecore.EReference;
+
+/**
+ * Generates an inverse-reference index for the non-containment references of
+ * a model and wires it into the generated classes.
+ *
+ * <p>
+ * The indexed references are the non-containment references without an
+ * opposite whose type is a class of the generated model. Each object that can
+ * be the target of such a reference gets an {@code eReferrers} field on the
+ * topmost generated class of its package, holding the objects that currently
+ * refer to it and through which reference. The field is updated directly from
+ * the generated code:
+ * </p>
+ * <ul>
+ * <li>single-valued references after every assignment of their field, that is
+ * in the setter, the unsetter and on proxy resolution in the getter</li>
+ * <li>multi-valued references through list subclasses that override
+ * {@code didAdd}, {@code didRemove} and {@code didSet}, including the plain
+ * lists of classes generated without notification</li>
+ * </ul>
+ * <p>
+ * For every package with targets a {@code util/<Prefix>InverseIndex} class is
+ * written with the lookups, a typed one per reference, and the support code.
+ * Classes generated with another feature delegation than the default, such as
+ * the compact layout or the off-heap store, do not assign fields and are not
+ * indexed.
+ * </p>
+ */
+public class InverseReferenceGenerator {
+
+    private static final Pattern LIST_PATTERN = Pattern
+            .compile("new (EObjectResolvingEList|EObjectEList)(\\.Unsettable)?<");
+
+    private static final Pattern BASIC_LIST_PATTERN = Pattern
+            .compile("new BasicInternalEList<([^;\\n]+)>\\(([^;\\n]+)\\);");
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public InverseReferenceGenerator(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Writes the index classes of the GenModel and rewrites the generated
+     * classes to maintain them.
+     */
+    public void generate(GenModel genModel, Path outputDirectory) {
+        Map<GenPackage, List<GenFeature>> referencesByTargetPackage = new LinkedHashMap<>();
+        List<GenPackage> genPackages = genModel.getAllGenPackagesWithClassifiers();
+        for (GenPackage genPackage : genPackages) {
+            for (GenClass genClass : genPackage.getGenClasses()) {
+                for (GenFeature genFeature : genClass.getGenFeatures()) {
+                    if (!isIndexed(genFeature)) {
+                        continue;
+                    }
+                    GenClass target = genFeature.getTypeGenClass();
+                    if (target == null || !genPackages.contains(target.getGenPackage())) {
+                        log.warn("Not indexing " + genClass.getName() + "." + genFeature.getName()
+                                + ", its type is not a class of the generated model");
+                        continue;
+                    }
+                    referencesByTargetPackage.computeIfAbsent(target.getGenPackage(), p -> new ArrayList<>())
+                            .add(genFeature);
+                }
+            }
+        }
+
+        for (Map.Entry<GenPackage, List<GenFeature>> entry : referencesByTargetPackage.entrySet()) {
+            GenPackage genPackage = entry.getKey();
+            List<GenFeature> references = entry.getValue();
+            String indexClass = genPackage.getUtilitiesPackageName() + "." + className(genPackage);
+            Path file = outputDirectory.resolve(indexClass.replace('.', '/') + ".java");
+            try {
+                for (GenClass root : targetRoots(genPackage, references)) {
+                    addReferrersField(outputDirectory, root, indexClass);
+                }
+                Path packageInterface = outputDirectory
+                        .resolve(genPackage.getQualifiedPackageInterfaceName().replace('.', '/') + ".java");
+                String header = "";
+                if (Files.exists(packageInterface)) {
+                    String content = Files.readString(packageInterface);
+                    header = content.substring(0, Math.max(0, content.indexOf("package ")));
+                }
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, header + source(genPackage, references));
+                log.info("Generated " + className(genPackage) + " indexing " + references.size() + " reference(s)");
+            } catch (IOException e) {
+                log.warn("Could not generate inverse index in: " + file + " - " + e.getMessage());
+                continue;
+            }
+            for (GenFeature reference : references) {
+                addHooks(outputDirectory, reference, indexClass);
+            }
+        }
+    }
+
+    static String className(GenPackage genPackage) {
+        return genPackage.getPrefix() + "InverseIndex";
+    }
+
+    private static boolean isIndexed(GenFeature genFeature) {
+        return genFeature.getEcoreFeature() instanceof EReference reference && !reference.isContainment()
+                && !reference.isContainer() && reference.getEOpposite() == null && !genFeature.isVolatile()
+                && !genFeature.isDerived();
+    }
+
+    /**
+     * Returns the topmost generated classes of the package that all instances
+     * of the target types extend.
+     */
+    private static Set<GenClass> targetRoots(GenPackage genPackage, List<GenFeature> references) {
+        Set<GenClass> roots = new LinkedHashSet<>();
+        for (GenClass genClass : genPackage.getGenClasses()) {
+            if (genClass.isInterface() || references.stream()
+                    .noneMatch(r -> r.getTypeGenClass().getEcoreClass().isSuperTypeOf(genClass.getEcoreClass()))) {
+                continue;
+            }
+            GenClass root = genClass;
+            GenClass base = root.getClassExtendsGenClass();
+            while (base != null && base.getGenPackage() == genPackage && !base.isInterface()) {
+                root = base;
+                base = root.getClassExtendsGenClass();
+            }
+            roots.add(root);
+        }
+        return roots;
+    }
+
+    private void addReferrersField(Path outputDirectory, GenClass root, String indexClass) throws IOException {
+        Path file = implFile(outputDirectory, root);
+        String content = Files.readString(file);
+        if (content.contains(" eReferrers;")) {
+            return;
+        }
+        String simpleIndex = indexClass.substring(indexClass.lastIndexOf('.') + 1);
+        Matcher declaration = Pattern.compile("(public (?:abstract )?class " + root.getClassName() + "\\b[^{]*?)\\s*\\{")
+                .matcher(content);
+        int end = content.lastIndexOf('}');
+        if (!declaration.find() || end < declaration.end()) {
+            log.warn("Could not add the referrers to " + file);
+            return;
+        }
+        String members = """
+
+                	/**
+                	 * The objects referring to this object, maintained by {@link $Index$}.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	protected $Index$.Referrers eReferrers;
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@Override
+                	public $Index$.Referrers eReferrers() {
+                		return eReferrers;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@Override
+                	public void eSetReferrers($Index$.Referrers referrers) {
+                		eReferrers = referrers;
+                	}
+
+                """.replace("$Index$", simpleIndex);
+        String declared = declaration.group(1);
+        String implementsClause = declared.contains(" implements ") ? ", " : " implements ";
+        content = content.substring(0, declaration.start(1)) + declared + implementsClause + simpleIndex
+                + ".Referenced" + content.substring(declaration.end(1), end) + members + content.substring(end);
+        Files.writeString(file, addImport(content, indexClass));
+    }
+
+    /**
+     * Updates the index after every assignment of the field of a single-valued
+     * reference, and replaces the list of a multi-valued one.
+     */
+    private void addHooks(Path outputDirectory, GenFeature reference, String indexClass) {
+        String simpleIndex = indexClass.substring(indexClass.lastIndexOf('.') + 1);
+        GenClass declaring = reference.getGenClass();
+        String literal = featureLiteral(reference, declaring.getGenPackage().getPackageInterfaceName());
+        String field = reference.getSafeName();
+        for (GenClass genClass : declaring.getGenPackage().getGenModel().getAllGenPackagesWithClassifiers().stream()
+                .flatMap(p -> p.getGenClasses().stream()).filter(c -> c.getImplementedGenFeatures().contains(reference))
+                .toList()) {
+            Path file = implFile(outputDirectory, genClass);
+            try {
+                String content = Files.readString(file);
+                String modified;
+                String hooked;
+                if (reference.isListType()) {
+                    Matcher matcher = Pattern.compile("(\\t+" + field + " = )" + LIST_PATTERN.pattern())
+                            .matcher(content);
+                    modified = matcher.replaceAll(m -> Matcher.quoteReplacement(m.group(1) + "new " + simpleIndex
+                            + "." + (m.group(3) == null ? "" : "Unsettable")
+                            + ("EObjectEList".equals(m.group(2)) ? "NonResolving" : "Resolving") + "EList<"));
+                    // Without notification the list is a plain list that does not know its owner
+                    matcher = Pattern.compile("(\\t+" + field + " = )" + BASIC_LIST_PATTERN.pattern()).matcher(modified);
+                    modified = matcher.replaceAll(m -> Matcher.quoteReplacement(m.group(1) + "new " + simpleIndex
+                            + ".BasicEList<" + m.group(2) + ">(" + m.group(3) + ", this, " + literal + ");"));
+                    hooked = field + " = new " + simpleIndex + ".";
+                    modified = removeUnusedImport(modified, "org.eclipse.emf.ecore.util.EObjectResolvingEList");
+                    modified = removeUnusedImport(modified, "org.eclipse.emf.ecore.util.EObjectEList");
+                    modified = removeUnusedImport(modified, "org.eclipse.emf.ecore.util.BasicInternalEList");
+                } else {
+                    String hook = simpleIndex + ".setReferrer(this, " + literal + ", old" + reference.getCapName() + ", "
+                            + field + ");";
+                    String old = "old" + reference.getCapName();
+                    Matcher matcher = Pattern.compile("(?m)^(\\t+)" + field + " = [^;\\n]+;\\n(?!\\t+" + Pattern
+                            .quote(hook) + ")").matcher(content);
+                    // Setters generated without notification do not keep the old value
+                    modified = matcher.replaceAll(m -> Matcher.quoteReplacement(
+                            (declaresOld(content, m.start(), old) ? "" : m.group(1) + "Object " + old + " = " + field
+                                    + ";\n") + m.group() + m.group(1) + hook + "\n"));
+                    hooked = hook;
+                }
+                if (content.equals(modified)) {
+                    if (!content.contains(hooked)) {
+                        log.warn("Not indexing " + declaring.getName() + "." + reference.getName() + " in "
+                                + genClass.getName() + ", its field is not assigned in the generated code");
+                    }
+                    continue;
+                }
+                Files.writeString(file, addImport(modified, indexClass));
+            } catch (IOException e) {
+                log.warn("Could not add inverse index updates in: " + file + " - " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns whether the method containing the given position declares the
+     * local variable before it.
+     */
+    private static boolean declaresOld(String content, int position, String old) {
+        int methodStart = content.lastIndexOf("\n\t}\n", position);
+        return Pattern.compile("\\b" + old + " = ").matcher(content.substring(Math.max(0, methodStart), position))
+                .find();
+    }
+
+    private static Path implFile(Path outputDirectory, GenClass genClass) {
+        return outputDirectory.resolve(genClass.getQualifiedClassName().replace('.', '/') + ".java");
+    }
+
+    private static String featureLiteral(GenFeature genFeature, String packageInterface) {
+        GenClass genClass = genFeature.getGenClass();
+        return genClass.getGenPackage().isLiteralsInterface()
+                ? packageInterface + ".Literals." + genClass.getFeatureID(genFeature)
+                : packageInterface + ".eINSTANCE.get" + genFeature.getFeatureAccessorName() + "()";
+    }
+
+    /**
+     * Adds an import in sorted order, at the end of the preceding group when
+     * it would start a group.
+     */
+    static String addImport(String content, String qualifiedName) {
+        String importLine = "import " + qualifiedName + ";\n";
+        if (content.contains(importLine)) {
+            return content;
+        }
+        Matcher imports = Pattern.compile("(?m)^import ([\\w.]+);\n").matcher(content);
+        int at = -1;
+        int previousEnd = -1;
+        while (imports.find()) {
+            if (imports.group(1).compareTo(qualifiedName) > 0) {
+                at = previousEnd >= 0 && content.startsWith("\n", imports.start() - 1)
+                        && content.startsWith("\n", imports.start() - 2) ? previousEnd : imports.start();
+                break;
+            }
+            previousEnd = imports.end();
+        }
+        if (at < 0) {
+            at = previousEnd >= 0 ? previousEnd : content.indexOf(";\n", content.indexOf("package ")) + 2;
+        }
+        return content.substring(0, at) + importLine + content.substring(at);
+    }
+
+    static String removeUnusedImport(String source, String qualifiedName) {
+        String importLine = "import " + qualifiedName + ";\n";
+        String simpleName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        int at = source.indexOf(importLine);
+        if (at < 0 || Pattern.compile("\\b" + simpleName + "\\b")
+                .matcher(source.substring(0, at) + source.substring(at + importLine.length())).find()) {
+            return source;
+        }
+        return source.substring(0, at) + source.substring(at + importLine.length());
+    }
+
+    private String source(GenPackage genPackage, List<GenFeature> references) {
+        StringBuilder lookups = new StringBuilder();
+        for (GenFeature reference : references) {
+            GenClass declaring = reference.getGenClass();
+            GenClass target = reference.getTypeGenClass();
+            lookups.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * Returns the objects whose '{@link ")
+                    .append(declaring.getQualifiedInterfaceName()).append("#").append(reference.getGetAccessor())
+                    .append(" <em>").append(reference.getFormattedName())
+                    .append("</em>}' reference contains the given object.\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+            lookups.append("\t@SuppressWarnings(\"unchecked\")\n");
+            lookups.append("\tpublic static List<").append(declaring.getQualifiedInterfaceName()).append("> get")
+                    .append(declaring.getName()).append(reference.getCapName()).append("Referrers(")
+                    .append(target.getQualifiedInterfaceName()).append(" target) {\n");
+            lookups.append("\t\treturn (List<").append(declaring.getQualifiedInterfaceName())
+                    .append(">)(List<?>)getReferrers(target, ")
+                    .append(featureLiteral(reference, declaring.getGenPackage().getQualifiedPackageInterfaceName()))
+                    .append(");\n\t}\n");
+        }
+        return "package " + genPackage.getUtilitiesPackageName() + ";\n" + INDEX_TEMPLATE
+                .replace("$ClassName$", className(genPackage)).replace("$PackageName$", genPackage.getPackageName())
+                .replace("$lookups$", lookups.toString());
+    }
+
+    private static final String INDEX_TEMPLATE = """
+
+            import java.util.ArrayList;
+            import java.util.Arrays;
+            import java.util.Collections;
+            import java.util.List;
+
+            import org.eclipse.emf.ecore.EObject;
+            import org.eclipse.emf.ecore.EReference;
+            import org.eclipse.emf.ecore.EStructuralFeature;
+            import org.eclipse.emf.ecore.InternalEObject;
+
+            import org.eclipse.emf.ecore.util.BasicInternalEList;
+            import org.eclipse.emf.ecore.util.EObjectEList;
+            import org.eclipse.emf.ecore.util.EObjectResolvingEList;
+
+            /**
+             * <!-- begin-user-doc -->
+             * Inverse navigation of the non-containment references to the objects of the <b>$PackageName$</b> package.
+             * Each object keeps the objects currently referring to it, updated by the generated setters and reference lists,
+             * so the referrers are known without attaching a cross referencer.
+             * <!-- end-user-doc -->
+             * @generated
+             */
+            public final class $ClassName$ {
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * An object that keeps its referrers.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public interface Referenced {
+            		/**
+            		 * <!-- begin-user-doc -->
+            		 * <!-- end-user-doc -->
+            		 * @generated
+            		 */
+            		Referrers eReferrers();
+
+            		/**
+            		 * <!-- begin-user-doc -->
+            		 * <!-- end-user-doc -->
+            		 * @generated
+            		 */
+            		void eSetReferrers(Referrers referrers);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * The objects referring to an object, with the reference through which they do.
+            	 * An object referring through a multi-valued reference that is not unique occurs once per occurrence.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static final class Referrers {
+            		private EObject[] referrers = new EObject[2];
+
+            		private EReference[] references = new EReference[2];
+
+            		private int size;
+
+            		private void add(EObject referrer, EReference reference) {
+            			if (size == referrers.length) {
+            				referrers = Arrays.copyOf(referrers, size * 2);
+            				references = Arrays.copyOf(references, size * 2);
+            			}
+            			referrers[size] = referrer;
+            			references[size++] = reference;
+            		}
+
+            		private boolean remove(EObject referrer, EReference reference) {
+            			for (int i = size - 1; i >= 0; i--) {
+            				if (referrers[i] == referrer && references[i] == reference) {
+            					System.arraycopy(referrers, i + 1, referrers, i, size - i - 1);
+            					System.arraycopy(references, i + 1, references, i, size - i - 1);
+            					referrers[--size] = null;
+            					references[size] = null;
+            					return size == 0;
+            				}
+            			}
+            			return false;
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private $ClassName$() {
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Returns the objects referring to the given object through any indexed reference.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static List<EObject> getReferrers(EObject target) {
+            		return getReferrers(target, null);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Returns the objects referring to the given object through the given reference.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static List<EObject> getReferrers(EObject target, EReference reference) {
+            		Referrers referrers = target instanceof Referenced ? ((Referenced)target).eReferrers() : null;
+            		if (referrers == null) {
+            			return Collections.emptyList();
+            		}
+            		List<EObject> result = new ArrayList<EObject>(referrers.size);
+            		for (int i = 0; i < referrers.size; i++) {
+            			if (reference == null || referrers.references[i] == reference) {
+            				result.add(referrers.referrers[i]);
+            			}
+            		}
+            		return Collections.unmodifiableList(result);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Returns the settings referring to the given object,
+            	 * like {@link org.eclipse.emf.ecore.util.ECrossReferenceAdapter#getNonNavigableInverseReferences(EObject)}.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static List<EStructuralFeature.Setting> getInverseReferences(EObject target) {
+            		Referrers referrers = target instanceof Referenced ? ((Referenced)target).eReferrers() : null;
+            		if (referrers == null) {
+            			return Collections.emptyList();
+            		}
+            		List<EStructuralFeature.Setting> result = new ArrayList<EStructuralFeature.Setting>(referrers.size);
+            		for (int i = 0; i < referrers.size; i++) {
+            			result.add(((InternalEObject)referrers.referrers[i]).eSetting(referrers.references[i]));
+            		}
+            		return result;
+            	}
+            $lookups$
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Records that the referrer's single-valued reference changed from the old to the new target.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static void setReferrer(EObject referrer, EReference reference, Object oldTarget, Object newTarget) {
+            		if (oldTarget != newTarget) {
+            			removeReferrer(referrer, reference, oldTarget);
+            			addReferrer(referrer, reference, newTarget);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static void addReferrer(EObject referrer, EReference reference, Object target) {
+            		if (target instanceof Referenced) {
+            			Referenced referenced = (Referenced)target;
+            			Referrers referrers = referenced.eReferrers();
+            			if (referrers == null) {
+            				referrers = new Referrers();
+            				referenced.eSetReferrers(referrers);
+            			}
+            			referrers.add(referrer, reference);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static void removeReferrer(EObject referrer, EReference reference, Object target) {
+            		if (target instanceof Referenced) {
+            			Referenced referenced = (Referenced)target;
+            			Referrers referrers = referenced.eReferrers();
+            			if (referrers != null && referrers.remove(referrer, reference)) {
+            				referenced.eSetReferrers(null);
+            			}
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * A resolving reference list that updates the index.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static class ResolvingEList<E> extends EObjectResolvingEList<E> {
+            		private static final long serialVersionUID = 1L;
+
+            		public ResolvingEList(Class<?> dataClass, InternalEObject owner, int featureID) {
+            			super(dataClass, owner, featureID);
+            		}
+
+            		@Override
+            		protected void didAdd(int index, E newObject) {
+            			super.didAdd(index, newObject);
+            			addReferrer(owner, (EReference)getEStructuralFeature(), newObject);
+            		}
+
+            		@Override
+            		protected void didRemove(int index, E oldObject) {
+            			super.didRemove(index, oldObject);
+            			removeReferrer(owner, (EReference)getEStructuralFeature(), oldObject);
+            		}
+
+            		@Override
+            		protected void didSet(int index, E newObject, E oldObject) {
+            			super.didSet(index, newObject, oldObject);
+            			setReferrer(owner, (EReference)getEStructuralFeature(), oldObject, newObject);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * An unsettable resolving reference list that updates the index.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static class UnsettableResolvingEList<E> extends EObjectResolvingEList.Unsettable<E> {
+            		private static final long serialVersionUID = 1L;
+
+            		public UnsettableResolvingEList(Class<?> dataClass, InternalEObject owner, int featureID) {
+            			super(dataClass, owner, featureID);
+            		}
+
+            		@Override
+            		protected void didAdd(int index, E newObject) {
+            			super.didAdd(index, newObject);
+            			addReferrer(owner, (EReference)getEStructuralFeature(), newObject);
+            		}
+
+            		@Override
+            		protected void didRemove(int index, E oldObject) {
+            			super.didRemove(index, oldObject);
+            			removeReferrer(owner, (EReference)getEStructuralFeature(), oldObject);
+            		}
+
+            		@Override
+            		protected void didSet(int index, E newObject, E oldObject) {
+            			super.didSet(index, newObject, oldObject);
+            			setReferrer(owner, (EReference)getEStructuralFeature(), oldObject, newObject);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * A non-resolving reference list that updates the index.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static class NonResolvingEList<E> extends EObjectEList<E> {
+            		private static final long serialVersionUID = 1L;
+
+            		public NonResolvingEList(Class<?> dataClass, InternalEObject owner, int featureID) {
+            			super(dataClass, owner, featureID);
+            		}
+
+            		@Override
+            		protected void didAdd(int index, E newObject) {
+            			super.didAdd(index, newObject);
+            			addReferrer(owner, (EReference)getEStructuralFeature(), newObject);
+            		}
+
+            		@Override
+            		protected void didRemove(int index, E oldObject) {
+            			super.didRemove(index, oldObject);
+            			removeReferrer(owner, (EReference)getEStructuralFeature(), oldObject);
+            		}
+
+            		@Override
+            		protected void didSet(int index, E newObject, E oldObject) {
+            			super.didSet(index, newObject, oldObject);
+            			setReferrer(owner, (EReference)getEStructuralFeature(), oldObject, newObject);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * An unsettable non-resolving reference list that updates the index.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static class UnsettableNonResolvingEList<E> extends EObjectEList.Unsettable<E> {
+            		private static final long serialVersionUID = 1L;
+
+            		public UnsettableNonResolvingEList(Class<?> dataClass, InternalEObject owner, int featureID) {
+            			super(dataClass, owner, featureID);
+            		}
+
+            		@Override
+            		protected void didAdd(int index, E newObject) {
+            			super.didAdd(index, newObject);
+            			addReferrer(owner, (EReference)getEStructuralFeature(), newObject);
+            		}
+
+            		@Override
+            		protected void didRemove(int index, E oldObject) {
+            			super.didRemove(index, oldObject);
+            			removeReferrer(owner, (EReference)getEStructuralFeature(), oldObject);
+            		}
+
+            		@Override
+            		protected void didSet(int index, E newObject, E oldObject) {
+            			super.didSet(index, newObject, oldObject);
+            			setReferrer(owner, (EReference)getEStructuralFeature(), oldObject, newObject);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * A reference list of a class generated without notification that updates the index.
+            	 * It is its own setting, as the plain list EMF generates without notification is not.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static class BasicEList<E> extends BasicInternalEList<E> implements EStructuralFeature.Setting {
+            		private static final long serialVersionUID = 1L;
+
+            		private final EObject owner;
+
+            		private final EReference reference;
+
+            		public BasicEList(Class<? extends E> dataClass, EObject owner, EReference reference) {
+            			super(dataClass);
+            			this.owner = owner;
+            			this.reference = reference;
+            		}
+
+            		@Override
+            		protected void didAdd(int index, E newObject) {
+            			super.didAdd(index, newObject);
+            			addReferrer(owner, reference, newObject);
+            		}
+
+            		@Override
+            		protected void didRemove(int index, E oldObject) {
+            			super.didRemove(index, oldObject);
+            			removeReferrer(owner, reference, oldObject);
+            		}
+
+            		@Override
+            		protected void didSet(int index, E newObject, E oldObject) {
+            			super.didSet(index, newObject, oldObject);
+            			setReferrer(owner, reference, oldObject, newObject);
+            		}
+
+            		@Override
+            		public EObject getEObject() {
+            			return owner;
+            		}
+
+            		@Override
+            		public EStructuralFeature getEStructuralFeature() {
+            			return reference;
+            		}
+
+            		@Override
+            		public Object get(boolean resolve) {
+            			return this;
+            		}
+
+            		@Override
+            		@SuppressWarnings("unchecked")
+            		public void set(Object newValue) {
+            			clear();
+            			addAll((List<? extends E>)newValue);
+            		}
+
+            		@Override
+            		public boolean isSet() {
+            			return !isEmpty();
+            		}
+
+            		@Override
+            		public void unset() {
+            			clear();
+            		}
+            	}
+            }
+            """;
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Defers loading of the package contents of generated {@code XxxPackageImpl}
+ * classes until the classifiers are first accessed.
+ *
+ * <p>
+ * With {@code loadInitialization} EMF generates an {@code init()} method that
+ * parses the serialized {@code .ecore} file, fixes the instance classes and
+ * freezes the package before {@code XxxPackage.eINSTANCE} is available. This
+ * rewriter removes those steps from {@code init()}, so registering the package
+ * (for example during OSGi bundle activation) only creates the empty package
+ * object. The contents are materialized by {@code ensureLoaded()}, which is
+ * called from every accessor of a value the loaded {@code .ecore} file
+ * provides: {@code getEClassifiers()}, {@code getESubpackages()},
+ * {@code getName()}, {@code getNsPrefix()}, {@code getEAnnotations()} and the
+ * reflective {@code eGet} and {@code eIsSet}. Every generated classifier and
+ * feature accessor resolves through {@code getEClassifiers()}, so the first
+ * access to any of them loads the entire package.
+ * </p>
+ *
+ * <p>
+ * Only single-package {@code init()} methods in the shape EMF generates for
+ * {@code loadInitialization} are rewritten; anything else is left unchanged
+ * with a warning.
+ * </p>
+ */
+public class LazyPackageInitializer {
+
+    private static final Pattern LOAD_PATTERN = Pattern.compile(
+            "([ \\t]*)// Load packages\\s*\\n\\s*(\\w+)\\.loadPackage\\(\\);\\s*\\n"
+                    + "\\s*// Fix loaded packages\\s*\\n\\s*\\2\\.fixPackageContents\\(\\);\\s*\\n"
+                    + "\\s*// Mark meta-data to indicate it can't be changed\\s*\\n\\s*\\2\\.freeze\\(\\);[ \\t]*\\n");
+
+    private static final Pattern CLASS_END_PATTERN = Pattern.compile("(?m)^}\\s*//\\s*\\w+PackageImpl\\s*$");
+
+    private static final String ECLASSIFIER_IMPORT = "import org.eclipse.emf.ecore.EClassifier;";
+
+    private static final String ELIST_IMPORT = "import org.eclipse.emf.common.util.EList;";
+
+    private static final String EANNOTATION_IMPORT = "import org.eclipse.emf.ecore.EAnnotation;";
+
+    private static final String EPACKAGE_IMPORT = "import org.eclipse.emf.ecore.EPackage;";
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public LazyPackageInitializer(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Rewrites the package initialization of the given file in place.
+     */
+    public void rewrite(Path file) {
+        try {
+            String content = Files.readString(file);
+            String modified = rewrite(content, file.getFileName().toString());
+            if (!content.equals(modified)) {
+                Files.writeString(file, modified);
+            }
+        } catch (IOException e) {
+            log.warn("Could not make package initialization lazy in: " + file + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rewrites the package initialization of the given source.
+     *
+     * @return the modified source, or the unchanged source if it does not use
+     *         load initialization or is already lazy
+     */
+    String rewrite(String source, String fileName) {
+        if (!source.contains("public void loadPackage()") || source.contains("void ensureLoaded()")) {
+            return source;
+        }
+        Matcher load = LOAD_PATTERN.matcher(source);
+        if (!load.find() || load.find()) {
+            log.warn("Unexpected init() in " + fileName + ", leaving package initialization eager");
+            return source;
+        }
+        load.reset().find();
+        Matcher classEnd = CLASS_END_PATTERN.matcher(source);
+        if (!classEnd.find()) {
+            log.warn("Could not find end of class in " + fileName + ", leaving package initialization eager");
+            return source;
+        }
+
+        String indent = load.group(1);
+        String variable = load.group(2);
+        StringBuilder out = new StringBuilder(source.length() + 2048);
+        out.append(source, 0, load.start());
+        out.append(indent).append("// Package contents are loaded on first access, see ensureLoaded()\n");
+        out.append(indent).append(variable).append(".createResource(eNS_URI);\n");
+        out.append(source, load.end(), classEnd.start());
+        out.append(lazyMembers());
+        out.append(source, classEnd.start(), source.length());
+
+        String result = addImport(out.toString(), ELIST_IMPORT);
+        result = addImport(result, ECLASSIFIER_IMPORT);
+        result = addImport(result, EANNOTATION_IMPORT);
+        result = addImport(result, EPACKAGE_IMPORT);
+        log.info("Made package initialization lazy in " + fileName);
+        return result;
+    }
+
+    private static String lazyMembers() {
+        return """
+        	/**
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	private volatile boolean isMaterialized = false;
+
+        	/**
+        	 * Loads, fixes and freezes the package contents on first access.
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	private void ensureLoaded() {
+        		if (isMaterialized) return;
+        		synchronized (this) {
+        			// Re-entrant calls while loading see the contents built so far
+        			if (isMaterialized || isLoaded) return;
+        			loadPackage();
+        			fixPackageContents();
+        			freeze();
+        			isMaterialized = true;
+        		}
+        	}
+
+        	/**
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	@Override
+        	public EList<EClassifier> getEClassifiers() {
+        		ensureLoaded();
+        		return super.getEClassifiers();
+        	}
+
+        	/**
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	@Override
+        	public EList<EPackage> getESubpackages() {
+        		ensureLoaded();
+        		return super.getESubpackages();
+        	}
+
+        	/**
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	@Override
+        	public String getName() {
+        		ensureLoaded();
+        		return super.getName();
+        	}
+
+        	/**
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	@Override
+        	public String getNsPrefix() {
+        		ensureLoaded();
+        		return super.getNsPrefix();
+        	}
+
+        	/**
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	@Override
+        	public EList<EAnnotation> getEAnnotations() {
+        		ensureLoaded();
+        		return super.getEAnnotations();
+        	}
+
+        	/**
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	@Override
+        	public Object eGet(int featureID, boolean resolve, boolean coreType) {
+        		ensureLoaded();
+        		return super.eGet(featureID, resolve, coreType);
+        	}
+
+        	/**
+        	 * <!-- begin-user-doc -->
+        	 * <!-- end-user-doc -->
+        	 * @generated
+        	 */
+        	@Override
+        	public boolean eIsSet(int featureID) {
+        		ensureLoaded();
+        		return super.eIsSet(featureID);
+        	}
+
+        """;
+    }
+
+    /**
+     * Adds the import after the last import with the same package prefix, or
+     * after the last import if there is none.
+     */
+    private static String addImport(String source, String importLine) {
+        if (source.contains(importLine)) {
+            return source;
+        }
+        String prefix = importLine.substring(0, importLine.lastIndexOf('.') + 1);
+        int at = source.lastIndexOf("\n" + prefix);
+        if (at < 0) {
+            at = source.lastIndexOf("\nimport ");
+        }
+        if (at < 0) {
+            return source;
+        }
+        int lineEnd = source.indexOf('\n', at + 1);
+        return source.substring(0, lineEnd + 1) + importLine + "\n" + source.substring(lineEnd + 1);
+    }
+}
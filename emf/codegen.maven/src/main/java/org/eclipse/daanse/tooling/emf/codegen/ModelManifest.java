@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * Describes the model files a module publishes in its {@code model} folder, so
+ * that consumers can find the packages of a dependency without scanning the
+ * JAR and parsing every model file in it.
+ *
+ * <p>
+ * The manifest lists each generated package, nested sub-packages included,
+ * with its nsURI, its base package and prefix, the Ecore and GenModel files
+ * declaring it and the nsURIs of the external packages it references, and
+ * each of these files with the SHA-256 hash of its content. Each package also
+ * carries the {@link ApiFingerprint} of its generated API, and the manifest
+ * the combination of them, so consumers can tell API changes from cosmetic
+ * ones such as documentation. It is written as
+ * {@value #FILE_NAME} next to the model files in a properties format with
+ * indexed keys, e.g. {@code package.0.nsURI}.
+ * </p>
+ */
+public final class ModelManifest {
+
+    /**
+     * File name of the manifest in the model folder.
+     */
+    public static final String FILE_NAME = "model.manifest";
+
+    /**
+     * Format version written to and expected in the manifest.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * A package declared by the module.
+     *
+     * @param nsURI            nsURI of the package
+     * @param name             name of the package
+     * @param parentNsURI      nsURI of the containing package, {@code null} for
+     *                         a top-level package
+     * @param basePackage      Java base package
+     * @param prefix           prefix of the generated classes
+     * @param ecorePath        path of the Ecore file in the JAR
+     * @param genModelPath     path of the GenModel file in the JAR,
+     *                         {@code null} if unknown
+     * @param referencedNsURIs nsURIs of the external packages the package
+     *                         refers to
+     * @param apiFingerprint   fingerprint of the generated API, {@code null}
+     *                         if unknown
+     */
+    public record PackageEntry(String nsURI, String name, String parentNsURI, String basePackage, String prefix,
+            String ecorePath, String genModelPath, Set<String> referencedNsURIs, String apiFingerprint) {
+    }
+
+    /**
+     * A model file of the module.
+     *
+     * @param path   path of the file in the JAR
+     * @param sha256 hex-encoded SHA-256 hash of its content
+     */
+    public record FileEntry(String path, String sha256) {
+    }
+
+    private final List<PackageEntry> packages;
+
+    private final List<FileEntry> files;
+
+    private ModelManifest(List<PackageEntry> packages, List<FileEntry> files) {
+        this.packages = List.copyOf(packages);
+        this.files = List.copyOf(files);
+    }
+
+    /**
+     * Returns the packages, parents before their sub-packages.
+     */
+    public List<PackageEntry> getPackages() {
+        return packages;
+    }
+
+    /**
+     * Returns the fingerprint of the API of all packages, or {@code null} if
+     * a package has none.
+     */
+    public String getApiFingerprint() {
+        List<String> fingerprints = new ArrayList<>();
+        for (PackageEntry entry : packages) {
+            if (entry.apiFingerprint() == null) {
+                return null;
+            }
+            fingerprints.add(entry.nsURI() + "=" + entry.apiFingerprint());
+        }
+        return ApiFingerprint.combine(fingerprints);
+    }
+
+    /**
+     * Returns the model files with their hashes.
+     */
+    public List<FileEntry> getFiles() {
+        return files;
+    }
+
+    /**
+     * Creates the manifest of the given top-level GenPackages of the module and
+     * their sub-packages. The models must still be loaded; file hashes are
+     * added by {@link #write(Path, String)}.
+     *
+     * @param genPackages top-level GenPackages generated by the module
+     * @param modelFolder folder of the model files in the JAR
+     */
+    public static ModelManifest of(Collection<GenPackage> genPackages, String modelFolder) {
+        Set<String> own = new LinkedHashSet<>();
+        for (GenPackage genPackage : genPackages) {
+            collectNsURIs(genPackage, own);
+        }
+        List<PackageEntry> packages = new ArrayList<>();
+        for (GenPackage genPackage : genPackages) {
+            addPackage(genPackage, null, own, modelFolder, packages);
+        }
+        return new ModelManifest(packages, List.of());
+    }
+
+    private static void collectNsURIs(GenPackage genPackage, Set<String> out) {
+        EPackage ePackage = genPackage.getEcorePackage();
+        if (ePackage != null && ePackage.getNsURI() != null) {
+            out.add(ePackage.getNsURI());
+        }
+        for (GenPackage sub : genPackage.getSubGenPackages()) {
+            collectNsURIs(sub, out);
+        }
+    }
+
+    private static void addPackage(GenPackage genPackage, String parentNsURI, Set<String> own, String modelFolder,
+            List<PackageEntry> out) {
+        EPackage ePackage = genPackage.getEcorePackage();
+        if (ePackage == null || ePackage.getNsURI() == null) {
+            return;
+        }
+        Set<String> referenced = new LinkedHashSet<>();
+        for (EClassifier classifier : ePackage.getEClassifiers()) {
+            if (classifier instanceof EClass eClass) {
+                for (EClass superClass : eClass.getESuperTypes()) {
+                    addReference(superClass.getEPackage(), own, referenced);
+                }
+                for (EStructuralFeature feature : eClass.getEStructuralFeatures()) {
+                    if (feature.getEType() != null) {
+                        addReference(feature.getEType().getEPackage(), own, referenced);
+                    }
+                }
+            }
+        }
+        out.add(new PackageEntry(ePackage.getNsURI(), ePackage.getName(), parentNsURI, genPackage.getBasePackage(),
+                genPackage.getPrefix(), path(ePackage.eResource(), modelFolder), path(genPackage.eResource(), modelFolder),
+                referenced, ApiFingerprint.of(genPackage)));
+        for (GenPackage sub : genPackage.getSubGenPackages()) {
+            addPackage(sub, ePackage.getNsURI(), own, modelFolder, out);
+        }
+    }
+
+    private static void addReference(EPackage ePackage, Set<String> own, Set<String> out) {
+        if (ePackage != null && ePackage.getNsURI() != null && !own.contains(ePackage.getNsURI())
+                && !ePackage.getNsURI().startsWith("http://www.eclipse.org/emf/")
+                && !ePackage.getNsURI().startsWith("http://www.w3.org/")) {
+            out.add(ePackage.getNsURI());
+        }
+    }
+
+    private static String path(Resource resource, String modelFolder) {
+        if (resource == null || resource.getURI() == null || resource.getURI().lastSegment() == null) {
+            return null;
+        }
+        return modelFolder + "/" + resource.getURI().lastSegment();
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Hashes the model files below the classes directory and writes the
+     * manifest with them into the model folder.
+     *
+     * @param classesDirectory the directory the JAR is built from
+     * @param modelFolder      folder of the model files in the JAR
+     * @return the manifest with the file hashes
+     */
+    public ModelManifest write(Path classesDirectory, String modelFolder) throws IOException {
+        Set<String> paths = new LinkedHashSet<>();
+        for (PackageEntry entry : packages) {
+            if (entry.ecorePath() != null) {
+                paths.add(entry.ecorePath());
+            }
+            if (entry.genModelPath() != null) {
+                paths.add(entry.genModelPath());
+            }
+        }
+        List<FileEntry> hashed = new ArrayList<>();
+        for (String path : paths) {
+            Path file = classesDirectory.resolve(path);
+            if (Files.isRegularFile(file)) {
+                hashed.add(new FileEntry(path, sha256(file)));
+            }
+        }
+        ModelManifest manifest = new ModelManifest(packages, hashed);
+        Path target = classesDirectory.resolve(modelFolder).resolve(FILE_NAME);
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, manifest.format());
+        return manifest;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Formats the manifest. The entries are written in a fixed order without a
+     * time stamp, so the file only changes when the models do.
+     */
+    String format() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("version", String.valueOf(VERSION));
+        entries.put("packages", String.valueOf(packages.size()));
+        for (int i = 0; i < packages.size(); i++) {
+            PackageEntry entry = packages.get(i);
+            String key = "package." + i + ".";
+            entries.put(key + "nsURI", entry.nsURI());
+            entries.put(key + "name", entry.name());
+            entries.put(key + "parent", entry.parentNsURI());
+            entries.put(key + "basePackage", entry.basePackage());
+            entries.put(key + "prefix", entry.prefix());
+            entries.put(key + "ecore", entry.ecorePath());
+            entries.put(key + "genmodel", entry.genModelPath());
+            entries.put(key + "references", String.join(" ", entry.referencedNsURIs()));
+            entries.put(key + "abi", entry.apiFingerprint());
+        }
+        entries.put("abi", getApiFingerprint());
+        entries.put("files", String.valueOf(files.size()));
+        for (int i = 0; i < files.size(); i++) {
+            entries.put("file." + i + ".path", files.get(i).path());
+            entries.put("file." + i + ".sha256", files.get(i).sha256());
+        }
+        StringBuilder out = new StringBuilder("# EMF model manifest\n");
+        entries.forEach((key, value) -> out.append(key).append('=')
+                .append(value == null ? "" : value.replace("\\", "\\\\")).append('\n'));
+        return out.toString();
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Reads a manifest written by {@link #write(Path, String)}.
+     *
+     * @throws IOException if the manifest cannot be read or has another version
+     */
+    public static ModelManifest read(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (!String.valueOf(VERSION).equals(properties.getProperty("version"))) {
+            throw new IOException("Unsupported model manifest version " + properties.getProperty("version"));
+        }
+        try {
+            List<PackageEntry> packages = new ArrayList<>();
+            int packageCount = Integer.parseInt(properties.getProperty("packages", "0"));
+            for (int i = 0; i < packageCount; i++) {
+                String key = "package." + i + ".";
+                String nsURI = value(properties, key + "nsURI");
+                if (nsURI == null) {
+                    throw new IOException("Model manifest without nsURI for package " + i);
+                }
+                Set<String> references = new LinkedHashSet<>();
+                String referenced = value(properties, key + "references");
+                if (referenced != null) {
+                    references.addAll(List.of(referenced.split(" ")));
+                }
+                packages.add(new PackageEntry(nsURI, value(properties, key + "name"),
+                        value(properties, key + "parent"), value(properties, key + "basePackage"),
+                        value(properties, key + "prefix"), value(properties, key + "ecore"),
+                        value(properties, key + "genmodel"), references, value(properties, key + "abi")));
+            }
+            List<FileEntry> files = new ArrayList<>();
+            int fileCount = Integer.parseInt(properties.getProperty("files", "0"));
+            for (int i = 0; i < fileCount; i++) {
+                files.add(new FileEntry(value(properties, "file." + i + ".path"),
+                        value(properties, "file." + i + ".sha256")));
+            }
+            return new ModelManifest(packages, files);
+        } catch (NumberFormatException e) {
+            throw new IOException("Corrupt model manifest", e);
+        }
+    }
+
+    private static String value(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The nsURIs declared by Ecore files and the models they refer to, read from
+ * the XML without loading the models.
+ *
+ * <p>
+ * Declared nsURIs are the {@code nsURI} attributes of the packages, nested
+ * ones included. References are the URIs in front of the {@code #} of
+ * {@code eType}, {@code eSuperTypes}, {@code eOpposite} and {@code href}
+ * values, resolved as the generate goal resolves them when loading the model:
+ * </p>
+ * <ul>
+ * <li>nsURIs, e.g. {@code ecore:EClass http://example.org/base#//Address}</li>
+ * <li>paths of Ecore files relative to the referring file, e.g.
+ * {@code ../../base/model/base.ecore#//Address}, and {@code file:} URIs</li>
+ * <li>{@code platform:/resource/<project>/...} and
+ * {@code platform:/plugin/<project>/...} URIs, which the goal maps to the
+ * module or dependency with the artifactId {@code <project>}</li>
+ * </ul>
+ * <p>
+ * The EMF core packages are left out.
+ * </p>
+ *
+ * @param nsURIs           nsURIs declared by the files
+ * @param references       external nsURIs the files refer to
+ * @param files            other Ecore files the files refer to by path
+ * @param platformProjects projects the files refer to by platform URI
+ */
+public record ModelScan(Set<String> nsURIs, Set<String> references, Set<File> files, Set<String> platformProjects) {
+
+    private static final Set<String> REFERENCE_ATTRIBUTES = Set.of("eType", "eSuperTypes", "eOpposite", "href",
+            "eKeys", "eExceptions", "eClassifier", "eTypeParameter");
+
+    private static final Pattern SCHEME = Pattern.compile("^[A-Za-z][A-Za-z0-9+.-]*:");
+
+    /**
+     * Scans the Ecore files.
+     */
+    public static ModelScan scan(Collection<File> ecoreFiles) {
+        ModelScan scan = new ModelScan(new LinkedHashSet<>(), new LinkedHashSet<>(), new LinkedHashSet<>(),
+                new LinkedHashSet<>());
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        for (File ecoreFile : ecoreFiles) {
+            try (InputStream in = Files.newInputStream(ecoreFile.toPath())) {
+                XMLStreamReader reader = factory.createXMLStreamReader(in);
+                try {
+                    while (reader.hasNext()) {
+                        if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                                String name = reader.getAttributeLocalName(i);
+                                if ("nsURI".equals(name)) {
+                                    scan.nsURIs.add(reader.getAttributeValue(i));
+                                } else if (REFERENCE_ATTRIBUTES.contains(name)) {
+                                    scan.addReferences(ecoreFile, reader.getAttributeValue(i));
+                                }
+                            }
+                        }
+                    }
+                } finally {
+                    reader.close();
+                }
+            } catch (IOException | XMLStreamException e) {
+                // Unreadable files are reported when the module loads them
+            }
+        }
+        scan.references.removeAll(scan.nsURIs);
+        for (File ecoreFile : ecoreFiles) {
+            scan.files.remove(normalize(ecoreFile));
+        }
+        return scan;
+    }
+
+    private void addReferences(File ecoreFile, String value) {
+        for (String token : value.trim().split("\\s+")) {
+            int hash = token.indexOf('#');
+            if (hash <= 0) {
+                continue;
+            }
+            String uri = token.substring(0, hash);
+            if (uri.startsWith("http://www.eclipse.org/emf/") || uri.startsWith("http://www.w3.org/")) {
+                continue;
+            }
+            if (uri.startsWith("platform:/resource/") || uri.startsWith("platform:/plugin/")) {
+                String path = uri.substring(uri.indexOf('/', "platform:/".length()) + 1);
+                int slash = path.indexOf('/');
+                platformProjects.add(decode(slash > 0 ? path.substring(0, slash) : path));
+            } else if (uri.startsWith("file:")) {
+                files.add(normalize(new File(decode(uri.substring("file:".length())))));
+            } else if (!SCHEME.matcher(uri).find()) {
+                files.add(normalize(new File(ecoreFile.getAbsoluteFile().getParentFile(), decode(uri))));
+            } else if (!uri.endsWith(".ecore")) {
+                references.add(uri);
+            }
+        }
+    }
+
+    private static String decode(String path) {
+        try {
+            return new java.net.URI("x:" + path).getSchemeSpecificPart();
+        } catch (java.net.URISyntaxException e) {
+            return path;
+        }
+    }
+
+    private static File normalize(File file) {
+        return file.toPath().toAbsolutePath().normalize().toFile();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.codegen.util.ImportManager;
+
+/**
+ * Restores the EMF lists of the features a plain list cannot hold in classes
+ * generated without notification.
+ *
+ * <p>
+ * With {@code suppressNotification} EMF generates every multi-valued feature
+ * as a {@code BasicInternalEList}. For attributes and references to objects of
+ * the same resource that only drops the notification and the uniqueness check,
+ * but the plain list
+ * </p>
+ * <ul>
+ * <li>does not set the container of objects added to a containment reference
+ * or remove them from their previous container</li>
+ * <li>does not update the opposite of a bidirectional reference</li>
+ * <li>does not resolve proxies of a reference that resolves proxies</li>
+ * <li>fails to allocate its array for attributes of a primitive type</li>
+ * </ul>
+ * <p>
+ * The rewriter replaces the list constructors of these features with the ones
+ * EMF generates with notification. Those lists only create notifications when
+ * adapters are attached, so models without adapters still build without them.
+ * </p>
+ */
+public class NotificationFreeListRewriter {
+
+    private static final String BASIC_LIST = "org.eclipse.emf.ecore.util.BasicInternalEList";
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public NotificationFreeListRewriter(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Rewrites the generated classes of the GenModel in the output directory.
+     */
+    public void rewrite(GenModel genModel, Path outputDirectory) {
+        int restored = 0;
+        for (GenPackage genPackage : genModel.getAllGenPackagesWithClassifiers()) {
+            for (GenClass genClass : genPackage.getGenClasses()) {
+                List<GenFeature> features = new ArrayList<>();
+                for (GenFeature genFeature : genClass.getImplementedGenFeatures()) {
+                    if (genFeature.isListType() && !genFeature.isMapType() && !genFeature.isFeatureMapType()
+                            && (genFeature.isReferenceType()
+                                    ? genFeature.isContains() || genFeature.isBidirectional()
+                                            || genFeature.isResolveProxies()
+                                    : isPrimitive(genFeature))) {
+                        features.add(genFeature);
+                    }
+                }
+                if (!genClass.isInterface() && !features.isEmpty()) {
+                    restored += rewrite(genModel, genClass, features, outputDirectory);
+                }
+            }
+        }
+        if (restored > 0) {
+            log.info("Restored " + restored + " list(s) in classes without notification");
+        }
+    }
+
+    private static boolean isPrimitive(GenFeature genFeature) {
+        Class<?> instanceClass = genFeature.getEcoreFeature().getEType().getInstanceClass();
+        return instanceClass != null && instanceClass.isPrimitive();
+    }
+
+    private int rewrite(GenModel genModel, GenClass genClass, List<GenFeature> features, Path outputDirectory) {
+        Path file = outputDirectory.resolve(genClass.getQualifiedClassName().replace('.', '/') + ".java");
+        try {
+            String content = Files.readString(file);
+            ImportManager importManager = new ImportManager(genClass.getGenPackage().getClassPackageName());
+            importManager.addCompilationUnitImports(content);
+            String rewritten = content;
+            int restored = 0;
+            genModel.setImportManager(importManager);
+            try {
+                for (GenFeature genFeature : features) {
+                    String assignment = genFeature.getSafeName() + " = new ";
+                    String basic = assignment + genClass.getListConstructor(genFeature);
+                    genModel.setSuppressNotification(false);
+                    String list = assignment + genClass.getListConstructor(genFeature);
+                    genModel.setSuppressNotification(true);
+                    if (!rewritten.contains(basic)) {
+                        log.warn("Not restoring the list of " + genClass.getName() + "." + genFeature.getName()
+                                + ", its constructor was not found");
+                        continue;
+                    }
+                    rewritten = rewritten.replace(basic, list);
+                    restored++;
+                }
+            } finally {
+                genModel.setSuppressNotification(true);
+                genModel.setImportManager(null);
+            }
+            if (restored == 0) {
+                return 0;
+            }
+            for (String qualifiedName : importManager.getImports()) {
+                if (!content.contains("import " + qualifiedName + ";")) {
+                    rewritten = InverseReferenceGenerator.addImport(rewritten, qualifiedName);
+                }
+            }
+            Files.writeString(file, InverseReferenceGenerator.removeUnusedImport(rewritten, BASIC_LIST));
+            return restored;
+        } catch (IOException e) {
+            log.warn("Could not restore the lists in: " + file + " - " + e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,940 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Generates the {@code EStore} that classes generated with the off-heap store
+ * delegate their feature values to.
+ *
+ * <p>
+ * Those classes are generated with reflective feature delegation and extend
+ * the generated {@value #OBJECT_CLASS}, which keeps only the row of the
+ * instance on the heap. {@value #STORE_CLASS} keeps one table per
+ * {@code EClass} with one column per structural feature. Single-valued
+ * attributes of primitive types, enums and {@code String}s are stored in
+ * direct {@code ByteBuffer}s outside the Java heap (strings as UTF-8 in an
+ * append-only area of the table); references, other data types and
+ * many-valued features remain in on-heap columns, since they hold Java
+ * objects.
+ * </p>
+ *
+ * <p>
+ * Direct buffers are used instead of {@code MemorySegment}s, since the
+ * foreign memory API is not available on the Java release the generated code
+ * targets.
+ * </p>
+ */
+public class OffHeapStoreGenerator {
+
+    /**
+     * Simple name of the generated base class of off-heap classes.
+     */
+    static final String OBJECT_CLASS = "OffHeapEObjectImpl";
+
+    /**
+     * Simple name of the generated store.
+     */
+    static final String STORE_CLASS = "OffHeapEStore";
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public OffHeapStoreGenerator(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Writes the store and the base class into the given package below the
+     * output directory, with the license header of the classes generated
+     * there.
+     */
+    public void generate(Path outputDirectory, String packageName) {
+        Path directory = outputDirectory.resolve(packageName.replace('.', '/'));
+        try {
+            String header = header(directory).orElse("");
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(OBJECT_CLASS + ".java"),
+                    header + "package " + packageName + ";\n" + OBJECT_TEMPLATE);
+            Files.writeString(directory.resolve(STORE_CLASS + ".java"),
+                    header + "package " + packageName + ";\n" + STORE_TEMPLATE);
+            log.info("Generated " + STORE_CLASS + " in " + packageName);
+        } catch (IOException e) {
+            log.warn("Could not generate off-heap store in: " + directory + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the text before the package declaration of a class generated into
+     * the directory.
+     */
+    private static Optional<String> header(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith("Impl.java"))
+                    .filter(p -> !p.getFileName().toString().startsWith(OBJECT_CLASS)).sorted()::iterator) {
+                String content = Files.readString(file);
+                int packageStart = content.indexOf("package ");
+                if (packageStart >= 0) {
+                    return Optional.of(content.substring(0, packageStart));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final String OBJECT_TEMPLATE = """
+
+            import org.eclipse.emf.ecore.EStructuralFeature;
+            import org.eclipse.emf.ecore.InternalEObject;
+
+            import org.eclipse.emf.ecore.impl.EStoreEObjectImpl;
+
+            import org.eclipse.emf.ecore.util.FeatureMapUtil;
+
+            /**
+             * <!-- begin-user-doc -->
+             * Base class of the classes that keep their feature values in an {@link OffHeapEStore}.
+             * Instances only keep their container and their row in the store on the heap; the lists of
+             * many-valued features delegate to the store and are created on access.
+             * An instance uses the store of its container once it accesses its values, and an instance
+             * without a container gets a store of its own, so each containment tree keeps its rows in one
+             * store that is released together with the tree. Instances can also be created in a given store
+             * with {@link OffHeapEStore#create(org.eclipse.emf.ecore.EClass)}, or be given one with
+             * {@link #eSetStore(InternalEObject.EStore)} before they access their values.
+             * <!-- end-user-doc -->
+             * @generated
+             */
+            public abstract class OffHeapEObjectImpl extends EStoreEObjectImpl {
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private OffHeapEStore.Table eTable;
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private int eRow = -1;
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	protected OffHeapEObjectImpl() {
+            		super();
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Values are read from the store on every access instead of being cached on the heap.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	protected boolean eIsCaching() {
+            		return false;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * No settings array is allocated, all values are accessed through the store.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	protected EStructuralFeature.Internal.DynamicValueHolder eSettings() {
+            		return this;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public Object dynamicGet(int dynamicFeatureID) {
+            		EStructuralFeature feature = eDynamicFeature(dynamicFeatureID);
+            		if (FeatureMapUtil.isFeatureMap(feature)) {
+            			return createFeatureMap(feature);
+            		}
+            		if (feature.isMany()) {
+            			return createList(feature);
+            		}
+            		return eStore().get(this, feature, InternalEObject.EStore.NO_INDEX);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public void dynamicSet(int dynamicFeatureID, Object value) {
+            		eStore().set(this, eDynamicFeature(dynamicFeatureID), InternalEObject.EStore.NO_INDEX, value);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public void dynamicUnset(int dynamicFeatureID) {
+            		eStore().unset(this, eDynamicFeature(dynamicFeatureID));
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	protected boolean eDynamicIsSet(int dynamicFeatureID, EStructuralFeature eFeature) {
+            		return dynamicFeatureID < 0 ? eOpenIsSet(eFeature) : eStore().isSet(this, eFeature);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public void eSetStore(InternalEObject.EStore store) {
+            		if (eTable != null && store != eStore) {
+            			throw new IllegalStateException("The store cannot be changed after values have been stored");
+            		}
+            		if (!(store instanceof OffHeapEStore)) {
+            			throw new IllegalArgumentException("Expected an OffHeapEStore: " + store);
+            		}
+            		super.eSetStore(store);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Returns the store of this instance, taking the store of the container or a new one on first access.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public InternalEObject.EStore eStore() {
+            		if (eStore == null) {
+            			InternalEObject container = eInternalContainer();
+            			eStore = container instanceof OffHeapEObjectImpl ? ((OffHeapEObjectImpl)container).eStore() : new OffHeapEStore();
+            		}
+            		return eStore;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Returns the table of this instance, allocating its row on first access.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	OffHeapEStore.Table eTable() {
+            		if (eTable == null) {
+            			OffHeapEStore.Table table = ((OffHeapEStore)eStore()).table(eClass());
+            			eRow = table.allocate();
+            			eTable = table;
+            		}
+            		return eTable;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	int eRow() {
+            		return eRow;
+            	}
+            }
+            """;
+
+    private static final String STORE_TEMPLATE = """
+
+            import java.nio.ByteBuffer;
+            import java.nio.ByteOrder;
+
+            import java.nio.charset.StandardCharsets;
+
+            import java.util.ArrayList;
+            import java.util.Arrays;
+            import java.util.Collections;
+            import java.util.HashMap;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.Objects;
+
+            import org.eclipse.emf.common.util.Enumerator;
+
+            import org.eclipse.emf.ecore.EAttribute;
+            import org.eclipse.emf.ecore.EClass;
+            import org.eclipse.emf.ecore.EEnum;
+            import org.eclipse.emf.ecore.EObject;
+            import org.eclipse.emf.ecore.EStructuralFeature;
+            import org.eclipse.emf.ecore.InternalEObject;
+
+            import org.eclipse.emf.ecore.util.EcoreUtil;
+
+            /**
+             * <!-- begin-user-doc -->
+             * Columnar {@link InternalEObject.EStore} for {@link OffHeapEObjectImpl}s.
+             * The store keeps one {@link Table} per class with one column per structural feature.
+             * Single-valued attributes of primitive types, enums and strings are stored in direct
+             * buffers outside the Java heap, strings as UTF-8 in an append-only area of their table;
+             * references, other data types and many-valued features are kept in on-heap columns.
+             * Rows of removed objects and replaced strings are not reclaimed, so a store suits models that
+             * are loaded once and then read. There is no shared default store: every containment tree gets
+             * its own store, whose memory is released when the tree is no longer referenced.
+             * Like EMF objects, a store must not be modified concurrently; models that are built in
+             * parallel should use their own stores.
+             * <!-- end-user-doc -->
+             * @generated
+             */
+            public class OffHeapEStore implements InternalEObject.EStore {
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private final Map<EClass, Table> tables = new HashMap<>();
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Returns the table of the class, creating it on first use.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public synchronized Table table(EClass eClass) {
+            		return tables.computeIfAbsent(eClass, Table::new);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Returns the number of bytes the store has allocated outside the Java heap.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public synchronized long offHeapSize() {
+            		long size = 0;
+            		for (Table table : tables.values()) {
+            			size += table.offHeapSize();
+            		}
+            		return size;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static OffHeapEObjectImpl owner(InternalEObject object) {
+            		if (object instanceof OffHeapEObjectImpl) {
+            			return (OffHeapEObjectImpl)object;
+            		}
+            		throw new IllegalArgumentException("Not an OffHeapEObjectImpl: " + object);
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static Column column(OffHeapEObjectImpl owner, EStructuralFeature feature) {
+            		return owner.eTable().column(feature);
+            	}
+
+            	@Override
+            	public Object get(InternalEObject object, EStructuralFeature feature, int index) {
+            		OffHeapEObjectImpl owner = owner(object);
+            		Column column = column(owner, feature);
+            		return index == NO_INDEX ? column.get(owner.eRow()) : column.values(owner.eRow()).get(index);
+            	}
+
+            	@Override
+            	public Object set(InternalEObject object, EStructuralFeature feature, int index, Object value) {
+            		OffHeapEObjectImpl owner = owner(object);
+            		Column column = column(owner, feature);
+            		return index == NO_INDEX ? column.set(owner.eRow(), value) : column.list(owner.eRow()).set(index, value);
+            	}
+
+            	@Override
+            	public boolean isSet(InternalEObject object, EStructuralFeature feature) {
+            		OffHeapEObjectImpl owner = owner(object);
+            		return column(owner, feature).isSet(owner.eRow());
+            	}
+
+            	@Override
+            	public void unset(InternalEObject object, EStructuralFeature feature) {
+            		OffHeapEObjectImpl owner = owner(object);
+            		column(owner, feature).unset(owner.eRow());
+            	}
+
+            	@Override
+            	public boolean isEmpty(InternalEObject object, EStructuralFeature feature) {
+            		return values(object, feature).isEmpty();
+            	}
+
+            	@Override
+            	public int size(InternalEObject object, EStructuralFeature feature) {
+            		return values(object, feature).size();
+            	}
+
+            	@Override
+            	public boolean contains(InternalEObject object, EStructuralFeature feature, Object value) {
+            		return values(object, feature).contains(value);
+            	}
+
+            	@Override
+            	public int indexOf(InternalEObject object, EStructuralFeature feature, Object value) {
+            		return values(object, feature).indexOf(value);
+            	}
+
+            	@Override
+            	public int lastIndexOf(InternalEObject object, EStructuralFeature feature, Object value) {
+            		return values(object, feature).lastIndexOf(value);
+            	}
+
+            	@Override
+            	public void add(InternalEObject object, EStructuralFeature feature, int index, Object value) {
+            		list(object, feature).add(index, value);
+            	}
+
+            	@Override
+            	public Object remove(InternalEObject object, EStructuralFeature feature, int index) {
+            		return list(object, feature).remove(index);
+            	}
+
+            	@Override
+            	public Object move(InternalEObject object, EStructuralFeature feature, int targetIndex, int sourceIndex) {
+            		List<Object> list = list(object, feature);
+            		Object value = list.remove(sourceIndex);
+            		list.add(targetIndex, value);
+            		return value;
+            	}
+
+            	@Override
+            	public void clear(InternalEObject object, EStructuralFeature feature) {
+            		unset(object, feature);
+            	}
+
+            	@Override
+            	public Object[] toArray(InternalEObject object, EStructuralFeature feature) {
+            		return values(object, feature).toArray();
+            	}
+
+            	@Override
+            	public <T> T[] toArray(InternalEObject object, EStructuralFeature feature, T[] array) {
+            		return values(object, feature).toArray(array);
+            	}
+
+            	@Override
+            	public int hashCode(InternalEObject object, EStructuralFeature feature) {
+            		return values(object, feature).hashCode();
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Containers are kept by the objects themselves.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public InternalEObject getContainer(InternalEObject object) {
+            		return null;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Containers are kept by the objects themselves.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public EStructuralFeature getContainingFeature(InternalEObject object) {
+            		return null;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Creates an instance of the class that stores its values in this store.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	@Override
+            	public EObject create(EClass eClass) {
+            		EObject eObject = EcoreUtil.create(eClass);
+            		if (eObject instanceof OffHeapEObjectImpl) {
+            			((OffHeapEObjectImpl)eObject).eSetStore(this);
+            		}
+            		return eObject;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static List<Object> values(InternalEObject object, EStructuralFeature feature) {
+            		OffHeapEObjectImpl owner = owner(object);
+            		return column(owner, feature).values(owner.eRow());
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static List<Object> list(InternalEObject object, EStructuralFeature feature) {
+            		OffHeapEObjectImpl owner = owner(object);
+            		return column(owner, feature).list(owner.eRow());
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static ByteBuffer resize(ByteBuffer buffer, int capacity) {
+            		ByteBuffer resized = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+            		if (buffer != null) {
+            			resized.put(0, buffer, 0, Math.min(buffer.capacity(), capacity));
+            		}
+            		return resized;
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * The rows of the instances of one class, with one column per structural feature.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static final class Table {
+            		private static final int INITIAL_CAPACITY = 16;
+
+            		private final EClass eClass;
+
+            		private final Column[] columns;
+
+            		private final int setWords;
+
+            		private ByteBuffer setBits;
+
+            		private ByteBuffer strings;
+
+            		private int stringsSize;
+
+            		private int capacity;
+
+            		private int size;
+
+            		Table(EClass eClass) {
+            			this.eClass = eClass;
+            			List<EStructuralFeature> features = eClass.getEAllStructuralFeatures();
+            			columns = new Column[features.size()];
+            			for (int i = 0; i < columns.length; i++) {
+            				columns[i] = createColumn(features.get(i), i);
+            			}
+            			setWords = Math.max(1, (columns.length + 63) >>> 6);
+            			grow(INITIAL_CAPACITY);
+            		}
+
+            		private Column createColumn(EStructuralFeature feature, int bit) {
+            			if (feature.isMany()) {
+            				return new ListColumn(this, feature, bit);
+            			}
+            			if (feature instanceof EAttribute) {
+            				if (feature.getEType() instanceof EEnum) {
+            					return new EnumColumn(this, feature, bit);
+            				}
+            				Class<?> instanceClass = feature.getEType().getInstanceClass();
+            				if (instanceClass == String.class) {
+            					return new StringColumn(this, feature, bit);
+            				}
+            				if (instanceClass != null && instanceClass.isPrimitive()) {
+            					return new PrimitiveColumn(this, feature, bit, instanceClass);
+            				}
+            			}
+            			return new ObjectColumn(this, feature, bit);
+            		}
+
+            		/**
+            		 * Returns the class of the instances in this table.
+            		 */
+            		public EClass getEClass() {
+            			return eClass;
+            		}
+
+            		/**
+            		 * Returns the number of rows.
+            		 */
+            		public synchronized int size() {
+            			return size;
+            		}
+
+            		/**
+            		 * Returns the number of bytes allocated outside the Java heap.
+            		 */
+            		public synchronized long offHeapSize() {
+            			long offHeapSize = setBits.capacity() + (strings == null ? 0 : strings.capacity());
+            			for (Column column : columns) {
+            				offHeapSize += column.offHeapSize();
+            			}
+            			return offHeapSize;
+            		}
+
+            		synchronized int allocate() {
+            			if (size == capacity) {
+            				grow(capacity * 2);
+            			}
+            			return size++;
+            		}
+
+            		private void grow(int newCapacity) {
+            			setBits = resize(setBits, newCapacity * setWords * Long.BYTES);
+            			for (Column column : columns) {
+            				column.grow(newCapacity);
+            			}
+            			capacity = newCapacity;
+            		}
+
+            		Column column(EStructuralFeature feature) {
+            			int featureID = eClass.getFeatureID(feature);
+            			if (featureID < 0) {
+            				throw new IllegalArgumentException("Not a feature of " + eClass.getName() + ": " + feature);
+            			}
+            			return columns[featureID];
+            		}
+
+            		boolean isWritten(int row, int bit) {
+            			return (setBits.getLong((row * setWords + (bit >>> 6)) * Long.BYTES) & (1L << bit)) != 0;
+            		}
+
+            		void setWritten(int row, int bit, boolean written) {
+            			int index = (row * setWords + (bit >>> 6)) * Long.BYTES;
+            			long word = setBits.getLong(index);
+            			setBits.putLong(index, written ? word | (1L << bit) : word & ~(1L << bit));
+            		}
+
+            		long appendString(String value) {
+            			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            			if (strings == null || stringsSize + bytes.length > strings.capacity()) {
+            				long required = Math.max((long)stringsSize + bytes.length, 2L * (strings == null ? 1024 : strings.capacity()));
+            				strings = resize(strings, (int)Math.min(Integer.MAX_VALUE - 8, required));
+            			}
+            			strings.put(stringsSize, bytes);
+            			long reference = ((long)stringsSize << 32) | bytes.length;
+            			stringsSize += bytes.length;
+            			return reference;
+            		}
+
+            		String readString(long reference) {
+            			byte[] bytes = new byte[(int)reference];
+            			strings.get((int)(reference >>> 32), bytes);
+            			return new String(bytes, StandardCharsets.UTF_8);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * The values of one feature for all rows of a table.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	abstract static class Column {
+            		final Table table;
+
+            		final EStructuralFeature feature;
+
+            		final int bit;
+
+            		Column(Table table, EStructuralFeature feature, int bit) {
+            			this.table = table;
+            			this.feature = feature;
+            			this.bit = bit;
+            		}
+
+            		abstract void grow(int capacity);
+
+            		abstract Object read(int row);
+
+            		abstract void write(int row, Object value);
+
+            		long offHeapSize() {
+            			return 0;
+            		}
+
+            		Object get(int row) {
+            			return table.isWritten(row, bit) ? read(row) : feature.getDefaultValue();
+            		}
+
+            		Object set(int row, Object value) {
+            			Object oldValue = get(row);
+            			if (value == null && feature.getEType().getInstanceClass() != null && feature.getEType().getInstanceClass().isPrimitive()) {
+            				unset(row);
+            			} else {
+            				write(row, value);
+            				table.setWritten(row, bit, true);
+            			}
+            			return oldValue;
+            		}
+
+            		boolean isSet(int row) {
+            			if (!table.isWritten(row, bit)) {
+            				return false;
+            			}
+            			return feature.isUnsettable() || !Objects.equals(read(row), feature.getDefaultValue());
+            		}
+
+            		void unset(int row) {
+            			table.setWritten(row, bit, false);
+            		}
+
+            		List<Object> values(int row) {
+            			throw new UnsupportedOperationException("Not a many-valued feature: " + feature.getName());
+            		}
+
+            		List<Object> list(int row) {
+            			return values(row);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Off-heap column of a primitive attribute.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	static final class PrimitiveColumn extends Column {
+            		private final Class<?> type;
+
+            		private final int width;
+
+            		private ByteBuffer buffer;
+
+            		PrimitiveColumn(Table table, EStructuralFeature feature, int bit, Class<?> type) {
+            			super(table, feature, bit);
+            			this.type = type;
+            			this.width = type == long.class || type == double.class ? 8
+            					: type == int.class || type == float.class ? 4
+            					: type == short.class || type == char.class ? 2 : 1;
+            		}
+
+            		@Override
+            		void grow(int capacity) {
+            			buffer = resize(buffer, capacity * width);
+            		}
+
+            		@Override
+            		long offHeapSize() {
+            			return buffer.capacity();
+            		}
+
+            		@Override
+            		Object read(int row) {
+            			int index = row * width;
+            			if (type == int.class) return buffer.getInt(index);
+            			if (type == long.class) return buffer.getLong(index);
+            			if (type == double.class) return buffer.getDouble(index);
+            			if (type == float.class) return buffer.getFloat(index);
+            			if (type == boolean.class) return buffer.get(index) != 0;
+            			if (type == short.class) return buffer.getShort(index);
+            			if (type == char.class) return buffer.getChar(index);
+            			return buffer.get(index);
+            		}
+
+            		@Override
+            		void write(int row, Object value) {
+            			int index = row * width;
+            			if (type == int.class) buffer.putInt(index, (Integer)value);
+            			else if (type == long.class) buffer.putLong(index, (Long)value);
+            			else if (type == double.class) buffer.putDouble(index, (Double)value);
+            			else if (type == float.class) buffer.putFloat(index, (Float)value);
+            			else if (type == boolean.class) buffer.put(index, (byte)((Boolean)value ? 1 : 0));
+            			else if (type == short.class) buffer.putShort(index, (Short)value);
+            			else if (type == char.class) buffer.putChar(index, (Character)value);
+            			else buffer.put(index, (Byte)value);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Off-heap column of an enum attribute, storing the literal values.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	static final class EnumColumn extends Column {
+            		private final EEnum eEnum;
+
+            		private ByteBuffer buffer;
+
+            		EnumColumn(Table table, EStructuralFeature feature, int bit) {
+            			super(table, feature, bit);
+            			this.eEnum = (EEnum)feature.getEType();
+            		}
+
+            		@Override
+            		void grow(int capacity) {
+            			buffer = resize(buffer, capacity * Integer.BYTES);
+            		}
+
+            		@Override
+            		long offHeapSize() {
+            			return buffer.capacity();
+            		}
+
+            		@Override
+            		Object read(int row) {
+            			return eEnum.getEEnumLiteral(buffer.getInt(row * Integer.BYTES)).getInstance();
+            		}
+
+            		@Override
+            		void write(int row, Object value) {
+            			buffer.putInt(row * Integer.BYTES, ((Enumerator)value).getValue());
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Off-heap column of a string attribute, storing references into the strings of the table.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	static final class StringColumn extends Column {
+            		private static final long NULL = -1L;
+
+            		private ByteBuffer buffer;
+
+            		StringColumn(Table table, EStructuralFeature feature, int bit) {
+            			super(table, feature, bit);
+            		}
+
+            		@Override
+            		void grow(int capacity) {
+            			buffer = resize(buffer, capacity * Long.BYTES);
+            		}
+
+            		@Override
+            		long offHeapSize() {
+            			return buffer.capacity();
+            		}
+
+            		@Override
+            		Object read(int row) {
+            			long reference = buffer.getLong(row * Long.BYTES);
+            			return reference == NULL ? null : table.readString(reference);
+            		}
+
+            		@Override
+            		void write(int row, Object value) {
+            			buffer.putLong(row * Long.BYTES, value == null ? NULL : table.appendString((String)value));
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * On-heap column of a single-valued reference or data type.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	static class ObjectColumn extends Column {
+            		Object[] values = new Object[0];
+
+            		ObjectColumn(Table table, EStructuralFeature feature, int bit) {
+            			super(table, feature, bit);
+            		}
+
+            		@Override
+            		void grow(int capacity) {
+            			values = Arrays.copyOf(values, capacity);
+            		}
+
+            		@Override
+            		Object read(int row) {
+            			return values[row];
+            		}
+
+            		@Override
+            		void write(int row, Object value) {
+            			values[row] = value;
+            		}
+
+            		@Override
+            		void unset(int row) {
+            			super.unset(row);
+            			values[row] = null;
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * On-heap column of a many-valued feature.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	static final class ListColumn extends ObjectColumn {
+            		ListColumn(Table table, EStructuralFeature feature, int bit) {
+            			super(table, feature, bit);
+            		}
+
+            		@Override
+            		Object get(int row) {
+            			return Collections.unmodifiableList(values(row));
+            		}
+
+            		@Override
+            		Object set(int row, Object value) {
+            			throw new UnsupportedOperationException("Many-valued feature: " + feature.getName());
+            		}
+
+            		@Override
+            		boolean isSet(int row) {
+            			return !values(row).isEmpty();
+            		}
+
+            		@Override
+            		@SuppressWarnings("unchecked")
+            		List<Object> values(int row) {
+            			List<Object> list = (List<Object>)values[row];
+            			return list == null ? Collections.emptyList() : list;
+            		}
+
+            		@Override
+            		@SuppressWarnings("unchecked")
+            		List<Object> list(int row) {
+            			List<Object> list = (List<Object>)values[row];
+            			if (list == null) {
+            				values[row] = list = new ArrayList<>();
+            			}
+            			return list;
+            		}
+            	}
+            }
+            """;
+}
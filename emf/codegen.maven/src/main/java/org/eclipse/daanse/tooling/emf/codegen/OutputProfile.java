@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+/**
+ * An additional output of the generate goal, generated from the model loaded
+ * for the main output with some settings changed. Settings left out are taken
+ * from the main output.
+ *
+ * <pre>{@code
+ * <outputProfiles>
+ *   <outputProfile>
+ *     <id>plain</id>
+ *     <outputDirectory>target/generated-sources/emf-plain</outputDirectory>
+ *     <osgiCompatible>false</osgiCompatible>
+ *   </outputProfile>
+ * </outputProfiles>
+ * }</pre>
+ */
+public class OutputProfile {
+
+    /**
+     * Name of the profile in the build log, defaults to the output directory.
+     */
+    private String id;
+
+    /**
+     * Output directory, relative to the project base directory. Required, and
+     * different from the main output directory and those of other profiles.
+     */
+    private String outputDirectory;
+
+    /**
+     * Base package replacing the one of the main output; nested packages move
+     * with it.
+     */
+    private String basePackage;
+
+    private Boolean osgiCompatible;
+
+    private Boolean suppressInterfaces;
+
+    /**
+     * Whether the output directory is added to the compile source roots of the
+     * project. Off by default, since another variant of the same classes
+     * usually does not compile next to the main output.
+     */
+    private boolean addCompileSourceRoot;
+
+    public String getId() {
+        return id != null ? id : outputDirectory;
+    }
+
+    public String getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    public String getBasePackage() {
+        return basePackage;
+    }
+
+    public Boolean getOsgiCompatible() {
+        return osgiCompatible;
+    }
+
+    public Boolean getSuppressInterfaces() {
+        return suppressInterfaces;
+    }
+
+    public boolean isAddCompileSourceRoot() {
+        return addCompileSourceRoot;
+    }
+
+    @Override
+    public String toString() {
+        return "OutputProfile[id=" + getId() + ", outputDirectory=" + outputDirectory + ", basePackage="
+                + basePackage + ", osgiCompatible=" + osgiCompatible + ", suppressInterfaces=" + suppressInterfaces
+                + ", addCompileSourceRoot=" + addCompileSourceRoot + "]";
+    }
+}
@@ -0,0 +1,557 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Splits the package initialization methods of generated {@code XxxPackageImpl}
+ * classes into bounded-size chunks.
+ *
+ * <p>
+ * For large models EMF generates {@code createPackageContents()},
+ * {@code initializePackageContents()} and {@code createXxxAnnotations()}
+ * methods whose bytecode exceeds HotSpot's 8000 byte huge-method limit, so
+ * they are never JIT-compiled and package initialization runs interpreted.
+ * This splitter moves the statements of those methods into private
+ * {@code methodName1()}, {@code methodName2()}, ... methods that are called in
+ * order from the original method.
+ * </p>
+ *
+ * <p>
+ * Chunks are only cut at statement boundaries where no local variable is live,
+ * so temporaries such as {@code op} or {@code g1} never cross a chunk. Locals
+ * that are used throughout the method (dependent packages, type parameters,
+ * the annotation {@code source}) stay in the original method and are passed to
+ * the chunks as parameters. Chunk methods are marked {@code @generated} so
+ * JMerge replaces them on the next generator run.
+ * </p>
+ */
+public class PackageInitializationSplitter {
+
+    /**
+     * Rough bytecode size per identifier or literal token, used to estimate the
+     * method size from source.
+     */
+    private static final int BYTES_PER_TOKEN = 4;
+
+    /**
+     * Stays well below the JVM limit of 255 parameter slots.
+     */
+    private static final int MAX_PARAMETERS = 200;
+
+    private static final Pattern METHOD_PATTERN = Pattern.compile(
+            "(?m)^([ \\t]*)(?:public|protected|private)\\s+void\\s+(createPackageContents|initializePackageContents|create\\w*Annotations)\\(\\)\\s*\\{");
+
+    private static final Pattern DECLARATION_PATTERN = Pattern.compile(
+            "^(?:final\\s+)?([A-Za-z_$][\\w$.]*(?:\\s*<[^;=()]*>)?(?:\\s*\\[\\s*\\])*)\\s+([A-Za-z_$][\\w$]*)\\s*=(?!=)");
+
+    private static final Pattern ASSIGNMENT_PATTERN = Pattern.compile("^([A-Za-z_$][\\w$]*)\\s*=(?!=)");
+
+    private static final Pattern GUARD_PATTERN = Pattern.compile(
+            "^if\\s*\\(\\s*[\\w$]+\\s*\\)\\s*return\\s*;|^[\\w$]+\\s*=\\s*true\\s*;");
+
+    private static final Set<String> NON_TYPE_KEYWORDS = Set.of("return", "throw", "new", "else", "case", "assert");
+
+    private final Log log;
+    private final int maxMethodSize;
+
+    /**
+     * @param log           Maven log
+     * @param maxMethodSize upper bound for the estimated bytecode size of each
+     *                      chunk
+     */
+    public PackageInitializationSplitter(Log log, int maxMethodSize) {
+        this.log = log;
+        this.maxMethodSize = maxMethodSize;
+    }
+
+    /**
+     * Splits the package initialization methods of the given file in place.
+     */
+    public void split(Path file) {
+        try {
+            String content = Files.readString(file);
+            String modified = split(content, file.getFileName().toString());
+            if (!content.equals(modified)) {
+                Files.writeString(file, modified);
+            }
+        } catch (IOException e) {
+            log.warn("Could not split package initialization in: " + file + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Splits the package initialization methods of the given source.
+     *
+     * @return the modified source, or the unchanged source if nothing needed
+     *         splitting
+     */
+    String split(String source, String fileName) {
+        StringBuilder out = new StringBuilder();
+        int copied = 0;
+        Matcher matcher = METHOD_PATTERN.matcher(source);
+        while (matcher.find()) {
+            String indent = matcher.group(1);
+            String methodName = matcher.group(2);
+            int bodyStart = matcher.end();
+            int bodyEnd = findClosingBrace(source, bodyStart);
+            if (bodyEnd < 0) {
+                log.warn("Could not find end of " + methodName + "() in " + fileName);
+                continue;
+            }
+            if (source.contains(" " + methodName + "1(")) {
+                log.debug(methodName + "() in " + fileName + " is already split");
+                continue;
+            }
+            String body = source.substring(bodyStart, bodyEnd);
+            SplitMethod result = splitBody(methodName, indent, body, fileName);
+            if (result == null) {
+                continue;
+            }
+            // The method ends with the closing brace followed by the line break
+            int methodEnd = source.indexOf('\n', bodyEnd);
+            methodEnd = methodEnd < 0 ? source.length() : methodEnd + 1;
+            out.append(source, copied, bodyStart);
+            out.append(result.body());
+            out.append(source, bodyEnd, methodEnd);
+            out.append(result.chunkMethods());
+            copied = methodEnd;
+            log.info("Split " + methodName + "() in " + fileName + " into " + result.chunkCount()
+                    + " methods");
+        }
+        if (copied == 0) {
+            return source;
+        }
+        out.append(source, copied, source.length());
+        return out.toString();
+    }
+
+    private record SplitMethod(String body, String chunkMethods, int chunkCount) {
+    }
+
+    private record Statement(String leading, String code, int size, String writes, boolean declaration,
+            List<String> identifiers) {
+    }
+
+    private SplitMethod splitBody(String methodName, String indent, String body, String fileName) {
+        List<Statement> statements = new ArrayList<>();
+        String tail = parseStatements(body, statements);
+        if (tail == null) {
+            log.warn("Could not parse " + methodName + "() in " + fileName + ", leaving it unsplit");
+            return null;
+        }
+        int n = statements.size();
+        int totalSize = 0;
+        for (Statement statement : statements) {
+            totalSize += statement.size();
+        }
+        if (totalSize <= maxMethodSize) {
+            return null;
+        }
+
+        // Locals declared in the method body, by name
+        Map<String, String> localTypes = new LinkedHashMap<>();
+        Map<String, Integer> declarationIndex = new HashMap<>();
+        Map<String, Integer> writeCount = new HashMap<>();
+        Map<String, Integer> lastRead = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Statement statement = statements.get(i);
+            if (statement.writes() != null) {
+                writeCount.merge(statement.writes(), 1, Integer::sum);
+                if (statement.declaration()) {
+                    localTypes.put(statement.writes(), declaredType(statement.code()));
+                    declarationIndex.put(statement.writes(), i);
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (String identifier : reads(statements.get(i))) {
+                if (localTypes.containsKey(identifier)) {
+                    lastRead.put(identifier, i);
+                }
+            }
+        }
+
+        // Leading guard statements ("if (isCreated) return; isCreated = true;") stay
+        int prefix = 0;
+        while (prefix < n && GUARD_PATTERN.matcher(statements.get(prefix).code()).find()) {
+            prefix++;
+        }
+        // Single-assignment locals that live across more than half a chunk
+        // (dependent packages, type parameters, annotation source) stay in the
+        // original method and are passed to the chunks
+        for (Map.Entry<String, Integer> entry : declarationIndex.entrySet()) {
+            String local = entry.getKey();
+            int declaredAt = entry.getValue();
+            Integer readAt = lastRead.get(local);
+            if (declaredAt < prefix || readAt == null || writeCount.get(local) != 1) {
+                continue;
+            }
+            int rangeSize = 0;
+            for (int i = declaredAt; i <= readAt; i++) {
+                rangeSize += statements.get(i).size();
+            }
+            if (rangeSize > maxMethodSize / 2) {
+                prefix = Math.max(prefix, declaredAt + 1);
+            }
+        }
+        Set<String> prefixLocals = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : declarationIndex.entrySet()) {
+            if (entry.getValue() < prefix) {
+                prefixLocals.add(entry.getKey());
+            }
+        }
+        for (int i = prefix; i < n; i++) {
+            Statement statement = statements.get(i);
+            if (statement.identifiers().contains("return")) {
+                log.warn("Unexpected return in " + methodName + "() of " + fileName + ", leaving it unsplit");
+                return null;
+            }
+            if (statement.writes() != null && prefixLocals.contains(statement.writes())) {
+                log.warn("Shared local '" + statement.writes() + "' is reassigned in " + methodName + "() of "
+                        + fileName + ", leaving it unsplit");
+                return null;
+            }
+        }
+
+        // Backward liveness: a chunk may only start where no chunk-local is live
+        boolean[] safe = new boolean[n + 1];
+        Set<String> live = new HashSet<>();
+        for (int i = n - 1; i >= prefix; i--) {
+            Statement statement = statements.get(i);
+            if (statement.writes() != null) {
+                live.remove(statement.writes());
+            }
+            for (String identifier : reads(statement)) {
+                if (localTypes.containsKey(identifier) && !prefixLocals.contains(identifier)) {
+                    live.add(identifier);
+                }
+            }
+            safe[i] = live.isEmpty();
+        }
+
+        // Greedy packing, cutting at the last safe boundary before overflowing
+        List<int[]> chunks = new ArrayList<>();
+        int start = prefix;
+        int size = 0;
+        int lastSafe = -1;
+        for (int i = prefix; i < n; i++) {
+            int statementSize = statements.get(i).size();
+            if (i > start && size + statementSize > maxMethodSize) {
+                int cut = safe[i] ? i : lastSafe;
+                if (cut > start) {
+                    chunks.add(new int[] { start, cut });
+                    start = cut;
+                    size = 0;
+                    for (int j = cut; j < i; j++) {
+                        size += statements.get(j).size();
+                    }
+                    lastSafe = -1;
+                }
+            }
+            if (i > start && safe[i]) {
+                lastSafe = i;
+            }
+            size += statementSize;
+        }
+        chunks.add(new int[] { start, n });
+        if (chunks.size() < 2) {
+            log.debug("No safe split points in " + methodName + "() of " + fileName);
+            return null;
+        }
+
+        String bodyIndent = indent + indent;
+        if (bodyIndent.isEmpty()) {
+            bodyIndent = "\t\t";
+        }
+        StringBuilder newBody = new StringBuilder();
+        for (int i = 0; i < prefix; i++) {
+            newBody.append(statements.get(i).leading()).append(statements.get(i).code());
+        }
+        newBody.append(prefix > 0 ? "\n\n" : "\n");
+        StringBuilder chunkMethods = new StringBuilder();
+        for (int c = 0; c < chunks.size(); c++) {
+            int from = chunks.get(c)[0];
+            int to = chunks.get(c)[1];
+            String chunkName = methodName + (c + 1);
+
+            Set<String> referenced = new LinkedHashSet<>();
+            Set<String> declaredInChunk = new HashSet<>();
+            for (int i = from; i < to; i++) {
+                Statement statement = statements.get(i);
+                for (String identifier : statement.identifiers()) {
+                    if (localTypes.containsKey(identifier)) {
+                        referenced.add(identifier);
+                    }
+                }
+                if (statement.declaration()) {
+                    declaredInChunk.add(statement.writes());
+                }
+            }
+            List<String> parameters = new ArrayList<>();
+            List<String> arguments = new ArrayList<>();
+            StringBuilder locals = new StringBuilder();
+            for (String local : localTypes.keySet()) {
+                if (!referenced.contains(local) || declaredInChunk.contains(local)) {
+                    continue;
+                }
+                if (prefixLocals.contains(local)) {
+                    parameters.add(localTypes.get(local) + " " + local);
+                    arguments.add(local);
+                } else {
+                    locals.append(bodyIndent).append(localTypes.get(local)).append(' ').append(local).append(";\n");
+                }
+            }
+
+            if (parameters.size() > MAX_PARAMETERS) {
+                log.warn("Too many shared locals in " + methodName + "() of " + fileName + ", leaving it unsplit");
+                return null;
+            }
+
+            newBody.append(bodyIndent).append(chunkName).append('(').append(String.join(", ", arguments))
+                    .append(");\n");
+
+            chunkMethods.append('\n');
+            chunkMethods.append(indent).append("/**\n");
+            chunkMethods.append(indent).append(" * Part ").append(c + 1).append(" of {@link #").append(methodName)
+                    .append("()}, split off to stay below the JIT huge method limit.\n");
+            chunkMethods.append(indent).append(" * <!-- begin-user-doc -->\n");
+            chunkMethods.append(indent).append(" * <!-- end-user-doc -->\n");
+            chunkMethods.append(indent).append(" * @generated\n");
+            chunkMethods.append(indent).append(" */\n");
+            chunkMethods.append(indent).append("private void ").append(chunkName).append('(')
+                    .append(String.join(", ", parameters)).append(") {\n");
+            chunkMethods.append(locals);
+            for (int i = from; i < to; i++) {
+                String leading = statements.get(i).leading();
+                if (i == from) {
+                    leading = stripLeadingBlankLines(leading);
+                }
+                chunkMethods.append(leading).append(statements.get(i).code());
+            }
+            if (c == chunks.size() - 1) {
+                chunkMethods.append(tail.stripTrailing());
+            }
+            chunkMethods.append('\n').append(indent).append("}\n");
+        }
+        newBody.append(indent);
+        return new SplitMethod(newBody.toString(), chunkMethods.toString(), chunks.size());
+    }
+
+    private static String declaredType(String code) {
+        Matcher matcher = DECLARATION_PATTERN.matcher(code);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Identifiers read by a statement: all referenced identifiers, minus the
+     * written variable on the left-hand side.
+     */
+    private static List<String> reads(Statement statement) {
+        List<String> identifiers = statement.identifiers();
+        if (statement.writes() == null) {
+            return identifiers;
+        }
+        List<String> reads = new ArrayList<>(identifiers);
+        reads.remove(statement.writes());
+        return reads;
+    }
+
+    /**
+     * Parses the top-level statements of a method body.
+     *
+     * @return the trailing text after the last statement, or {@code null} if the
+     *         body contains constructs other than plain statements
+     */
+    private String parseStatements(String body, List<Statement> statements) {
+        int i = 0;
+        int length = body.length();
+        while (true) {
+            int leadingStart = i;
+            i = skipTrivia(body, i);
+            if (i >= length) {
+                return body.substring(leadingStart);
+            }
+            int codeStart = i;
+            int depth = 0;
+            List<String> identifiers = new ArrayList<>();
+            int tokens = 0;
+            char previousSignificant = 0;
+            while (i < length) {
+                char ch = body.charAt(i);
+                if (ch == '/' && i + 1 < length && (body.charAt(i + 1) == '/' || body.charAt(i + 1) == '*')) {
+                    i = skipTrivia(body, i);
+                    continue;
+                }
+                if (ch == '"' || ch == '\'') {
+                    i = skipLiteral(body, i, ch);
+                    tokens++;
+                    previousSignificant = ch;
+                    continue;
+                }
+                if (Character.isJavaIdentifierStart(ch)) {
+                    int identifierStart = i;
+                    while (i < length && Character.isJavaIdentifierPart(body.charAt(i))) {
+                        i++;
+                    }
+                    if (previousSignificant != '.') {
+                        identifiers.add(body.substring(identifierStart, i));
+                    }
+                    tokens++;
+                    previousSignificant = 'a';
+                    continue;
+                }
+                if (Character.isDigit(ch)) {
+                    while (i < length && (Character.isLetterOrDigit(body.charAt(i)) || body.charAt(i) == '.')) {
+                        i++;
+                    }
+                    tokens++;
+                    previousSignificant = '0';
+                    continue;
+                }
+                if (ch == '(' || ch == '[' || ch == '{') {
+                    depth++;
+                } else if (ch == ')' || ch == ']' || ch == '}') {
+                    depth--;
+                    if (depth < 0) {
+                        return null;
+                    }
+                } else if (ch == ';' && depth == 0) {
+                    i++;
+                    break;
+                }
+                if (!Character.isWhitespace(ch)) {
+                    previousSignificant = ch;
+                }
+                i++;
+            }
+            if (depth != 0 || body.charAt(i - 1) != ';') {
+                return null;
+            }
+            String code = body.substring(codeStart, i);
+            String writes = null;
+            boolean declaration = false;
+            Matcher declarationMatcher = DECLARATION_PATTERN.matcher(code);
+            if (declarationMatcher.find() && !NON_TYPE_KEYWORDS.contains(declarationMatcher.group(1))) {
+                writes = declarationMatcher.group(2);
+                declaration = true;
+            } else {
+                Matcher assignmentMatcher = ASSIGNMENT_PATTERN.matcher(code);
+                if (assignmentMatcher.find()) {
+                    writes = assignmentMatcher.group(1);
+                }
+            }
+            statements.add(new Statement(body.substring(leadingStart, codeStart), code,
+                    Math.max(1, tokens) * BYTES_PER_TOKEN, writes, declaration, identifiers));
+        }
+    }
+
+    private static int skipTrivia(String text, int i) {
+        int length = text.length();
+        while (i < length) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                i++;
+            } else if (ch == '/' && i + 1 < length && text.charAt(i + 1) == '/') {
+                int end = text.indexOf('\n', i);
+                i = end < 0 ? length : end;
+            } else if (ch == '/' && i + 1 < length && text.charAt(i + 1) == '*') {
+                int end = text.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static int skipLiteral(String text, int i, char quote) {
+        int length = text.length();
+        if (quote == '"' && text.startsWith("\"\"\"", i)) {
+            int end = text.indexOf("\"\"\"", i + 3);
+            return end < 0 ? length : end + 3;
+        }
+        i++;
+        while (i < length) {
+            char ch = text.charAt(i);
+            if (ch == '\\') {
+                i += 2;
+            } else if (ch == quote) {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Finds the index of the brace closing the block that starts at
+     * {@code start}, skipping comments and literals.
+     */
+    private static int findClosingBrace(String text, int start) {
+        int depth = 1;
+        int i = start;
+        int length = text.length();
+        while (i < length) {
+            char ch = text.charAt(i);
+            if (ch == '/' && i + 1 < length && (text.charAt(i + 1) == '/' || text.charAt(i + 1) == '*')) {
+                i = skipTrivia(text, i);
+                continue;
+            }
+            if (ch == '"' || ch == '\'') {
+                i = skipLiteral(text, i, ch);
+                continue;
+            }
+            if (ch == '{') {
+                depth++;
+            } else if (ch == '}') {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static String stripLeadingBlankLines(String text) {
+        int lineStart = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '\n') {
+                lineStart = i + 1;
+            } else if (!Character.isWhitespace(ch)) {
+                break;
+            }
+        }
+        return text.substring(lineStart);
+    }
+}
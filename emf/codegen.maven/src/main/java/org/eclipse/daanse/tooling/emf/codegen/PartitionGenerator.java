@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.codegen.ecore.generator.Generator;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClassifier;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Generator restricted to one partition of a GenModel, so that the partitions
+ * can be generated concurrently.
+ *
+ * <p>
+ * The partitions are the top-level packages with their own classifiers and
+ * each of their direct sub-packages with all nested packages, e.g.
+ * {@code resource/relational} with everything below it. The GenModel itself
+ * is generated with the first partition. The generator walks the whole model
+ * as usual, so references to packages of other partitions resolve through the
+ * same GenModel and its used GenPackages, but only emits the files of its
+ * partition.
+ * </p>
+ *
+ * <p>
+ * The generator stores state in the GenModel while it generates, e.g. the
+ * import manager of the current file, and hands it on to the GenModels of the
+ * used packages. Partitions running concurrently can therefore not share the
+ * GenModel of other partitions or of the dependencies through
+ * {@code usedGenPackages}: each partition runs on its own copy of the models,
+ * created by {@link #isolatedCopy(GenModel)}. The copy holds what the
+ * generation reads, so N partitions hold N copies of the GenModel, its Ecore
+ * models and those of the dependencies it uses.
+ * </p>
+ */
+public class PartitionGenerator extends Generator {
+
+    private final GenPackage partition;
+
+    private final boolean includeModel;
+
+    /**
+     * @param partition    the partition to generate, a package returned by
+     *                     {@link #partitions(GenModel)} in the model the
+     *                     generator runs on
+     * @param includeModel whether the GenModel-level files are generated too
+     */
+    public PartitionGenerator(GenPackage partition, boolean includeModel) {
+        this.partition = partition;
+        this.includeModel = includeModel;
+    }
+
+    /**
+     * Returns the partitions of the GenModel: each top-level package followed
+     * by its direct sub-packages.
+     */
+    public static List<GenPackage> partitions(GenModel genModel) {
+        List<GenPackage> partitions = new ArrayList<>();
+        for (GenPackage genPackage : genModel.getGenPackages()) {
+            partitions.add(genPackage);
+            partitions.addAll(genPackage.getSubGenPackages());
+        }
+        return partitions;
+    }
+
+    /**
+     * Returns the partition a package is generated with.
+     */
+    public static GenPackage partitionOf(GenPackage genPackage) {
+        GenPackage unit = genPackage;
+        while (unit.getSuperGenPackage() != null && unit.getSuperGenPackage().getSuperGenPackage() != null) {
+            unit = unit.getSuperGenPackage();
+        }
+        return unit;
+    }
+
+    /**
+     * Copies the resources the generation of the GenModel reads into a new
+     * ResourceSet with the same URIs, resource factories, URI mappings and
+     * local package registrations. Other resources of the ResourceSet, e.g.
+     * models of dependencies the model does not use, are not copied.
+     *
+     * @return the copy of the GenModel
+     */
+    public static GenModel isolatedCopy(GenModel genModel) {
+        ResourceSet source = genModel.eResource().getResourceSet();
+        ResourceSet target = new ResourceSetImpl();
+        target.getURIConverter().getURIMap().putAll(source.getURIConverter().getURIMap());
+        target.getURIConverter().getURIHandlers().clear();
+        target.getURIConverter().getURIHandlers().addAll(source.getURIConverter().getURIHandlers());
+        target.getResourceFactoryRegistry().getExtensionToFactoryMap()
+                .putAll(source.getResourceFactoryRegistry().getExtensionToFactoryMap());
+        target.getResourceFactoryRegistry().getProtocolToFactoryMap()
+                .putAll(source.getResourceFactoryRegistry().getProtocolToFactoryMap());
+
+        Set<Resource> required = requiredResources(genModel);
+        EcoreUtil.Copier copier = new EcoreUtil.Copier();
+        for (Resource resource : new ArrayList<>(source.getResources())) {
+            if (!required.contains(resource)) {
+                continue;
+            }
+            Resource copy = new ResourceImpl(resource.getURI());
+            target.getResources().add(copy);
+            copy.getContents().addAll(copier.copyAll(resource.getContents()));
+        }
+        copier.copyReferences();
+        for (Map.Entry<String, Object> entry : source.getPackageRegistry().entrySet()) {
+            if (copier.get(entry.getValue()) instanceof EPackage copy) {
+                target.getPackageRegistry().put(entry.getKey(), copy);
+            }
+        }
+        return (GenModel) copier.get(genModel);
+    }
+
+    /**
+     * Returns the resources of the GenModel and its Ecore packages and,
+     * transitively, of the GenModels of its used GenPackages and their Ecore
+     * packages.
+     */
+    static Set<Resource> requiredResources(GenModel genModel) {
+        Set<Resource> resources = new HashSet<>();
+        Set<GenModel> visited = new HashSet<>();
+        Deque<GenModel> pending = new ArrayDeque<>();
+        pending.add(genModel);
+        while (!pending.isEmpty()) {
+            GenModel model = pending.pop();
+            if (!visited.add(model)) {
+                continue;
+            }
+            addResource(resources, model);
+            for (GenPackage genPackage : model.getGenPackages()) {
+                addPackageResources(resources, genPackage);
+            }
+            for (GenPackage usedGenPackage : model.getUsedGenPackages()) {
+                addPackageResources(resources, usedGenPackage);
+                if (usedGenPackage.getGenModel() != null) {
+                    pending.add(usedGenPackage.getGenModel());
+                }
+            }
+        }
+        return resources;
+    }
+
+    private static void addPackageResources(Set<Resource> resources, GenPackage genPackage) {
+        addResource(resources, genPackage);
+        addResource(resources, genPackage.getEcorePackage());
+        for (GenPackage subPackage : genPackage.getSubGenPackages()) {
+            addPackageResources(resources, subPackage);
+        }
+    }
+
+    private static void addResource(Set<Resource> resources, EObject object) {
+        if (object != null && object.eResource() != null) {
+            resources.add(object.eResource());
+        }
+    }
+
+    @Override
+    protected GeneratorData[] getGeneratorData(Object object, Object projectType, boolean forGenerate) {
+        GeneratorData[] data = super.getGeneratorData(object, projectType, forGenerate);
+        if (!forGenerate) {
+            return data;
+        }
+        List<GeneratorData> result = new ArrayList<>();
+        for (GeneratorData entry : data) {
+            if (belongsToPartition(entry.object)) {
+                result.add(entry);
+            }
+        }
+        return result.toArray(new GeneratorData[0]);
+    }
+
+    private boolean belongsToPartition(Object object) {
+        GenPackage genPackage = null;
+        if (object instanceof GenPackage p) {
+            genPackage = p;
+        } else if (object instanceof GenClassifier classifier) {
+            genPackage = classifier.getGenPackage();
+        }
+        if (genPackage == null) {
+            return includeModel;
+        }
+        return partitionOf(genPackage) == partition;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Time and heap budgets of the generation phases and the comparison with a
+ * baseline report.
+ *
+ * <p>
+ * A phase exceeds its budget if it takes longer or uses more heap than the
+ * budget, or more than the baseline plus the tolerance. Differences to the
+ * baseline below {@link #MIN_TIME_REGRESSION_MILLIS} and
+ * {@link #MIN_HEAP_REGRESSION_MB} are in the noise of a build and never
+ * exceed it.
+ * </p>
+ */
+public final class PerformanceBudgets {
+
+    static final long MIN_TIME_REGRESSION_MILLIS = 100;
+    static final long MIN_HEAP_REGRESSION_MB = 16;
+
+    private final Map<String, String> timeBudgets;
+
+    private final Map<String, String> heapBudgets;
+
+    private final int baselineTolerance;
+
+    private final boolean checkHeap;
+
+    /**
+     * @param timeBudgets       milliseconds per phase, may be {@code null}
+     * @param heapBudgets       megabytes per phase, may be {@code null}
+     * @param baselineTolerance percentage by which a phase may exceed the
+     *                          baseline
+     * @param checkHeap         whether heap budgets and the heap of the
+     *                          baseline are checked
+     */
+    public PerformanceBudgets(Map<String, String> timeBudgets, Map<String, String> heapBudgets,
+            int baselineTolerance, boolean checkHeap) {
+        this.timeBudgets = timeBudgets;
+        this.heapBudgets = heapBudgets;
+        this.baselineTolerance = baselineTolerance;
+        this.checkHeap = checkHeap;
+    }
+
+    /**
+     * Returns a description of every budget and baseline value the phases
+     * exceed, or an empty list.
+     *
+     * @param baseline phases of the baseline by name, or {@code null}
+     * @throws IllegalArgumentException if a budget is not a number
+     */
+    public List<String> check(List<GenerationMetrics.Phase> phases, Map<String, GenerationMetrics.Phase> baseline) {
+        List<String> exceeded = new ArrayList<>();
+        for (GenerationMetrics.Phase phase : phases) {
+            long timeBudget = budget(timeBudgets, phase.name(), "time");
+            if (timeBudget >= 0 && phase.millis() > timeBudget) {
+                exceeded.add(phase.name() + " took " + phase.millis() + " ms, budget " + timeBudget + " ms");
+            }
+            long heapBudget = checkHeap ? budget(heapBudgets, phase.name(), "heap") : -1;
+            if (heapBudget >= 0 && phase.peakHeapMegabytes() > heapBudget) {
+                exceeded.add(phase.name() + " used " + phase.peakHeapMegabytes() + " MB heap, budget "
+                        + heapBudget + " MB");
+            }
+            GenerationMetrics.Phase base = baseline != null ? baseline.get(phase.name()) : null;
+            if (base == null) {
+                continue;
+            }
+            if (base.millis() >= 0 && phase.millis() - base.millis() >= MIN_TIME_REGRESSION_MILLIS
+                    && phase.millis() * 100 > base.millis() * (100L + baselineTolerance)) {
+                exceeded.add(phase.name() + " took " + phase.millis() + " ms, baseline " + base.millis() + " ms");
+            }
+            long baseHeap = base.peakHeapBytes() < 0 ? -1 : base.peakHeapMegabytes();
+            if (checkHeap && baseHeap >= 0 && phase.peakHeapMegabytes() - baseHeap >= MIN_HEAP_REGRESSION_MB
+                    && phase.peakHeapMegabytes() * 100 > baseHeap * (100L + baselineTolerance)) {
+                exceeded.add(phase.name() + " used " + phase.peakHeapMegabytes() + " MB heap, baseline "
+                        + baseHeap + " MB");
+            }
+        }
+        return exceeded;
+    }
+
+    /**
+     * Describes a phase next to the same phase of the baseline.
+     */
+    public static String compare(GenerationMetrics.Phase phase, GenerationMetrics.Phase base) {
+        long baseHeap = base.peakHeapBytes() < 0 ? -1 : base.peakHeapMegabytes();
+        return String.format(Locale.ROOT, "%-12s %7d ms (baseline %7d ms, %s)  %6d MB (baseline %6d MB, %s)",
+                phase.name(), phase.millis(), base.millis(), change(phase.millis(), base.millis()),
+                phase.peakHeapMegabytes(), baseHeap, change(phase.peakHeapMegabytes(), baseHeap));
+    }
+
+    /**
+     * Whether an exceeded budget fails the build.
+     *
+     * @param budgetAction {@code warn} or {@code fail}
+     * @throws IllegalArgumentException for other actions
+     */
+    public static boolean fails(String budgetAction) {
+        if ("fail".equalsIgnoreCase(budgetAction)) {
+            return true;
+        }
+        if ("warn".equalsIgnoreCase(budgetAction)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid budgetAction " + budgetAction + ", expected warn or fail");
+    }
+
+    /**
+     * Returns the budget of the phase, or {@code -1} if it has none.
+     *
+     * @throws IllegalArgumentException if the budget is not a number
+     */
+    static long budget(Map<String, String> budgets, String phase, String kind) {
+        String value = budgets != null ? budgets.get(phase) : null;
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + kind + " budget for phase " + phase + ": " + value);
+        }
+    }
+
+    private static String change(long value, long base) {
+        if (base <= 0) {
+            return "n/a";
+        }
+        return String.format(Locale.ROOT, "%+d%%", (value - base) * 100 / base);
+    }
+}
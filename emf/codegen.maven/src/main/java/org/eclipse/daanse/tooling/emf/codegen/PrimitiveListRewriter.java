@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Replaces the boxed {@code EDataTypeEList}s of multi-valued {@code EInt},
+ * {@code ELong}, {@code EFloat} and {@code EDouble} attributes in generated
+ * classes with primitive-backed lists.
+ *
+ * <p>
+ * EMF stores the values of such attributes as {@code Integer}, {@code Long},
+ * ... objects, so every element costs a boxed object in addition to the array
+ * slot. This rewriter generates a {@value #SUPPORT_CLASS} class into each
+ * {@code impl} package whose lists extend {@code DelegatingEcoreEList} and keep
+ * the values in a primitive array. They remain {@code InternalEList}s and
+ * {@code EStructuralFeature.Setting}s, so reflection and notifications behave
+ * as before; values are only boxed while they pass through the {@code List}
+ * API. Unlike the boxed lists, they cannot contain {@code null}.
+ * </p>
+ */
+public class PrimitiveListRewriter {
+
+    /**
+     * Simple name of the generated support class.
+     */
+    static final String SUPPORT_CLASS = "PrimitiveDataTypeELists";
+
+    private static final Pattern LIST_PATTERN = Pattern.compile(
+            "new EDataType(Unique)?EList<(Integer|Long|Float|Double)>\\(\\2\\.class, this, ([\\w.]+)\\)");
+
+    private static final Map<String, String> PRIMITIVES = Map.of("Integer", "int", "Long", "long", "Float",
+            "float", "Double", "double");
+
+    private static final Map<String, String> LIST_NAMES = Map.of("Integer", "Int", "Long", "Long", "Float",
+            "Float", "Double", "Double");
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public PrimitiveListRewriter(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Rewrites the generated classes in the given directory and writes the
+     * support class if any list was replaced.
+     */
+    public void rewriteDirectory(Path directory) {
+        Set<String> boxedTypes = new TreeSet<>();
+        String header = null;
+        String packageName = null;
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith("Impl.java")).sorted()::iterator) {
+                String content = Files.readString(file);
+                String modified = rewrite(content, boxedTypes);
+                if (!content.equals(modified)) {
+                    Files.writeString(file, modified);
+                    log.info("Using primitive lists in " + file.getFileName());
+                    if (packageName == null) {
+                        int packageStart = modified.indexOf("package ");
+                        header = modified.substring(0, packageStart);
+                        packageName = modified.substring(packageStart + 8, modified.indexOf(';', packageStart)).trim();
+                    }
+                }
+            }
+            if (!boxedTypes.isEmpty()) {
+                Files.writeString(directory.resolve(SUPPORT_CLASS + ".java"),
+                        supportClass(header, packageName, boxedTypes));
+            }
+        } catch (IOException e) {
+            log.warn("Could not generate primitive lists in: " + directory + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replaces the boxed list constructions of the given source.
+     *
+     * @param boxedTypes collects the boxed types whose lists are used
+     * @return the modified source
+     */
+    String rewrite(String source, Set<String> boxedTypes) {
+        Matcher matcher = LIST_PATTERN.matcher(source);
+        StringBuilder out = new StringBuilder();
+        boolean found = false;
+        while (matcher.find()) {
+            found = true;
+            String boxed = matcher.group(2);
+            boxedTypes.add(boxed);
+            matcher.appendReplacement(out, "new " + SUPPORT_CLASS + "." + LIST_NAMES.get(boxed) + "EList(this, "
+                    + matcher.group(3) + ", " + (matcher.group(1) != null) + ")");
+        }
+        if (!found) {
+            return source;
+        }
+        matcher.appendTail(out);
+        String result = removeUnusedImport(out.toString(), "org.eclipse.emf.ecore.util.EDataTypeEList");
+        return removeUnusedImport(result, "org.eclipse.emf.ecore.util.EDataTypeUniqueEList");
+    }
+
+    private static String removeUnusedImport(String source, String qualifiedName) {
+        String importLine = "import " + qualifiedName + ";\n";
+        String simpleName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        int at = source.indexOf(importLine);
+        if (at < 0 || Pattern.compile("\\b" + simpleName + "\\b")
+                .matcher(source.substring(0, at) + source.substring(at + importLine.length())).find()) {
+            return source;
+        }
+        return source.substring(0, at) + source.substring(at + importLine.length());
+    }
+
+    private static String supportClass(String header, String packageName, Set<String> boxedTypes) {
+        StringBuilder lists = new StringBuilder();
+        for (String boxed : boxedTypes) {
+            lists.append(LIST_TEMPLATE.replace("$Boxed$", boxed)
+                    .replace("$Name$", LIST_NAMES.get(boxed))
+                    .replace("$primitive$", PRIMITIVES.get(boxed)));
+        }
+        return header + "package " + packageName + ";\n" + SUPPORT_TEMPLATE.replace("$SupportClass$", SUPPORT_CLASS)
+                .replace("$lists$", lists.toString());
+    }
+
+    private static final String SUPPORT_TEMPLATE = """
+
+            import java.io.Serializable;
+
+            import java.util.AbstractList;
+            import java.util.Arrays;
+            import java.util.List;
+            import java.util.Objects;
+            import java.util.RandomAccess;
+
+            import org.eclipse.emf.ecore.InternalEObject;
+
+            import org.eclipse.emf.ecore.util.DelegatingEcoreEList;
+
+            /**
+             * <!-- begin-user-doc -->
+             * Lists for multi-valued attributes of primitive data types that keep their
+             * values unboxed in a primitive array.
+             * They are {@link org.eclipse.emf.ecore.util.InternalEList}s and
+             * {@link org.eclipse.emf.ecore.EStructuralFeature.Setting}s, so reflection and notifications
+             * behave as with {@link org.eclipse.emf.ecore.util.EDataTypeEList};
+             * values are only boxed while they pass through the {@link List} API.
+             * <!-- end-user-doc -->
+             * @generated
+             */
+            public final class $SupportClass$ {
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private $SupportClass$() {
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Common base of the primitive lists; none of them has an inverse or can contain <code>null</code>.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public abstract static class PrimitiveEList<E> extends DelegatingEcoreEList<E> {
+            		private static final long serialVersionUID = 1L;
+
+            		/**
+            		 * @generated
+            		 */
+            		protected final int featureID;
+
+            		/**
+            		 * @generated
+            		 */
+            		protected final boolean unique;
+
+            		/**
+            		 * @generated
+            		 */
+            		protected PrimitiveEList(InternalEObject owner, int featureID, boolean unique) {
+            			super(owner);
+            			this.featureID = featureID;
+            			this.unique = unique;
+            		}
+
+            		@Override
+            		public int getFeatureID() {
+            			return featureID;
+            		}
+
+            		@Override
+            		protected boolean isUnique() {
+            			return unique;
+            		}
+
+            		@Override
+            		protected boolean canContainNull() {
+            			return false;
+            		}
+
+            		@Override
+            		protected boolean isEObject() {
+            			return false;
+            		}
+
+            		@Override
+            		protected boolean hasInverse() {
+            			return false;
+            		}
+
+            		@Override
+            		protected boolean hasManyInverse() {
+            			return false;
+            		}
+
+            		@Override
+            		protected boolean hasNavigableInverse() {
+            			return false;
+            		}
+
+            		@Override
+            		protected boolean isContainment() {
+            			return false;
+            		}
+
+            		@Override
+            		protected boolean hasProxies() {
+            			return false;
+            		}
+
+            		@Override
+            		protected boolean hasInstanceClass() {
+            			return true;
+            		}
+
+            		@Override
+            		protected E resolve(int index, E object) {
+            			return object;
+            		}
+            	}
+            $lists$
+            }
+            """;
+
+    private static final String LIST_TEMPLATE = """
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * List of <code>$primitive$</code> values.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	public static class $Name$EList extends PrimitiveEList<$Boxed$> {
+            		private static final long serialVersionUID = 1L;
+
+            		/**
+            		 * @generated
+            		 */
+            		private final $Name$Store store = new $Name$Store();
+
+            		/**
+            		 * @generated
+            		 */
+            		public $Name$EList(InternalEObject owner, int featureID, boolean unique) {
+            			super(owner, featureID, unique);
+            		}
+
+            		@Override
+            		protected List<$Boxed$> delegateList() {
+            			return store;
+            		}
+
+            		@Override
+            		protected boolean isInstance(Object object) {
+            			return object instanceof $Boxed$;
+            		}
+
+            		/**
+            		 * Returns the value at the given index without boxing it.
+            		 * @generated
+            		 */
+            		public $primitive$ get$Name$(int index) {
+            			return store.get$Name$(index);
+            		}
+
+            		/**
+            		 * Returns a copy of the values.
+            		 * @generated
+            		 */
+            		public $primitive$[] to$Name$Array() {
+            			return Arrays.copyOf(store.values, store.size);
+            		}
+            	}
+
+            	/**
+            	 * <!-- begin-user-doc -->
+            	 * Storage of a {@link $Name$EList}.
+            	 * <!-- end-user-doc -->
+            	 * @generated
+            	 */
+            	private static final class $Name$Store extends AbstractList<$Boxed$> implements RandomAccess, Serializable {
+            		private static final long serialVersionUID = 1L;
+
+            		private static final $primitive$[] EMPTY = new $primitive$[0];
+
+            		private $primitive$[] values = EMPTY;
+
+            		private int size;
+
+            		@Override
+            		public int size() {
+            			return size;
+            		}
+
+            		@Override
+            		public $Boxed$ get(int index) {
+            			return get$Name$(index);
+            		}
+
+            		$primitive$ get$Name$(int index) {
+            			Objects.checkIndex(index, size);
+            			return values[index];
+            		}
+
+            		@Override
+            		public $Boxed$ set(int index, $Boxed$ value) {
+            			Objects.checkIndex(index, size);
+            			$primitive$ oldValue = values[index];
+            			values[index] = value;
+            			return oldValue;
+            		}
+
+            		@Override
+            		public void add(int index, $Boxed$ value) {
+            			if (index < 0 || index > size) {
+            				throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+            			}
+            			$primitive$ primitiveValue = value;
+            			if (size == values.length) {
+            				values = Arrays.copyOf(values, Math.max(4, size + (size >> 1)));
+            			}
+            			System.arraycopy(values, index, values, index + 1, size - index);
+            			values[index] = primitiveValue;
+            			size++;
+            			modCount++;
+            		}
+
+            		@Override
+            		public $Boxed$ remove(int index) {
+            			Objects.checkIndex(index, size);
+            			$primitive$ oldValue = values[index];
+            			System.arraycopy(values, index + 1, values, index, size - index - 1);
+            			size--;
+            			modCount++;
+            			return oldValue;
+            		}
+
+            		@Override
+            		public void clear() {
+            			values = EMPTY;
+            			size = 0;
+            			modCount++;
+            		}
+
+            		@Override
+            		public boolean contains(Object object) {
+            			return indexOf(object) >= 0;
+            		}
+
+            		@Override
+            		public int indexOf(Object object) {
+            			if (object instanceof $Boxed$) {
+            				$primitive$ value = ($Boxed$)object;
+            				for (int i = 0; i < size; i++) {
+            					if ($Boxed$.compare(values[i], value) == 0) {
+            						return i;
+            					}
+            				}
+            			}
+            			return -1;
+            		}
+
+            		@Override
+            		public int lastIndexOf(Object object) {
+            			if (object instanceof $Boxed$) {
+            				$primitive$ value = ($Boxed$)object;
+            				for (int i = size - 1; i >= 0; i--) {
+            					if ($Boxed$.compare(values[i], value) == 0) {
+            						return i;
+            					}
+            				}
+            			}
+            			return -1;
+            		}
+            	}
+            """;
+}
@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClassifier;
+import org.eclipse.emf.codegen.ecore.genmodel.GenEnum;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Generates immutable, record-based snapshot types for the classes of each
+ * generated package, together with a {@code snapshot(EObject)} converter.
+ *
+ * <p>
+ * For every package a {@code util/<Prefix>Snapshots} class is written. It
+ * declares a {@code <Class>Snapshot} interface per EClass, which extends the
+ * snapshot interfaces of its supertypes, and a {@code <Class>Record} per
+ * concrete EClass. Attributes are copied by value, containment references
+ * become nested snapshots and non-containment references become
+ * {@code Ref}s that are resolved before the converter returns, so cyclic
+ * models can be frozen as well. Multi-valued features are copied into
+ * unmodifiable lists. References to classes of other packages keep the
+ * {@code EObject}.
+ * </p>
+ */
+public class SnapshotGenerator {
+
+    private static final Map<String, String> BOXED = Map.of("int", "Integer", "long", "Long", "short", "Short",
+            "byte", "Byte", "char", "Character", "float", "Float", "double", "Double", "boolean", "Boolean");
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public SnapshotGenerator(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Writes the snapshot class of every package of the GenModel that has
+     * classes.
+     */
+    public void generate(GenModel genModel, Path outputDirectory) {
+        for (GenPackage genPackage : genModel.getAllGenPackagesWithClassifiers()) {
+            if (genPackage.getGenClasses().isEmpty()) {
+                continue;
+            }
+            Path file = outputDirectory.resolve(
+                    (genPackage.getUtilitiesPackageName() + "." + className(genPackage)).replace('.', '/') + ".java");
+            try {
+                Path packageInterface = outputDirectory
+                        .resolve(genPackage.getQualifiedPackageInterfaceName().replace('.', '/') + ".java");
+                String header = "";
+                if (Files.exists(packageInterface)) {
+                    String content = Files.readString(packageInterface);
+                    header = content.substring(0, Math.max(0, content.indexOf("package ")));
+                }
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, header + source(genPackage));
+                log.info("Generated " + className(genPackage) + " for package " + genPackage.getPackageName());
+            } catch (IOException e) {
+                log.warn("Could not generate snapshots in: " + file + " - " + e.getMessage());
+            }
+        }
+    }
+
+    static String className(GenPackage genPackage) {
+        return genPackage.getPrefix() + "Snapshots";
+    }
+
+    private String source(GenPackage genPackage) {
+        String className = className(genPackage);
+        String packageInterface = genPackage.getQualifiedPackageInterfaceName();
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(genPackage.getUtilitiesPackageName()).append(";\n");
+        out.append("""
+
+                import java.util.ArrayList;
+                import java.util.Collection;
+                import java.util.Collections;
+                import java.util.IdentityHashMap;
+                import java.util.List;
+                import java.util.Map;
+
+                import org.eclipse.emf.ecore.EClass;
+                import org.eclipse.emf.ecore.EObject;
+
+                /**
+                 * <!-- begin-user-doc -->
+                 * Immutable snapshots of the instances of the <b>$PackageName$</b> package.
+                 * {@link #snapshot(EObject)} copies an object and its contents into records that can be read
+                 * by many threads without locking. Containment references become nested snapshots, other
+                 * references become {@link Ref}s, which are resolved before {@link #snapshot(EObject)} returns.
+                 * Multi-valued features are copied into unmodifiable lists; references to classes of other
+                 * packages keep the {@link EObject}. Publish a snapshot to other threads like any other object,
+                 * for example through a volatile field.
+                 * <!-- end-user-doc -->
+                 * @generated
+                 */
+                public final class $ClassName$ {
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final Map<EObject, Snapshot> snapshots = new IdentityHashMap<>();
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final Map<EObject, Ref<Snapshot>> refs = new IdentityHashMap<>();
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final List<EObject> unresolved = new ArrayList<>();
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private $ClassName$() {
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * Returns an immutable snapshot of the object and its contents.
+                	 * Objects referenced from the contents are snapshotted as well.
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static Snapshot snapshot(EObject eObject) {
+                		$ClassName$ snapshots = new $ClassName$();
+                		Snapshot snapshot = snapshots.create(eObject);
+                		for (int i = 0; i < snapshots.unresolved.size(); i++) {
+                			EObject target = snapshots.unresolved.get(i);
+                			snapshots.refs.get(target).target = snapshots.create(target);
+                		}
+                		return snapshot;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * A snapshot of an object.
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public interface Snapshot {
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		EClass eClass();
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * A non-containment reference to the snapshot of an object.
+                	 * The target is set once before {@link #snapshot(EObject)} returns and
+                	 * is volatile, so a snapshot handed to another thread resolves its
+                	 * references without further synchronization.
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public static final class Ref<T extends Snapshot> {
+                		private volatile T target;
+
+                		private Ref() {
+                		}
+
+                		/**
+                		 * <!-- begin-user-doc -->
+                		 * <!-- end-user-doc -->
+                		 * @generated
+                		 */
+                		public T get() {
+                			return target;
+                		}
+
+                		@Override
+                		public String toString() {
+                			return "Ref[" + (target == null ? null : target.eClass().getName()) + "]";
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private Snapshot create(EObject eObject) {
+                		if (eObject == null) {
+                			return null;
+                		}
+                		Snapshot snapshot = snapshots.get(eObject);
+                		if (snapshot == null) {
+                			snapshot = newSnapshot(eObject);
+                			snapshots.put(eObject, snapshot);
+                		}
+                		return snapshot;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@SuppressWarnings("unchecked")
+                	private <T extends Snapshot> T contained(EObject eObject) {
+                		return (T)create(eObject);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private <T extends Snapshot> List<T> containedAll(Collection<?> values) {
+                		List<T> result = new ArrayList<>(values.size());
+                		for (Object value : values) {
+                			result.add(contained((EObject)value));
+                		}
+                		return Collections.unmodifiableList(result);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@SuppressWarnings("unchecked")
+                	private <T extends Snapshot> Ref<T> ref(EObject eObject) {
+                		if (eObject == null) {
+                			return null;
+                		}
+                		Ref<Snapshot> ref = refs.get(eObject);
+                		if (ref == null) {
+                			ref = new Ref<>();
+                			refs.put(eObject, ref);
+                			unresolved.add(eObject);
+                		}
+                		return (Ref<T>)ref;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private <T extends Snapshot> List<Ref<T>> refAll(Collection<?> values) {
+                		List<Ref<T>> result = new ArrayList<>(values.size());
+                		for (Object value : values) {
+                			result.add(ref((EObject)value));
+                		}
+                		return Collections.unmodifiableList(result);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static <T> List<T> copy(Collection<? extends T> values) {
+                		return Collections.unmodifiableList(new ArrayList<>(values));
+                	}
+
+                """.replace("$ClassName$", className).replace("$PackageName$", genPackage.getPackageName()));
+
+        // Dispatch by classifier ID; each class has its own method to keep the switch small
+        out.append("""
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private Snapshot newSnapshot(EObject eObject) {
+                		EClass eClass = eObject.eClass();
+                		if (eClass.getEPackage() != $Package$.eINSTANCE) {
+                			throw new IllegalArgumentException("Not a class of $PackageName$: " + eClass.getName());
+                		}
+                		switch (eClass.getClassifierID()) {
+                """.replace("$Package$", packageInterface).replace("$PackageName$", genPackage.getPackageName()));
+        for (GenClass genClass : genPackage.getGenClasses()) {
+            if (!genClass.isAbstract()) {
+                out.append("\t\t\tcase ").append(packageInterface).append('.').append(genClass.getClassifierID())
+                        .append(":\n\t\t\t\treturn new").append(genClass.getName()).append("((")
+                        .append(genClass.getQualifiedInterfaceName()).append(")eObject);\n");
+            }
+        }
+        out.append("""
+                			default:
+                				throw new IllegalArgumentException("Cannot snapshot an instance of " + eClass.getName());
+                		}
+                	}
+                """);
+
+        for (GenClass genClass : genPackage.getGenClasses()) {
+            appendInterface(out, genPackage, genClass);
+        }
+        for (GenClass genClass : genPackage.getGenClasses()) {
+            if (!genClass.isAbstract()) {
+                appendRecord(out, genPackage, genClass);
+            }
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private void appendInterface(StringBuilder out, GenPackage genPackage, GenClass genClass) {
+        List<String> supertypes = new ArrayList<>();
+        for (GenClass base : genClass.getBaseGenClasses()) {
+            if (base.getGenPackage() == genPackage) {
+                supertypes.add(base.getName() + "Snapshot");
+            }
+        }
+        if (supertypes.isEmpty()) {
+            supertypes.add("Snapshot");
+        }
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * Snapshot of a {@link ")
+                .append(genClass.getQualifiedInterfaceName()).append(" <em>").append(genClass.getFormattedName())
+                .append("</em>}.\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tpublic interface ").append(genClass.getName()).append("Snapshot extends ")
+                .append(String.join(", ", supertypes)).append(" {\n");
+        boolean first = true;
+        for (GenFeature genFeature : genClass.getGenFeatures()) {
+            if (isSnapshotted(genFeature)) {
+                if (!first) {
+                    out.append('\n');
+                }
+                first = false;
+                out.append("\t\t/**\n\t\t * <!-- begin-user-doc -->\n\t\t * <!-- end-user-doc -->\n\t\t * @generated\n\t\t */\n");
+                out.append("\t\t").append(componentType(genPackage, genFeature)).append(' ')
+                        .append(genFeature.getSafeName()).append("();\n");
+            }
+        }
+        out.append("\t}\n");
+    }
+
+    private void appendRecord(StringBuilder out, GenPackage genPackage, GenClass genClass) {
+        List<String> components = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (GenFeature genFeature : genClass.getAllGenFeatures()) {
+            if (isSnapshotted(genFeature)) {
+                components.add(componentType(genPackage, genFeature) + " " + genFeature.getSafeName());
+                values.add(value(genPackage, genFeature));
+            }
+        }
+        String recordName = genClass.getName() + "Record";
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tpublic record ").append(recordName).append('(')
+                .append(String.join(", ", components)).append(") implements ").append(genClass.getName())
+                .append("Snapshot {\n");
+        out.append("\t\t@Override\n\t\tpublic EClass eClass() {\n\t\t\treturn ")
+                .append(genPackage.getQualifiedPackageInterfaceName()).append(".eINSTANCE.get")
+                .append(genClass.getClassifierAccessorName()).append("();\n\t\t}\n\t}\n");
+
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tprivate ").append(recordName).append(" new").append(genClass.getName()).append('(')
+                .append(genClass.getQualifiedInterfaceName()).append(" eObject) {\n");
+        out.append("\t\treturn new ").append(recordName).append('(');
+        if (!values.isEmpty()) {
+            out.append("\n\t\t\t").append(String.join(",\n\t\t\t", values));
+        }
+        out.append(");\n\t}\n");
+    }
+
+    /**
+     * Whether the feature holds state that is copied into the snapshot.
+     */
+    private static boolean isSnapshotted(GenFeature genFeature) {
+        EStructuralFeature feature = genFeature.getEcoreFeature();
+        return genFeature.isGet() && !genFeature.isSuppressedGetVisibility() && !feature.isDerived()
+                && !feature.isVolatile() && !genFeature.isFeatureMapType();
+    }
+
+    /**
+     * Returns the target class if the feature is a reference to a class of the
+     * same package, which is snapshotted as well.
+     */
+    private static GenClass snapshottedTarget(GenPackage genPackage, GenFeature genFeature) {
+        if (genFeature.getEcoreFeature() instanceof EReference) {
+            GenClass target = genFeature.getTypeGenClass();
+            if (target != null && target.getGenPackage() == genPackage) {
+                return target;
+            }
+        }
+        return null;
+    }
+
+    private String componentType(GenPackage genPackage, GenFeature genFeature) {
+        EStructuralFeature feature = genFeature.getEcoreFeature();
+        GenClass target = snapshottedTarget(genPackage, genFeature);
+        String type;
+        if (target != null) {
+            type = target.getName() + "Snapshot";
+            if (!((EReference) feature).isContainment()) {
+                type = "Ref<" + type + ">";
+            }
+        } else if (feature instanceof EReference) {
+            type = feature.isMany() ? "Object" : "EObject";
+        } else {
+            type = attributeType(genFeature.getGenModel(), feature.getEType());
+        }
+        if (feature.isMany()) {
+            return "List<" + BOXED.getOrDefault(type, type) + ">";
+        }
+        return type;
+    }
+
+    private String value(GenPackage genPackage, GenFeature genFeature) {
+        EStructuralFeature feature = genFeature.getEcoreFeature();
+        String getter = "eObject." + genFeature.getGetAccessor() + "()";
+        if (snapshottedTarget(genPackage, genFeature) != null) {
+            boolean containment = ((EReference) feature).isContainment();
+            if (feature.isMany()) {
+                return (containment ? "containedAll(" : "refAll(") + getter + ")";
+            }
+            return (containment ? "contained(" : "ref(") + getter + ")";
+        }
+        return feature.isMany() ? "copy(" + getter + ")" : getter;
+    }
+
+    private static String attributeType(GenModel genModel, EClassifier eType) {
+        if (eType instanceof EEnum) {
+            GenClassifier genEnum = genModel.findGenClassifier(eType);
+            if (genEnum instanceof GenEnum) {
+                return ((GenEnum) genEnum).getQualifiedName();
+            }
+        }
+        String instanceTypeName = eType.getInstanceTypeName();
+        if (instanceTypeName == null) {
+            return "Object";
+        }
+        instanceTypeName = instanceTypeName.replace('$', '.');
+        if (instanceTypeName.startsWith("java.lang.") && instanceTypeName.indexOf('.', 10) < 0) {
+            return instanceTypeName.substring(10);
+        }
+        return instanceTypeName;
+    }
+}
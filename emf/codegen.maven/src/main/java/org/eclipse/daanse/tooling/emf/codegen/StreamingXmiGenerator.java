@@ -0,0 +1,1184 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.emf.codegen.ecore.genmodel.GenClass;
+import org.eclipse.emf.codegen.ecore.genmodel.GenFeature;
+import org.eclipse.emf.codegen.ecore.genmodel.GenModel;
+import org.eclipse.emf.codegen.ecore.genmodel.GenPackage;
+import org.eclipse.emf.codegen.ecore.genmodel.GenResourceKind;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EReference;
+
+/**
+ * Generates a StAX based XMI reader and writer specialized for each package.
+ *
+ * <p>
+ * EMF's {@code XMIResourceImpl} parses with SAX and maps every element and
+ * attribute name to its feature through the metadata of the package, then
+ * sets the values reflectively. For every package this generator writes a
+ * {@code util/<Prefix>XmiReader} and {@code util/<Prefix>XmiWriter}. Class and
+ * feature names are mapped by generated {@code switch} statements, one per
+ * class, and values are converted and set through the generated factory,
+ * getters and setters; only data types without a direct Java conversion go
+ * through {@code EcoreUtil}. Non-containment references are resolved once the
+ * document is read, IDs through a map filled while reading.
+ * </p>
+ *
+ * <p>
+ * The format is the XMI written by {@code XMIResourceImpl} with default
+ * options: a single root or an {@code xmi:XMI} element with several roots,
+ * {@code xsi:type} for subclasses, {@code xmi:id}s, IDREF and fragment paths
+ * for references within the document and {@code href} elements for references
+ * to other documents. Objects of classes from other packages are not
+ * supported. When the package has an XMI resource, the generated
+ * {@code XxxResourceImpl} uses the reader and writer whenever it is loaded or
+ * saved without options and has no default load or save options.
+ * </p>
+ */
+public class StreamingXmiGenerator {
+
+    private final Log log;
+
+    /**
+     * @param log Maven log
+     */
+    public StreamingXmiGenerator(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Writes the reader and writer of every package of the GenModel and makes
+     * the XMI resources of the packages use them.
+     */
+    public void generate(GenModel genModel, Path outputDirectory) {
+        for (GenPackage genPackage : genModel.getAllGenPackagesWithClassifiers()) {
+            List<GenClass> genClasses = concreteClasses(genPackage);
+            if (genClasses.isEmpty()) {
+                continue;
+            }
+            Path utilDirectory = outputDirectory.resolve(genPackage.getUtilitiesPackageName().replace('.', '/'));
+            try {
+                Path packageInterface = outputDirectory
+                        .resolve(genPackage.getQualifiedPackageInterfaceName().replace('.', '/') + ".java");
+                String header = "";
+                if (Files.exists(packageInterface)) {
+                    String content = Files.readString(packageInterface);
+                    header = content.substring(0, Math.max(0, content.indexOf("package ")));
+                }
+                Files.createDirectories(utilDirectory);
+                Files.writeString(utilDirectory.resolve(readerName(genPackage) + ".java"),
+                        header + readerSource(genPackage, genClasses));
+                Files.writeString(utilDirectory.resolve(writerName(genPackage) + ".java"),
+                        header + writerSource(genPackage, genClasses));
+                if (genPackage.getResource() == GenResourceKind.XMI_LITERAL) {
+                    delegateResource(genPackage, utilDirectory.resolve(genPackage.getResourceClassName() + ".java"));
+                }
+                log.info("Generated " + readerName(genPackage) + " and " + writerName(genPackage) + " for "
+                        + genClasses.size() + " class(es)");
+            } catch (IOException e) {
+                log.warn("Could not generate streaming XMI reader and writer in: " + utilDirectory + " - "
+                        + e.getMessage());
+            }
+        }
+    }
+
+    static String readerName(GenPackage genPackage) {
+        return genPackage.getPrefix() + "XmiReader";
+    }
+
+    static String writerName(GenPackage genPackage) {
+        return genPackage.getPrefix() + "XmiWriter";
+    }
+
+    private static List<GenClass> concreteClasses(GenPackage genPackage) {
+        List<GenClass> genClasses = new ArrayList<>();
+        for (GenClass genClass : genPackage.getGenClasses()) {
+            if (!genClass.isAbstract() && !genClass.isInterface() && !genClass.isDynamic()) {
+                genClasses.add(genClass);
+            }
+        }
+        return genClasses;
+    }
+
+    /**
+     * Returns the features of the class that are written to XMI: not transient,
+     * not derived and not the container reference.
+     */
+    private static List<GenFeature> persistentFeatures(GenClass genClass) {
+        List<GenFeature> features = new ArrayList<>();
+        for (GenFeature genFeature : genClass.getAllGenFeatures()) {
+            if (!genFeature.getEcoreFeature().isTransient() && !genFeature.isDerived() && !genFeature.isContainer()) {
+                features.add(genFeature);
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Numbers the non-containment references of the classes, so the references
+     * read as IDREFs can be set through one {@code switch} once the document is
+     * read.
+     */
+    private static Map<GenFeature, Integer> referenceCodes(List<GenClass> genClasses) {
+        Map<GenFeature, Integer> codes = new LinkedHashMap<>();
+        for (GenClass genClass : genClasses) {
+            for (GenFeature genFeature : persistentFeatures(genClass)) {
+                if (genFeature.isReferenceType() && !genFeature.isContains() && !codes.containsKey(genFeature)) {
+                    codes.put(genFeature, codes.size());
+                }
+            }
+        }
+        return codes;
+    }
+
+    // ==================== Reader ====================
+
+    private String readerSource(GenPackage genPackage, List<GenClass> genClasses) {
+        String packageInterface = genPackage.getQualifiedPackageInterfaceName();
+        Map<GenFeature, Integer> references = referenceCodes(genClasses);
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(genPackage.getUtilitiesPackageName()).append(";\n");
+        out.append("""
+
+                import java.io.IOException;
+                import java.io.InputStream;
+                import java.util.ArrayList;
+                import java.util.HashMap;
+                import java.util.List;
+                import java.util.Map;
+
+                import javax.xml.stream.XMLInputFactory;
+                import javax.xml.stream.XMLStreamConstants;
+                import javax.xml.stream.XMLStreamException;
+                import javax.xml.stream.XMLStreamReader;
+
+                import org.eclipse.emf.common.util.URI;
+
+                import org.eclipse.emf.ecore.EObject;
+                import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EReference;
+                import org.eclipse.emf.ecore.InternalEObject;
+
+                import org.eclipse.emf.ecore.resource.Resource;
+
+                import org.eclipse.emf.ecore.util.EcoreUtil;
+                import org.eclipse.emf.ecore.util.InternalEList;
+
+                import org.eclipse.emf.ecore.xmi.XMLResource;
+
+                /**
+                 * <!-- begin-user-doc -->
+                 * Reads XMI documents of the <b>$PackageName$</b> package into a resource with StAX.
+                 * Element and attribute names are mapped to features by generated switches and the values are set
+                 * through the generated setters. References are resolved once the whole document is read.
+                 * A reader reads a single document.
+                 * <!-- end-user-doc -->
+                 * @generated
+                 */
+                public class $ClassName$ {
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static final String XMI_NS_URI = "http://www.omg.org/XMI";
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static final String XSI_NS_URI = "http://www.w3.org/2001/XMLSchema-instance";
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newFactory();
+
+                	static {
+                		INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+                		INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+                	}
+
+                	/**
+                	 * A reference read before its target, set once the document is read.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private record Reference(EObject eObject, int reference, String value, EObject proxy) {
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final Resource resource;
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final Map<String, EObject> ids = new HashMap<>();
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final List<Reference> references = new ArrayList<>();
+
+                	/**
+                	 * Creates a reader that adds the roots it reads to the contents of the resource.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public $ClassName$(Resource resource) {
+                		this.resource = resource;
+                	}
+
+                	/**
+                	 * Reads the document and adds its roots to the contents of the resource.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public void read(InputStream inputStream) throws IOException {
+                		try {
+                			XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(inputStream);
+                			try {
+                				reader.nextTag();
+                				if (XMI_NS_URI.equals(reader.getNamespaceURI()) && "XMI".equals(reader.getLocalName())) {
+                					while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                						readRoot(reader);
+                					}
+                				}
+                				else {
+                					readRoot(reader);
+                				}
+                			}
+                			finally {
+                				reader.close();
+                			}
+                		}
+                		catch (XMLStreamException exception) {
+                			throw new Resource.IOWrappedException(exception);
+                		}
+                		for (Reference reference : references) {
+                			for (String token : reference.value().split(" ")) {
+                				if (!token.isEmpty()) {
+                					setReference(reference.eObject(), reference.reference(), resolve(token, reference));
+                				}
+                			}
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void readRoot(XMLStreamReader reader) throws XMLStreamException, IOException {
+                		if (!$PackageInterface$.eNS_URI.equals(reader.getNamespaceURI())) {
+                			throw new IOException("Unsupported namespace '" + reader.getNamespaceURI() + "'");
+                		}
+                		EObject eObject = create(reader.getLocalName());
+                		resource.getContents().add(eObject);
+                		readObject(reader, eObject);
+                	}
+
+                	/**
+                	 * Creates the object of a containment element, of the class given by its <code>xsi:type</code> or else the
+                	 * default class, which is <code>null</code> if the type of the feature is abstract.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private EObject createContained(XMLStreamReader reader, String defaultClass) throws IOException {
+                		String type = reader.getAttributeValue(XSI_NS_URI, "type");
+                		if (type == null) {
+                			type = reader.getAttributeValue(XMI_NS_URI, "type");
+                		}
+                		if (type == null) {
+                			if (defaultClass == null) {
+                				throw new IOException("Missing type of element '" + reader.getLocalName() + "'");
+                			}
+                			return create(defaultClass);
+                		}
+                		int colon = type.indexOf(':');
+                		String namespace = reader.getNamespaceURI(colon < 0 ? "" : type.substring(0, colon));
+                		if (!$PackageInterface$.eNS_URI.equals(namespace)) {
+                			throw new IOException("Unsupported type '" + type + "'");
+                		}
+                		return create(type.substring(colon + 1));
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void readObject(XMLStreamReader reader, EObject eObject) throws XMLStreamException, IOException {
+                		for (int i = 0, count = reader.getAttributeCount(); i < count; i++) {
+                			String namespace = reader.getAttributeNamespace(i);
+                			if (namespace == null || namespace.isEmpty()) {
+                				setAttribute(eObject, reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                			}
+                			else if (XMI_NS_URI.equals(namespace) && "id".equals(reader.getAttributeLocalName(i))) {
+                				String id = reader.getAttributeValue(i);
+                				ids.put(id, eObject);
+                				if (resource instanceof XMLResource) {
+                					((XMLResource)resource).setID(eObject, id);
+                				}
+                			}
+                		}
+                		while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                			readElement(reader, eObject, reader.getLocalName());
+                		}
+                	}
+
+                	/**
+                	 * Records a reference to another document, given by the <code>href</code> of the element.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void readHref(XMLStreamReader reader, EObject eObject, int reference) throws XMLStreamException, IOException {
+                		String href = reader.getAttributeValue(null, "href");
+                		if (href == null) {
+                			throw new IOException("Missing href of element '" + reader.getLocalName() + "'");
+                		}
+                		boolean typed = reader.getAttributeValue(XSI_NS_URI, "type") != null
+                			|| reader.getAttributeValue(XMI_NS_URI, "type") != null;
+                		references.add(new Reference(eObject, reference, href, typed ? createContained(reader, null) : null));
+                		if (reader.nextTag() != XMLStreamConstants.END_ELEMENT) {
+                			throw new IOException("Unexpected content of element '" + reader.getLocalName() + "'");
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private EObject resolve(String token, Reference reference) throws IOException {
+                		int hash = token.indexOf('#');
+                		if (hash > 0) {
+                			URI uri = URI.createURI(token);
+                			URI base = resource.getURI();
+                			if (base != null && base.isHierarchical() && !base.isRelative()) {
+                				uri = uri.resolve(base);
+                			}
+                			EObject proxy = reference.proxy();
+                			if (proxy == null) {
+                				try {
+                					proxy = EcoreUtil.create(feature(reference.reference()).getEReferenceType());
+                				}
+                				catch (IllegalArgumentException exception) {
+                					throw new Resource.IOWrappedException(exception);
+                				}
+                			}
+                			((InternalEObject)proxy).eSetProxyURI(uri);
+                			return proxy;
+                		}
+                		String fragment = hash == 0 ? token.substring(1) : token;
+                		EObject target = fragment.startsWith("/") ? path(fragment) : ids.get(fragment);
+                		if (target == null) {
+                			target = resource.getEObject(fragment);
+                		}
+                		if (target == null) {
+                			throw new IOException("Unresolved reference '" + token + "'");
+                		}
+                		return target;
+                	}
+
+                	/**
+                	 * Returns the object at a fragment path, as <code>getEObject</code> does, but navigates the segments directly.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private EObject path(String fragment) {
+                		int end = fragment.indexOf('/', 1);
+                		if (end < 0) {
+                			end = fragment.length();
+                		}
+                		List<EObject> contents = resource.getContents();
+                		int root;
+                		try {
+                			root = end == 1 ? 0 : Integer.parseInt(fragment.substring(1, end));
+                		}
+                		catch (NumberFormatException exception) {
+                			return null;
+                		}
+                		EObject eObject = root < contents.size() ? contents.get(root) : null;
+                		while (eObject != null && end < fragment.length()) {
+                			int start = end + 1;
+                			end = fragment.indexOf('/', start);
+                			if (end < 0) {
+                				end = fragment.length();
+                			}
+                			eObject = ((InternalEObject)eObject).eObjectForURIFragmentSegment(fragment.substring(start, end));
+                		}
+                		return eObject;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@SuppressWarnings("unchecked")
+                	private static void addUnique(List<?> list, Object value) {
+                		if (list instanceof InternalEList) {
+                			((InternalEList<Object>)list).addUnique(value);
+                		}
+                		else {
+                			((List<Object>)list).add(value);
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@SuppressWarnings("unchecked")
+                	private static void add(List<?> list, Object value) {
+                		((List<Object>)list).add(value);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static EObject create(String className) throws IOException {
+                		switch (className) {
+                """.replace("$ClassName$", readerName(genPackage)).replace("$PackageName$", genPackage.getPackageName())
+                .replace("$PackageInterface$", packageInterface));
+        for (GenClass genClass : genClasses) {
+            out.append("\t\t\tcase \"").append(genClass.getName()).append("\":\n\t\t\t\treturn (EObject)")
+                    .append(genPackage.getQualifiedFactoryInterfaceName()).append(".eINSTANCE.create")
+                    .append(genClass.getName()).append("();\n");
+        }
+        out.append("\t\t\tdefault:\n\t\t\t\tthrow new IOException(\"Unknown class '\" + className + \"'\");\n\t\t}\n\t}\n");
+
+        out.append(dispatch("void setAttribute(EObject eObject, String name, String value)", "set%sAttribute",
+                "eObject, name, value", packageInterface, genClasses));
+        out.append(dispatch("void readElement(XMLStreamReader reader, EObject eObject, String name)",
+                "read%sElement", "reader, eObject, name", packageInterface, genClasses));
+        for (GenClass genClass : genClasses) {
+            out.append(attributeMethod(genClass, references));
+            out.append(elementMethod(genClass, references));
+        }
+
+        out.append("""
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static EReference feature(int reference) {
+                		switch (reference) {
+                """);
+        for (Map.Entry<GenFeature, Integer> entry : references.entrySet()) {
+            out.append("\t\t\tcase ").append(entry.getValue()).append(":\n\t\t\t\treturn ")
+                    .append(featureAccessor(entry.getKey())).append(";\n");
+        }
+        out.append("""
+                			default:
+                				throw new IllegalArgumentException("Unknown reference " + reference);
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static void setReference(EObject eObject, int reference, EObject target) {
+                		switch (reference) {
+                """);
+        for (Map.Entry<GenFeature, Integer> entry : references.entrySet()) {
+            GenFeature genFeature = entry.getKey();
+            out.append("\t\t\tcase ").append(entry.getValue()).append(":\n\t\t\t\t");
+            String object = "((" + genFeature.getGenClass().getQualifiedInterfaceName() + ")eObject)";
+            if (genFeature.isListType()) {
+                // Both ends of a bidirectional reference are written, the second add must be ignored
+                String list = genFeature.isGet() ? object + "." + genFeature.getGetAccessor() + "()"
+                        : "(List<?>)eObject.eGet(" + featureAccessor(genFeature) + ")";
+                out.append(genFeature.getEcoreFeature() instanceof EReference reference
+                        && reference.getEOpposite() != null ? "add(" : "addUnique(").append(list)
+                        .append(", target);\n");
+            } else if (genFeature.isSet()) {
+                out.append(object).append(".set").append(genFeature.getAccessorName()).append("((")
+                        .append(genFeature.getTypeGenClass().getQualifiedInterfaceName()).append(")target);\n");
+            } else {
+                out.append("eObject.eSet(").append(featureAccessor(genFeature)).append(", target);\n");
+            }
+            out.append("\t\t\t\tbreak;\n");
+        }
+        out.append("\t\t}\n\t}\n}\n");
+        return out.toString();
+    }
+
+    private static String dispatch(String signature, String methodPattern, String arguments,
+            String packageInterface, List<GenClass> genClasses) {
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        String throwsClause = signature.contains("XMLStreamReader") ? " throws XMLStreamException, IOException"
+                : " throws IOException";
+        out.append("\tprivate ").append(signature).append(throwsClause).append(" {\n");
+        out.append("\t\tswitch (eObject.eClass().getClassifierID()) {\n");
+        for (GenClass genClass : genClasses) {
+            out.append("\t\t\tcase ").append(packageInterface).append('.').append(genClass.getClassifierID())
+                    .append(":\n\t\t\t\t").append(String.format(methodPattern, genClass.getName())).append('(')
+                    .append(arguments.replace("eObject", "(" + objectType(genClass) + ")eObject")).append(");\n")
+                    .append("\t\t\t\tbreak;\n");
+        }
+        out.append("\t\t\tdefault:\n\t\t\t\tthrow new IOException(\"Unsupported class '\" + eObject.eClass().getName() + \"'\");\n");
+        out.append("\t\t}\n\t}\n");
+        return out.toString().replace("(EObject)eObject", "eObject");
+    }
+
+    private static String attributeMethod(GenClass genClass, Map<GenFeature, Integer> references) {
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tprivate void set").append(genClass.getName()).append("Attribute(").append(objectType(genClass))
+                .append(" eObject, String name, String value) throws IOException {\n\t\tswitch (name) {\n");
+        for (GenFeature genFeature : persistentFeatures(genClass)) {
+            if (genFeature.isReferenceType()) {
+                if (!genFeature.isContains()) {
+                    out.append("\t\t\tcase \"").append(genFeature.getName())
+                            .append("\":\n\t\t\t\treferences.add(new Reference(eObject, ")
+                            .append(references.get(genFeature)).append(", value, null));\n\t\t\t\tbreak;\n");
+                }
+            } else if (!genFeature.isListType()) {
+                out.append("\t\t\tcase \"").append(genFeature.getName()).append("\":\n\t\t\t\t")
+                        .append(setValue(genClass, genFeature, "value"));
+                if (genFeature.getEcoreFeature() instanceof EAttribute attribute && attribute.isID()) {
+                    // IDREFs are resolved through the map instead of a search of the resource
+                    out.append("\t\t\t\tids.put(value, eObject);\n");
+                }
+                out.append("\t\t\t\tbreak;\n");
+            }
+        }
+        out.append("\t\t\tdefault:\n\t\t\t\tthrow new IOException(\"Unknown feature '\" + name + \"' of ")
+                .append(genClass.getName()).append("\");\n\t\t}\n\t}\n");
+        return out.toString();
+    }
+
+    private static String elementMethod(GenClass genClass, Map<GenFeature, Integer> references) {
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tprivate void read").append(genClass.getName()).append("Element(XMLStreamReader reader, ")
+                .append(objectType(genClass))
+                .append(" eObject, String name) throws XMLStreamException, IOException {\n\t\tswitch (name) {\n");
+        for (GenFeature genFeature : persistentFeatures(genClass)) {
+            String list = list(genClass, genFeature);
+            out.append("\t\t\tcase \"").append(genFeature.getName()).append("\": {\n");
+            if (genFeature.isContains()) {
+                GenClass type = genFeature.getTypeGenClass();
+                String defaultClass = type.isAbstract() || type.isInterface()
+                        || type.getGenPackage() != genClass.getGenPackage() ? "null" : "\"" + type.getName() + "\"";
+                out.append("\t\t\t\tEObject child = createContained(reader, ").append(defaultClass).append(");\n");
+                if (genFeature.isListType()) {
+                    out.append("\t\t\t\taddUnique(").append(list).append(", child);\n");
+                } else if (genFeature.isSet() && !isMapEntry(genClass)) {
+                    out.append("\t\t\t\teObject.set").append(genFeature.getAccessorName()).append("((")
+                            .append(type.getQualifiedInterfaceName()).append(")child);\n");
+                } else {
+                    out.append("\t\t\t\teObject.eSet(").append(featureAccessor(genFeature)).append(", child);\n");
+                }
+                out.append("\t\t\t\treadObject(reader, child);\n");
+            } else if (genFeature.isReferenceType()) {
+                out.append("\t\t\t\treadHref(reader, eObject, ").append(references.get(genFeature)).append(");\n");
+            } else if (genFeature.isListType()) {
+                String value = fromString(genFeature, "reader.getElementText()");
+                out.append("\t\t\t\taddUnique(").append(list).append(", ")
+                        .append(value != null ? value
+                                : "EcoreUtil.createFromString(" + featureAccessor(genFeature)
+                                        + ".getEAttributeType(), reader.getElementText())")
+                        .append(");\n");
+            } else {
+                out.append("\t\t\t\t").append(setValue(genClass, genFeature, "reader.getElementText()"));
+            }
+            out.append("\t\t\t\tbreak;\n\t\t\t}\n");
+        }
+        out.append("\t\t\tdefault:\n\t\t\t\tthrow new IOException(\"Unknown feature '\" + name + \"' of ")
+                .append(genClass.getName()).append("\");\n\t\t}\n\t}\n");
+        return out.toString();
+    }
+
+    private static String setValue(GenClass genClass, GenFeature genFeature, String text) {
+        String value = fromString(genFeature, text);
+        if (value != null && genFeature.isSet() && !isMapEntry(genClass)) {
+            return "eObject.set" + genFeature.getAccessorName() + "(" + value + ");\n";
+        }
+        return "eObject.eSet(" + featureAccessor(genFeature) + ", "
+                + (value != null ? value
+                        : "EcoreUtil.createFromString(" + featureAccessor(genFeature) + ".getEAttributeType(), "
+                                + text + ")")
+                + ");\n";
+    }
+
+    private static String list(GenClass genClass, GenFeature genFeature) {
+        return genFeature.isGet() && !isMapEntry(genClass) ? "eObject." + genFeature.getGetAccessor() + "()"
+                : "(List<?>)eObject.eGet(" + featureAccessor(genFeature) + ")";
+    }
+
+    /**
+     * Returns the expression converting the text to the value of the attribute,
+     * or {@code null} if it has no direct Java conversion.
+     */
+    private static String fromString(GenFeature genFeature, String text) {
+        if (genFeature.isEnumType() && genFeature.getTypeGenEnum() != null) {
+            return genFeature.getTypeGenEnum().getQualifiedName() + ".get(" + text + ")";
+        }
+        String type = genFeature.getEcoreFeature().getEType().getInstanceTypeName();
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+        case "java.lang.String" -> text;
+        case "int" -> "Integer.parseInt(" + text + ")";
+        case "long" -> "Long.parseLong(" + text + ")";
+        case "short" -> "Short.parseShort(" + text + ")";
+        case "byte" -> "Byte.parseByte(" + text + ")";
+        case "double" -> "Double.parseDouble(" + text + ")";
+        case "float" -> "Float.parseFloat(" + text + ")";
+        case "boolean" -> "Boolean.parseBoolean(" + text + ")";
+        case "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte", "java.lang.Double",
+                "java.lang.Float", "java.lang.Boolean" ->
+            type.substring(10) + ".valueOf(" + text + ")";
+        default -> null;
+        };
+    }
+
+    // ==================== Writer ====================
+
+    private String writerSource(GenPackage genPackage, List<GenClass> genClasses) {
+        String packageInterface = genPackage.getQualifiedPackageInterfaceName();
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(genPackage.getUtilitiesPackageName()).append(";\n");
+        out.append("""
+
+                import java.io.IOException;
+                import java.io.OutputStream;
+                import java.util.IdentityHashMap;
+                import java.util.List;
+                import java.util.Map;
+
+                import javax.xml.stream.XMLOutputFactory;
+                import javax.xml.stream.XMLStreamException;
+                import javax.xml.stream.XMLStreamWriter;
+
+                import org.eclipse.emf.common.util.URI;
+
+                import org.eclipse.emf.ecore.EClass;
+                import org.eclipse.emf.ecore.EObject;
+                import org.eclipse.emf.ecore.EPackage;
+                import org.eclipse.emf.ecore.EReference;
+                import org.eclipse.emf.ecore.InternalEObject;
+
+                import org.eclipse.emf.ecore.resource.Resource;
+
+                import org.eclipse.emf.ecore.util.EcoreUtil;
+                import org.eclipse.emf.ecore.util.InternalEList;
+
+                import org.eclipse.emf.ecore.xmi.XMLResource;
+
+                /**
+                 * <!-- begin-user-doc -->
+                 * Writes the contents of a resource of the <b>$PackageName$</b> package as XMI with StAX.
+                 * The features of each class are written by generated code through the generated getters, in the
+                 * format written by <code>XMIResourceImpl</code> with default options.
+                 * <!-- end-user-doc -->
+                 * @generated
+                 */
+                public class $ClassName$ {
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static final String XMI_NS_URI = "http://www.omg.org/XMI";
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static final String XSI_NS_URI = "http://www.w3.org/2001/XMLSchema-instance";
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final Resource resource;
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private XMLStreamWriter writer;
+
+                	/**
+                	 * The positions of the objects in the lists the path fragments are computed for.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private final Map<List<?>, Map<Object, Integer>> positions = new IdentityHashMap<>();
+
+                	/**
+                	 * Creates a writer of the contents of the resource.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public $ClassName$(Resource resource) {
+                		this.resource = resource;
+                	}
+
+                	/**
+                	 * Writes the contents of the resource as an XMI document.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	public void write(OutputStream outputStream) throws IOException {
+                		try {
+                			writer = OUTPUT_FACTORY.createXMLStreamWriter(outputStream, "UTF-8");
+                			writer.writeStartDocument("UTF-8", "1.0");
+                			List<EObject> contents = resource.getContents();
+                			if (contents.size() == 1) {
+                				writeRoot(contents.get(0), true);
+                			}
+                			else {
+                				writer.writeStartElement("xmi", "XMI", XMI_NS_URI);
+                				writeNamespaces();
+                				for (EObject eObject : contents) {
+                					writeRoot(eObject, false);
+                				}
+                				writer.writeEndElement();
+                			}
+                			writer.writeEndDocument();
+                			writer.close();
+                		}
+                		catch (XMLStreamException exception) {
+                			throw new Resource.IOWrappedException(exception);
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeNamespaces() throws XMLStreamException {
+                		writer.writeAttribute("xmi", XMI_NS_URI, "version", "2.0");
+                		writer.writeNamespace("xmi", XMI_NS_URI);
+                		writer.writeNamespace("xsi", XSI_NS_URI);
+                		writer.writeNamespace($PackageInterface$.eNS_PREFIX, $PackageInterface$.eNS_URI);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeRoot(EObject eObject, boolean namespaces) throws XMLStreamException, IOException {
+                		checkPackage(eObject);
+                		writer.writeStartElement($PackageInterface$.eNS_PREFIX, eObject.eClass().getName(), $PackageInterface$.eNS_URI);
+                		if (namespaces) {
+                			writeNamespaces();
+                		}
+                		writeObject(eObject);
+                		writer.writeEndElement();
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeContained(String name, EObject eObject, EClass type) throws XMLStreamException, IOException {
+                		checkPackage(eObject);
+                		writer.writeStartElement(name);
+                		if (eObject.eClass() != type) {
+                			writer.writeAttribute("xsi", XSI_NS_URI, "type", $PackageInterface$.eNS_PREFIX + ":" + eObject.eClass().getName());
+                		}
+                		writeObject(eObject);
+                		writer.writeEndElement();
+                	}
+
+                	/**
+                	 * Writes a reference to an object of another document, or a proxy, as an element with an <code>href</code>.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeHref(String name, EObject target, EClass type) throws XMLStreamException {
+                		writer.writeEmptyElement(name);
+                		if (target.eClass() != type) {
+                			EPackage ePackage = target.eClass().getEPackage();
+                			if (ePackage != $PackageInterface$.eINSTANCE) {
+                				writer.writeNamespace(ePackage.getNsPrefix(), ePackage.getNsURI());
+                			}
+                			writer.writeAttribute("xsi", XSI_NS_URI, "type", ePackage.getNsPrefix() + ":" + target.eClass().getName());
+                		}
+                		URI uri = EcoreUtil.getURI(target);
+                		URI base = resource.getURI();
+                		if (base != null && base.isHierarchical() && !base.isRelative()) {
+                			uri = uri.deresolve(base);
+                		}
+                		writer.writeAttribute("href", uri.toString());
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private boolean isLocal(EObject target) {
+                		return !target.eIsProxy() && target.eResource() == resource;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private boolean isLocal(List<?> targets) {
+                		for (Object target : targets) {
+                			if (!isLocal((EObject)target)) {
+                				return false;
+                			}
+                		}
+                		return true;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private String fragments(List<?> targets) {
+                		StringBuilder result = new StringBuilder();
+                		for (Object target : targets) {
+                			if (result.length() > 0) {
+                				result.append(' ');
+                			}
+                			result.append(fragment((EObject)target));
+                		}
+                		return result.toString();
+                	}
+
+                	/**
+                	 * Returns the fragment of an object of the resource, as <code>getURIFragment</code> does, but finds the
+                	 * positions of objects in large lists through a map instead of a search of the list.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private String fragment(EObject eObject) {
+                		if (resource instanceof XMLResource) {
+                			String id = ((XMLResource)resource).getID(eObject);
+                			if (id != null) {
+                				return id;
+                			}
+                		}
+                		String id = EcoreUtil.getID(eObject);
+                		return id != null ? id : path(eObject);
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private String path(EObject eObject) {
+                		EObject container = eObject.eContainer();
+                		if (container == null || ((InternalEObject)eObject).eDirectResource() == resource) {
+                			List<EObject> contents = resource.getContents();
+                			return contents.size() > 1 ? "/" + indexOf(contents, eObject) : "/";
+                		}
+                		EReference containment = eObject.eContainmentFeature();
+                		if (!containment.getEKeys().isEmpty()) {
+                			return resource.getURIFragment(eObject);
+                		}
+                		String segment = "@" + containment.getName();
+                		if (containment.isMany()) {
+                			segment += "." + indexOf((List<?>)container.eGet(containment, false), eObject);
+                		}
+                		return path(container) + "/" + segment;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private int indexOf(List<?> list, Object value) {
+                		if (list.size() < 16) {
+                			return list.indexOf(value);
+                		}
+                		Map<Object, Integer> index = positions.get(list);
+                		if (index == null) {
+                			index = new IdentityHashMap<>(list.size());
+                			for (int i = 0, size = list.size(); i < size; i++) {
+                				index.put(list.get(i), i);
+                			}
+                			positions.put(list, index);
+                		}
+                		Integer position = index.get(value);
+                		return position == null ? -1 : position;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeText(String name, String text) throws XMLStreamException {
+                		writer.writeStartElement(name);
+                		writer.writeCharacters(text);
+                		writer.writeEndElement();
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static List<?> basicList(List<?> list) {
+                		return list instanceof InternalEList ? ((InternalEList<?>)list).basicList() : list;
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private static void checkPackage(EObject eObject) throws IOException {
+                		if (eObject.eClass().getEPackage() != $PackageInterface$.eINSTANCE) {
+                			throw new IOException("Unsupported class '" + eObject.eClass().getName() + "'");
+                		}
+                	}
+
+                	/**
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	private void writeObject(EObject eObject) throws XMLStreamException, IOException {
+                		if (resource instanceof XMLResource) {
+                			String id = ((XMLResource)resource).getID(eObject);
+                			if (id != null) {
+                				writer.writeAttribute("xmi", XMI_NS_URI, "id", id);
+                			}
+                		}
+                		switch (eObject.eClass().getClassifierID()) {
+                """.replace("$ClassName$", writerName(genPackage)).replace("$PackageName$", genPackage.getPackageName())
+                .replace("$PackageInterface$", packageInterface));
+        for (GenClass genClass : genClasses) {
+            out.append("\t\t\tcase ").append(packageInterface).append('.').append(genClass.getClassifierID())
+                    .append(":\n\t\t\t\twrite").append(genClass.getName()).append("((").append(objectType(genClass))
+                    .append(")eObject);\n\t\t\t\tbreak;\n");
+        }
+        out.append("\t\t}\n\t}\n");
+        for (GenClass genClass : genClasses) {
+            out.append(writeMethod(genClass));
+        }
+        out.append("}\n");
+        return out.toString().replace("((EObject)eObject)", "(eObject)");
+    }
+
+    private static String writeMethod(GenClass genClass) {
+        List<GenFeature> features = persistentFeatures(genClass);
+        StringBuilder attributes = new StringBuilder();
+        StringBuilder elements = new StringBuilder();
+        for (GenFeature genFeature : features) {
+            String name = genFeature.getName();
+            String variable = genFeature.getUncapName();
+            String feature = featureAccessor(genFeature);
+            if (genFeature.isReferenceType() && !genFeature.isContains()) {
+                String type = feature + ".getEReferenceType()";
+                if (genFeature.isListType()) {
+                    attributes.append("\t\tList<?> ").append(variable).append(" = basicList(")
+                            .append(list(genClass, genFeature)).append(");\n");
+                    attributes.append("\t\tboolean ").append(variable).append("Local = isLocal(").append(variable)
+                            .append(");\n");
+                    attributes.append("\t\tif (").append(variable).append("Local && !").append(variable)
+                            .append(".isEmpty()) {\n\t\t\twriter.writeAttribute(\"").append(name)
+                            .append("\", fragments(").append(variable).append("));\n\t\t}\n");
+                    elements.append("\t\tif (!").append(variable).append("Local) {\n\t\t\tfor (Object target : ")
+                            .append(variable).append(") {\n\t\t\t\twriteHref(\"").append(name)
+                            .append("\", (EObject)target, ").append(type).append(");\n\t\t\t}\n\t\t}\n");
+                } else {
+                    attributes.append("\t\tEObject ").append(variable).append(" = (EObject)eObject.eGet(")
+                            .append(feature).append(", false);\n");
+                    attributes.append("\t\tif (").append(variable).append(" != null && isLocal(").append(variable)
+                            .append(")) {\n\t\t\twriter.writeAttribute(\"").append(name)
+                            .append("\", fragment(").append(variable).append("));\n\t\t}\n");
+                    elements.append("\t\tif (").append(variable).append(" != null && !isLocal(").append(variable)
+                            .append(")) {\n\t\t\twriteHref(\"").append(name).append("\", ").append(variable)
+                            .append(", ").append(type).append(");\n\t\t}\n");
+                }
+            } else if (genFeature.isContains()) {
+                String type = feature + ".getEReferenceType()";
+                if (genFeature.isListType()) {
+                    elements.append("\t\tfor (Object child : ").append(list(genClass, genFeature))
+                            .append(") {\n\t\t\twriteContained(\"").append(name).append("\", (EObject)child, ")
+                            .append(type).append(");\n\t\t}\n");
+                } else {
+                    elements.append("\t\tEObject ").append(variable).append(" = (EObject)eObject.eGet(")
+                            .append(feature).append(", false);\n");
+                    elements.append("\t\tif (").append(variable).append(" != null) {\n\t\t\twriteContained(\"")
+                            .append(name).append("\", ").append(variable).append(", ").append(type)
+                            .append(");\n\t\t}\n");
+                }
+            } else if (genFeature.isListType()) {
+                boolean direct = fromString(genFeature, "") != null;
+                elements.append("\t\tfor (Object value : ").append(list(genClass, genFeature))
+                        .append(") {\n\t\t\twriteText(\"").append(name).append("\", ")
+                        .append(direct ? "String.valueOf(value)"
+                                : "EcoreUtil.convertToString(" + feature + ".getEAttributeType(), value)")
+                        .append(");\n\t\t}\n");
+            } else {
+                attributes.append("\t\tif (eObject.eIsSet(").append(feature).append(")) {\n");
+                String type = genFeature.getEcoreFeature().getEType().getInstanceTypeName();
+                boolean primitive = genFeature.isPrimitiveType() && !"char".equals(type);
+                if (primitive && genFeature.isGet() && !isMapEntry(genClass)) {
+                    attributes.append("\t\t\twriter.writeAttribute(\"").append(name).append("\", String.valueOf(eObject.")
+                            .append(genFeature.getGetAccessor()).append("()));\n");
+                } else {
+                    boolean direct = fromString(genFeature, "") != null;
+                    attributes.append("\t\t\tObject ").append(variable).append(" = eObject.eGet(").append(feature)
+                            .append(");\n\t\t\tif (").append(variable).append(" != null) {\n\t\t\t\twriter.writeAttribute(\"")
+                            .append(name).append("\", ")
+                            .append(direct ? variable + ".toString()"
+                                    : "EcoreUtil.convertToString(" + feature + ".getEAttributeType(), " + variable
+                                            + ")")
+                            .append(");\n\t\t\t}\n");
+                }
+                attributes.append("\t\t}\n");
+            }
+        }
+        StringBuilder out = new StringBuilder();
+        out.append("\n\t/**\n\t * <!-- begin-user-doc -->\n\t * <!-- end-user-doc -->\n\t * @generated\n\t */\n");
+        out.append("\tprivate void write").append(genClass.getName()).append('(').append(objectType(genClass))
+                .append(" eObject) throws XMLStreamException, IOException {\n");
+        out.append(attributes).append(elements).append("\t}\n");
+        return out.toString();
+    }
+
+    // ==================== Resource ====================
+
+    /**
+     * Makes the generated XMI resource load and save with the reader and writer
+     * when neither options nor default options are set; options select the
+     * features of {@code XMIResourceImpl} and are handled by it.
+     */
+    private void delegateResource(GenPackage genPackage, Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        String content = Files.readString(file);
+        if (content.contains(readerName(genPackage)) || !content.contains(" extends XMIResourceImpl {")) {
+            return;
+        }
+        int classEnd = content.lastIndexOf('}');
+        String methods = """
+                	/**
+                	 * Loads the contents with the generated {@link $Reader$} unless options or default load options are set.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@Override
+                	public void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
+                		if ((options == null || options.isEmpty()) && getDefaultLoadOptions().isEmpty()) {
+                			new $Reader$(this).read(inputStream);
+                		}
+                		else {
+                			super.doLoad(inputStream, options);
+                		}
+                	}
+
+                	/**
+                	 * Saves the contents with the generated {@link $Writer$} unless options or default save options are set.
+                	 * <!-- begin-user-doc -->
+                	 * <!-- end-user-doc -->
+                	 * @generated
+                	 */
+                	@Override
+                	public void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException {
+                		if ((options == null || options.isEmpty()) && getDefaultSaveOptions().isEmpty()) {
+                			new $Writer$(this).write(outputStream);
+                		}
+                		else {
+                			super.doSave(outputStream, options);
+                		}
+                	}
+
+                """.replace("$Reader$", readerName(genPackage)).replace("$Writer$", writerName(genPackage));
+        content = content.substring(0, classEnd) + methods + content.substring(classEnd);
+        content = content.replaceFirst("\nimport ", "\nimport java.io.IOException;\nimport java.io.InputStream;\n"
+                + "import java.io.OutputStream;\n\nimport java.util.Map;\n\nimport ");
+        Files.writeString(file, content);
+    }
+
+    // ==================== Helpers ====================
+
+    private static boolean isMapEntry(GenClass genClass) {
+        return genClass.isMapEntry();
+    }
+
+    private static String objectType(GenClass genClass) {
+        return isMapEntry(genClass) ? "EObject" : genClass.getQualifiedInterfaceName();
+    }
+
+    private static String featureAccessor(GenFeature genFeature) {
+        return genFeature.getGenClass().getGenPackage().getQualifiedPackageInterfaceName() + ".eINSTANCE.get"
+                + genFeature.getFeatureAccessorName() + "()";
+    }
+}
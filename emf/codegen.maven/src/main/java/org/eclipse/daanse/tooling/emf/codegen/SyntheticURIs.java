@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import org.eclipse.emf.common.util.URI;
+
+/**
+ * URIs of the intermediate generator resources (synthetic and external
+ * GenModels).
+ *
+ * <p>
+ * Resources with the {@value #SCHEME} scheme only exist in the ResourceSet of
+ * the generation and are never loaded or saved under that URI. Resources that
+ * are needed in the JAR are moved to a file URI and persisted once at the end
+ * of the run.
+ * </p>
+ */
+public final class SyntheticURIs {
+
+    /**
+     * URI scheme of the intermediate resources.
+     */
+    public static final String SCHEME = "synthetic";
+
+    private SyntheticURIs() {
+    }
+
+    /**
+     * Creates a URI for the given file name under the synthetic scheme.
+     */
+    public static URI createURI(String fileName) {
+        return URI.createURI(SCHEME + ":/" + fileName);
+    }
+
+    /**
+     * Returns whether the URI is a synthetic one.
+     */
+    public static boolean isSynthetic(URI uri) {
+        return uri != null && SCHEME.equals(uri.scheme());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ *   Stefan Bischof (bipolis.org) - initial
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import org.eclipse.emf.codegen.merge.java.facade.ast.ASTFacadeHelper;
+import org.eclipse.emf.codegen.merge.java.facade.ast.ASTJCompilationUnit;
+
+/**
+ * JMerge facade helper that measures the time spent parsing compilation units
+ * for merging.
+ *
+ * <p>
+ * The generator instantiates the helper by class name, so the measurements are
+ * kept per thread: a generator run happens on one thread, and concurrent runs
+ * of the reactor plan do not mix.
+ * </p>
+ */
+public class TimedFacadeHelper extends ASTFacadeHelper {
+
+    private static final ThreadLocal<long[]> MEASUREMENTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    /**
+     * Resets the measurements of the current thread.
+     */
+    public static void reset() {
+        long[] measurements = MEASUREMENTS.get();
+        measurements[0] = 0;
+        measurements[1] = 0;
+    }
+
+    /**
+     * Returns the nanoseconds spent parsing on the current thread since the
+     * last reset.
+     */
+    public static long parseNanos() {
+        return MEASUREMENTS.get()[0];
+    }
+
+    /**
+     * Returns the number of compilation units parsed on the current thread
+     * since the last reset, two per merged file.
+     */
+    public static long parsedUnits() {
+        return MEASUREMENTS.get()[1];
+    }
+
+    @Override
+    public ASTJCompilationUnit createCompilationUnit(String name, String contents) {
+        long start = System.nanoTime();
+        try {
+            return super.createCompilationUnit(name, contents);
+        } finally {
+            long[] measurements = MEASUREMENTS.get();
+            measurements[0] += System.nanoTime() - start;
+            measurements[1]++;
+        }
+    }
+}
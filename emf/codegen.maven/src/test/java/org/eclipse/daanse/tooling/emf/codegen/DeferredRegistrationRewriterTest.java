@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DeferredRegistrationRewriterTest {
+
+    private static final String COMPONENT = """
+            package org.example.library.configuration;
+
+            import org.eclipse.emf.ecore.EPackage;
+            import org.example.library.LibraryPackage;
+
+            public class LibraryConfigurationComponent {
+
+            	public void activate(BundleContext ctx) {
+            		LibraryPackage ePackage = LibraryPackage.eINSTANCE;
+            		registerEPackageService(ePackage, ctx);
+            	}
+
+            	private void registerEPackageService(LibraryPackage ePackage, BundleContext ctx) {
+            		Hashtable<String, Object> properties = new Hashtable<String, Object>();
+            		properties.put("emf.name", ePackage.getName());
+            		String[] serviceClasses = new String[] {LibraryPackage.class.getName(), EPackage.class.getName()};
+            		packageRegistration = ctx.registerService(serviceClasses, ePackage, properties);
+            	}
+            }
+            """;
+
+    private static final String CONFIGURATOR = """
+            package org.example.library.configuration;
+
+            import org.eclipse.emf.ecore.EPackage;
+
+            public class LibraryEPackageConfigurator {
+
+            	private EPackage ePackage;
+
+            	public Map<String, Object> getServiceProperties() {
+            		properties.put("emf.name", this.ePackage.getName());
+            		properties.put("emf.prefix", ePackage.getNsPrefix());
+            		return properties;
+            	}
+            }
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void registersServiceFactory() throws IOException {
+        Path component = rewrite();
+
+        String rewritten = Files.readString(component);
+        assertTrue(rewritten.contains(
+                "packageRegistration = ctx.registerService(serviceClasses, new LibraryEPackageServiceFactory<>(), properties);"));
+        assertTrue(rewritten.contains("registerEPackageService(ePackage, ctx);"));
+        String factory = Files.readString(dir.resolve("LibraryEPackageServiceFactory.java"));
+        assertTrue(factory.startsWith("package org.example.library.configuration;\n"));
+        assertTrue(factory.contains("import org.example.library.LibraryPackage;"));
+    }
+
+    @Test
+    void replacesAccessorsThatLoadThePackage() throws IOException {
+        Path component = rewrite();
+
+        String rewritten = Files.readString(component);
+        assertFalse(rewritten.contains("ePackage.getName()"));
+        assertTrue(rewritten.contains("properties.put(\"emf.name\", LibraryPackage.eNAME);"));
+        assertTrue(rewritten.contains("LibraryPackage.class.getName()"));
+        String configurator = Files.readString(dir.resolve("LibraryEPackageConfigurator.java"));
+        assertTrue(configurator.contains("properties.put(\"emf.name\", org.example.library.LibraryPackage.eNAME);"));
+        assertTrue(configurator.contains("properties.put(\"emf.prefix\", org.example.library.LibraryPackage.eNS_PREFIX);"));
+    }
+
+    @Test
+    void leavesOtherRegistrationsUnchanged() throws IOException {
+        String source = COMPONENT.replace("ctx.registerService(serviceClasses, ePackage, properties)",
+                "ctx.registerService(serviceClasses, factory, properties)");
+        Path component = dir.resolve("LibraryConfigurationComponent.java");
+        Files.writeString(component, source);
+
+        new DeferredRegistrationRewriter(new SystemStreamLog()).rewrite(component);
+
+        assertEquals(source, Files.readString(component));
+        assertFalse(Files.exists(dir.resolve("LibraryEPackageServiceFactory.java")));
+    }
+
+    private Path rewrite() throws IOException {
+        Path component = dir.resolve("LibraryConfigurationComponent.java");
+        Files.writeString(component, COMPONENT);
+        Files.writeString(dir.resolve("LibraryEPackageConfigurator.java"), CONFIGURATOR);
+        new DeferredRegistrationRewriter(new SystemStreamLog()).rewrite(component);
+        return component;
+    }
+}
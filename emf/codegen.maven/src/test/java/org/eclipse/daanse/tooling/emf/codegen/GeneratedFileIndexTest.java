@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GeneratedFileIndexTest {
+
+    private static final String UNMODIFIED = "model/Unmodified.java";
+    private static final String CUSTOMIZED = "model/Customized.java";
+    private static final String EDITED = "model/Edited.java";
+
+    @TempDir
+    Path dir;
+
+    private Path output;
+
+    private Path indexFile;
+
+    @BeforeEach
+    void generate() throws Exception {
+        output = dir.resolve("generated-sources");
+        indexFile = dir.resolve("emf-codegen/generated-sources.index");
+        write(UNMODIFIED, "/** @generated */ class Unmodified {}");
+        write(CUSTOMIZED, "/** @generated NOT */ class Customized {}");
+        write(EDITED, "/** @generated */ class Edited {}");
+        Files.writeString(output.resolve("model/package.html"), "not indexed");
+
+        GeneratedFileIndex index = GeneratedFileIndex.load(indexFile);
+        assertEquals(List.of(CUSTOMIZED), index.update(output, 3_000_000, 2));
+        index.save();
+    }
+
+    @Test
+    void recordsTheOutput() throws Exception {
+        GeneratedFileIndex index = GeneratedFileIndex.load(indexFile);
+
+        assertEquals(1_500_000, index.getParseNanosPerFile());
+        assertTrue(index.matches(output));
+        assertFalse(GeneratedFileIndex.load(dir.resolve("missing.index")).matches(output));
+
+        write(EDITED, "/** @generated */ class Edited { int edited; }");
+        assertFalse(index.matches(output));
+    }
+
+    @Test
+    void movesOnlyUnmodifiedFilesAside() throws Exception {
+        write(EDITED, "/** @generated */ class Edited { int edited; }");
+        GeneratedFileIndex index = GeneratedFileIndex.load(indexFile);
+
+        assertEquals(List.of(UNMODIFIED), index.deleteUnmodified(output));
+        assertFalse(Files.exists(output.resolve(UNMODIFIED)));
+        assertTrue(Files.exists(output.resolve(CUSTOMIZED)));
+        assertTrue(Files.exists(output.resolve(EDITED)));
+    }
+
+    @Test
+    void restoresUnmodifiedFilesAfterFailure() throws Exception {
+        GeneratedFileIndex index = GeneratedFileIndex.load(indexFile);
+        index.deleteUnmodified(output);
+
+        assertEquals(1, index.restoreUnmodified(output));
+        assertEquals("/** @generated */ class Unmodified {}", Files.readString(output.resolve(UNMODIFIED)));
+        assertTrue(index.matches(output));
+    }
+
+    @Test
+    void keepsRegeneratedFiles() throws Exception {
+        GeneratedFileIndex index = GeneratedFileIndex.load(indexFile);
+        index.deleteUnmodified(output);
+        write(UNMODIFIED, "/** @generated */ class Unmodified { int regenerated; }");
+
+        index.discardUnmodified();
+
+        assertEquals(0, index.restoreUnmodified(output));
+        assertEquals("/** @generated */ class Unmodified { int regenerated; }",
+                Files.readString(output.resolve(UNMODIFIED)));
+    }
+
+    private void write(String path, String content) throws Exception {
+        Path file = output.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+
+class LazyPackageInitializerTest {
+
+    private static final String INIT = """
+            		// Load packages
+            		theLibraryPackage.loadPackage();
+
+            		// Fix loaded packages
+            		theLibraryPackage.fixPackageContents();
+
+            		// Mark meta-data to indicate it can't be changed
+            		theLibraryPackage.freeze();
+            """;
+
+    private final LazyPackageInitializer initializer = new LazyPackageInitializer(new SystemStreamLog());
+
+    @Test
+    void makesInitializationLazy() {
+        String rewritten = initializer.rewrite(packageImpl(INIT), "LibraryPackageImpl.java");
+
+        assertFalse(rewritten.contains("theLibraryPackage.loadPackage();"));
+        assertTrue(rewritten.contains("theLibraryPackage.createResource(eNS_URI);"));
+        assertTrue(rewritten.contains("private void ensureLoaded() {"));
+        for (String accessor : new String[] { "getEClassifiers()", "getESubpackages()", "getName()",
+                "getNsPrefix()", "getEAnnotations()", "eGet(int featureID, boolean resolve, boolean coreType)",
+                "eIsSet(int featureID)" }) {
+            assertTrue(rewritten.contains(accessor + " {\n\t\tensureLoaded();"), accessor);
+        }
+        assertTrue(rewritten.contains("import org.eclipse.emf.ecore.EClassifier;\n"));
+        assertTrue(rewritten.endsWith("} //LibraryPackageImpl\n"));
+    }
+
+    @Test
+    void leavesUnexpectedInitUnchanged() {
+        String init = INIT.replace("theLibraryPackage.fixPackageContents();", "theLibraryPackage.fixEClassifiers();");
+        String source = packageImpl(init);
+
+        assertSame(source, initializer.rewrite(source, "LibraryPackageImpl.java"));
+    }
+
+    @Test
+    void leavesSeveralLoadedPackagesUnchanged() {
+        String source = packageImpl(INIT + INIT.replace("theLibraryPackage", "theOtherPackage"));
+
+        assertSame(source, initializer.rewrite(source, "LibraryPackageImpl.java"));
+    }
+
+    @Test
+    void leavesLazyOrEagerPackagesUnchanged() {
+        String lazy = initializer.rewrite(packageImpl(INIT), "LibraryPackageImpl.java");
+        String eager = packageImpl(INIT).replace("public void loadPackage()", "public void createPackageContents()");
+
+        assertSame(lazy, initializer.rewrite(lazy, "LibraryPackageImpl.java"));
+        assertSame(eager, initializer.rewrite(eager, "LibraryPackageImpl.java"));
+        assertEquals(lazy, initializer.rewrite(packageImpl(INIT), "LibraryPackageImpl.java"));
+    }
+
+    private static String packageImpl(String init) {
+        return """
+                package org.example.library.impl;
+
+                import org.eclipse.emf.ecore.EClass;
+                import org.eclipse.emf.ecore.impl.EPackageImpl;
+
+                public class LibraryPackageImpl extends EPackageImpl implements LibraryPackage {
+
+                	public static LibraryPackage init() {
+                		LibraryPackageImpl theLibraryPackage = new LibraryPackageImpl();
+
+                """ + init + """
+
+                		return theLibraryPackage;
+                	}
+
+                	public void loadPackage() {
+                	}
+
+                } //LibraryPackageImpl
+                """;
+    }
+}
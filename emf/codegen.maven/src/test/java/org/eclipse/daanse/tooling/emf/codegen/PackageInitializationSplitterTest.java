@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+
+class PackageInitializationSplitterTest {
+
+    /**
+     * Room for three statements of about ten tokens per chunk.
+     */
+    private static final int MAX_METHOD_SIZE = 120;
+
+    private final PackageInitializationSplitter splitter = new PackageInitializationSplitter(new SystemStreamLog(),
+            MAX_METHOD_SIZE);
+
+    @Test
+    void leavesMethodUnderLimitUnchanged() {
+        String source = packageImpl("createPackageContents", """
+                		bookEClass = createEClass(BOOK);
+                		createEAttribute(bookEClass, BOOK__TITLE);
+                """);
+        String large = packageImpl("createPackageContents", statements(20));
+
+        assertSame(source, splitter.split(source, "LibraryPackageImpl.java"));
+        assertSame(large, new PackageInitializationSplitter(new SystemStreamLog(), 8000).split(large,
+                "LibraryPackageImpl.java"));
+    }
+
+    @Test
+    void keepsLiteralsWithSeparatorsInOneStatement() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            body.append("\t\taddAnnotation(bookEClass, source, new String[] { \"key").append(i)
+                    .append("\", \"a; b { c } ';'\" });\n");
+        }
+        String split = splitter.split(packageImpl("createExtendedMetaDataAnnotations", body.toString()),
+                "LibraryPackageImpl.java");
+
+        List<String> chunks = chunks(split, "createExtendedMetaDataAnnotations");
+        assertTrue(chunks.size() > 1);
+        int statements = 0;
+        for (String chunk : chunks) {
+            for (String line : chunk.lines().toList()) {
+                if (line.contains("addAnnotation(")) {
+                    assertTrue(line.endsWith("\"a; b { c } ';'\" });"), line);
+                    statements++;
+                }
+            }
+        }
+        assertEquals(12, statements);
+    }
+
+    @Test
+    void declaresReusedLocalsInEveryChunk() {
+        StringBuilder body = new StringBuilder("\t\tLibraryPackage theLibraryPackage = (LibraryPackage)"
+                + "EPackage.Registry.INSTANCE.getEPackage(LibraryPackage.eNS_URI);\n");
+        body.append("\t\tEOperation op = addEOperation(bookEClass, null, \"op0\", 0, 1);\n");
+        body.append("\t\taddEParameter(op, ecorePackage.getEString(), \"p\", 0, 1);\n");
+        for (int i = 1; i < 8; i++) {
+            body.append("\t\top = addEOperation(bookEClass, null, \"op").append(i).append("\", 0, 1);\n");
+            body.append("\t\taddEParameter(op, ecorePackage.getEString(), \"p\", 0, 1);\n");
+        }
+        body.append("\t\tinitEClass(bookEClass, theLibraryPackage.getBook().getClass(), \"Book\");\n");
+        String split = splitter.split(packageImpl("initializePackageContents", body.toString()),
+                "LibraryPackageImpl.java");
+
+        List<String> chunks = chunks(split, "initializePackageContents");
+        assertTrue(chunks.size() > 1);
+        // The package is used in the first and the last statement, so it is passed to the chunks
+        assertTrue(split.contains("getEPackage(LibraryPackage.eNS_URI);\n\n\t\tinitializePackageContents1();\n"));
+        assertTrue(chunks.get(chunks.size() - 1).startsWith("(LibraryPackage theLibraryPackage) {\n"));
+        for (String chunk : chunks) {
+            int firstUse = chunk.indexOf("(op,");
+            if (firstUse >= 0) {
+                String beforeUse = chunk.substring(0, firstUse);
+                assertTrue(beforeUse.contains("EOperation op;") || beforeUse.contains("EOperation op ="), chunk);
+                assertTrue(beforeUse.contains("op = addEOperation("), chunk);
+            }
+        }
+    }
+
+    @Test
+    void keepsGuardInOriginalMethod() {
+        String split = splitter.split(packageImpl("createPackageContents", """
+                		if (isCreated) return;
+                		isCreated = true;
+
+                """ + statements(12)), "LibraryPackageImpl.java");
+
+        assertTrue(split.contains("""
+                	public void createPackageContents() {
+                		if (isCreated) return;
+                		isCreated = true;
+
+                		createPackageContents1();
+                		createPackageContents2();
+                """), split);
+        for (String chunk : chunks(split, "createPackageContents")) {
+            assertFalse(chunk.contains("isCreated"), chunk);
+        }
+    }
+
+    /**
+     * Statements of about ten tokens each.
+     */
+    private static String statements(int count) {
+        StringBuilder statements = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            statements.append("\t\tcreateEAttribute(bookEClass, BOOK__TITLE").append(i).append(", a, b, c, d);\n");
+        }
+        return statements.toString();
+    }
+
+    /**
+     * Returns the parameter lists and bodies of the chunk methods split off the
+     * given method.
+     */
+    private static List<String> chunks(String source, String methodName) {
+        List<String> chunks = new ArrayList<>();
+        for (int c = 1;; c++) {
+            int start = source.indexOf("private void " + methodName + c + "(");
+            if (start < 0) {
+                return chunks;
+            }
+            start += ("private void " + methodName + c).length();
+            chunks.add(source.substring(start, source.indexOf("\n\t}\n", start)));
+        }
+    }
+
+    private static String packageImpl(String methodName, String body) {
+        return """
+                package org.example.library.impl;
+
+                public class LibraryPackageImpl extends EPackageImpl implements LibraryPackage {
+
+                	public void $method$() {
+                """.replace("$method$", methodName) + body + """
+                	}
+
+                } //LibraryPackageImpl
+                """;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.tooling.emf.codegen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.daanse.tooling.emf.codegen.GenerationMetrics.Phase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PerformanceBudgetsTest {
+
+    private static final long MB = 1024 * 1024;
+
+    @Test
+    void parsesBudgets() {
+        Map<String, String> budgets = Map.of("load", " 5000 ", "generate", "", "postProcess", "fast");
+
+        assertEquals(5000, PerformanceBudgets.budget(budgets, "load", "time"));
+        assertEquals(-1, PerformanceBudgets.budget(budgets, "generate", "time"));
+        assertEquals(-1, PerformanceBudgets.budget(budgets, "resources", "time"));
+        assertEquals(-1, PerformanceBudgets.budget(null, "load", "time"));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> PerformanceBudgets.budget(budgets, "postProcess", "time"));
+        assertEquals("Invalid time budget for phase postProcess: fast", e.getMessage());
+    }
+
+    @Test
+    void checksBudgets() {
+        PerformanceBudgets budgets = new PerformanceBudgets(Map.of("generate", "1000"), Map.of("generate", "512"),
+                25, true);
+
+        assertEquals(List.of(), budgets.check(List.of(new Phase("generate", 1000, 512 * MB)), null));
+        assertEquals(List.of("generate took 1001 ms, budget 1000 ms", "generate used 513 MB heap, budget 512 MB"),
+                budgets.check(List.of(new Phase("generate", 1001, 513 * MB)), null));
+    }
+
+    @Test
+    void skipsHeapWhenNotChecked() {
+        PerformanceBudgets budgets = new PerformanceBudgets(null, Map.of("generate", "512"), 25, false);
+        Map<String, Phase> baseline = Map.of("generate", new Phase("generate", 1000, 100 * MB));
+
+        assertEquals(List.of(), budgets.check(List.of(new Phase("generate", 1000, 1024 * MB)), baseline));
+    }
+
+    @Test
+    void comparesWithBaseline() {
+        PerformanceBudgets budgets = new PerformanceBudgets(null, null, 25, true);
+        Map<String, Phase> baseline = Map.of("generate", new Phase("generate", 1000, 200 * MB), "load",
+                new Phase("load", 100, 40 * MB));
+
+        // within the tolerance
+        assertEquals(List.of(), budgets.check(List.of(new Phase("generate", 1250, 250 * MB)), baseline));
+        // beyond the tolerance
+        assertEquals(List.of("generate took 1251 ms, baseline 1000 ms", "generate used 251 MB heap, baseline 200 MB"),
+                budgets.check(List.of(new Phase("generate", 1251, 251 * MB)), baseline));
+        // beyond the tolerance, but in the noise of a build
+        assertEquals(List.of(), budgets.check(List.of(new Phase("load", 199, 55 * MB)), baseline));
+        // no baseline for the phase
+        assertEquals(List.of(), budgets.check(List.of(new Phase("resources", 5000, 500 * MB)), baseline));
+    }
+
+    @Test
+    void ignoresMissingBaselineValues(@TempDir Path dir) throws Exception {
+        Path report = dir.resolve("baseline.performance");
+        Files.writeString(report, "generate.millis=1000\nload.heapMB=40\n");
+        Map<String, Phase> baseline = GenerationMetrics.read(report);
+        PerformanceBudgets budgets = new PerformanceBudgets(null, null, 25, true);
+
+        assertEquals(new Phase("generate", 1000, -1), baseline.get("generate"));
+        assertEquals(new Phase("load", -1, 40 * MB), baseline.get("load"));
+        assertEquals(List.of("generate took 2000 ms, baseline 1000 ms"),
+                budgets.check(List.of(new Phase("generate", 2000, 4096 * MB), new Phase("load", 5000, 40 * MB)),
+                        baseline));
+    }
+
+    @Test
+    void readsWrittenReport(@TempDir Path dir) throws Exception {
+        GenerationMetrics metrics = new GenerationMetrics();
+        metrics.start("load");
+        metrics.start("generate");
+        metrics.finish();
+        Path report = dir.resolve("emf-codegen/generated.performance");
+        metrics.write(report);
+
+        Map<String, Phase> read = GenerationMetrics.read(report);
+
+        assertEquals(Set.of("load", "generate"), read.keySet());
+        for (Phase phase : metrics.getPhases()) {
+            assertEquals(phase.millis(), read.get(phase.name()).millis());
+            assertEquals(phase.peakHeapMegabytes(), read.get(phase.name()).peakHeapMegabytes());
+            assertTrue(phase.peakHeapBytes() > 0);
+        }
+    }
+
+    @Test
+    void decidesOnBudgetAction() {
+        assertTrue(PerformanceBudgets.fails("fail"));
+        assertTrue(PerformanceBudgets.fails("FAIL"));
+        assertFalse(PerformanceBudgets.fails("warn"));
+        assertThrows(IllegalArgumentException.class, () -> PerformanceBudgets.fails("ignore"));
+    }
+}